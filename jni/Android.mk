@@ -18,7 +18,7 @@ include $(CLEAR_VARS)
 
 LOCAL_MODULE    := fft_fix
 LOCAL_CFLAGS    := -Werror -DFIXED_POINT=16
-LOCAL_SRC_FILES := fix_fft.c kiss_fft.c kiss_fftr.c
+LOCAL_SRC_FILES := fix_fft.c kiss_fft.c kiss_fftr.c kiss_plan.c
 LOCAL_LDLIBS    := -llog
 
 include $(BUILD_SHARED_LIBRARY)
@@ -357,12 +357,16 @@ JNIEXPORT jint JNICALL Java_se_sandos_android_JniTest_fix_1fft
 	
 	kiss_fftr(cfg, array, out);
 	
-	for(i=0; i<2048/2; i++) {
-	  array[i] = out[i].r;
-	  array[i*2] = out[i].i;
+	/* Packed layout, see se.sandos.android.PackedSpectrum */
+	array[0] = out[0].r;
+	array[1] = out[2048/2].r;
+	for(i=1; i<2048/2; i++) {
+	  array[i*2] = out[i].r;
+	  array[i*2+1] = out[i].i;
 	}
 
 	free(cfg);
+	free(out);
 
 	(*env)->ReleaseShortArrayElements(env, f1, array, 0);
 
@@ -0,0 +1,211 @@
+/* kiss_plan.c - Reusable kiss_fftr plans for se.sandos.android.KissFftPlan */
+/*
+  A plan owns a kiss_fftr configuration (twiddles and scratch) for one size
+  and direction. It is created once from Java, executed for every frame and
+  destroyed explicitly, so the per-frame cost is only the transform itself.
+
+  Frequency data is passed as a short[] of nfft entries in the packed layout
+  of se.sandos.android.PackedSpectrum: re(0), re(nfft/2), then re(k), im(k)
+  for 0 < k < nfft/2. Bins 0 and nfft/2 are purely real, so this is lossless.
+
+  kiss_plan_power runs every frame of a PCM buffer in one call and adds up
+  the power spectrum, so a whole buffer costs one JNI crossing. It uses the
+  plan's own frame and bin buffers, and sums the power the same way as
+  PackedSpectrum.addPower.
+
+  A plan's scratch buffers are written during execution, so a plan must not
+  be executed from two threads at the same time.
+*/
+
+#include <stdlib.h>
+#include <stdint.h>
+#include <jni.h>
+
+#include "kiss_fft.h"
+#include "kiss_fftr.h"
+
+typedef struct {
+	kiss_fftr_cfg cfg;
+	int nfft;
+	int inverse;
+	/* Scratch for the batched power spectrum */
+	kiss_fft_scalar *frame;
+	kiss_fft_cpx *bins;
+} kiss_plan;
+
+static void kiss_plan_pack(const kiss_fft_cpx *bins, int nfft, jshort *packed)
+{
+	int k;
+
+	packed[0] = bins[0].r;
+	packed[1] = bins[nfft / 2].r;
+	for (k = 1; k < nfft / 2; k++) {
+		packed[2 * k] = bins[k].r;
+		packed[2 * k + 1] = bins[k].i;
+	}
+}
+
+static void kiss_plan_unpack(const jshort *packed, int nfft, kiss_fft_cpx *bins)
+{
+	int k;
+
+	bins[0].r = packed[0];
+	bins[0].i = 0;
+	bins[nfft / 2].r = packed[1];
+	bins[nfft / 2].i = 0;
+	for (k = 1; k < nfft / 2; k++) {
+		bins[k].r = packed[2 * k];
+		bins[k].i = packed[2 * k + 1];
+	}
+}
+
+static kiss_plan *plan_from_handle(jlong handle)
+{
+	return (kiss_plan *) (intptr_t) handle;
+}
+
+/*
+ * Class:     se_sandos_android_KissFftPlan
+ * Method:    nativeCreate
+ * Signature: (IZ)J
+ */
+JNIEXPORT jlong JNICALL Java_se_sandos_android_KissFftPlan_nativeCreate
+  (JNIEnv *env, jclass clazz, jint nfft, jboolean inverse)
+{
+	kiss_plan *plan = (kiss_plan *) malloc(sizeof(kiss_plan));
+	if (plan == NULL) {
+		return 0;
+	}
+
+	plan->cfg = kiss_fftr_alloc(nfft, inverse ? 1 : 0, NULL, NULL);
+	plan->frame = (kiss_fft_scalar *) malloc(nfft * sizeof(kiss_fft_scalar));
+	plan->bins = (kiss_fft_cpx *) malloc((nfft / 2 + 1) * sizeof(kiss_fft_cpx));
+	if (plan->cfg == NULL || plan->frame == NULL || plan->bins == NULL) {
+		free(plan->cfg);
+		free(plan->frame);
+		free(plan->bins);
+		free(plan);
+		return 0;
+	}
+	plan->nfft = nfft;
+	plan->inverse = inverse ? 1 : 0;
+
+	return (jlong) (intptr_t) plan;
+}
+
+/*
+ * Class:     se_sandos_android_KissFftPlan
+ * Method:    nativeForward
+ * Signature: (J[S[S)V
+ */
+JNIEXPORT void JNICALL Java_se_sandos_android_KissFftPlan_nativeForward
+  (JNIEnv *env, jclass clazz, jlong handle, jshortArray time, jshortArray freq)
+{
+	kiss_plan *plan = plan_from_handle(handle);
+	jshort *in = (*env)->GetShortArrayElements(env, time, NULL);
+	jshort *out = (*env)->GetShortArrayElements(env, freq, NULL);
+
+	kiss_fftr(plan->cfg, in, plan->bins);
+	kiss_plan_pack(plan->bins, plan->nfft, out);
+
+	(*env)->ReleaseShortArrayElements(env, freq, out, 0);
+	/* Input is not modified, no need to copy it back. */
+	(*env)->ReleaseShortArrayElements(env, time, in, JNI_ABORT);
+}
+
+/*
+ * Class:     se_sandos_android_KissFftPlan
+ * Method:    nativeInverse
+ * Signature: (J[S[S)V
+ */
+JNIEXPORT void JNICALL Java_se_sandos_android_KissFftPlan_nativeInverse
+  (JNIEnv *env, jclass clazz, jlong handle, jshortArray freq, jshortArray time)
+{
+	kiss_plan *plan = plan_from_handle(handle);
+	jshort *in = (*env)->GetShortArrayElements(env, freq, NULL);
+	jshort *out = (*env)->GetShortArrayElements(env, time, NULL);
+
+	kiss_plan_unpack(in, plan->nfft, plan->bins);
+	kiss_fftri(plan->cfg, plan->bins, out);
+
+	(*env)->ReleaseShortArrayElements(env, time, out, 0);
+	(*env)->ReleaseShortArrayElements(env, freq, in, JNI_ABORT);
+}
+
+static int kiss_plan_power(kiss_plan *plan, const jshort *pcm, jint length,
+		jint hop, const jint *window, jint min_bin, jint max_bin, jlong *power)
+{
+	int frames = 0;
+	int start, i, k;
+
+	for (start = 0; start + plan->nfft <= length; start += hop) {
+		const jshort *in = pcm + start;
+		for (i = 0; i < plan->nfft; i++) {
+			plan->frame[i] = (kiss_fft_scalar) ((in[i] * window[i]) >> 15);
+		}
+
+		kiss_fftr(plan->cfg, plan->frame, plan->bins);
+
+		for (k = min_bin; k < max_bin; k++) {
+			jlong re = plan->bins[k].r;
+			jlong im = plan->bins[k].i;
+			power[k] += re * re + im * im;
+		}
+		frames++;
+	}
+	return frames;
+}
+
+/*
+ * Class:     se_sandos_android_KissFftPlan
+ * Method:    nativePowerSpectrum
+ * Signature: (J[SIII[III[J)I
+ */
+JNIEXPORT jint JNICALL Java_se_sandos_android_KissFftPlan_nativePowerSpectrum
+  (JNIEnv *env, jclass clazz, jlong handle, jshortArray pcm, jint offset,
+   jint length, jint hop, jintArray window, jint min_bin, jint max_bin,
+   jlongArray power)
+{
+	kiss_plan *plan = plan_from_handle(handle);
+	jshort *p;
+	jint *w;
+	jlong *acc;
+	int frames = 0;
+
+	/* No JNI calls and no blocking between Get and Release below. */
+	p = (jshort *) (*env)->GetPrimitiveArrayCritical(env, pcm, NULL);
+	w = (jint *) (*env)->GetPrimitiveArrayCritical(env, window, NULL);
+	acc = (jlong *) (*env)->GetPrimitiveArrayCritical(env, power, NULL);
+
+	if (p != NULL && w != NULL && acc != NULL) {
+		frames = kiss_plan_power(plan, p + offset, length, hop, w, min_bin, max_bin, acc);
+	}
+
+	if (acc != NULL) {
+		(*env)->ReleasePrimitiveArrayCritical(env, power, acc, 0);
+	}
+	if (w != NULL) {
+		(*env)->ReleasePrimitiveArrayCritical(env, window, w, JNI_ABORT);
+	}
+	if (p != NULL) {
+		(*env)->ReleasePrimitiveArrayCritical(env, pcm, p, JNI_ABORT);
+	}
+	return frames;
+}
+
+/*
+ * Class:     se_sandos_android_KissFftPlan
+ * Method:    nativeDestroy
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_se_sandos_android_KissFftPlan_nativeDestroy
+  (JNIEnv *env, jclass clazz, jlong handle)
+{
+	kiss_plan *plan = plan_from_handle(handle);
+	if (plan != NULL) {
+		free(plan->cfg);
+		free(plan->frame);
+		free(plan->bins);
+		free(plan);
+	}
+}
@@ -27,17 +27,27 @@ package org.teneighty.fft;
 import java.util.Collections;
 import java.util.List;
 
+import org.teneighty.fft.algorithms.BluesteinFastFourierTransform;
+import org.teneighty.fft.algorithms.CodeletFourierTransform;
 import org.teneighty.fft.algorithms.CooleyTukeyFastFourierTransform;
-import org.teneighty.fft.algorithms.CooleyTukeyRadixTwoFastFourierTransform;
+import org.teneighty.fft.algorithms.CooleyTukeyRadixFourFastFourierTransform;
+import org.teneighty.fft.algorithms.PackedRealFastFourierTransform;
 import org.teneighty.fft.algorithms.PrimeFactorFastFourierTransform;
 import org.teneighty.fft.algorithms.DirectFourierTransform;
 import org.teneighty.fft.factor.Factorization;
+import org.teneighty.fft.factor.FactorizerFactory;
 import org.teneighty.fft.factor.Factorization.Factor;
 import org.teneighty.fft.factor.DefaultFactorization.DefaultFactor;
 
 
 /**
  * The default fourier transform factory.
+ * <p>
+ * Sizes up to {@link CodeletFourierTransform#MAX_SIZE} get a
+ * {@link CodeletFourierTransform}, and so do the leaves of the splits of larger
+ * sizes. Larger transforms of even size are wrapped in a
+ * {@link PackedRealFastFourierTransform}, so that real data costs a complex
+ * transform of half the size.
  *
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -46,6 +56,13 @@ public class DefaultFourierTransformFactory
 	extends FourierTransformFactory
 {
 
+
+	/**
+	 * Primes up to this are left to the {@link PrimeSelector}; they are
+	 * cheapest done directly.
+	 */
+	private static final int MAX_SELECTED_PRIME = 31;
+
 	
 	/**
 	 * Constructor.
@@ -68,6 +85,48 @@ public class DefaultFourierTransformFactory
 	protected FourierTransform getTransformImpl( final Factorization fact )
 		throws IllegalArgumentException, NullPointerException
 	{
+		return ( this.packReal( this.getComplexTransform( fact ) ) );
+	}
+
+
+	/**
+	 * Wrap a transform of even size so that real data goes through a half
+	 * size complex transform. Sizes of 2 or less are not worth it and are
+	 * returned as they are, as are codelets, which have real versions of their
+	 * own.
+	 * 
+	 * @param ft the transform.
+	 * @return FourierTransform the wrapped transform.
+	 */
+	protected FourierTransform packReal( final FourierTransform ft )
+	{
+		final int size = ft.getLength();
+		if( size <= 2 || ( size & 1 ) != 0 || ft instanceof CodeletFourierTransform )
+		{
+			return ( ft );
+		}
+
+		return ( new PackedRealFastFourierTransform( ft ) );
+	}
+
+
+	/**
+	 * Create a good fourier transform for complex data of the specified
+	 * factorization.
+	 * 
+	 * @param fact the factorization.
+	 * @return FourierTranform a new transform.
+	 * @throws NullPointerException If <code>fact</code> is <code>null</code>.
+	 * @throws IllegalArgumentException If fact is malformed.
+	 */
+	private FourierTransform getComplexTransform( final Factorization fact )
+		throws IllegalArgumentException, NullPointerException
+	{
+		if( CodeletFourierTransform.isSupported( fact.getNumber() ) == true )
+		{
+			return ( new CodeletFourierTransform( fact.getNumber() ) );
+		}
+
 		List<Factor> facts = fact.getFactors();
 		Factor first = facts.get( 0 );
 
@@ -83,12 +142,20 @@ public class DefaultFourierTransformFactory
 			}			
 			else if( base == 2 )
 			{
-				// use special radix two.
-				return ( new CooleyTukeyRadixTwoFastFourierTransform( first.getTotal() ) );
+				// use special radix four.
+				return ( new CooleyTukeyRadixFourFastFourierTransform( first.getTotal() ) );
 			}
 			else if( pow == 1 )
 			{
-				// it's prime - use prime selector!
+				// it's prime. Rader's convolution of size p - 1 beats Bluestein's
+				// power of two one as long as p - 1 splits into codelets; a
+				// larger prime factor makes it the slower of the two.
+				if( base > MAX_SELECTED_PRIME && this.largestFactor( base - 1 ) > CodeletFourierTransform.MAX_SIZE )
+				{
+					return ( new BluesteinFastFourierTransform( base ) );
+				}
+
+				// use prime selector!
 				return( PrimeSelector.getFourierTransform( base ) );
 			}
 			else
@@ -107,6 +174,24 @@ public class DefaultFourierTransformFactory
 		final int fsm1 = facts.size() - 1;
 		return( new PrimeFactorFastFourierTransform( facts.subList( 0, fsm1 ), facts.subList( fsm1, facts.size() ), fact.getNumber() ) );
 	}
+
+
+	/**
+	 * Get the largest prime factor of the specified number.
+	 * 
+	 * @param number the number.
+	 * @return int the largest prime factor.
+	 */
+	private int largestFactor( final int number )
+	{
+		int largest = 1;
+		for( Factor factor : FactorizerFactory.getFactorizer().factorize( number ).getFactors() )
+		{
+			largest = Math.max( largest, factor.getBase() );
+		}
+
+		return ( largest );
+	}
 	
 
 }
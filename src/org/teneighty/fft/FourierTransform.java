@@ -34,8 +34,10 @@ import org.teneighty.fft.dope.RealDopeVector;
  * "FourierTransformer", since it does not represent a Fourier transform,
  * <i>per se</i>.
  * <p>
- * Note that, in general, instances of this class are not safe for concurrent
- * use by multiple threads.
+ * The transforms in this package keep their scratch space per thread, so one
+ * instance can be used by multiple threads at once. Other implementations are
+ * not necessarily safe for concurrent use; wrap those with
+ * {@link FourierTransforms#synchronizedFourierTransform(FourierTransform)}.
  * 
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -137,6 +139,105 @@ public interface FourierTransform
 	public void transform( RealDopeVector input, ComplexDopeVector dest, TransformDirection direction )
 		throws NullPointerException, IllegalArgumentException;
 
+
+	/**
+	 * Transform complex data held in plain arrays, in the specified direction.
+	 * <p>
+	 * Element <code>k</code> of the input is
+	 * <code>in_re[ in_off + k * in_stride ]</code> and
+	 * <code>in_im[ in_off + k * in_stride ]</code>; the output is laid out the
+	 * same way. The output arrays must not be each other or either input
+	 * array. This skips the per-element dispatch of the dope vector methods.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short for the transform length, or the output shares an
+	 *         array.
+	 */
+	public void transform( double[] in_re, double[] in_im, int in_off, int in_stride,
+			double[] out_re, double[] out_im, int out_off, int out_stride, TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException;
+
+
+	/**
+	 * Transform real data held in a plain array, in the specified direction.
+	 * <p>
+	 * The layout is as for the complex version, with an imaginary part of zero
+	 * for every input element.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short for the transform length, or the output shares an
+	 *         array.
+	 */
+	public void transform( double[] in, int in_off, int in_stride,
+			double[] out_re, double[] out_im, int out_off, int out_stride, TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException;
+
+
+	/**
+	 * Perform the backward Fourier transform of a spectrum that came from real
+	 * data, giving real data.
+	 * <p>
+	 * The input is assumed to be conjugate symmetric, i.e. element
+	 * <code>n - k</code> is the conjugate of element <code>k</code>, so only
+	 * elements 0 to <code>n / 2</code> are read. As with the other backward
+	 * transforms, the result is not divided by the length.
+	 * 
+	 * @param input the vector to transform.
+	 * @param dest the destination.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void backward( ComplexDopeVector input, RealDopeVector dest )
+		throws NullPointerException, IllegalArgumentException;
+
+
+	/**
+	 * Perform the backward Fourier transform of a conjugate symmetric spectrum
+	 * held in plain arrays, giving real data.
+	 * <p>
+	 * The layout is as for the array version of <code>transform</code>, and
+	 * the output array must not be either input array.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short for the transform length, or the output shares an
+	 *         array.
+	 * @see #backward(ComplexDopeVector, RealDopeVector)
+	 */
+	public void backward( double[] in_re, double[] in_im, int in_off, int in_stride,
+			double[] out, int out_off, int out_stride )
+		throws NullPointerException, IllegalArgumentException;
+
 	
 	/**
 	 * A reminder to override equals.
@@ -24,6 +24,10 @@
 
 package org.teneighty.fft;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.teneighty.fft.factor.Factorization;
 import org.teneighty.fft.factor.Factorizer;
 import org.teneighty.fft.factor.FactorizerFactory;
@@ -36,6 +40,13 @@ import org.teneighty.fft.factor.FactorizerFactory;
  * property <i>before</i> this class is classloaded.
  * <p>
  * This class uses the abstract factory and singleton patterns.
+ * <p>
+ * Transforms are cached by size, so asking for the same size again returns the
+ * same, already planned, instance. The cache holds plans up to a total length
+ * (see {@link #setCacheCapacity(int)}) and drops the least recently used
+ * first. Cached transforms are shared between callers and threads, so
+ * implementations must create transforms that are safe for concurrent use, as
+ * the ones in this package are.
  * 
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -55,11 +66,41 @@ public abstract class FourierTransformFactory
 	 */
 	private static final String DEFAULT_IMPLEMENTATION = "org.teneighty.fft.DefaultFourierTransformFactory";
 
+	/**
+	 * Default cache capacity, in total transform length.
+	 */
+	public static final int DEFAULT_CACHE_CAPACITY = 1 << 16;
+
 	/**
 	 * The lone instance of this class.
 	 */
 	private static FourierTransformFactory fourier_factory;
 
+	/**
+	 * Cached plans, by size, least recently used first. Guarded by itself.
+	 */
+	private static final LinkedHashMap<Integer, FourierTransform> cache = new LinkedHashMap<Integer, FourierTransform>( 16, 0.75f, true );
+
+	/**
+	 * Total length of the cached plans. Guarded by <code>cache</code>.
+	 */
+	private static long cache_weight;
+
+	/**
+	 * Maximum total length of the cached plans. Guarded by <code>cache</code>.
+	 */
+	private static int cache_capacity = DEFAULT_CACHE_CAPACITY;
+
+	/**
+	 * Cache hits.
+	 */
+	private static final AtomicLong cache_hits = new AtomicLong();
+
+	/**
+	 * Cache misses.
+	 */
+	private static final AtomicLong cache_misses = new AtomicLong();
+
 
 	/**
 	 * Class initializer.
@@ -91,6 +132,31 @@ public abstract class FourierTransformFactory
 	}
 
 
+	/**
+	 * Replace the factory instance, for example with a
+	 * {@link MeasuringFourierTransformFactory}. The transform cache is cleared,
+	 * so that later requests are planned by the new factory.
+	 * 
+	 * @param factory the new factory.
+	 * @throws NullPointerException If <code>factory</code> is <code>null</code>.
+	 */
+	public static void setInstance( final FourierTransformFactory factory )
+		throws NullPointerException
+	{
+		if( factory == null )
+		{
+			throw new NullPointerException();
+		}
+
+		synchronized( FourierTransformFactory.class )
+		{
+			fourier_factory = factory;
+		}
+
+		clearCache();
+	}
+
+
 	/**
 	 * Create a good fourier transform for the specified factorization.
 	 * 
@@ -102,7 +168,13 @@ public abstract class FourierTransformFactory
 	public static FourierTransform getTransform( final int size )
 		throws IllegalArgumentException
 	{
-		return ( getInstance().getTransformImpl( size ) );
+		FourierTransform ft = lookup( size );
+		if( ft == null )
+		{
+			ft = store( size, getInstance().getTransformImpl( size ) );
+		}
+
+		return ( ft );
 	}
 
 
@@ -117,7 +189,166 @@ public abstract class FourierTransformFactory
 	public static FourierTransform getTransform( final Factorization fact )
 		throws IllegalArgumentException
 	{
-		return ( getInstance().getTransformImpl( fact ) );
+		final int size = fact.getNumber();
+
+		FourierTransform ft = lookup( size );
+		if( ft == null )
+		{
+			ft = store( size, getInstance().getTransformImpl( fact ) );
+		}
+
+		return ( ft );
+	}
+
+
+	/**
+	 * Look up a cached plan, counting the hit or miss.
+	 * 
+	 * @param size the size.
+	 * @return FourierTransform the plan, or <code>null</code>.
+	 */
+	private static FourierTransform lookup( final int size )
+	{
+		FourierTransform ft;
+		synchronized( cache )
+		{
+			ft = cache.get( Integer.valueOf( size ) );
+		}
+
+		if( ft == null )
+		{
+			cache_misses.incrementAndGet();
+		}
+		else
+		{
+			cache_hits.incrementAndGet();
+		}
+
+		return ( ft );
+	}
+
+
+	/**
+	 * Cache a new plan and evict the least recently used ones over capacity.
+	 * <p>
+	 * Planning happens outside the lock, so two threads may plan the same size
+	 * at once; the first one stored wins and both callers get it.
+	 * 
+	 * @param size the size.
+	 * @param ft the new plan.
+	 * @return FourierTransform the plan to use.
+	 */
+	private static FourierTransform store( final int size, final FourierTransform ft )
+	{
+		final Integer key = Integer.valueOf( size );
+		synchronized( cache )
+		{
+			FourierTransform old = cache.get( key );
+			if( old != null )
+			{
+				return ( old );
+			}
+
+			if( size > cache_capacity )
+			{
+				// would only push everything else out.
+				return ( ft );
+			}
+
+			cache.put( key, ft );
+			cache_weight += size;
+			evict();
+		}
+
+		return ( ft );
+	}
+
+
+	/**
+	 * Drop least recently used plans until the cache fits its capacity. Must
+	 * hold the cache lock.
+	 */
+	private static void evict()
+	{
+		Iterator<Integer> it = cache.keySet().iterator();
+		while( cache_weight > cache_capacity && it.hasNext() )
+		{
+			cache_weight -= it.next().intValue();
+			it.remove();
+		}
+	}
+
+
+	/**
+	 * Remove all cached plans. Transforms already handed out keep working.
+	 * The hit and miss counters are not reset.
+	 */
+	public static void clearCache()
+	{
+		synchronized( cache )
+		{
+			cache.clear();
+			cache_weight = 0;
+		}
+	}
+
+
+	/**
+	 * Set the cache capacity, evicting plans if it shrinks.
+	 * 
+	 * @param capacity maximum total length of the cached plans; 0 turns caching
+	 *        off.
+	 * @throws IllegalArgumentException If <code>capacity</code> is negative.
+	 */
+	public static void setCacheCapacity( final int capacity )
+		throws IllegalArgumentException
+	{
+		if( capacity < 0 )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		synchronized( cache )
+		{
+			cache_capacity = capacity;
+			evict();
+		}
+	}
+
+
+	/**
+	 * Get the cache capacity.
+	 * 
+	 * @return int maximum total length of the cached plans.
+	 */
+	public static int getCacheCapacity()
+	{
+		synchronized( cache )
+		{
+			return ( cache_capacity );
+		}
+	}
+
+
+	/**
+	 * Get the number of requests answered from the cache.
+	 * 
+	 * @return long the number of hits.
+	 */
+	public static long getCacheHits()
+	{
+		return ( cache_hits.get() );
+	}
+
+
+	/**
+	 * Get the number of requests that had to plan a new transform.
+	 * 
+	 * @return long the number of misses.
+	 */
+	public static long getCacheMisses()
+	{
+		return ( cache_misses.get() );
 	}
 
 
@@ -281,6 +281,116 @@ public final class FourierTransforms
 		}
 
 
+		/**
+		 * Transform complex array data in the specified direction.
+		 * 
+		 * @param in_re real part of the input.
+		 * @param in_im imaginary part of the input.
+		 * @param in_off index of the first input element.
+		 * @param in_stride distance between input elements.
+		 * @param out_re real part of the destination.
+		 * @param out_im imaginary part of the destination.
+		 * @param out_off index of the first output element.
+		 * @param out_stride distance between output elements.
+		 * @param direction the direction.
+		 * @throws NullPointerException If any array or <code>direction</code>
+		 *         is <code>null</code>.
+		 * @throws IllegalArgumentException If the arrays do not fit the
+		 *         transform.
+		 */
+		public void transform( final double[] in_re, final double[] in_im,
+				final int in_off, final int in_stride, final double[] out_re,
+				final double[] out_im, final int out_off, final int out_stride,
+				final TransformDirection direction )
+			throws NullPointerException, IllegalArgumentException
+		{
+			synchronized( this.mutex )
+			{
+				this.ft.transform( in_re, in_im, in_off, in_stride, out_re, out_im,
+						out_off, out_stride, direction );
+			}
+		}
+
+
+		/**
+		 * Transform real array data in the specified direction.
+		 * 
+		 * @param in the input.
+		 * @param in_off index of the first input element.
+		 * @param in_stride distance between input elements.
+		 * @param out_re real part of the destination.
+		 * @param out_im imaginary part of the destination.
+		 * @param out_off index of the first output element.
+		 * @param out_stride distance between output elements.
+		 * @param direction the direction.
+		 * @throws NullPointerException If any array or <code>direction</code>
+		 *         is <code>null</code>.
+		 * @throws IllegalArgumentException If the arrays do not fit the
+		 *         transform.
+		 */
+		public void transform( final double[] in, final int in_off,
+				final int in_stride, final double[] out_re, final double[] out_im,
+				final int out_off, final int out_stride,
+				final TransformDirection direction )
+			throws NullPointerException, IllegalArgumentException
+		{
+			synchronized( this.mutex )
+			{
+				this.ft.transform( in, in_off, in_stride, out_re, out_im, out_off,
+						out_stride, direction );
+			}
+		}
+
+
+		/**
+		 * Backward FT of a conjugate symmetric spectrum, to real data.
+		 * 
+		 * @param input the input vector.
+		 * @param dest the output vector.
+		 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+		 *         is <code>null</code>.
+		 * @throws IllegalArgumentException If <code>input</code> does not have
+		 *         the right length</code>, or if <code>input</code> == <code>dest</code>.
+		 */
+		public void backward( final ComplexDopeVector input,
+				final RealDopeVector dest )
+			throws NullPointerException, IllegalArgumentException
+		{
+			synchronized( this.mutex )
+			{
+				this.ft.backward( input, dest );
+			}
+		}
+
+
+		/**
+		 * Backward FT of a conjugate symmetric spectrum held in arrays, to real
+		 * data.
+		 * 
+		 * @param in_re real part of the input.
+		 * @param in_im imaginary part of the input.
+		 * @param in_off index of the first input element.
+		 * @param in_stride distance between input elements.
+		 * @param out the destination.
+		 * @param out_off index of the first output element.
+		 * @param out_stride distance between output elements.
+		 * @throws NullPointerException If any array is <code>null</code>.
+		 * @throws IllegalArgumentException If the arrays do not fit the
+		 *         transform.
+		 */
+		public void backward( final double[] in_re, final double[] in_im,
+				final int in_off, final int in_stride, final double[] out,
+				final int out_off, final int out_stride )
+			throws NullPointerException, IllegalArgumentException
+		{
+			synchronized( this.mutex )
+			{
+				this.ft.backward( in_re, in_im, in_off, in_stride, out, out_off,
+						out_stride );
+			}
+		}
+
+
 		/**
 		 * Check this object for equality.
 		 * 
@@ -0,0 +1,615 @@
+/*
+ * $Id$
+ *
+ * Copyright (c) 2026 The se.sandos.android contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.teneighty.fft.algorithms.BluesteinFastFourierTransform;
+import org.teneighty.fft.algorithms.CodeletFourierTransform;
+import org.teneighty.fft.algorithms.CooleyTukeyFastFourierTransform;
+import org.teneighty.fft.algorithms.CooleyTukeyRadixFourFastFourierTransform;
+import org.teneighty.fft.algorithms.CooleyTukeyRadixTwoFastFourierTransform;
+import org.teneighty.fft.algorithms.DirectFourierTransform;
+import org.teneighty.fft.algorithms.PrimeFactorFastFourierTransform;
+import org.teneighty.fft.algorithms.RaderFastFourierTransform;
+import org.teneighty.fft.factor.Factorization;
+import org.teneighty.fft.factor.Factorizer;
+import org.teneighty.fft.factor.FactorizerFactory;
+import org.teneighty.fft.factor.Factorization.Factor;
+
+
+/**
+ * A fourier transform factory that times the alternatives for each size on
+ * the running virtual machine and uses the fastest.
+ * <p>
+ * For a new size, this factory builds every candidate plan - a codelet or a
+ * direct transform for small sizes, radix two and four for powers of two,
+ * Rader, with and without padding, for primes, Bluestein for anything but
+ * powers of two, and a mixed-radix Cooley-Tukey or prime factor split for
+ * every divisor - runs each on random data and keeps the quickest. The
+ * sub-transforms of a split are planned through
+ * {@link FourierTransformFactory} and so are measured the same way, once per
+ * size.
+ * <p>
+ * The choices are remembered as <i>wisdom</i>: a plan descriptor for each
+ * size, such as <code>codelet</code>, <code>direct</code>, <code>radix4</code>,
+ * <code>rader</code>, <code>ct/16</code> or <code>pfa/7</code> (the number
+ * being the size of the first half of the split). Wisdom can be written out
+ * with {@link #exportWisdom(OutputStream)} and read back with
+ * {@link #importWisdom(InputStream)}, so that the measuring only has to be
+ * done once per machine. Sizes with wisdom are planned without measuring.
+ * <p>
+ * Measuring takes a while - anywhere from milliseconds for small sizes to
+ * seconds for large, highly composite ones - and the timings are only as good
+ * as the virtual machine's warm up allows. As with the default factory, even
+ * sizes are wrapped for real data. Install this factory with
+ * {@link FourierTransformFactory#setInstance(FourierTransformFactory)}.
+ *
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public class MeasuringFourierTransformFactory
+	extends DefaultFourierTransformFactory
+{
+
+
+	/**
+	 * Plan descriptor for a codelet.
+	 */
+	public static final String CODELET = "codelet";
+
+	/**
+	 * Plan descriptor for a direct transform.
+	 */
+	public static final String DIRECT = "direct";
+
+	/**
+	 * Plan descriptor for a radix two Cooley-Tukey transform.
+	 */
+	public static final String RADIX_TWO = "radix2";
+
+	/**
+	 * Plan descriptor for a radix four Cooley-Tukey transform.
+	 */
+	public static final String RADIX_FOUR = "radix4";
+
+	/**
+	 * Plan descriptor for a Rader transform.
+	 */
+	public static final String RADER = "rader";
+
+	/**
+	 * Plan descriptor for a Rader transform with its convolution zero padded
+	 * to a power of two.
+	 */
+	public static final String PADDED_RADER = "paddedrader";
+
+	/**
+	 * Plan descriptor for a Bluestein transform.
+	 */
+	public static final String BLUESTEIN = "bluestein";
+
+	/**
+	 * Plan descriptor prefix for a mixed-radix Cooley-Tukey split.
+	 */
+	public static final String COOLEY_TUKEY = "ct/";
+
+	/**
+	 * Plan descriptor prefix for a prime factor split.
+	 */
+	public static final String PRIME_FACTOR = "pfa/";
+
+	/**
+	 * Largest size for which the direct transform is a candidate.
+	 */
+	private static final int MAX_DIRECT = 512;
+
+	/**
+	 * Shortest timing run, in nanoseconds.
+	 */
+	private static final long MIN_RUN = 1000000L;
+
+	/**
+	 * Timing runs per candidate; the fastest counts.
+	 */
+	private static final int RUNS = 3;
+
+
+	/**
+	 * Plan descriptors by size. Guarded by itself.
+	 */
+	private final Map<Integer, String> wisdom;
+
+	/**
+	 * Whether sizes without wisdom are measured.
+	 */
+	private volatile boolean measuring;
+
+
+	/**
+	 * Constructor.
+	 */
+	public MeasuringFourierTransformFactory()
+	{
+		super();
+
+		this.wisdom = new HashMap<Integer, String>();
+		this.measuring = true;
+	}
+
+
+	/**
+	 * Create a transform for the specified factorization, from wisdom if there
+	 * is any, otherwise by measuring.
+	 *
+	 * @param fact the factorization.
+	 * @return FourierTranform a new transform.
+	 * @throws NullPointerException If <code>fact</code> is <code>null</code>.
+	 * @throws IllegalArgumentException If fact is malformed.
+	 */
+	@Override
+	protected FourierTransform getTransformImpl( final Factorization fact )
+		throws IllegalArgumentException, NullPointerException
+	{
+		final int size = fact.getNumber();
+
+		String plan = this.getPlan( size );
+		if( plan != null )
+		{
+			return ( this.packReal( this.create( size, plan ) ) );
+		}
+
+		if( size == 1 || this.measuring == false )
+		{
+			// nothing to choose from, or not allowed to.
+			return ( super.getTransformImpl( fact ) );
+		}
+
+		return ( this.packReal( this.measure( size ) ) );
+	}
+
+
+	/**
+	 * Time every candidate for the specified size and remember the fastest.
+	 *
+	 * @param size the size.
+	 * @return FourierTransform the fastest candidate.
+	 */
+	private FourierTransform measure( final int size )
+	{
+		// random input, same for every candidate.
+		Random rand = new Random( size );
+		double[] in_re = new double[ size ];
+		double[] in_im = new double[ size ];
+		for( int index = 0; index < size; index++ )
+		{
+			in_re[ index ] = rand.nextDouble() - 0.5;
+			in_im[ index ] = rand.nextDouble() - 0.5;
+		}
+
+		double[] out_re = new double[ size ];
+		double[] out_im = new double[ size ];
+
+		FourierTransform best = null;
+		String best_plan = null;
+		long best_time = Long.MAX_VALUE;
+
+		List<String> plans = candidates( size );
+		for( int index = 0; index < plans.size(); index++ )
+		{
+			String plan = plans.get( index );
+			FourierTransform ft = this.create( size, plan );
+
+			long time = time( ft, in_re, in_im, out_re, out_im );
+			if( time < best_time )
+			{
+				best = ft;
+				best_plan = plan;
+				best_time = time;
+			}
+		}
+
+		synchronized( this.wisdom )
+		{
+			this.wisdom.put( Integer.valueOf( size ), best_plan );
+		}
+
+		return ( best );
+	}
+
+
+	/**
+	 * Time a transform.
+	 *
+	 * @param ft the transform.
+	 * @param in_re real input.
+	 * @param in_im imaginary input.
+	 * @param out_re real output.
+	 * @param out_im imaginary output.
+	 * @return long the fastest time per transform, in nanoseconds.
+	 */
+	private static long time( final FourierTransform ft, final double[] in_re, final double[] in_im,
+														final double[] out_re, final double[] out_im )
+	{
+		// find a repeat count that takes long enough to time. this also serves
+		// as warm up.
+		int reps = 1;
+		while( run( ft, in_re, in_im, out_re, out_im, reps ) < MIN_RUN && reps < ( 1 << 24 ) )
+		{
+			reps <<= 1;
+		}
+
+		long best = Long.MAX_VALUE;
+		for( int index = 0; index < RUNS; index++ )
+		{
+			best = Math.min( best, run( ft, in_re, in_im, out_re, out_im, reps ) / reps );
+		}
+
+		return ( best );
+	}
+
+
+	/**
+	 * Run a transform a number of times.
+	 *
+	 * @param ft the transform.
+	 * @param in_re real input.
+	 * @param in_im imaginary input.
+	 * @param out_re real output.
+	 * @param out_im imaginary output.
+	 * @param reps the number of times.
+	 * @return long the elapsed time, in nanoseconds.
+	 */
+	private static long run( final FourierTransform ft, final double[] in_re, final double[] in_im,
+													 final double[] out_re, final double[] out_im, final int reps )
+	{
+		final long start = System.nanoTime();
+		for( int index = 0; index < reps; index++ )
+		{
+			ft.transform( in_re, in_im, 0, 1, out_re, out_im, 0, 1, TransformDirection.FORWARD );
+		}
+
+		return ( System.nanoTime() - start );
+	}
+
+
+	/**
+	 * Get the candidate plans for a size.
+	 *
+	 * @param size the size.
+	 * @return List&lt;String&gt; the plan descriptors.
+	 */
+	private static List<String> candidates( final int size )
+	{
+		List<String> plans = new ArrayList<String>();
+
+		if( CodeletFourierTransform.isSupported( size ) == true )
+		{
+			plans.add( CODELET );
+		}
+
+		if( size <= MAX_DIRECT )
+		{
+			plans.add( DIRECT );
+		}
+
+		if( ( size & ( size - 1 ) ) == 0 )
+		{
+			plans.add( RADIX_TWO );
+			plans.add( RADIX_FOUR );
+		}
+		else
+		{
+			if( FourierTransformUtilities.isPrime( size ) == true )
+			{
+				plans.add( RADER );
+
+				// padding a power of two convolution only makes it longer.
+				if( ( ( size - 1 ) & ( size - 2 ) ) != 0 )
+				{
+					plans.add( PADDED_RADER );
+				}
+			}
+
+			// not for powers of two: its convolution is a power of two at
+			// least twice the size, so measuring would never end.
+			plans.add( BLUESTEIN );
+		}
+
+		for( int n1 = 2; n1 < size; n1++ )
+		{
+			if( size % n1 != 0 )
+			{
+				continue;
+			}
+
+			plans.add( COOLEY_TUKEY + n1 );
+			if( FourierTransformUtilities.euclid( n1, size / n1 ) == 1 )
+			{
+				plans.add( PRIME_FACTOR + n1 );
+			}
+		}
+
+		return ( plans );
+	}
+
+
+	/**
+	 * Create the transform a plan descriptor describes.
+	 *
+	 * @param size the size.
+	 * @param plan the plan descriptor.
+	 * @return FourierTransform a new transform.
+	 * @throws IllegalArgumentException If <code>plan</code> is not a valid plan
+	 *         for <code>size</code>.
+	 */
+	private FourierTransform create( final int size, final String plan )
+		throws IllegalArgumentException
+	{
+		final int n1 = check( size, plan );
+		if( plan.equals( CODELET ) == true )
+		{
+			return ( new CodeletFourierTransform( size ) );
+		}
+		else if( plan.equals( DIRECT ) == true )
+		{
+			return ( new DirectFourierTransform( size ) );
+		}
+		else if( plan.equals( RADIX_TWO ) == true )
+		{
+			return ( new CooleyTukeyRadixTwoFastFourierTransform( size ) );
+		}
+		else if( plan.equals( RADIX_FOUR ) == true )
+		{
+			return ( new CooleyTukeyRadixFourFastFourierTransform( size ) );
+		}
+		else if( plan.equals( RADER ) == true )
+		{
+			return ( new RaderFastFourierTransform( size ) );
+		}
+		else if( plan.equals( PADDED_RADER ) == true )
+		{
+			return ( new RaderFastFourierTransform( size, true ) );
+		}
+		else if( plan.equals( BLUESTEIN ) == true )
+		{
+			return ( new BluesteinFastFourierTransform( size ) );
+		}
+
+		Factorizer facter = FactorizerFactory.getFactorizer();
+		List<Factor> fset1 = facter.factorize( n1 ).getFactors();
+		List<Factor> fset2 = facter.factorize( size / n1 ).getFactors();
+
+		if( plan.startsWith( COOLEY_TUKEY ) == true )
+		{
+			return ( new CooleyTukeyFastFourierTransform( fset1, fset2, size ) );
+		}
+
+		return ( new PrimeFactorFastFourierTransform( fset1, fset2, size ) );
+	}
+
+
+	/**
+	 * Check a plan descriptor.
+	 *
+	 * @param size the size.
+	 * @param plan the plan descriptor.
+	 * @return int the size of the first half of a split, or 0 if the plan is
+	 *         not a split.
+	 * @throws IllegalArgumentException If <code>plan</code> is not a valid plan
+	 *         for <code>size</code>.
+	 */
+	private static int check( final int size, final String plan )
+		throws IllegalArgumentException
+	{
+		if( size < 1 )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		if( plan.equals( DIRECT ) == true || plan.equals( BLUESTEIN ) == true )
+		{
+			return ( 0 );
+		}
+		else if( plan.equals( CODELET ) == true )
+		{
+			if( CodeletFourierTransform.isSupported( size ) == false )
+			{
+				throw new IllegalArgumentException( "No codelet of size " + size );
+			}
+
+			return ( 0 );
+		}
+		else if( plan.equals( RADIX_TWO ) == true || plan.equals( RADIX_FOUR ) == true )
+		{
+			if( ( size & ( size - 1 ) ) != 0 )
+			{
+				throw new IllegalArgumentException( "Not a power of two: " + size );
+			}
+
+			return ( 0 );
+		}
+		else if( plan.equals( RADER ) == true || plan.equals( PADDED_RADER ) == true )
+		{
+			if( size < 3 || FourierTransformUtilities.isPrime( size ) == false )
+			{
+				throw new IllegalArgumentException( "Not an odd prime: " + size );
+			}
+
+			return ( 0 );
+		}
+
+		final String rest;
+		if( plan.startsWith( COOLEY_TUKEY ) == true )
+		{
+			rest = plan.substring( COOLEY_TUKEY.length() );
+		}
+		else if( plan.startsWith( PRIME_FACTOR ) == true )
+		{
+			rest = plan.substring( PRIME_FACTOR.length() );
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Unknown plan: " + plan );
+		}
+
+		// number format exception is an illegal argument exception.
+		final int n1 = Integer.parseInt( rest );
+		if( n1 < 2 || n1 >= size || size % n1 != 0 )
+		{
+			throw new IllegalArgumentException( "Bad split " + plan + " for " + size );
+		}
+
+		if( plan.startsWith( PRIME_FACTOR ) == true && FourierTransformUtilities.euclid( n1, size / n1 ) != 1 )
+		{
+			throw new IllegalArgumentException( "Split not coprime " + plan + " for " + size );
+		}
+
+		return ( n1 );
+	}
+
+
+	/**
+	 * Get the plan chosen for a size.
+	 *
+	 * @param size the size.
+	 * @return String the plan descriptor, or <code>null</code> if there's no
+	 *         wisdom for <code>size</code>.
+	 */
+	public String getPlan( final int size )
+	{
+		synchronized( this.wisdom )
+		{
+			return ( this.wisdom.get( Integer.valueOf( size ) ) );
+		}
+	}
+
+
+	/**
+	 * Write out the wisdom gathered so far, as a properties file mapping each
+	 * size to its plan descriptor.
+	 *
+	 * @param out the stream to write to. Not closed.
+	 * @throws IOException If writing fails.
+	 */
+	public void exportWisdom( final OutputStream out )
+		throws IOException
+	{
+		Properties props = new Properties();
+		synchronized( this.wisdom )
+		{
+			for( Map.Entry<Integer, String> entry : this.wisdom.entrySet() )
+			{
+				props.setProperty( entry.getKey().toString(), entry.getValue() );
+			}
+		}
+
+		props.store( out, "teneighty fft wisdom" );
+	}
+
+
+	/**
+	 * Read wisdom written by {@link #exportWisdom(OutputStream)}, adding to
+	 * (and overriding) what this factory already knows. The transform cache
+	 * is cleared, so that later requests follow the new wisdom.
+	 * <p>
+	 * Nothing is imported if any entry is malformed.
+	 *
+	 * @param in the stream to read from. Not closed.
+	 * @throws IOException If reading fails.
+	 * @throws IllegalArgumentException If the wisdom is malformed.
+	 */
+	public void importWisdom( final InputStream in )
+		throws IOException, IllegalArgumentException
+	{
+		Properties props = new Properties();
+		props.load( in );
+
+		// check everything before touching anything.
+		Map<Integer, String> read = new HashMap<Integer, String>();
+		for( String key : props.stringPropertyNames() )
+		{
+			final int size = Integer.parseInt( key.trim() );
+			final String plan = props.getProperty( key ).trim();
+			check( size, plan );
+			read.put( Integer.valueOf( size ), plan );
+		}
+
+		synchronized( this.wisdom )
+		{
+			this.wisdom.putAll( read );
+		}
+
+		FourierTransformFactory.clearCache();
+	}
+
+
+	/**
+	 * Forget all wisdom; sizes are measured again on their next request. The
+	 * transform cache is cleared.
+	 */
+	public void forgetWisdom()
+	{
+		synchronized( this.wisdom )
+		{
+			this.wisdom.clear();
+		}
+
+		FourierTransformFactory.clearCache();
+	}
+
+
+	/**
+	 * Turn measuring on or off. Off, sizes without wisdom get the default
+	 * factory's plan, which suits a device that only uses imported wisdom.
+	 *
+	 * @param measuring whether to measure.
+	 */
+	public void setMeasuring( final boolean measuring )
+	{
+		this.measuring = measuring;
+	}
+
+
+	/**
+	 * Get whether sizes without wisdom are measured.
+	 *
+	 * @return boolean true if measuring.
+	 */
+	public boolean isMeasuring()
+	{
+		return ( this.measuring );
+	}
+
+
+}
@@ -24,10 +24,14 @@
 
 package org.teneighty.fft.algorithms;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 import org.teneighty.fft.FourierTransform;
 import org.teneighty.fft.TransformDirection;
+import org.teneighty.fft.dope.BackedComplexDopeVector;
+import org.teneighty.fft.dope.BackedRealDopeVector;
 import org.teneighty.fft.dope.ComplexDopeVector;
 import org.teneighty.fft.dope.DopeVector;
 import org.teneighty.fft.dope.RealDopeVector;
@@ -35,6 +39,11 @@ import org.teneighty.fft.dope.RealDopeVector;
 
 /**
  * Abstract class from which all Fourier Transform implementation can extend.
+ * <p>
+ * Subclasses implement either the dope vector or the array versions of
+ * <code>transform</code>; the other pair defaults to an adapter. Array
+ * transforms are run through a strided dope view, and dope transforms can use
+ * <code>transformArrays</code> to get at the backing arrays.
  * 
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -56,6 +65,12 @@ public abstract class AbstractFourierTransform
 	 */
 	private int trans_size;
 
+	/**
+	 * Each thread's copies for dope vectors without accessible arrays: input
+	 * real and imaginary, then output real and imaginary.
+	 */
+	private transient ThreadLocal<double[][]> scratch;
+
 
 	/**
 	 * Constructor.
@@ -77,6 +92,8 @@ public abstract class AbstractFourierTransform
 
 		// Store size.
 		this.trans_size = size;
+
+		this.createScratch();
 	}
 
 
@@ -112,6 +129,140 @@ public abstract class AbstractFourierTransform
 	}
 	
 	
+	/**
+	 * Check the specified arrays, to make sure they're valid input and
+	 * destination arrays.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short, or the output shares an array.
+	 */
+	protected final void checkArrays( final double[] in_re,
+			final double[] in_im, final int in_off, final int in_stride,
+			final double[] out_re, final double[] out_im, final int out_off,
+			final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( in_im == null )
+		{
+			throw new NullPointerException();
+		}
+
+		if( in_im == out_re || in_im == out_im )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.checkArray( in_im, in_off, in_stride );
+		this.checkArrays( in_re, in_off, in_stride, out_re, out_im, out_off, out_stride );
+	}
+
+
+	/**
+	 * Check the specified arrays, to make sure they're valid real input and
+	 * destination arrays.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short, or the output shares an array.
+	 */
+	protected final void checkArrays( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( in == null || out_re == null || out_im == null )
+		{
+			throw new NullPointerException();
+		}
+
+		if( in == out_re || in == out_im || out_re == out_im )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.checkArray( in, in_off, in_stride );
+		this.checkArray( out_re, out_off, out_stride );
+		this.checkArray( out_im, out_off, out_stride );
+	}
+
+
+	/**
+	 * Check the specified arrays, to make sure they're valid complex input and
+	 * real destination arrays.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short, or the output shares an array.
+	 */
+	protected final void checkArrays( final double[] in_re,
+			final double[] in_im, final int in_off, final int in_stride,
+			final double[] out, final int out_off, final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( in_re == null || in_im == null || out == null )
+		{
+			throw new NullPointerException();
+		}
+
+		if( out == in_re || out == in_im )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.checkArray( in_re, in_off, in_stride );
+		this.checkArray( in_im, in_off, in_stride );
+		this.checkArray( out, out_off, out_stride );
+	}
+
+
+	/**
+	 * Check that the specified array holds a whole vector.
+	 * 
+	 * @param array the array.
+	 * @param off index of the first element.
+	 * @param stride distance between elements.
+	 * @throws IllegalArgumentException If it does not.
+	 */
+	private void checkArray( final double[] array, final int off,
+			final int stride )
+		throws IllegalArgumentException
+	{
+		if( off < 0 || stride < 1 )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		// long, so a huge stride cannot wrap around.
+		if( off + (long) ( this.getLength() - 1 ) * stride >= array.length )
+		{
+			throw new IllegalArgumentException();
+		}
+	}
+	
+	
 	/**
 	 * Check direction.
 	 * 
@@ -217,6 +368,303 @@ public abstract class AbstractFourierTransform
 	}
 
 
+	/**
+	 * Perform the backward Fourier transform of a conjugate symmetric
+	 * spectrum, giving real data.
+	 * <p>
+	 * Backed vectors hand over their arrays directly; anything else is copied
+	 * through the calling thread's scratch arrays.
+	 * 
+	 * @param input the vector to transform.
+	 * @param dest the destination vector.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void backward( final ComplexDopeVector input,
+												final RealDopeVector dest )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkVectors( input, dest );
+
+		final boolean backed_in = input instanceof BackedComplexDopeVector;
+		final boolean backed_dest = dest instanceof BackedRealDopeVector;
+		final double[][] s = ( backed_in && backed_dest ? null : this.scratch.get() );
+
+		double[] in_re, in_im;
+		if( backed_in )
+		{
+			in_re = ( (BackedComplexDopeVector)input ).getRealArray();
+			in_im = ( (BackedComplexDopeVector)input ).getImaginaryArray();
+		}
+		else
+		{
+			in_re = s[ 0 ];
+			in_im = s[ 1 ];
+			for( int i = 0; i < in_re.length; i++ )
+			{
+				in_re[ i ] = input.getReal( i );
+				in_im[ i ] = input.getImaginary( i );
+			}
+		}
+
+		if( backed_dest )
+		{
+			this.backward( in_re, in_im, 0, 1, ( (BackedRealDopeVector)dest ).getRealArray(), 0, 1 );
+		}
+		else
+		{
+			// scratch row 2 is where the default array version computes its
+			// result anyway, so it is fine as the destination here.
+			final double[] out = s[ 2 ];
+			this.backward( in_re, in_im, 0, 1, out, 0, 1 );
+			for( int i = 0; i < out.length; i++ )
+			{
+				dest.setReal( out[ i ], i );
+			}
+		}
+	}
+
+
+	/**
+	 * Perform the backward Fourier transform of a conjugate symmetric spectrum
+	 * held in arrays, giving real data.
+	 * <p>
+	 * This default runs a full complex backward transform and keeps the real
+	 * part.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	public void backward( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out,
+			final int out_off, final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out, out_off, out_stride );
+
+		final double[][] s = this.scratch.get();
+		final double[] re = s[ 2 ];
+		this.transform( in_re, in_im, in_off, in_stride, re, s[ 3 ], 0, 1, TransformDirection.BACKWARD );
+
+		for( int i = 0, j = out_off; i < re.length; i++, j += out_stride )
+		{
+			out[ j ] = re[ i ];
+		}
+	}
+
+
+	/**
+	 * Transform complex array data, through a strided view of the arrays.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+
+		final int n = this.getLength();
+		this.transform( new StridedComplexDopeVector( in_re, in_im, in_off, in_stride, n ),
+				new StridedComplexDopeVector( out_re, out_im, out_off, out_stride, n ), direction );
+	}
+
+
+	/**
+	 * Transform real array data, through a strided view of the arrays.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+
+		final int n = this.getLength();
+		this.transform( new StridedRealDopeVector( in, in_off, in_stride, n ),
+				new StridedComplexDopeVector( out_re, out_im, out_off, out_stride, n ), direction );
+	}
+
+
+	/**
+	 * Run a dope vector transform through the array version.
+	 * <p>
+	 * Backed vectors hand over their arrays directly; anything else is copied
+	 * to and from the calling thread's scratch arrays, which costs two dope
+	 * calls per element instead of several per butterfly.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the destination.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	protected final void transformArrays( final ComplexDopeVector input,
+			final ComplexDopeVector dest, final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkVectors( input, dest );
+
+		// one lookup per call, and none at all for backed vectors.
+		final boolean backed_in = input instanceof BackedComplexDopeVector;
+		final boolean backed_dest = dest instanceof BackedComplexDopeVector;
+		final double[][] s = ( backed_in && backed_dest ? null : this.scratch.get() );
+
+		double[] in_re, in_im;
+		if( backed_in )
+		{
+			in_re = ( (BackedComplexDopeVector)input ).getRealArray();
+			in_im = ( (BackedComplexDopeVector)input ).getImaginaryArray();
+		}
+		else
+		{
+			in_re = s[ 0 ];
+			in_im = s[ 1 ];
+			for( int i = 0; i < in_re.length; i++ )
+			{
+				in_re[ i ] = input.getReal( i );
+				in_im[ i ] = input.getImaginary( i );
+			}
+		}
+
+		if( backed_dest )
+		{
+			BackedComplexDopeVector bdest = (BackedComplexDopeVector)dest;
+			this.transform( in_re, in_im, 0, 1, bdest.getRealArray(), bdest.getImaginaryArray(), 0, 1, direction );
+		}
+		else
+		{
+			this.transform( in_re, in_im, 0, 1, s[ 2 ], s[ 3 ], 0, 1, direction );
+			this.copyOut( s, dest );
+		}
+	}
+
+
+	/**
+	 * Run a real dope vector transform through the array version.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the destination.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 * @see #transformArrays(ComplexDopeVector, ComplexDopeVector, TransformDirection)
+	 */
+	protected final void transformArrays( final RealDopeVector input,
+			final ComplexDopeVector dest, final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkVectors( input, dest );
+
+		final boolean backed_in = input instanceof BackedRealDopeVector;
+		final boolean backed_dest = dest instanceof BackedComplexDopeVector;
+		final double[][] s = ( backed_in && backed_dest ? null : this.scratch.get() );
+
+		double[] in;
+		if( backed_in )
+		{
+			in = ( (BackedRealDopeVector)input ).getRealArray();
+		}
+		else
+		{
+			in = s[ 0 ];
+			for( int i = 0; i < in.length; i++ )
+			{
+				in[ i ] = input.getReal( i );
+			}
+		}
+
+		if( backed_dest )
+		{
+			BackedComplexDopeVector bdest = (BackedComplexDopeVector)dest;
+			this.transform( in, 0, 1, bdest.getRealArray(), bdest.getImaginaryArray(), 0, 1, direction );
+		}
+		else
+		{
+			this.transform( in, 0, 1, s[ 2 ], s[ 3 ], 0, 1, direction );
+			this.copyOut( s, dest );
+		}
+	}
+
+
+	/**
+	 * Create the scratch holder. A thread's arrays are only allocated when it
+	 * first needs them.
+	 */
+	private void createScratch()
+	{
+		final int n = this.trans_size;
+		this.scratch = new ThreadLocal<double[][]>()
+		{
+			@Override
+			protected double[][] initialValue()
+			{
+				return ( new double[ 4 ][ n ] );
+			}
+		};
+	}
+
+
+	/**
+	 * Copy the scratch output to the specified vector.
+	 * 
+	 * @param s the calling thread's scratch arrays.
+	 * @param dest the destination.
+	 */
+	private void copyOut( final double[][] s, final ComplexDopeVector dest )
+	{
+		final double[] re = s[ 2 ];
+		final double[] im = s[ 3 ];
+		for( int i = 0; i < re.length; i++ )
+		{
+			dest.setReal( re[ i ], i );
+			dest.setImaginary( im[ i ], i );
+		}
+	}
+
+
 	/**
 	 * A half-way decent implementation of equals.
 	 * <p>
@@ -261,6 +709,23 @@ public abstract class AbstractFourierTransform
 	}
 
 
+	/**
+	 * Read and restore this object from the specified stream.
+	 * 
+	 * @param in the stream from which to read.
+	 * @throws IOException If deserialization fails.
+	 * @throws ClassNotFoundException If deserialization attempts to classload a
+	 *         non-existant class.
+	 */
+	private void readObject( final ObjectInputStream in )
+		throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+
+		this.createScratch();
+	}
+
+
 	/**
 	 * Slightly lamer to string.
 	 * 
@@ -0,0 +1,185 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+import java.io.Serializable;
+
+import org.teneighty.fft.FastFourierTransform;
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.TransformDirection;
+import org.teneighty.fft.dope.ComplexDopeVector;
+import org.teneighty.fft.dope.RealDopeVector;
+
+
+/**
+ * Bluestein's FFT, for any size.
+ * <p>
+ * The DFT is computed as a {@link ChirpZTransform} with a step of
+ * <code>1 / n</code>, so the work is a convolution through power of two
+ * transforms of at least <code>2 n - 1</code> points, however badly
+ * <code>n</code> (or <code>n - 1</code>, for Rader) factors. It pays off for
+ * primes where Rader would recurse through more awkward sizes. The backward
+ * transform conjugates the input and output of the forward one.
+ * 
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public strictfp class BluesteinFastFourierTransform
+	extends AbstractFastFourierTransform
+	implements FourierTransform, FastFourierTransform, Serializable
+{
+
+
+	/**
+	 * Serial version UID.
+	 */
+	private static final long serialVersionUID = 38473727L;
+
+
+	/**
+	 * The chirp-z transform evaluating the DFT.
+	 */
+	private ChirpZTransform chirp;
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param size the size.
+	 * @throws IllegalArgumentException If <code>size</code> is less than 1 or
+	 *         too big.
+	 */
+	public BluesteinFastFourierTransform( final int size )
+		throws IllegalArgumentException
+	{
+		super( size );
+
+		this.chirp = new ChirpZTransform( size, size, 0.0, 1.0 / size );
+	}
+
+
+	/**
+	 * Compute the FFT for complex data.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final ComplexDopeVector input,
+													final ComplexDopeVector dest, final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transformArrays( input, dest, direction );
+	}
+
+
+	/**
+	 * Compute the FFT for real data.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final RealDopeVector input,
+													final ComplexDopeVector dest,
+													final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transformArrays( input, dest, direction );
+	}
+
+
+	/**
+	 * Actually compute the FFT for complex data.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		this.chirp.transform( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride,
+				direction == TransformDirection.BACKWARD );
+	}
+
+
+	/**
+	 * Actually compute the FFT for real data.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		this.chirp.transform( in, null, in_off, in_stride, out_re, out_im, out_off, out_stride,
+				direction == TransformDirection.BACKWARD );
+	}
+
+
+}
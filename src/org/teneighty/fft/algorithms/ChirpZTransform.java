@@ -0,0 +1,536 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.FourierTransformFactory;
+import org.teneighty.fft.TransformDirection;
+
+
+/**
+ * The chirp-z transform, restricted to the unit circle: the spectrum of
+ * <code>n</code> input samples at <code>m</code> evenly spaced frequencies,
+ * <p>
+ * <code>X[ k ] = sum over j &lt; n of x[ j ] exp( -2 pi i j ( start + k step ) )</code>,
+ * <p>
+ * with <code>start</code> and <code>step</code> in cycles per sample (so a
+ * frequency in Hz divided by the sample rate). Unlike a DFT, the span and
+ * resolution are free, which makes it good for zooming in on a narrow band.
+ * <p>
+ * This uses Bluestein's algorithm: <code>j k</code> is written as
+ * <code>( j^2 + k^2 - ( k - j )^2 ) / 2</code>, which turns the sum into a
+ * convolution with a chirp, done with power of two FFTs of at least
+ * <code>n + m - 1</code> points. When <code>step</code> is exactly
+ * <code>1 / d</code> for an integer <code>d</code>, such as the bin spacing
+ * of a <code>d</code> point DFT, the chirp is computed exactly modulo its
+ * period.
+ * <p>
+ * Instances keep their scratch space per thread, so one instance can be used
+ * by multiple threads at once.
+ * 
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public strictfp class ChirpZTransform
+	extends Object
+	implements Serializable
+{
+
+
+	/**
+	 * Serial version UID.
+	 */
+	private static final long serialVersionUID = 38473726L;
+
+
+	/**
+	 * Input length.
+	 */
+	private int input_length;
+
+	/**
+	 * Output length.
+	 */
+	private int output_length;
+
+	/**
+	 * First frequency, in cycles per sample.
+	 */
+	private double start;
+
+	/**
+	 * Frequency step, in cycles per sample.
+	 */
+	private double step;
+
+	/**
+	 * Convolution length.
+	 */
+	private transient int conv_length;
+
+	/**
+	 * Convolution transform.
+	 */
+	private transient FourierTransform fft;
+
+	/**
+	 * Input multipliers, <code>exp( -2 pi i j start ) c( j )</code>.
+	 */
+	private transient double[] pre_re, pre_im;
+
+	/**
+	 * Output multipliers, the chirp <code>c( k ) = exp( -pi i step k^2 )</code>.
+	 */
+	private transient double[] post_re, post_im;
+
+	/**
+	 * Transform of the conjugate chirp, divided by the convolution length.
+	 */
+	private transient double[] kernel_re, kernel_im;
+
+	/**
+	 * Each thread's workspace: convolution real and imaginary, then transform
+	 * real and imaginary.
+	 */
+	private transient ThreadLocal<double[][]> workspace;
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param input_length the number of input samples.
+	 * @param output_length the number of frequencies.
+	 * @param start the first frequency, in cycles per sample.
+	 * @param step the frequency step, in cycles per sample.
+	 * @throws IllegalArgumentException If a length is less than 1, the
+	 *         convolution would be too long, or <code>start</code> or
+	 *         <code>step</code> is not finite.
+	 */
+	public ChirpZTransform( final int input_length, final int output_length,
+			final double start, final double step )
+		throws IllegalArgumentException
+	{
+		super();
+
+		if( input_length < 1 || output_length < 1 || ( (long) input_length + output_length ) > ( 1 << 30 ) )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		if( Double.isNaN( start ) || Double.isInfinite( start ) || Double.isNaN( step ) || Double.isInfinite( step ) )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.input_length = input_length;
+		this.output_length = output_length;
+		this.start = start;
+		this.step = step;
+
+		this.transientInit();
+	}
+
+
+	/**
+	 * Initialize transient fields.
+	 */
+	private void transientInit()
+	{
+		final int n = this.input_length;
+		final int m = this.output_length;
+
+		int l = 1;
+		while( l < n + m - 1 )
+		{
+			l <<= 1;
+		}
+
+		this.conv_length = l;
+		this.fft = FourierTransformFactory.getTransform( l );
+
+		// chirp and the input and output multipliers.
+		final int chirp_length = Math.max( n, m );
+		final double[] c_re = new double[ chirp_length ];
+		final double[] c_im = new double[ chirp_length ];
+		this.createChirp( c_re, c_im );
+
+		this.pre_re = new double[ n ];
+		this.pre_im = new double[ n ];
+		double angle;
+		for( int j = 0; j < n; j++ )
+		{
+			angle = -2.0 * Math.PI * ( ( this.start * j ) % 1.0 );
+			final double s_re = Math.cos( angle );
+			final double s_im = Math.sin( angle );
+			this.pre_re[ j ] = ( s_re * c_re[ j ] ) - ( s_im * c_im[ j ] );
+			this.pre_im[ j ] = ( s_re * c_im[ j ] ) + ( s_im * c_re[ j ] );
+		}
+
+		this.post_re = new double[ m ];
+		this.post_im = new double[ m ];
+		System.arraycopy( c_re, 0, this.post_re, 0, m );
+		System.arraycopy( c_im, 0, this.post_im, 0, m );
+
+		// conjugate chirp over -n < t < m, wrapped around the convolution.
+		final double[] b_re = new double[ l ];
+		final double[] b_im = new double[ l ];
+		for( int t = 0; t < m; t++ )
+		{
+			b_re[ t ] = c_re[ t ];
+			b_im[ t ] = -c_im[ t ];
+		}
+		for( int t = 1; t < n; t++ )
+		{
+			b_re[ l - t ] = c_re[ t ];
+			b_im[ l - t ] = -c_im[ t ];
+		}
+
+		this.kernel_re = new double[ l ];
+		this.kernel_im = new double[ l ];
+		this.fft.transform( b_re, b_im, 0, 1, this.kernel_re, this.kernel_im, 0, 1, TransformDirection.FORWARD );
+
+		// fold in the scaling of the backward transform.
+		final double scale = 1.0 / l;
+		for( int t = 0; t < l; t++ )
+		{
+			this.kernel_re[ t ] *= scale;
+			this.kernel_im[ t ] *= scale;
+		}
+
+		// workspaces are created as threads first use this transform.
+		final int size = l;
+		this.workspace = new ThreadLocal<double[][]>()
+		{
+			@Override
+			protected double[][] initialValue()
+			{
+				return ( new double[ 4 ][ size ] );
+			}
+		};
+	}
+
+
+	/**
+	 * Compute the chirp, <code>c( t ) = exp( -pi i step t^2 )</code>.
+	 * 
+	 * @param c_re real part.
+	 * @param c_im imaginary part.
+	 */
+	private void createChirp( final double[] c_re, final double[] c_im )
+	{
+		// is step 1 / d for an integer d?
+		final double inv = 1.0 / this.step;
+		final long d = Math.round( inv );
+		final boolean exact = ( d != 0 && Math.abs( d ) <= Integer.MAX_VALUE && ( 1.0 / d ) == this.step );
+
+		double angle;
+		for( int t = 0; t < c_re.length; t++ )
+		{
+			final long t2 = (long) t * t;
+			if( exact )
+			{
+				// the chirp has period 2 |d| in t^2.
+				angle = ( -Math.PI * ( t2 % ( 2 * Math.abs( d ) ) ) ) / d;
+			}
+			else
+			{
+				angle = -Math.PI * ( ( this.step * t2 ) % 2.0 );
+			}
+
+			c_re[ t ] = Math.cos( angle );
+			c_im[ t ] = Math.sin( angle );
+		}
+	}
+
+
+	/**
+	 * Get the number of input samples.
+	 * 
+	 * @return int the input length.
+	 */
+	public int getInputLength()
+	{
+		return ( this.input_length );
+	}
+
+
+	/**
+	 * Get the number of frequencies.
+	 * 
+	 * @return int the output length.
+	 */
+	public int getOutputLength()
+	{
+		return ( this.output_length );
+	}
+
+
+	/**
+	 * Get the first frequency.
+	 * 
+	 * @return double the first frequency, in cycles per sample.
+	 */
+	public double getStart()
+	{
+		return ( this.start );
+	}
+
+
+	/**
+	 * Get the frequency step.
+	 * 
+	 * @return double the step, in cycles per sample.
+	 */
+	public double getStep()
+	{
+		return ( this.step );
+	}
+
+
+	/**
+	 * Transform complex data held in arrays.
+	 * <p>
+	 * The layout is as for
+	 * {@link FourierTransform#transform(double[], double[], int, int, double[], double[], int, int, TransformDirection)},
+	 * except that the input and output lengths differ.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short, or the output shares an array.
+	 */
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( in_im == null )
+		{
+			throw new NullPointerException();
+		}
+
+		if( in_im == out_re || in_im == out_im )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		checkArray( in_im, in_off, in_stride, this.input_length );
+		this.transform( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride, false );
+	}
+
+
+	/**
+	 * Transform real data held in an array.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short, or the output shares an array.
+	 */
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transform( in, null, in_off, in_stride, out_re, out_im, out_off, out_stride, false );
+	}
+
+
+	/**
+	 * Do the actual transform.
+	 * <p>
+	 * With <code>conjugate</code> set, this computes the conjugate of the
+	 * transform of the conjugate of the input, i.e. the transform with
+	 * <code>start</code> and <code>step</code> negated. That is how
+	 * {@link BluesteinFastFourierTransform} gets its backward transform.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input, or <code>null</code> for real
+	 *        input. Assumed checked.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param conjugate whether to conjugate the input and output.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If a stride is less than 1, an array is
+	 *         too short, or the output shares an array.
+	 */
+	void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final boolean conjugate )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( in_re == null || out_re == null || out_im == null )
+		{
+			throw new NullPointerException();
+		}
+
+		if( in_re == out_re || in_re == out_im || out_re == out_im )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		checkArray( in_re, in_off, in_stride, this.input_length );
+		checkArray( out_re, out_off, out_stride, this.output_length );
+		checkArray( out_im, out_off, out_stride, this.output_length );
+
+		final int n = this.input_length;
+		final int m = this.output_length;
+		final int l = this.conv_length;
+
+		final double[] pre_re = this.pre_re;
+		final double[] pre_im = this.pre_im;
+		final double[] post_re = this.post_re;
+		final double[] post_im = this.post_im;
+		final double[] kernel_re = this.kernel_re;
+		final double[] kernel_im = this.kernel_im;
+
+		final double[][] w = this.workspace.get();
+		final double[] a_re = w[ 0 ];
+		final double[] a_im = w[ 1 ];
+		final double[] f_re = w[ 2 ];
+		final double[] f_im = w[ 3 ];
+
+		final double sign = ( conjugate ? -1.0 : 1.0 );
+
+		// happy temps.
+		double x_re, x_im, t_re, t_im;
+		int index;
+
+		// chirp the input, zero padded.
+		index = in_off;
+		for( int j = 0; j < n; j++, index += in_stride )
+		{
+			x_re = in_re[ index ];
+			x_im = ( in_im == null ? 0.0 : sign * in_im[ index ] );
+			a_re[ j ] = ( x_re * pre_re[ j ] ) - ( x_im * pre_im[ j ] );
+			a_im[ j ] = ( x_re * pre_im[ j ] ) + ( x_im * pre_re[ j ] );
+		}
+		for( int j = n; j < l; j++ )
+		{
+			a_re[ j ] = 0.0;
+			a_im[ j ] = 0.0;
+		}
+
+		// convolve with the conjugate chirp.
+		this.fft.transform( a_re, a_im, 0, 1, f_re, f_im, 0, 1, TransformDirection.FORWARD );
+		for( int t = 0; t < l; t++ )
+		{
+			t_re = f_re[ t ];
+			t_im = f_im[ t ];
+			f_re[ t ] = ( t_re * kernel_re[ t ] ) - ( t_im * kernel_im[ t ] );
+			f_im[ t ] = ( t_re * kernel_im[ t ] ) + ( t_im * kernel_re[ t ] );
+		}
+		this.fft.transform( f_re, f_im, 0, 1, a_re, a_im, 0, 1, TransformDirection.BACKWARD );
+
+		// chirp the output.
+		index = out_off;
+		for( int k = 0; k < m; k++, index += out_stride )
+		{
+			out_re[ index ] = ( a_re[ k ] * post_re[ k ] ) - ( a_im[ k ] * post_im[ k ] );
+			out_im[ index ] = sign * ( ( a_re[ k ] * post_im[ k ] ) + ( a_im[ k ] * post_re[ k ] ) );
+		}
+	}
+
+
+	/**
+	 * Check that the specified array holds a whole vector.
+	 * 
+	 * @param array the array.
+	 * @param off index of the first element.
+	 * @param stride distance between elements.
+	 * @param length the vector length.
+	 * @throws IllegalArgumentException If it does not.
+	 */
+	private static void checkArray( final double[] array, final int off,
+			final int stride, final int length )
+		throws IllegalArgumentException
+	{
+		if( off < 0 || stride < 1 )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		// long, so a huge stride cannot wrap around.
+		if( off + (long) ( length - 1 ) * stride >= array.length )
+		{
+			throw new IllegalArgumentException();
+		}
+	}
+
+
+	/**
+	 * Serialize this object to the specified stream.
+	 * 
+	 * @param out the stream to which to write.
+	 * @throws IOException If serialization fails.
+	 */
+	private void writeObject( final ObjectOutputStream out )
+		throws IOException
+	{
+		out.defaultWriteObject();
+	}
+
+
+	/**
+	 * Read and restore this object from the specified stream.
+	 * 
+	 * @param in the stream from which to read.
+	 * @throws IOException If deserialization fails.
+	 * @throws ClassNotFoundException If deserialization attempts to classload a
+	 *         non-existant class.
+	 */
+	private void readObject( final ObjectInputStream in )
+		throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+
+		this.transientInit();
+	}
+
+
+}
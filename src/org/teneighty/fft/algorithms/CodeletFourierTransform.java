@@ -0,0 +1,212 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+import java.io.Serializable;
+
+import org.teneighty.fft.FastFourierTransform;
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.TransformDirection;
+import org.teneighty.fft.dope.ComplexDopeVector;
+import org.teneighty.fft.dope.RealDopeVector;
+
+
+/**
+ * Hard-coded transforms for small sizes.
+ * <p>
+ * Sizes 2 through {@link #MAX_SIZE} are done by straight-line code, with the
+ * twiddles as constants and trivial multiplications left out, generated by
+ * <code>CodeletGenerator</code> into <code>Codelets</code>. There are no
+ * tables and no loops, which makes these the leaves of choice for the larger
+ * transforms. Real input has codelets of its own, which skip the work on the
+ * zero imaginary parts. The backward transform of complex input is the
+ * forward one with the real and imaginary parts swapped on the way in and
+ * out.
+ * 
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public strictfp class CodeletFourierTransform
+	extends AbstractFastFourierTransform
+	implements FourierTransform, FastFourierTransform, Serializable
+{
+
+
+	/**
+	 * Serial version UID.
+	 */
+	private static final long serialVersionUID = 38473728L;
+
+	/**
+	 * Largest size there is a codelet for.
+	 */
+	public static final int MAX_SIZE = Codelets.MAX_SIZE;
+
+
+	/**
+	 * Is there a codelet for the specified size?
+	 * 
+	 * @param size the size.
+	 * @return boolean <code>true</code> if <code>size</code> is between 2 and
+	 *         {@link #MAX_SIZE}.
+	 */
+	public static boolean isSupported( final int size )
+	{
+		return ( size >= 2 && size <= MAX_SIZE );
+	}
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param size the size.
+	 * @throws IllegalArgumentException If there's no codelet for
+	 *         <code>size</code>.
+	 */
+	public CodeletFourierTransform( final int size )
+		throws IllegalArgumentException
+	{
+		super( size );
+
+		if( isSupported( size ) == false )
+		{
+			throw new IllegalArgumentException( "No codelet of size " + size );
+		}
+	}
+
+
+	/**
+	 * This method transforms the input dope in the specified direction.
+	 * 
+	 * @param input the input.
+	 * @param dest the destination.
+	 * @param dir the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final ComplexDopeVector input,
+														final ComplexDopeVector dest,
+														final TransformDirection dir )
+	{
+		this.transformArrays( input, dest, dir );
+	}
+
+
+	/**
+	 * This method transforms the input dope in the specified direction.
+	 * 
+	 * @param input the input.
+	 * @param dest the destination.
+	 * @param dir the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final RealDopeVector input,
+														final ComplexDopeVector dest,
+														final TransformDirection dir )
+	{
+		this.transformArrays( input, dest, dir );
+	}
+
+
+	/**
+	 * This method transforms the input arrays in the specified direction.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param dir the direction.
+	 * @throws NullPointerException If any array or <code>dir</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection dir )
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( dir );
+
+		if( dir == TransformDirection.FORWARD )
+		{
+			Codelets.complexForward( this.getLength(), in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		}
+		else
+		{
+			// swapping parts conjugates the kernel.
+			Codelets.complexForward( this.getLength(), in_im, in_re, in_off, in_stride, out_im, out_re, out_off, out_stride );
+		}
+	}
+
+
+	/**
+	 * This method transforms the real input array in the specified direction.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param dir the direction.
+	 * @throws NullPointerException If any array or <code>dir</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection dir )
+	{
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( dir );
+
+		if( dir == TransformDirection.FORWARD )
+		{
+			Codelets.realForward( this.getLength(), in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		}
+		else
+		{
+			Codelets.realBackward( this.getLength(), in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		}
+	}
+
+
+}
@@ -0,0 +1,5725 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+
+/**
+ * Straight-line discrete Fourier transforms of sizes 2 through 16, forward
+ * only; the backward transform of complex data is the forward transform
+ * with the real and imaginary parts swapped on the way in and out.
+ * <p>
+ * This class was automatically generated by <code>CodeletGenerator</code>.
+ * You should not edit this class.
+ *
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+final strictfp class Codelets
+	extends Object
+{
+
+
+	/**
+	 * Largest size.
+	 */
+	static final int MAX_SIZE = 16;
+
+	private static final double KP120536680 = 0.12053668025532305;
+	private static final double KP142314838 = 0.14231483827328514;
+	private static final double KP173648178 = 0.17364817766693033;
+	private static final double KP222520934 = 0.2225209339563144;
+	private static final double KP239315664 = 0.23931566428755774;
+	private static final double KP281732557 = 0.28173255684142967;
+	private static final double KP309016994 = 0.3090169943749474;
+	private static final double KP342020143 = 0.3420201433256687;
+	private static final double KP354604887 = 0.3546048870425356;
+	private static final double KP382683432 = 0.3826834323650898;
+	private static final double KP415415013 = 0.4154150130018864;
+	private static final double KP433883739 = 0.4338837391175581;
+	private static final double KP464723172 = 0.4647231720437685;
+	private static final double KP500000000 = 0.5;
+	private static final double KP540640817 = 0.5406408174555976;
+	private static final double KP568064747 = 0.5680647467311558;
+	private static final double KP587785252 = 0.5877852522924731;
+	private static final double KP623489802 = 0.6234898018587335;
+	private static final double KP642787610 = 0.6427876096865393;
+	private static final double KP654860734 = 0.6548607339452851;
+	private static final double KP663122658 = 0.6631226582407952;
+	private static final double KP707106781 = 0.7071067811865476;
+	private static final double KP748510748 = 0.7485107481711011;
+	private static final double KP755749574 = 0.7557495743542583;
+	private static final double KP766044443 = 0.766044443118978;
+	private static final double KP781831482 = 0.7818314824680298;
+	private static final double KP809016994 = 0.8090169943749475;
+	private static final double KP822983866 = 0.8229838658936564;
+	private static final double KP841253533 = 0.8412535328311812;
+	private static final double KP866025404 = 0.8660254037844386;
+	private static final double KP885456026 = 0.8854560256532099;
+	private static final double KP900968868 = 0.9009688679024191;
+	private static final double KP909631995 = 0.9096319953545184;
+	private static final double KP923879533 = 0.9238795325112867;
+	private static final double KP935016243 = 0.9350162426854148;
+	private static final double KP939692621 = 0.9396926207859084;
+	private static final double KP951056516 = 0.9510565162951535;
+	private static final double KP959492974 = 0.9594929736144974;
+	private static final double KP970941817 = 0.970941817426052;
+	private static final double KP974927912 = 0.9749279121818236;
+	private static final double KP984807753 = 0.984807753012208;
+	private static final double KP989821442 = 0.9898214418809327;
+	private static final double KP992708874 = 0.992708874098054;
+
+
+	/**
+	 * Forward transform of complex input.
+	 * 
+	 * @param size the size, 2 through 16.
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws IllegalArgumentException If there's no codelet for
+	 *         <code>size</code>.
+	 */
+	static void complexForward( final int size, final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		switch( size )
+		{
+			case( 2 ):
+			complexForward2( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 3 ):
+			complexForward3( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 4 ):
+			complexForward4( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 5 ):
+			complexForward5( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 6 ):
+			complexForward6( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 7 ):
+			complexForward7( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 8 ):
+			complexForward8( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 9 ):
+			complexForward9( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 10 ):
+			complexForward10( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 11 ):
+			complexForward11( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 12 ):
+			complexForward12( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 13 ):
+			complexForward13( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 14 ):
+			complexForward14( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 15 ):
+			complexForward15( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 16 ):
+			complexForward16( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			default:
+			throw new IllegalArgumentException( "No codelet of size " + size );
+		}
+	}
+
+
+	/**
+	 * Forward transform of real input.
+	 * 
+	 * @param size the size, 2 through 16.
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws IllegalArgumentException If there's no codelet for
+	 *         <code>size</code>.
+	 */
+	static void realForward( final int size, final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		switch( size )
+		{
+			case( 2 ):
+			realForward2( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 3 ):
+			realForward3( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 4 ):
+			realForward4( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 5 ):
+			realForward5( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 6 ):
+			realForward6( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 7 ):
+			realForward7( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 8 ):
+			realForward8( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 9 ):
+			realForward9( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 10 ):
+			realForward10( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 11 ):
+			realForward11( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 12 ):
+			realForward12( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 13 ):
+			realForward13( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 14 ):
+			realForward14( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 15 ):
+			realForward15( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 16 ):
+			realForward16( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			default:
+			throw new IllegalArgumentException( "No codelet of size " + size );
+		}
+	}
+
+
+	/**
+	 * Backward transform of real input.
+	 * 
+	 * @param size the size, 2 through 16.
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws IllegalArgumentException If there's no codelet for
+	 *         <code>size</code>.
+	 */
+	static void realBackward( final int size, final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		switch( size )
+		{
+			case( 2 ):
+			realBackward2( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 3 ):
+			realBackward3( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 4 ):
+			realBackward4( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 5 ):
+			realBackward5( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 6 ):
+			realBackward6( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 7 ):
+			realBackward7( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 8 ):
+			realBackward8( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 9 ):
+			realBackward9( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 10 ):
+			realBackward10( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 11 ):
+			realBackward11( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 12 ):
+			realBackward12( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 13 ):
+			realBackward13( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 14 ):
+			realBackward14( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 15 ):
+			realBackward15( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			case( 16 ):
+			realBackward16( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+			return;
+			default:
+			throw new IllegalArgumentException( "No codelet of size " + size );
+		}
+	}
+
+
+	/**
+	 * Size 2: 4 additions, 0 multiplications.
+	 */
+	private static void complexForward2( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+
+		final double t0 = re0 - re1;
+		final double t1 = im0 - im1;
+		final double t2 = re0 + re1;
+		final double t3 = im0 + im1;
+
+		out_re[ out_off ] = t2;
+		out_im[ out_off ] = t3;
+		out_re[ out_off + out_stride ] = t0;
+		out_im[ out_off + out_stride ] = t1;
+	}
+
+
+	/**
+	 * Size 2: 2 additions, 0 multiplications.
+	 */
+	private static void realForward2( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+
+		final double t0 = x0 - x1;
+		final double t1 = x0 + x1;
+
+		out_re[ out_off ] = t1;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t0;
+		out_im[ out_off + out_stride ] = 0.0;
+	}
+
+
+	/**
+	 * Size 2: 2 additions, 0 multiplications.
+	 */
+	private static void realBackward2( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+
+		final double t0 = x0 - x1;
+		final double t1 = x0 + x1;
+
+		out_re[ out_off ] = t1;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t0;
+		out_im[ out_off + out_stride ] = 0.0;
+	}
+
+
+	/**
+	 * Size 3: 12 additions, 4 multiplications.
+	 */
+	private static void complexForward3( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+
+		final double t0 = re1 + re2;
+		final double t1 = im1 + im2;
+		final double t2 = re1 - re2;
+		final double t3 = im1 - im2;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = KP500000000 * t0;
+		final double t7 = re0 - t6;
+		final double t8 = KP500000000 * t1;
+		final double t9 = im0 - t8;
+		final double t10 = KP866025404 * t2;
+		final double t11 = KP866025404 * t3;
+		final double t12 = t7 + t11;
+		final double t13 = t9 - t10;
+		final double t14 = t7 - t11;
+		final double t15 = t9 + t10;
+
+		out_re[ out_off ] = t4;
+		out_im[ out_off ] = t5;
+		out_re[ out_off + out_stride ] = t12;
+		out_im[ out_off + out_stride ] = t13;
+		out_re[ out_off + 2 * out_stride ] = t14;
+		out_im[ out_off + 2 * out_stride ] = t15;
+	}
+
+
+	/**
+	 * Size 3: 5 additions, 2 multiplications.
+	 */
+	private static void realForward3( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+
+		final double t0 = x1 + x2;
+		final double t1 = x1 - x2;
+		final double t2 = x0 + t0;
+		final double t3 = KP500000000 * t0;
+		final double t4 = x0 - t3;
+		final double t5 = KP866025404 * t1;
+
+		out_re[ out_off ] = t2;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t4;
+		out_im[ out_off + out_stride ] = -t5;
+		out_re[ out_off + 2 * out_stride ] = t4;
+		out_im[ out_off + 2 * out_stride ] = t5;
+	}
+
+
+	/**
+	 * Size 3: 5 additions, 2 multiplications.
+	 */
+	private static void realBackward3( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+
+		final double t0 = x1 + x2;
+		final double t1 = x1 - x2;
+		final double t2 = x0 + t0;
+		final double t3 = KP500000000 * t0;
+		final double t4 = x0 - t3;
+		final double t5 = KP866025404 * t1;
+
+		out_re[ out_off ] = t2;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t4;
+		out_im[ out_off + out_stride ] = t5;
+		out_re[ out_off + 2 * out_stride ] = t4;
+		out_im[ out_off + 2 * out_stride ] = -t5;
+	}
+
+
+	/**
+	 * Size 4: 16 additions, 0 multiplications.
+	 */
+	private static void complexForward4( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+
+		final double t0 = re0 - re2;
+		final double t1 = im0 - im2;
+		final double t2 = re0 + re2;
+		final double t3 = im0 + im2;
+		final double t4 = im1 - im3;
+		final double t5 = re1 + re3;
+		final double t6 = im1 + im3;
+		final double t7 = re3 - re1;
+		final double t8 = t2 - t5;
+		final double t9 = t3 - t6;
+		final double t10 = t2 + t5;
+		final double t11 = t3 + t6;
+		final double t12 = t0 - t4;
+		final double t13 = t1 - t7;
+		final double t14 = t0 + t4;
+		final double t15 = t1 + t7;
+
+		out_re[ out_off ] = t10;
+		out_im[ out_off ] = t11;
+		out_re[ out_off + out_stride ] = t14;
+		out_im[ out_off + out_stride ] = t15;
+		out_re[ out_off + 2 * out_stride ] = t8;
+		out_im[ out_off + 2 * out_stride ] = t9;
+		out_re[ out_off + 3 * out_stride ] = t12;
+		out_im[ out_off + 3 * out_stride ] = t13;
+	}
+
+
+	/**
+	 * Size 4: 7 additions, 0 multiplications.
+	 */
+	private static void realForward4( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+
+		final double t0 = x0 - x2;
+		final double t1 = x0 + x2;
+		final double t2 = x1 - x3;
+		final double t3 = x1 + x3;
+		final double t4 = x3 - x1;
+		final double t5 = t1 - t3;
+		final double t6 = t1 + t3;
+
+		out_re[ out_off ] = t6;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t0;
+		out_im[ out_off + out_stride ] = t4;
+		out_re[ out_off + 2 * out_stride ] = t5;
+		out_im[ out_off + 2 * out_stride ] = 0.0;
+		out_re[ out_off + 3 * out_stride ] = t0;
+		out_im[ out_off + 3 * out_stride ] = t2;
+	}
+
+
+	/**
+	 * Size 4: 7 additions, 0 multiplications.
+	 */
+	private static void realBackward4( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+
+		final double t0 = x0 - x2;
+		final double t1 = x0 + x2;
+		final double t2 = x1 - x3;
+		final double t3 = x1 + x3;
+		final double t4 = x3 - x1;
+		final double t5 = t1 - t3;
+		final double t6 = t1 + t3;
+
+		out_re[ out_off ] = t6;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t0;
+		out_im[ out_off + out_stride ] = t2;
+		out_re[ out_off + 2 * out_stride ] = t5;
+		out_im[ out_off + 2 * out_stride ] = 0.0;
+		out_re[ out_off + 3 * out_stride ] = t0;
+		out_im[ out_off + 3 * out_stride ] = t4;
+	}
+
+
+	/**
+	 * Size 5: 32 additions, 16 multiplications.
+	 */
+	private static void complexForward5( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+
+		final double t0 = re1 + re4;
+		final double t1 = im1 + im4;
+		final double t2 = re1 - re4;
+		final double t3 = im1 - im4;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = re2 + re3;
+		final double t7 = im2 + im3;
+		final double t8 = re2 - re3;
+		final double t9 = im2 - im3;
+		final double t10 = t4 + t6;
+		final double t11 = t5 + t7;
+		final double t12 = KP309016994 * t0;
+		final double t13 = re0 + t12;
+		final double t14 = KP309016994 * t1;
+		final double t15 = im0 + t14;
+		final double t16 = KP951056516 * t2;
+		final double t17 = KP951056516 * t3;
+		final double t18 = KP809016994 * t6;
+		final double t19 = t13 - t18;
+		final double t20 = KP809016994 * t7;
+		final double t21 = t15 - t20;
+		final double t22 = KP587785252 * t8;
+		final double t23 = t16 + t22;
+		final double t24 = KP587785252 * t9;
+		final double t25 = t17 + t24;
+		final double t26 = t19 + t25;
+		final double t27 = t21 - t23;
+		final double t28 = t19 - t25;
+		final double t29 = t21 + t23;
+		final double t30 = KP809016994 * t0;
+		final double t31 = re0 - t30;
+		final double t32 = KP809016994 * t1;
+		final double t33 = im0 - t32;
+		final double t34 = KP587785252 * t2;
+		final double t35 = KP587785252 * t3;
+		final double t36 = KP309016994 * t6;
+		final double t37 = t31 + t36;
+		final double t38 = KP309016994 * t7;
+		final double t39 = t33 + t38;
+		final double t40 = KP951056516 * t8;
+		final double t41 = t34 - t40;
+		final double t42 = KP951056516 * t9;
+		final double t43 = t35 - t42;
+		final double t44 = t37 + t43;
+		final double t45 = t39 - t41;
+		final double t46 = t37 - t43;
+		final double t47 = t39 + t41;
+
+		out_re[ out_off ] = t10;
+		out_im[ out_off ] = t11;
+		out_re[ out_off + out_stride ] = t26;
+		out_im[ out_off + out_stride ] = t27;
+		out_re[ out_off + 2 * out_stride ] = t44;
+		out_im[ out_off + 2 * out_stride ] = t45;
+		out_re[ out_off + 3 * out_stride ] = t46;
+		out_im[ out_off + 3 * out_stride ] = t47;
+		out_re[ out_off + 4 * out_stride ] = t28;
+		out_im[ out_off + 4 * out_stride ] = t29;
+	}
+
+
+	/**
+	 * Size 5: 14 additions, 8 multiplications.
+	 */
+	private static void realForward5( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+
+		final double t0 = x1 + x4;
+		final double t1 = x1 - x4;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x3;
+		final double t4 = x2 - x3;
+		final double t5 = t2 + t3;
+		final double t6 = KP309016994 * t0;
+		final double t7 = x0 + t6;
+		final double t8 = KP951056516 * t1;
+		final double t9 = KP809016994 * t3;
+		final double t10 = t7 - t9;
+		final double t11 = KP587785252 * t4;
+		final double t12 = t8 + t11;
+		final double t13 = KP809016994 * t0;
+		final double t14 = x0 - t13;
+		final double t15 = KP587785252 * t1;
+		final double t16 = KP309016994 * t3;
+		final double t17 = t14 + t16;
+		final double t18 = KP951056516 * t4;
+		final double t19 = t15 - t18;
+		final double t20 = t18 - t15;
+
+		out_re[ out_off ] = t5;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t10;
+		out_im[ out_off + out_stride ] = -t12;
+		out_re[ out_off + 2 * out_stride ] = t17;
+		out_im[ out_off + 2 * out_stride ] = t20;
+		out_re[ out_off + 3 * out_stride ] = t17;
+		out_im[ out_off + 3 * out_stride ] = t19;
+		out_re[ out_off + 4 * out_stride ] = t10;
+		out_im[ out_off + 4 * out_stride ] = t12;
+	}
+
+
+	/**
+	 * Size 5: 14 additions, 8 multiplications.
+	 */
+	private static void realBackward5( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+
+		final double t0 = x1 + x4;
+		final double t1 = x1 - x4;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x3;
+		final double t4 = x2 - x3;
+		final double t5 = t2 + t3;
+		final double t6 = KP309016994 * t0;
+		final double t7 = x0 + t6;
+		final double t8 = KP951056516 * t1;
+		final double t9 = KP809016994 * t3;
+		final double t10 = t7 - t9;
+		final double t11 = KP587785252 * t4;
+		final double t12 = t8 + t11;
+		final double t13 = KP809016994 * t0;
+		final double t14 = x0 - t13;
+		final double t15 = KP587785252 * t1;
+		final double t16 = KP309016994 * t3;
+		final double t17 = t14 + t16;
+		final double t18 = KP951056516 * t4;
+		final double t19 = t15 - t18;
+		final double t20 = t18 - t15;
+
+		out_re[ out_off ] = t5;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t10;
+		out_im[ out_off + out_stride ] = t12;
+		out_re[ out_off + 2 * out_stride ] = t17;
+		out_im[ out_off + 2 * out_stride ] = t19;
+		out_re[ out_off + 3 * out_stride ] = t17;
+		out_im[ out_off + 3 * out_stride ] = t20;
+		out_re[ out_off + 4 * out_stride ] = t10;
+		out_im[ out_off + 4 * out_stride ] = -t12;
+	}
+
+
+	/**
+	 * Size 6: 36 additions, 8 multiplications.
+	 */
+	private static void complexForward6( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+
+		final double t0 = re0 - re3;
+		final double t1 = im0 - im3;
+		final double t2 = re0 + re3;
+		final double t3 = im0 + im3;
+		final double t4 = re2 - re5;
+		final double t5 = im2 - im5;
+		final double t6 = re2 + re5;
+		final double t7 = im2 + im5;
+		final double t8 = re4 - re1;
+		final double t9 = im4 - im1;
+		final double t10 = re1 + re4;
+		final double t11 = im1 + im4;
+		final double t12 = t6 + t10;
+		final double t13 = t7 + t11;
+		final double t14 = t6 - t10;
+		final double t15 = t7 - t11;
+		final double t16 = t2 + t12;
+		final double t17 = t3 + t13;
+		final double t18 = KP500000000 * t12;
+		final double t19 = t2 - t18;
+		final double t20 = KP500000000 * t13;
+		final double t21 = t3 - t20;
+		final double t22 = KP866025404 * t14;
+		final double t23 = KP866025404 * t15;
+		final double t24 = t19 + t23;
+		final double t25 = t21 - t22;
+		final double t26 = t19 - t23;
+		final double t27 = t21 + t22;
+		final double t28 = t4 + t8;
+		final double t29 = t5 + t9;
+		final double t30 = t4 - t8;
+		final double t31 = t5 - t9;
+		final double t32 = t0 + t28;
+		final double t33 = t1 + t29;
+		final double t34 = KP500000000 * t28;
+		final double t35 = t0 - t34;
+		final double t36 = KP500000000 * t29;
+		final double t37 = t1 - t36;
+		final double t38 = KP866025404 * t30;
+		final double t39 = KP866025404 * t31;
+		final double t40 = t35 + t39;
+		final double t41 = t37 - t38;
+		final double t42 = t35 - t39;
+		final double t43 = t37 + t38;
+
+		out_re[ out_off ] = t16;
+		out_im[ out_off ] = t17;
+		out_re[ out_off + out_stride ] = t40;
+		out_im[ out_off + out_stride ] = t41;
+		out_re[ out_off + 2 * out_stride ] = t26;
+		out_im[ out_off + 2 * out_stride ] = t27;
+		out_re[ out_off + 3 * out_stride ] = t32;
+		out_im[ out_off + 3 * out_stride ] = t33;
+		out_re[ out_off + 4 * out_stride ] = t24;
+		out_im[ out_off + 4 * out_stride ] = t25;
+		out_re[ out_off + 5 * out_stride ] = t42;
+		out_im[ out_off + 5 * out_stride ] = t43;
+	}
+
+
+	/**
+	 * Size 6: 16 additions, 4 multiplications.
+	 */
+	private static void realForward6( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+
+		final double t0 = x0 - x3;
+		final double t1 = x0 + x3;
+		final double t2 = x2 - x5;
+		final double t3 = x2 + x5;
+		final double t4 = x4 - x1;
+		final double t5 = x1 + x4;
+		final double t6 = t3 + t5;
+		final double t7 = t3 - t5;
+		final double t8 = t1 + t6;
+		final double t9 = KP500000000 * t6;
+		final double t10 = t1 - t9;
+		final double t11 = KP866025404 * t7;
+		final double t12 = t2 + t4;
+		final double t13 = t2 - t4;
+		final double t14 = t0 + t12;
+		final double t15 = KP500000000 * t12;
+		final double t16 = t0 - t15;
+		final double t17 = KP866025404 * t13;
+
+		out_re[ out_off ] = t8;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t16;
+		out_im[ out_off + out_stride ] = -t17;
+		out_re[ out_off + 2 * out_stride ] = t10;
+		out_im[ out_off + 2 * out_stride ] = t11;
+		out_re[ out_off + 3 * out_stride ] = t14;
+		out_im[ out_off + 3 * out_stride ] = 0.0;
+		out_re[ out_off + 4 * out_stride ] = t10;
+		out_im[ out_off + 4 * out_stride ] = -t11;
+		out_re[ out_off + 5 * out_stride ] = t16;
+		out_im[ out_off + 5 * out_stride ] = t17;
+	}
+
+
+	/**
+	 * Size 6: 16 additions, 4 multiplications.
+	 */
+	private static void realBackward6( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+
+		final double t0 = x0 - x3;
+		final double t1 = x0 + x3;
+		final double t2 = x2 - x5;
+		final double t3 = x2 + x5;
+		final double t4 = x4 - x1;
+		final double t5 = x1 + x4;
+		final double t6 = t3 + t5;
+		final double t7 = t3 - t5;
+		final double t8 = t1 + t6;
+		final double t9 = KP500000000 * t6;
+		final double t10 = t1 - t9;
+		final double t11 = KP866025404 * t7;
+		final double t12 = t2 + t4;
+		final double t13 = t2 - t4;
+		final double t14 = t0 + t12;
+		final double t15 = KP500000000 * t12;
+		final double t16 = t0 - t15;
+		final double t17 = KP866025404 * t13;
+
+		out_re[ out_off ] = t8;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t16;
+		out_im[ out_off + out_stride ] = t17;
+		out_re[ out_off + 2 * out_stride ] = t10;
+		out_im[ out_off + 2 * out_stride ] = -t11;
+		out_re[ out_off + 3 * out_stride ] = t14;
+		out_im[ out_off + 3 * out_stride ] = 0.0;
+		out_re[ out_off + 4 * out_stride ] = t10;
+		out_im[ out_off + 4 * out_stride ] = t11;
+		out_re[ out_off + 5 * out_stride ] = t16;
+		out_im[ out_off + 5 * out_stride ] = -t17;
+	}
+
+
+	/**
+	 * Size 7: 60 additions, 36 multiplications.
+	 */
+	private static void complexForward7( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+
+		final double t0 = re1 + re6;
+		final double t1 = im1 + im6;
+		final double t2 = re1 - re6;
+		final double t3 = im1 - im6;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = re2 + re5;
+		final double t7 = im2 + im5;
+		final double t8 = re2 - re5;
+		final double t9 = im2 - im5;
+		final double t10 = t4 + t6;
+		final double t11 = t5 + t7;
+		final double t12 = re3 + re4;
+		final double t13 = im3 + im4;
+		final double t14 = re3 - re4;
+		final double t15 = im3 - im4;
+		final double t16 = t10 + t12;
+		final double t17 = t11 + t13;
+		final double t18 = KP623489802 * t0;
+		final double t19 = re0 + t18;
+		final double t20 = KP623489802 * t1;
+		final double t21 = im0 + t20;
+		final double t22 = KP781831482 * t2;
+		final double t23 = KP781831482 * t3;
+		final double t24 = KP222520934 * t6;
+		final double t25 = t19 - t24;
+		final double t26 = KP222520934 * t7;
+		final double t27 = t21 - t26;
+		final double t28 = KP974927912 * t8;
+		final double t29 = t22 + t28;
+		final double t30 = KP974927912 * t9;
+		final double t31 = t23 + t30;
+		final double t32 = KP900968868 * t12;
+		final double t33 = t25 - t32;
+		final double t34 = KP900968868 * t13;
+		final double t35 = t27 - t34;
+		final double t36 = KP433883739 * t14;
+		final double t37 = t29 + t36;
+		final double t38 = KP433883739 * t15;
+		final double t39 = t31 + t38;
+		final double t40 = t33 + t39;
+		final double t41 = t35 - t37;
+		final double t42 = t33 - t39;
+		final double t43 = t35 + t37;
+		final double t44 = KP222520934 * t0;
+		final double t45 = re0 - t44;
+		final double t46 = KP222520934 * t1;
+		final double t47 = im0 - t46;
+		final double t48 = KP974927912 * t2;
+		final double t49 = KP974927912 * t3;
+		final double t50 = KP900968868 * t6;
+		final double t51 = t45 - t50;
+		final double t52 = KP900968868 * t7;
+		final double t53 = t47 - t52;
+		final double t54 = KP433883739 * t8;
+		final double t55 = t48 - t54;
+		final double t56 = KP433883739 * t9;
+		final double t57 = t49 - t56;
+		final double t58 = KP623489802 * t12;
+		final double t59 = t51 + t58;
+		final double t60 = KP623489802 * t13;
+		final double t61 = t53 + t60;
+		final double t62 = KP781831482 * t14;
+		final double t63 = t55 - t62;
+		final double t64 = KP781831482 * t15;
+		final double t65 = t57 - t64;
+		final double t66 = t59 + t65;
+		final double t67 = t61 - t63;
+		final double t68 = t59 - t65;
+		final double t69 = t61 + t63;
+		final double t70 = KP900968868 * t0;
+		final double t71 = re0 - t70;
+		final double t72 = KP900968868 * t1;
+		final double t73 = im0 - t72;
+		final double t74 = KP433883739 * t2;
+		final double t75 = KP433883739 * t3;
+		final double t76 = KP623489802 * t6;
+		final double t77 = t71 + t76;
+		final double t78 = KP623489802 * t7;
+		final double t79 = t73 + t78;
+		final double t80 = KP781831482 * t8;
+		final double t81 = t74 - t80;
+		final double t82 = KP781831482 * t9;
+		final double t83 = t75 - t82;
+		final double t84 = KP222520934 * t12;
+		final double t85 = t77 - t84;
+		final double t86 = KP222520934 * t13;
+		final double t87 = t79 - t86;
+		final double t88 = KP974927912 * t14;
+		final double t89 = t81 + t88;
+		final double t90 = KP974927912 * t15;
+		final double t91 = t83 + t90;
+		final double t92 = t85 + t91;
+		final double t93 = t87 - t89;
+		final double t94 = t85 - t91;
+		final double t95 = t87 + t89;
+
+		out_re[ out_off ] = t16;
+		out_im[ out_off ] = t17;
+		out_re[ out_off + out_stride ] = t40;
+		out_im[ out_off + out_stride ] = t41;
+		out_re[ out_off + 2 * out_stride ] = t66;
+		out_im[ out_off + 2 * out_stride ] = t67;
+		out_re[ out_off + 3 * out_stride ] = t92;
+		out_im[ out_off + 3 * out_stride ] = t93;
+		out_re[ out_off + 4 * out_stride ] = t94;
+		out_im[ out_off + 4 * out_stride ] = t95;
+		out_re[ out_off + 5 * out_stride ] = t68;
+		out_im[ out_off + 5 * out_stride ] = t69;
+		out_re[ out_off + 6 * out_stride ] = t42;
+		out_im[ out_off + 6 * out_stride ] = t43;
+	}
+
+
+	/**
+	 * Size 7: 27 additions, 18 multiplications.
+	 */
+	private static void realForward7( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+
+		final double t0 = x1 + x6;
+		final double t1 = x1 - x6;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x5;
+		final double t4 = x2 - x5;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x4;
+		final double t7 = x3 - x4;
+		final double t8 = t5 + t6;
+		final double t9 = KP623489802 * t0;
+		final double t10 = x0 + t9;
+		final double t11 = KP781831482 * t1;
+		final double t12 = KP222520934 * t3;
+		final double t13 = t10 - t12;
+		final double t14 = KP974927912 * t4;
+		final double t15 = t11 + t14;
+		final double t16 = KP900968868 * t6;
+		final double t17 = t13 - t16;
+		final double t18 = KP433883739 * t7;
+		final double t19 = t15 + t18;
+		final double t20 = KP222520934 * t0;
+		final double t21 = x0 - t20;
+		final double t22 = KP974927912 * t1;
+		final double t23 = KP900968868 * t3;
+		final double t24 = t21 - t23;
+		final double t25 = KP433883739 * t4;
+		final double t26 = t22 - t25;
+		final double t27 = KP623489802 * t6;
+		final double t28 = t24 + t27;
+		final double t29 = KP781831482 * t7;
+		final double t30 = t26 - t29;
+		final double t31 = t29 - t26;
+		final double t32 = KP900968868 * t0;
+		final double t33 = x0 - t32;
+		final double t34 = KP433883739 * t1;
+		final double t35 = KP623489802 * t3;
+		final double t36 = t33 + t35;
+		final double t37 = KP781831482 * t4;
+		final double t38 = t34 - t37;
+		final double t39 = KP222520934 * t6;
+		final double t40 = t36 - t39;
+		final double t41 = KP974927912 * t7;
+		final double t42 = t38 + t41;
+
+		out_re[ out_off ] = t8;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t17;
+		out_im[ out_off + out_stride ] = -t19;
+		out_re[ out_off + 2 * out_stride ] = t28;
+		out_im[ out_off + 2 * out_stride ] = t31;
+		out_re[ out_off + 3 * out_stride ] = t40;
+		out_im[ out_off + 3 * out_stride ] = -t42;
+		out_re[ out_off + 4 * out_stride ] = t40;
+		out_im[ out_off + 4 * out_stride ] = t42;
+		out_re[ out_off + 5 * out_stride ] = t28;
+		out_im[ out_off + 5 * out_stride ] = t30;
+		out_re[ out_off + 6 * out_stride ] = t17;
+		out_im[ out_off + 6 * out_stride ] = t19;
+	}
+
+
+	/**
+	 * Size 7: 27 additions, 18 multiplications.
+	 */
+	private static void realBackward7( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+
+		final double t0 = x1 + x6;
+		final double t1 = x1 - x6;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x5;
+		final double t4 = x2 - x5;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x4;
+		final double t7 = x3 - x4;
+		final double t8 = t5 + t6;
+		final double t9 = KP623489802 * t0;
+		final double t10 = x0 + t9;
+		final double t11 = KP781831482 * t1;
+		final double t12 = KP222520934 * t3;
+		final double t13 = t10 - t12;
+		final double t14 = KP974927912 * t4;
+		final double t15 = t11 + t14;
+		final double t16 = KP900968868 * t6;
+		final double t17 = t13 - t16;
+		final double t18 = KP433883739 * t7;
+		final double t19 = t15 + t18;
+		final double t20 = KP222520934 * t0;
+		final double t21 = x0 - t20;
+		final double t22 = KP974927912 * t1;
+		final double t23 = KP900968868 * t3;
+		final double t24 = t21 - t23;
+		final double t25 = KP433883739 * t4;
+		final double t26 = t22 - t25;
+		final double t27 = KP623489802 * t6;
+		final double t28 = t24 + t27;
+		final double t29 = KP781831482 * t7;
+		final double t30 = t26 - t29;
+		final double t31 = t29 - t26;
+		final double t32 = KP900968868 * t0;
+		final double t33 = x0 - t32;
+		final double t34 = KP433883739 * t1;
+		final double t35 = KP623489802 * t3;
+		final double t36 = t33 + t35;
+		final double t37 = KP781831482 * t4;
+		final double t38 = t34 - t37;
+		final double t39 = KP222520934 * t6;
+		final double t40 = t36 - t39;
+		final double t41 = KP974927912 * t7;
+		final double t42 = t38 + t41;
+
+		out_re[ out_off ] = t8;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t17;
+		out_im[ out_off + out_stride ] = t19;
+		out_re[ out_off + 2 * out_stride ] = t28;
+		out_im[ out_off + 2 * out_stride ] = t30;
+		out_re[ out_off + 3 * out_stride ] = t40;
+		out_im[ out_off + 3 * out_stride ] = t42;
+		out_re[ out_off + 4 * out_stride ] = t40;
+		out_im[ out_off + 4 * out_stride ] = -t42;
+		out_re[ out_off + 5 * out_stride ] = t28;
+		out_im[ out_off + 5 * out_stride ] = t31;
+		out_re[ out_off + 6 * out_stride ] = t17;
+		out_im[ out_off + 6 * out_stride ] = -t19;
+	}
+
+
+	/**
+	 * Size 8: 52 additions, 4 multiplications.
+	 */
+	private static void complexForward8( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+
+		final double t0 = re0 - re4;
+		final double t1 = im0 - im4;
+		final double t2 = re0 + re4;
+		final double t3 = im0 + im4;
+		final double t4 = re1 - re5;
+		final double t5 = im1 - im5;
+		final double t6 = re1 + re5;
+		final double t7 = im1 + im5;
+		final double t8 = t4 + t5;
+		final double t9 = t5 - t4;
+		final double t10 = KP707106781 * t8;
+		final double t11 = KP707106781 * t9;
+		final double t12 = im2 - im6;
+		final double t13 = re2 + re6;
+		final double t14 = im2 + im6;
+		final double t15 = re6 - re2;
+		final double t16 = re3 - re7;
+		final double t17 = im3 - im7;
+		final double t18 = re3 + re7;
+		final double t19 = im3 + im7;
+		final double t20 = t16 - t17;
+		final double t21 = t16 + t17;
+		final double t22 = KP707106781 * t20;
+		final double t23 = KP707106781 * t21;
+		final double t24 = t2 - t13;
+		final double t25 = t3 - t14;
+		final double t26 = t2 + t13;
+		final double t27 = t3 + t14;
+		final double t28 = t7 - t19;
+		final double t29 = t6 + t18;
+		final double t30 = t7 + t19;
+		final double t31 = t18 - t6;
+		final double t32 = t26 - t29;
+		final double t33 = t27 - t30;
+		final double t34 = t26 + t29;
+		final double t35 = t27 + t30;
+		final double t36 = t24 - t28;
+		final double t37 = t25 - t31;
+		final double t38 = t24 + t28;
+		final double t39 = t25 + t31;
+		final double t40 = t0 - t12;
+		final double t41 = t1 - t15;
+		final double t42 = t0 + t12;
+		final double t43 = t1 + t15;
+		final double t44 = t10 + t22;
+		final double t45 = t11 + t23;
+		final double t46 = t10 - t22;
+		final double t47 = t11 - t23;
+		final double t48 = t42 - t46;
+		final double t49 = t43 - t47;
+		final double t50 = t42 + t46;
+		final double t51 = t43 + t47;
+		final double t52 = t40 - t45;
+		final double t53 = t41 + t44;
+		final double t54 = t40 + t45;
+		final double t55 = t41 - t44;
+
+		out_re[ out_off ] = t34;
+		out_im[ out_off ] = t35;
+		out_re[ out_off + out_stride ] = t50;
+		out_im[ out_off + out_stride ] = t51;
+		out_re[ out_off + 2 * out_stride ] = t38;
+		out_im[ out_off + 2 * out_stride ] = t39;
+		out_re[ out_off + 3 * out_stride ] = t54;
+		out_im[ out_off + 3 * out_stride ] = t55;
+		out_re[ out_off + 4 * out_stride ] = t32;
+		out_im[ out_off + 4 * out_stride ] = t33;
+		out_re[ out_off + 5 * out_stride ] = t48;
+		out_im[ out_off + 5 * out_stride ] = t49;
+		out_re[ out_off + 6 * out_stride ] = t36;
+		out_im[ out_off + 6 * out_stride ] = t37;
+		out_re[ out_off + 7 * out_stride ] = t52;
+		out_im[ out_off + 7 * out_stride ] = t53;
+	}
+
+
+	/**
+	 * Size 8: 29 additions, 3 multiplications.
+	 */
+	private static void realForward8( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+
+		final double t0 = x0 - x4;
+		final double t1 = x0 + x4;
+		final double t2 = x1 - x5;
+		final double t3 = x1 + x5;
+		final double t4 = x5 - x1;
+		final double t5 = KP707106781 * t2;
+		final double t6 = KP707106781 * t4;
+		final double t7 = x2 - x6;
+		final double t8 = x2 + x6;
+		final double t9 = x6 - x2;
+		final double t10 = x3 - x7;
+		final double t11 = x3 + x7;
+		final double t12 = KP707106781 * t10;
+		final double t13 = t1 - t8;
+		final double t14 = t1 + t8;
+		final double t15 = t3 - t11;
+		final double t16 = t3 + t11;
+		final double t17 = t11 - t3;
+		final double t18 = t14 - t16;
+		final double t19 = t14 + t16;
+		final double t20 = t5 + t12;
+		final double t21 = t6 + t12;
+		final double t22 = t5 - t12;
+		final double t23 = t6 - t12;
+		final double t24 = t0 - t22;
+		final double t25 = t9 - t23;
+		final double t26 = t0 + t22;
+		final double t27 = t9 + t23;
+		final double t28 = t0 - t21;
+		final double t29 = t7 + t20;
+		final double t30 = t0 + t21;
+		final double t31 = t7 - t20;
+
+		out_re[ out_off ] = t19;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t26;
+		out_im[ out_off + out_stride ] = t27;
+		out_re[ out_off + 2 * out_stride ] = t13;
+		out_im[ out_off + 2 * out_stride ] = t17;
+		out_re[ out_off + 3 * out_stride ] = t30;
+		out_im[ out_off + 3 * out_stride ] = t31;
+		out_re[ out_off + 4 * out_stride ] = t18;
+		out_im[ out_off + 4 * out_stride ] = 0.0;
+		out_re[ out_off + 5 * out_stride ] = t24;
+		out_im[ out_off + 5 * out_stride ] = t25;
+		out_re[ out_off + 6 * out_stride ] = t13;
+		out_im[ out_off + 6 * out_stride ] = t15;
+		out_re[ out_off + 7 * out_stride ] = t28;
+		out_im[ out_off + 7 * out_stride ] = t29;
+	}
+
+
+	/**
+	 * Size 8: 31 additions, 3 multiplications.
+	 */
+	private static void realBackward8( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+
+		final double t0 = x0 - x4;
+		final double t1 = x0 + x4;
+		final double t2 = x1 - x5;
+		final double t3 = x1 + x5;
+		final double t4 = x5 - x1;
+		final double t5 = KP707106781 * t2;
+		final double t6 = KP707106781 * t4;
+		final double t7 = x2 - x6;
+		final double t8 = x2 + x6;
+		final double t9 = x6 - x2;
+		final double t10 = x3 - x7;
+		final double t11 = x3 + x7;
+		final double t12 = KP707106781 * t10;
+		final double t13 = t1 - t8;
+		final double t14 = t1 + t8;
+		final double t15 = t3 - t11;
+		final double t16 = t3 + t11;
+		final double t17 = t11 - t3;
+		final double t18 = t14 - t16;
+		final double t19 = t14 + t16;
+		final double t20 = t5 + t12;
+		final double t21 = t6 + t12;
+		final double t22 = t5 - t12;
+		final double t23 = t6 - t12;
+		final double t24 = t0 - t22;
+		final double t25 = t0 + t22;
+		final double t26 = t9 + t23;
+		final double t27 = t0 - t21;
+		final double t28 = t7 + t20;
+		final double t29 = t0 + t21;
+		final double t30 = t20 - t7;
+		final double t31 = t23 - t9;
+
+		out_re[ out_off ] = t19;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t25;
+		out_im[ out_off + out_stride ] = -t26;
+		out_re[ out_off + 2 * out_stride ] = t13;
+		out_im[ out_off + 2 * out_stride ] = t15;
+		out_re[ out_off + 3 * out_stride ] = t29;
+		out_im[ out_off + 3 * out_stride ] = t30;
+		out_re[ out_off + 4 * out_stride ] = t18;
+		out_im[ out_off + 4 * out_stride ] = 0.0;
+		out_re[ out_off + 5 * out_stride ] = t24;
+		out_im[ out_off + 5 * out_stride ] = t31;
+		out_re[ out_off + 6 * out_stride ] = t13;
+		out_im[ out_off + 6 * out_stride ] = t17;
+		out_re[ out_off + 7 * out_stride ] = t27;
+		out_im[ out_off + 7 * out_stride ] = -t28;
+	}
+
+
+	/**
+	 * Size 9: 80 additions, 40 multiplications.
+	 */
+	private static void complexForward9( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+
+		final double t0 = re3 + re6;
+		final double t1 = im3 + im6;
+		final double t2 = re3 - re6;
+		final double t3 = im3 - im6;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = KP500000000 * t0;
+		final double t7 = re0 - t6;
+		final double t8 = KP500000000 * t1;
+		final double t9 = im0 - t8;
+		final double t10 = KP866025404 * t2;
+		final double t11 = KP866025404 * t3;
+		final double t12 = t7 + t11;
+		final double t13 = t9 - t10;
+		final double t14 = t7 - t11;
+		final double t15 = t9 + t10;
+		final double t16 = re4 + re7;
+		final double t17 = im4 + im7;
+		final double t18 = re4 - re7;
+		final double t19 = im4 - im7;
+		final double t20 = re1 + t16;
+		final double t21 = im1 + t17;
+		final double t22 = KP500000000 * t16;
+		final double t23 = re1 - t22;
+		final double t24 = KP500000000 * t17;
+		final double t25 = im1 - t24;
+		final double t26 = KP866025404 * t18;
+		final double t27 = KP866025404 * t19;
+		final double t28 = t23 + t27;
+		final double t29 = t25 - t26;
+		final double t30 = t23 - t27;
+		final double t31 = t25 + t26;
+		final double t32 = KP766044443 * t28;
+		final double t33 = KP642787610 * t29;
+		final double t34 = t32 + t33;
+		final double t35 = KP766044443 * t29;
+		final double t36 = KP642787610 * t28;
+		final double t37 = t35 - t36;
+		final double t38 = KP173648178 * t30;
+		final double t39 = KP984807753 * t31;
+		final double t40 = t38 + t39;
+		final double t41 = KP173648178 * t31;
+		final double t42 = KP984807753 * t30;
+		final double t43 = t41 - t42;
+		final double t44 = re5 + re8;
+		final double t45 = im5 + im8;
+		final double t46 = re5 - re8;
+		final double t47 = im5 - im8;
+		final double t48 = re2 + t44;
+		final double t49 = im2 + t45;
+		final double t50 = KP500000000 * t44;
+		final double t51 = re2 - t50;
+		final double t52 = KP500000000 * t45;
+		final double t53 = im2 - t52;
+		final double t54 = KP866025404 * t46;
+		final double t55 = KP866025404 * t47;
+		final double t56 = t51 + t55;
+		final double t57 = t53 - t54;
+		final double t58 = t51 - t55;
+		final double t59 = t53 + t54;
+		final double t60 = KP173648178 * t56;
+		final double t61 = KP984807753 * t57;
+		final double t62 = t60 + t61;
+		final double t63 = KP173648178 * t57;
+		final double t64 = KP984807753 * t56;
+		final double t65 = t63 - t64;
+		final double t66 = KP939692621 * t58;
+		final double t67 = KP342020143 * t59;
+		final double t68 = t67 - t66;
+		final double t69 = KP939692621 * t59;
+		final double t70 = KP342020143 * t58;
+		final double t71 = t69 + t70;
+		final double t72 = t20 + t48;
+		final double t73 = t21 + t49;
+		final double t74 = t20 - t48;
+		final double t75 = t21 - t49;
+		final double t76 = t4 + t72;
+		final double t77 = t5 + t73;
+		final double t78 = KP500000000 * t72;
+		final double t79 = t4 - t78;
+		final double t80 = KP500000000 * t73;
+		final double t81 = t5 - t80;
+		final double t82 = KP866025404 * t74;
+		final double t83 = KP866025404 * t75;
+		final double t84 = t79 + t83;
+		final double t85 = t81 - t82;
+		final double t86 = t79 - t83;
+		final double t87 = t81 + t82;
+		final double t88 = t34 + t62;
+		final double t89 = t37 + t65;
+		final double t90 = t34 - t62;
+		final double t91 = t37 - t65;
+		final double t92 = t12 + t88;
+		final double t93 = t13 + t89;
+		final double t94 = KP500000000 * t88;
+		final double t95 = t12 - t94;
+		final double t96 = KP500000000 * t89;
+		final double t97 = t13 - t96;
+		final double t98 = KP866025404 * t90;
+		final double t99 = KP866025404 * t91;
+		final double t100 = t95 + t99;
+		final double t101 = t97 - t98;
+		final double t102 = t95 - t99;
+		final double t103 = t97 + t98;
+		final double t104 = t40 + t68;
+		final double t105 = t43 - t71;
+		final double t106 = t40 - t68;
+		final double t107 = t43 + t71;
+		final double t108 = t14 + t104;
+		final double t109 = t15 + t105;
+		final double t110 = KP500000000 * t104;
+		final double t111 = t14 - t110;
+		final double t112 = KP500000000 * t105;
+		final double t113 = t15 - t112;
+		final double t114 = KP866025404 * t106;
+		final double t115 = KP866025404 * t107;
+		final double t116 = t111 + t115;
+		final double t117 = t113 - t114;
+		final double t118 = t111 - t115;
+		final double t119 = t113 + t114;
+
+		out_re[ out_off ] = t76;
+		out_im[ out_off ] = t77;
+		out_re[ out_off + out_stride ] = t92;
+		out_im[ out_off + out_stride ] = t93;
+		out_re[ out_off + 2 * out_stride ] = t108;
+		out_im[ out_off + 2 * out_stride ] = t109;
+		out_re[ out_off + 3 * out_stride ] = t84;
+		out_im[ out_off + 3 * out_stride ] = t85;
+		out_re[ out_off + 4 * out_stride ] = t100;
+		out_im[ out_off + 4 * out_stride ] = t101;
+		out_re[ out_off + 5 * out_stride ] = t116;
+		out_im[ out_off + 5 * out_stride ] = t117;
+		out_re[ out_off + 6 * out_stride ] = t86;
+		out_im[ out_off + 6 * out_stride ] = t87;
+		out_re[ out_off + 7 * out_stride ] = t102;
+		out_im[ out_off + 7 * out_stride ] = t103;
+		out_re[ out_off + 8 * out_stride ] = t118;
+		out_im[ out_off + 8 * out_stride ] = t119;
+	}
+
+
+	/**
+	 * Size 9: 43 additions, 26 multiplications.
+	 */
+	private static void realForward9( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+
+		final double t0 = x1 + x8;
+		final double t1 = x1 - x8;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x7;
+		final double t4 = x2 - x7;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x6;
+		final double t7 = x3 - x6;
+		final double t8 = t5 + t6;
+		final double t9 = x4 + x5;
+		final double t10 = x4 - x5;
+		final double t11 = t8 + t9;
+		final double t12 = KP766044443 * t0;
+		final double t13 = x0 + t12;
+		final double t14 = KP642787610 * t1;
+		final double t15 = KP173648178 * t3;
+		final double t16 = t13 + t15;
+		final double t17 = KP984807753 * t4;
+		final double t18 = t14 + t17;
+		final double t19 = KP500000000 * t6;
+		final double t20 = t16 - t19;
+		final double t21 = KP866025404 * t7;
+		final double t22 = t18 + t21;
+		final double t23 = KP939692621 * t9;
+		final double t24 = t20 - t23;
+		final double t25 = KP342020143 * t10;
+		final double t26 = t22 + t25;
+		final double t27 = KP173648178 * t0;
+		final double t28 = x0 + t27;
+		final double t29 = KP984807753 * t1;
+		final double t30 = KP939692621 * t3;
+		final double t31 = t28 - t30;
+		final double t32 = KP342020143 * t4;
+		final double t33 = t29 + t32;
+		final double t34 = t31 - t19;
+		final double t35 = t33 - t21;
+		final double t36 = KP766044443 * t9;
+		final double t37 = t34 + t36;
+		final double t38 = KP642787610 * t10;
+		final double t39 = t35 - t38;
+		final double t40 = t38 - t35;
+		final double t41 = KP500000000 * t0;
+		final double t42 = x0 - t41;
+		final double t43 = KP866025404 * t1;
+		final double t44 = KP500000000 * t3;
+		final double t45 = t42 - t44;
+		final double t46 = KP866025404 * t4;
+		final double t47 = t43 - t46;
+		final double t48 = t6 + t45;
+		final double t49 = KP500000000 * t9;
+		final double t50 = t48 - t49;
+		final double t51 = KP866025404 * t10;
+		final double t52 = t47 + t51;
+		final double t53 = KP939692621 * t0;
+		final double t54 = x0 - t53;
+		final double t55 = KP342020143 * t1;
+		final double t56 = KP766044443 * t3;
+		final double t57 = t54 + t56;
+		final double t58 = KP642787610 * t4;
+		final double t59 = t55 - t58;
+		final double t60 = t57 - t19;
+		final double t61 = t21 + t59;
+		final double t62 = KP173648178 * t9;
+		final double t63 = t60 + t62;
+		final double t64 = KP984807753 * t10;
+		final double t65 = t61 - t64;
+		final double t66 = t64 - t61;
+
+		out_re[ out_off ] = t11;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t24;
+		out_im[ out_off + out_stride ] = -t26;
+		out_re[ out_off + 2 * out_stride ] = t37;
+		out_im[ out_off + 2 * out_stride ] = t40;
+		out_re[ out_off + 3 * out_stride ] = t50;
+		out_im[ out_off + 3 * out_stride ] = -t52;
+		out_re[ out_off + 4 * out_stride ] = t63;
+		out_im[ out_off + 4 * out_stride ] = t66;
+		out_re[ out_off + 5 * out_stride ] = t63;
+		out_im[ out_off + 5 * out_stride ] = t65;
+		out_re[ out_off + 6 * out_stride ] = t50;
+		out_im[ out_off + 6 * out_stride ] = t52;
+		out_re[ out_off + 7 * out_stride ] = t37;
+		out_im[ out_off + 7 * out_stride ] = t39;
+		out_re[ out_off + 8 * out_stride ] = t24;
+		out_im[ out_off + 8 * out_stride ] = t26;
+	}
+
+
+	/**
+	 * Size 9: 43 additions, 26 multiplications.
+	 */
+	private static void realBackward9( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+
+		final double t0 = x1 + x8;
+		final double t1 = x1 - x8;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x7;
+		final double t4 = x2 - x7;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x6;
+		final double t7 = x3 - x6;
+		final double t8 = t5 + t6;
+		final double t9 = x4 + x5;
+		final double t10 = x4 - x5;
+		final double t11 = t8 + t9;
+		final double t12 = KP766044443 * t0;
+		final double t13 = x0 + t12;
+		final double t14 = KP642787610 * t1;
+		final double t15 = KP173648178 * t3;
+		final double t16 = t13 + t15;
+		final double t17 = KP984807753 * t4;
+		final double t18 = t14 + t17;
+		final double t19 = KP500000000 * t6;
+		final double t20 = t16 - t19;
+		final double t21 = KP866025404 * t7;
+		final double t22 = t18 + t21;
+		final double t23 = KP939692621 * t9;
+		final double t24 = t20 - t23;
+		final double t25 = KP342020143 * t10;
+		final double t26 = t22 + t25;
+		final double t27 = KP173648178 * t0;
+		final double t28 = x0 + t27;
+		final double t29 = KP984807753 * t1;
+		final double t30 = KP939692621 * t3;
+		final double t31 = t28 - t30;
+		final double t32 = KP342020143 * t4;
+		final double t33 = t29 + t32;
+		final double t34 = t31 - t19;
+		final double t35 = t33 - t21;
+		final double t36 = KP766044443 * t9;
+		final double t37 = t34 + t36;
+		final double t38 = KP642787610 * t10;
+		final double t39 = t35 - t38;
+		final double t40 = t38 - t35;
+		final double t41 = KP500000000 * t0;
+		final double t42 = x0 - t41;
+		final double t43 = KP866025404 * t1;
+		final double t44 = KP500000000 * t3;
+		final double t45 = t42 - t44;
+		final double t46 = KP866025404 * t4;
+		final double t47 = t43 - t46;
+		final double t48 = t6 + t45;
+		final double t49 = KP500000000 * t9;
+		final double t50 = t48 - t49;
+		final double t51 = KP866025404 * t10;
+		final double t52 = t47 + t51;
+		final double t53 = KP939692621 * t0;
+		final double t54 = x0 - t53;
+		final double t55 = KP342020143 * t1;
+		final double t56 = KP766044443 * t3;
+		final double t57 = t54 + t56;
+		final double t58 = KP642787610 * t4;
+		final double t59 = t55 - t58;
+		final double t60 = t57 - t19;
+		final double t61 = t21 + t59;
+		final double t62 = KP173648178 * t9;
+		final double t63 = t60 + t62;
+		final double t64 = KP984807753 * t10;
+		final double t65 = t61 - t64;
+		final double t66 = t64 - t61;
+
+		out_re[ out_off ] = t11;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t24;
+		out_im[ out_off + out_stride ] = t26;
+		out_re[ out_off + 2 * out_stride ] = t37;
+		out_im[ out_off + 2 * out_stride ] = t39;
+		out_re[ out_off + 3 * out_stride ] = t50;
+		out_im[ out_off + 3 * out_stride ] = t52;
+		out_re[ out_off + 4 * out_stride ] = t63;
+		out_im[ out_off + 4 * out_stride ] = t65;
+		out_re[ out_off + 5 * out_stride ] = t63;
+		out_im[ out_off + 5 * out_stride ] = t66;
+		out_re[ out_off + 6 * out_stride ] = t50;
+		out_im[ out_off + 6 * out_stride ] = -t52;
+		out_re[ out_off + 7 * out_stride ] = t37;
+		out_im[ out_off + 7 * out_stride ] = t40;
+		out_re[ out_off + 8 * out_stride ] = t24;
+		out_im[ out_off + 8 * out_stride ] = -t26;
+	}
+
+
+	/**
+	 * Size 10: 84 additions, 32 multiplications.
+	 */
+	private static void complexForward10( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+
+		final double t0 = re0 - re5;
+		final double t1 = im0 - im5;
+		final double t2 = re0 + re5;
+		final double t3 = im0 + im5;
+		final double t4 = re2 - re7;
+		final double t5 = im2 - im7;
+		final double t6 = re2 + re7;
+		final double t7 = im2 + im7;
+		final double t8 = re4 - re9;
+		final double t9 = im4 - im9;
+		final double t10 = re4 + re9;
+		final double t11 = im4 + im9;
+		final double t12 = re6 - re1;
+		final double t13 = im6 - im1;
+		final double t14 = re1 + re6;
+		final double t15 = im1 + im6;
+		final double t16 = re8 - re3;
+		final double t17 = im8 - im3;
+		final double t18 = re3 + re8;
+		final double t19 = im3 + im8;
+		final double t20 = t6 + t18;
+		final double t21 = t7 + t19;
+		final double t22 = t6 - t18;
+		final double t23 = t7 - t19;
+		final double t24 = t2 + t20;
+		final double t25 = t3 + t21;
+		final double t26 = t10 + t14;
+		final double t27 = t11 + t15;
+		final double t28 = t10 - t14;
+		final double t29 = t11 - t15;
+		final double t30 = t24 + t26;
+		final double t31 = t25 + t27;
+		final double t32 = KP309016994 * t20;
+		final double t33 = t2 + t32;
+		final double t34 = KP309016994 * t21;
+		final double t35 = t3 + t34;
+		final double t36 = KP951056516 * t22;
+		final double t37 = KP951056516 * t23;
+		final double t38 = KP809016994 * t26;
+		final double t39 = t33 - t38;
+		final double t40 = KP809016994 * t27;
+		final double t41 = t35 - t40;
+		final double t42 = KP587785252 * t28;
+		final double t43 = t36 + t42;
+		final double t44 = KP587785252 * t29;
+		final double t45 = t37 + t44;
+		final double t46 = t39 + t45;
+		final double t47 = t41 - t43;
+		final double t48 = t39 - t45;
+		final double t49 = t41 + t43;
+		final double t50 = KP809016994 * t20;
+		final double t51 = t2 - t50;
+		final double t52 = KP809016994 * t21;
+		final double t53 = t3 - t52;
+		final double t54 = KP587785252 * t22;
+		final double t55 = KP587785252 * t23;
+		final double t56 = KP309016994 * t26;
+		final double t57 = t51 + t56;
+		final double t58 = KP309016994 * t27;
+		final double t59 = t53 + t58;
+		final double t60 = KP951056516 * t28;
+		final double t61 = t54 - t60;
+		final double t62 = KP951056516 * t29;
+		final double t63 = t55 - t62;
+		final double t64 = t57 + t63;
+		final double t65 = t59 - t61;
+		final double t66 = t57 - t63;
+		final double t67 = t59 + t61;
+		final double t68 = t4 + t16;
+		final double t69 = t5 + t17;
+		final double t70 = t4 - t16;
+		final double t71 = t5 - t17;
+		final double t72 = t0 + t68;
+		final double t73 = t1 + t69;
+		final double t74 = t8 + t12;
+		final double t75 = t9 + t13;
+		final double t76 = t8 - t12;
+		final double t77 = t9 - t13;
+		final double t78 = t72 + t74;
+		final double t79 = t73 + t75;
+		final double t80 = KP309016994 * t68;
+		final double t81 = t0 + t80;
+		final double t82 = KP309016994 * t69;
+		final double t83 = t1 + t82;
+		final double t84 = KP951056516 * t70;
+		final double t85 = KP951056516 * t71;
+		final double t86 = KP809016994 * t74;
+		final double t87 = t81 - t86;
+		final double t88 = KP809016994 * t75;
+		final double t89 = t83 - t88;
+		final double t90 = KP587785252 * t76;
+		final double t91 = t84 + t90;
+		final double t92 = KP587785252 * t77;
+		final double t93 = t85 + t92;
+		final double t94 = t87 + t93;
+		final double t95 = t89 - t91;
+		final double t96 = t87 - t93;
+		final double t97 = t89 + t91;
+		final double t98 = KP809016994 * t68;
+		final double t99 = t0 - t98;
+		final double t100 = KP809016994 * t69;
+		final double t101 = t1 - t100;
+		final double t102 = KP587785252 * t70;
+		final double t103 = KP587785252 * t71;
+		final double t104 = KP309016994 * t74;
+		final double t105 = t99 + t104;
+		final double t106 = KP309016994 * t75;
+		final double t107 = t101 + t106;
+		final double t108 = KP951056516 * t76;
+		final double t109 = t102 - t108;
+		final double t110 = KP951056516 * t77;
+		final double t111 = t103 - t110;
+		final double t112 = t105 + t111;
+		final double t113 = t107 - t109;
+		final double t114 = t105 - t111;
+		final double t115 = t107 + t109;
+
+		out_re[ out_off ] = t30;
+		out_im[ out_off ] = t31;
+		out_re[ out_off + out_stride ] = t94;
+		out_im[ out_off + out_stride ] = t95;
+		out_re[ out_off + 2 * out_stride ] = t64;
+		out_im[ out_off + 2 * out_stride ] = t65;
+		out_re[ out_off + 3 * out_stride ] = t114;
+		out_im[ out_off + 3 * out_stride ] = t115;
+		out_re[ out_off + 4 * out_stride ] = t48;
+		out_im[ out_off + 4 * out_stride ] = t49;
+		out_re[ out_off + 5 * out_stride ] = t78;
+		out_im[ out_off + 5 * out_stride ] = t79;
+		out_re[ out_off + 6 * out_stride ] = t46;
+		out_im[ out_off + 6 * out_stride ] = t47;
+		out_re[ out_off + 7 * out_stride ] = t112;
+		out_im[ out_off + 7 * out_stride ] = t113;
+		out_re[ out_off + 8 * out_stride ] = t66;
+		out_im[ out_off + 8 * out_stride ] = t67;
+		out_re[ out_off + 9 * out_stride ] = t96;
+		out_im[ out_off + 9 * out_stride ] = t97;
+	}
+
+
+	/**
+	 * Size 10: 38 additions, 16 multiplications.
+	 */
+	private static void realForward10( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+
+		final double t0 = x0 - x5;
+		final double t1 = x0 + x5;
+		final double t2 = x2 - x7;
+		final double t3 = x2 + x7;
+		final double t4 = x4 - x9;
+		final double t5 = x4 + x9;
+		final double t6 = x6 - x1;
+		final double t7 = x1 + x6;
+		final double t8 = x8 - x3;
+		final double t9 = x3 + x8;
+		final double t10 = t3 + t9;
+		final double t11 = t3 - t9;
+		final double t12 = t1 + t10;
+		final double t13 = t5 + t7;
+		final double t14 = t5 - t7;
+		final double t15 = t12 + t13;
+		final double t16 = KP309016994 * t10;
+		final double t17 = t1 + t16;
+		final double t18 = KP951056516 * t11;
+		final double t19 = KP809016994 * t13;
+		final double t20 = t17 - t19;
+		final double t21 = KP587785252 * t14;
+		final double t22 = t18 + t21;
+		final double t23 = KP809016994 * t10;
+		final double t24 = t1 - t23;
+		final double t25 = KP587785252 * t11;
+		final double t26 = KP309016994 * t13;
+		final double t27 = t24 + t26;
+		final double t28 = KP951056516 * t14;
+		final double t29 = t25 - t28;
+		final double t30 = t28 - t25;
+		final double t31 = t2 + t8;
+		final double t32 = t2 - t8;
+		final double t33 = t0 + t31;
+		final double t34 = t4 + t6;
+		final double t35 = t4 - t6;
+		final double t36 = t33 + t34;
+		final double t37 = KP309016994 * t31;
+		final double t38 = t0 + t37;
+		final double t39 = KP951056516 * t32;
+		final double t40 = KP809016994 * t34;
+		final double t41 = t38 - t40;
+		final double t42 = KP587785252 * t35;
+		final double t43 = t39 + t42;
+		final double t44 = KP809016994 * t31;
+		final double t45 = t0 - t44;
+		final double t46 = KP587785252 * t32;
+		final double t47 = KP309016994 * t34;
+		final double t48 = t45 + t47;
+		final double t49 = KP951056516 * t35;
+		final double t50 = t46 - t49;
+		final double t51 = t49 - t46;
+
+		out_re[ out_off ] = t15;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t41;
+		out_im[ out_off + out_stride ] = -t43;
+		out_re[ out_off + 2 * out_stride ] = t27;
+		out_im[ out_off + 2 * out_stride ] = t30;
+		out_re[ out_off + 3 * out_stride ] = t48;
+		out_im[ out_off + 3 * out_stride ] = t50;
+		out_re[ out_off + 4 * out_stride ] = t20;
+		out_im[ out_off + 4 * out_stride ] = t22;
+		out_re[ out_off + 5 * out_stride ] = t36;
+		out_im[ out_off + 5 * out_stride ] = 0.0;
+		out_re[ out_off + 6 * out_stride ] = t20;
+		out_im[ out_off + 6 * out_stride ] = -t22;
+		out_re[ out_off + 7 * out_stride ] = t48;
+		out_im[ out_off + 7 * out_stride ] = t51;
+		out_re[ out_off + 8 * out_stride ] = t27;
+		out_im[ out_off + 8 * out_stride ] = t29;
+		out_re[ out_off + 9 * out_stride ] = t41;
+		out_im[ out_off + 9 * out_stride ] = t43;
+	}
+
+
+	/**
+	 * Size 10: 38 additions, 16 multiplications.
+	 */
+	private static void realBackward10( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+
+		final double t0 = x0 - x5;
+		final double t1 = x0 + x5;
+		final double t2 = x2 - x7;
+		final double t3 = x2 + x7;
+		final double t4 = x4 - x9;
+		final double t5 = x4 + x9;
+		final double t6 = x6 - x1;
+		final double t7 = x1 + x6;
+		final double t8 = x8 - x3;
+		final double t9 = x3 + x8;
+		final double t10 = t3 + t9;
+		final double t11 = t3 - t9;
+		final double t12 = t1 + t10;
+		final double t13 = t5 + t7;
+		final double t14 = t5 - t7;
+		final double t15 = t12 + t13;
+		final double t16 = KP309016994 * t10;
+		final double t17 = t1 + t16;
+		final double t18 = KP951056516 * t11;
+		final double t19 = KP809016994 * t13;
+		final double t20 = t17 - t19;
+		final double t21 = KP587785252 * t14;
+		final double t22 = t18 + t21;
+		final double t23 = KP809016994 * t10;
+		final double t24 = t1 - t23;
+		final double t25 = KP587785252 * t11;
+		final double t26 = KP309016994 * t13;
+		final double t27 = t24 + t26;
+		final double t28 = KP951056516 * t14;
+		final double t29 = t25 - t28;
+		final double t30 = t28 - t25;
+		final double t31 = t2 + t8;
+		final double t32 = t2 - t8;
+		final double t33 = t0 + t31;
+		final double t34 = t4 + t6;
+		final double t35 = t4 - t6;
+		final double t36 = t33 + t34;
+		final double t37 = KP309016994 * t31;
+		final double t38 = t0 + t37;
+		final double t39 = KP951056516 * t32;
+		final double t40 = KP809016994 * t34;
+		final double t41 = t38 - t40;
+		final double t42 = KP587785252 * t35;
+		final double t43 = t39 + t42;
+		final double t44 = KP809016994 * t31;
+		final double t45 = t0 - t44;
+		final double t46 = KP587785252 * t32;
+		final double t47 = KP309016994 * t34;
+		final double t48 = t45 + t47;
+		final double t49 = KP951056516 * t35;
+		final double t50 = t46 - t49;
+		final double t51 = t49 - t46;
+
+		out_re[ out_off ] = t15;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t41;
+		out_im[ out_off + out_stride ] = t43;
+		out_re[ out_off + 2 * out_stride ] = t27;
+		out_im[ out_off + 2 * out_stride ] = t29;
+		out_re[ out_off + 3 * out_stride ] = t48;
+		out_im[ out_off + 3 * out_stride ] = t51;
+		out_re[ out_off + 4 * out_stride ] = t20;
+		out_im[ out_off + 4 * out_stride ] = -t22;
+		out_re[ out_off + 5 * out_stride ] = t36;
+		out_im[ out_off + 5 * out_stride ] = 0.0;
+		out_re[ out_off + 6 * out_stride ] = t20;
+		out_im[ out_off + 6 * out_stride ] = t22;
+		out_re[ out_off + 7 * out_stride ] = t48;
+		out_im[ out_off + 7 * out_stride ] = t50;
+		out_re[ out_off + 8 * out_stride ] = t27;
+		out_im[ out_off + 8 * out_stride ] = t30;
+		out_re[ out_off + 9 * out_stride ] = t41;
+		out_im[ out_off + 9 * out_stride ] = -t43;
+	}
+
+
+	/**
+	 * Size 11: 140 additions, 100 multiplications.
+	 */
+	private static void complexForward11( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+		final double re10 = in_re[ in_off + 10 * in_stride ];
+		final double im10 = in_im[ in_off + 10 * in_stride ];
+
+		final double t0 = re1 + re10;
+		final double t1 = im1 + im10;
+		final double t2 = re1 - re10;
+		final double t3 = im1 - im10;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = re2 + re9;
+		final double t7 = im2 + im9;
+		final double t8 = re2 - re9;
+		final double t9 = im2 - im9;
+		final double t10 = t4 + t6;
+		final double t11 = t5 + t7;
+		final double t12 = re3 + re8;
+		final double t13 = im3 + im8;
+		final double t14 = re3 - re8;
+		final double t15 = im3 - im8;
+		final double t16 = t10 + t12;
+		final double t17 = t11 + t13;
+		final double t18 = re4 + re7;
+		final double t19 = im4 + im7;
+		final double t20 = re4 - re7;
+		final double t21 = im4 - im7;
+		final double t22 = t16 + t18;
+		final double t23 = t17 + t19;
+		final double t24 = re5 + re6;
+		final double t25 = im5 + im6;
+		final double t26 = re5 - re6;
+		final double t27 = im5 - im6;
+		final double t28 = t22 + t24;
+		final double t29 = t23 + t25;
+		final double t30 = KP841253533 * t0;
+		final double t31 = re0 + t30;
+		final double t32 = KP841253533 * t1;
+		final double t33 = im0 + t32;
+		final double t34 = KP540640817 * t2;
+		final double t35 = KP540640817 * t3;
+		final double t36 = KP415415013 * t6;
+		final double t37 = t31 + t36;
+		final double t38 = KP415415013 * t7;
+		final double t39 = t33 + t38;
+		final double t40 = KP909631995 * t8;
+		final double t41 = t34 + t40;
+		final double t42 = KP909631995 * t9;
+		final double t43 = t35 + t42;
+		final double t44 = KP142314838 * t12;
+		final double t45 = t37 - t44;
+		final double t46 = KP142314838 * t13;
+		final double t47 = t39 - t46;
+		final double t48 = KP989821442 * t14;
+		final double t49 = t41 + t48;
+		final double t50 = KP989821442 * t15;
+		final double t51 = t43 + t50;
+		final double t52 = KP654860734 * t18;
+		final double t53 = t45 - t52;
+		final double t54 = KP654860734 * t19;
+		final double t55 = t47 - t54;
+		final double t56 = KP755749574 * t20;
+		final double t57 = t49 + t56;
+		final double t58 = KP755749574 * t21;
+		final double t59 = t51 + t58;
+		final double t60 = KP959492974 * t24;
+		final double t61 = t53 - t60;
+		final double t62 = KP959492974 * t25;
+		final double t63 = t55 - t62;
+		final double t64 = KP281732557 * t26;
+		final double t65 = t57 + t64;
+		final double t66 = KP281732557 * t27;
+		final double t67 = t59 + t66;
+		final double t68 = t61 + t67;
+		final double t69 = t63 - t65;
+		final double t70 = t61 - t67;
+		final double t71 = t63 + t65;
+		final double t72 = KP415415013 * t0;
+		final double t73 = re0 + t72;
+		final double t74 = KP415415013 * t1;
+		final double t75 = im0 + t74;
+		final double t76 = KP909631995 * t2;
+		final double t77 = KP909631995 * t3;
+		final double t78 = KP654860734 * t6;
+		final double t79 = t73 - t78;
+		final double t80 = KP654860734 * t7;
+		final double t81 = t75 - t80;
+		final double t82 = KP755749574 * t8;
+		final double t83 = t76 + t82;
+		final double t84 = KP755749574 * t9;
+		final double t85 = t77 + t84;
+		final double t86 = KP959492974 * t12;
+		final double t87 = t79 - t86;
+		final double t88 = KP959492974 * t13;
+		final double t89 = t81 - t88;
+		final double t90 = KP281732557 * t14;
+		final double t91 = t83 - t90;
+		final double t92 = KP281732557 * t15;
+		final double t93 = t85 - t92;
+		final double t94 = KP142314838 * t18;
+		final double t95 = t87 - t94;
+		final double t96 = KP142314838 * t19;
+		final double t97 = t89 - t96;
+		final double t98 = KP989821442 * t20;
+		final double t99 = t91 - t98;
+		final double t100 = KP989821442 * t21;
+		final double t101 = t93 - t100;
+		final double t102 = KP841253533 * t24;
+		final double t103 = t95 + t102;
+		final double t104 = KP841253533 * t25;
+		final double t105 = t97 + t104;
+		final double t106 = KP540640817 * t26;
+		final double t107 = t99 - t106;
+		final double t108 = KP540640817 * t27;
+		final double t109 = t101 - t108;
+		final double t110 = t103 + t109;
+		final double t111 = t105 - t107;
+		final double t112 = t103 - t109;
+		final double t113 = t105 + t107;
+		final double t114 = KP142314838 * t0;
+		final double t115 = re0 - t114;
+		final double t116 = KP142314838 * t1;
+		final double t117 = im0 - t116;
+		final double t118 = KP989821442 * t2;
+		final double t119 = KP989821442 * t3;
+		final double t120 = KP959492974 * t6;
+		final double t121 = t115 - t120;
+		final double t122 = KP959492974 * t7;
+		final double t123 = t117 - t122;
+		final double t124 = KP281732557 * t8;
+		final double t125 = t118 - t124;
+		final double t126 = KP281732557 * t9;
+		final double t127 = t119 - t126;
+		final double t128 = KP415415013 * t12;
+		final double t129 = t121 + t128;
+		final double t130 = KP415415013 * t13;
+		final double t131 = t123 + t130;
+		final double t132 = KP909631995 * t14;
+		final double t133 = t125 - t132;
+		final double t134 = KP909631995 * t15;
+		final double t135 = t127 - t134;
+		final double t136 = KP841253533 * t18;
+		final double t137 = t129 + t136;
+		final double t138 = KP841253533 * t19;
+		final double t139 = t131 + t138;
+		final double t140 = KP540640817 * t20;
+		final double t141 = t133 + t140;
+		final double t142 = KP540640817 * t21;
+		final double t143 = t135 + t142;
+		final double t144 = KP654860734 * t24;
+		final double t145 = t137 - t144;
+		final double t146 = KP654860734 * t25;
+		final double t147 = t139 - t146;
+		final double t148 = KP755749574 * t26;
+		final double t149 = t141 + t148;
+		final double t150 = KP755749574 * t27;
+		final double t151 = t143 + t150;
+		final double t152 = t145 + t151;
+		final double t153 = t147 - t149;
+		final double t154 = t145 - t151;
+		final double t155 = t147 + t149;
+		final double t156 = KP654860734 * t0;
+		final double t157 = re0 - t156;
+		final double t158 = KP654860734 * t1;
+		final double t159 = im0 - t158;
+		final double t160 = KP755749574 * t2;
+		final double t161 = KP755749574 * t3;
+		final double t162 = KP142314838 * t6;
+		final double t163 = t157 - t162;
+		final double t164 = KP142314838 * t7;
+		final double t165 = t159 - t164;
+		final double t166 = KP989821442 * t8;
+		final double t167 = t160 - t166;
+		final double t168 = KP989821442 * t9;
+		final double t169 = t161 - t168;
+		final double t170 = KP841253533 * t12;
+		final double t171 = t163 + t170;
+		final double t172 = KP841253533 * t13;
+		final double t173 = t165 + t172;
+		final double t174 = KP540640817 * t14;
+		final double t175 = t167 + t174;
+		final double t176 = KP540640817 * t15;
+		final double t177 = t169 + t176;
+		final double t178 = KP959492974 * t18;
+		final double t179 = t171 - t178;
+		final double t180 = KP959492974 * t19;
+		final double t181 = t173 - t180;
+		final double t182 = KP281732557 * t20;
+		final double t183 = t175 + t182;
+		final double t184 = KP281732557 * t21;
+		final double t185 = t177 + t184;
+		final double t186 = KP415415013 * t24;
+		final double t187 = t179 + t186;
+		final double t188 = KP415415013 * t25;
+		final double t189 = t181 + t188;
+		final double t190 = KP909631995 * t26;
+		final double t191 = t183 - t190;
+		final double t192 = KP909631995 * t27;
+		final double t193 = t185 - t192;
+		final double t194 = t187 + t193;
+		final double t195 = t189 - t191;
+		final double t196 = t187 - t193;
+		final double t197 = t189 + t191;
+		final double t198 = KP959492974 * t0;
+		final double t199 = re0 - t198;
+		final double t200 = KP959492974 * t1;
+		final double t201 = im0 - t200;
+		final double t202 = KP281732557 * t2;
+		final double t203 = KP281732557 * t3;
+		final double t204 = KP841253533 * t6;
+		final double t205 = t199 + t204;
+		final double t206 = KP841253533 * t7;
+		final double t207 = t201 + t206;
+		final double t208 = KP540640817 * t8;
+		final double t209 = t202 - t208;
+		final double t210 = KP540640817 * t9;
+		final double t211 = t203 - t210;
+		final double t212 = KP654860734 * t12;
+		final double t213 = t205 - t212;
+		final double t214 = KP654860734 * t13;
+		final double t215 = t207 - t214;
+		final double t216 = KP755749574 * t14;
+		final double t217 = t209 + t216;
+		final double t218 = KP755749574 * t15;
+		final double t219 = t211 + t218;
+		final double t220 = KP415415013 * t18;
+		final double t221 = t213 + t220;
+		final double t222 = KP415415013 * t19;
+		final double t223 = t215 + t222;
+		final double t224 = KP909631995 * t20;
+		final double t225 = t217 - t224;
+		final double t226 = KP909631995 * t21;
+		final double t227 = t219 - t226;
+		final double t228 = KP142314838 * t24;
+		final double t229 = t221 - t228;
+		final double t230 = KP142314838 * t25;
+		final double t231 = t223 - t230;
+		final double t232 = KP989821442 * t26;
+		final double t233 = t225 + t232;
+		final double t234 = KP989821442 * t27;
+		final double t235 = t227 + t234;
+		final double t236 = t229 + t235;
+		final double t237 = t231 - t233;
+		final double t238 = t229 - t235;
+		final double t239 = t231 + t233;
+
+		out_re[ out_off ] = t28;
+		out_im[ out_off ] = t29;
+		out_re[ out_off + out_stride ] = t68;
+		out_im[ out_off + out_stride ] = t69;
+		out_re[ out_off + 2 * out_stride ] = t110;
+		out_im[ out_off + 2 * out_stride ] = t111;
+		out_re[ out_off + 3 * out_stride ] = t152;
+		out_im[ out_off + 3 * out_stride ] = t153;
+		out_re[ out_off + 4 * out_stride ] = t194;
+		out_im[ out_off + 4 * out_stride ] = t195;
+		out_re[ out_off + 5 * out_stride ] = t236;
+		out_im[ out_off + 5 * out_stride ] = t237;
+		out_re[ out_off + 6 * out_stride ] = t238;
+		out_im[ out_off + 6 * out_stride ] = t239;
+		out_re[ out_off + 7 * out_stride ] = t196;
+		out_im[ out_off + 7 * out_stride ] = t197;
+		out_re[ out_off + 8 * out_stride ] = t154;
+		out_im[ out_off + 8 * out_stride ] = t155;
+		out_re[ out_off + 9 * out_stride ] = t112;
+		out_im[ out_off + 9 * out_stride ] = t113;
+		out_re[ out_off + 10 * out_stride ] = t70;
+		out_im[ out_off + 10 * out_stride ] = t71;
+	}
+
+
+	/**
+	 * Size 11: 65 additions, 50 multiplications.
+	 */
+	private static void realForward11( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+
+		final double t0 = x1 + x10;
+		final double t1 = x1 - x10;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x9;
+		final double t4 = x2 - x9;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x8;
+		final double t7 = x3 - x8;
+		final double t8 = t5 + t6;
+		final double t9 = x4 + x7;
+		final double t10 = x4 - x7;
+		final double t11 = t8 + t9;
+		final double t12 = x5 + x6;
+		final double t13 = x5 - x6;
+		final double t14 = t11 + t12;
+		final double t15 = KP841253533 * t0;
+		final double t16 = x0 + t15;
+		final double t17 = KP540640817 * t1;
+		final double t18 = KP415415013 * t3;
+		final double t19 = t16 + t18;
+		final double t20 = KP909631995 * t4;
+		final double t21 = t17 + t20;
+		final double t22 = KP142314838 * t6;
+		final double t23 = t19 - t22;
+		final double t24 = KP989821442 * t7;
+		final double t25 = t21 + t24;
+		final double t26 = KP654860734 * t9;
+		final double t27 = t23 - t26;
+		final double t28 = KP755749574 * t10;
+		final double t29 = t25 + t28;
+		final double t30 = KP959492974 * t12;
+		final double t31 = t27 - t30;
+		final double t32 = KP281732557 * t13;
+		final double t33 = t29 + t32;
+		final double t34 = KP415415013 * t0;
+		final double t35 = x0 + t34;
+		final double t36 = KP909631995 * t1;
+		final double t37 = KP654860734 * t3;
+		final double t38 = t35 - t37;
+		final double t39 = KP755749574 * t4;
+		final double t40 = t36 + t39;
+		final double t41 = KP959492974 * t6;
+		final double t42 = t38 - t41;
+		final double t43 = KP281732557 * t7;
+		final double t44 = t40 - t43;
+		final double t45 = KP142314838 * t9;
+		final double t46 = t42 - t45;
+		final double t47 = KP989821442 * t10;
+		final double t48 = t44 - t47;
+		final double t49 = KP841253533 * t12;
+		final double t50 = t46 + t49;
+		final double t51 = KP540640817 * t13;
+		final double t52 = t48 - t51;
+		final double t53 = t51 - t48;
+		final double t54 = KP142314838 * t0;
+		final double t55 = x0 - t54;
+		final double t56 = KP989821442 * t1;
+		final double t57 = KP959492974 * t3;
+		final double t58 = t55 - t57;
+		final double t59 = KP281732557 * t4;
+		final double t60 = t56 - t59;
+		final double t61 = KP415415013 * t6;
+		final double t62 = t58 + t61;
+		final double t63 = KP909631995 * t7;
+		final double t64 = t60 - t63;
+		final double t65 = KP841253533 * t9;
+		final double t66 = t62 + t65;
+		final double t67 = KP540640817 * t10;
+		final double t68 = t64 + t67;
+		final double t69 = KP654860734 * t12;
+		final double t70 = t66 - t69;
+		final double t71 = KP755749574 * t13;
+		final double t72 = t68 + t71;
+		final double t73 = KP654860734 * t0;
+		final double t74 = x0 - t73;
+		final double t75 = KP755749574 * t1;
+		final double t76 = KP142314838 * t3;
+		final double t77 = t74 - t76;
+		final double t78 = KP989821442 * t4;
+		final double t79 = t75 - t78;
+		final double t80 = KP841253533 * t6;
+		final double t81 = t77 + t80;
+		final double t82 = KP540640817 * t7;
+		final double t83 = t79 + t82;
+		final double t84 = KP959492974 * t9;
+		final double t85 = t81 - t84;
+		final double t86 = KP281732557 * t10;
+		final double t87 = t83 + t86;
+		final double t88 = KP415415013 * t12;
+		final double t89 = t85 + t88;
+		final double t90 = KP909631995 * t13;
+		final double t91 = t87 - t90;
+		final double t92 = t90 - t87;
+		final double t93 = KP959492974 * t0;
+		final double t94 = x0 - t93;
+		final double t95 = KP281732557 * t1;
+		final double t96 = KP841253533 * t3;
+		final double t97 = t94 + t96;
+		final double t98 = KP540640817 * t4;
+		final double t99 = t95 - t98;
+		final double t100 = KP654860734 * t6;
+		final double t101 = t97 - t100;
+		final double t102 = KP755749574 * t7;
+		final double t103 = t99 + t102;
+		final double t104 = KP415415013 * t9;
+		final double t105 = t101 + t104;
+		final double t106 = KP909631995 * t10;
+		final double t107 = t103 - t106;
+		final double t108 = KP142314838 * t12;
+		final double t109 = t105 - t108;
+		final double t110 = KP989821442 * t13;
+		final double t111 = t107 + t110;
+
+		out_re[ out_off ] = t14;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t31;
+		out_im[ out_off + out_stride ] = -t33;
+		out_re[ out_off + 2 * out_stride ] = t50;
+		out_im[ out_off + 2 * out_stride ] = t53;
+		out_re[ out_off + 3 * out_stride ] = t70;
+		out_im[ out_off + 3 * out_stride ] = -t72;
+		out_re[ out_off + 4 * out_stride ] = t89;
+		out_im[ out_off + 4 * out_stride ] = t92;
+		out_re[ out_off + 5 * out_stride ] = t109;
+		out_im[ out_off + 5 * out_stride ] = -t111;
+		out_re[ out_off + 6 * out_stride ] = t109;
+		out_im[ out_off + 6 * out_stride ] = t111;
+		out_re[ out_off + 7 * out_stride ] = t89;
+		out_im[ out_off + 7 * out_stride ] = t91;
+		out_re[ out_off + 8 * out_stride ] = t70;
+		out_im[ out_off + 8 * out_stride ] = t72;
+		out_re[ out_off + 9 * out_stride ] = t50;
+		out_im[ out_off + 9 * out_stride ] = t52;
+		out_re[ out_off + 10 * out_stride ] = t31;
+		out_im[ out_off + 10 * out_stride ] = t33;
+	}
+
+
+	/**
+	 * Size 11: 65 additions, 50 multiplications.
+	 */
+	private static void realBackward11( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+
+		final double t0 = x1 + x10;
+		final double t1 = x1 - x10;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x9;
+		final double t4 = x2 - x9;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x8;
+		final double t7 = x3 - x8;
+		final double t8 = t5 + t6;
+		final double t9 = x4 + x7;
+		final double t10 = x4 - x7;
+		final double t11 = t8 + t9;
+		final double t12 = x5 + x6;
+		final double t13 = x5 - x6;
+		final double t14 = t11 + t12;
+		final double t15 = KP841253533 * t0;
+		final double t16 = x0 + t15;
+		final double t17 = KP540640817 * t1;
+		final double t18 = KP415415013 * t3;
+		final double t19 = t16 + t18;
+		final double t20 = KP909631995 * t4;
+		final double t21 = t17 + t20;
+		final double t22 = KP142314838 * t6;
+		final double t23 = t19 - t22;
+		final double t24 = KP989821442 * t7;
+		final double t25 = t21 + t24;
+		final double t26 = KP654860734 * t9;
+		final double t27 = t23 - t26;
+		final double t28 = KP755749574 * t10;
+		final double t29 = t25 + t28;
+		final double t30 = KP959492974 * t12;
+		final double t31 = t27 - t30;
+		final double t32 = KP281732557 * t13;
+		final double t33 = t29 + t32;
+		final double t34 = KP415415013 * t0;
+		final double t35 = x0 + t34;
+		final double t36 = KP909631995 * t1;
+		final double t37 = KP654860734 * t3;
+		final double t38 = t35 - t37;
+		final double t39 = KP755749574 * t4;
+		final double t40 = t36 + t39;
+		final double t41 = KP959492974 * t6;
+		final double t42 = t38 - t41;
+		final double t43 = KP281732557 * t7;
+		final double t44 = t40 - t43;
+		final double t45 = KP142314838 * t9;
+		final double t46 = t42 - t45;
+		final double t47 = KP989821442 * t10;
+		final double t48 = t44 - t47;
+		final double t49 = KP841253533 * t12;
+		final double t50 = t46 + t49;
+		final double t51 = KP540640817 * t13;
+		final double t52 = t48 - t51;
+		final double t53 = t51 - t48;
+		final double t54 = KP142314838 * t0;
+		final double t55 = x0 - t54;
+		final double t56 = KP989821442 * t1;
+		final double t57 = KP959492974 * t3;
+		final double t58 = t55 - t57;
+		final double t59 = KP281732557 * t4;
+		final double t60 = t56 - t59;
+		final double t61 = KP415415013 * t6;
+		final double t62 = t58 + t61;
+		final double t63 = KP909631995 * t7;
+		final double t64 = t60 - t63;
+		final double t65 = KP841253533 * t9;
+		final double t66 = t62 + t65;
+		final double t67 = KP540640817 * t10;
+		final double t68 = t64 + t67;
+		final double t69 = KP654860734 * t12;
+		final double t70 = t66 - t69;
+		final double t71 = KP755749574 * t13;
+		final double t72 = t68 + t71;
+		final double t73 = KP654860734 * t0;
+		final double t74 = x0 - t73;
+		final double t75 = KP755749574 * t1;
+		final double t76 = KP142314838 * t3;
+		final double t77 = t74 - t76;
+		final double t78 = KP989821442 * t4;
+		final double t79 = t75 - t78;
+		final double t80 = KP841253533 * t6;
+		final double t81 = t77 + t80;
+		final double t82 = KP540640817 * t7;
+		final double t83 = t79 + t82;
+		final double t84 = KP959492974 * t9;
+		final double t85 = t81 - t84;
+		final double t86 = KP281732557 * t10;
+		final double t87 = t83 + t86;
+		final double t88 = KP415415013 * t12;
+		final double t89 = t85 + t88;
+		final double t90 = KP909631995 * t13;
+		final double t91 = t87 - t90;
+		final double t92 = t90 - t87;
+		final double t93 = KP959492974 * t0;
+		final double t94 = x0 - t93;
+		final double t95 = KP281732557 * t1;
+		final double t96 = KP841253533 * t3;
+		final double t97 = t94 + t96;
+		final double t98 = KP540640817 * t4;
+		final double t99 = t95 - t98;
+		final double t100 = KP654860734 * t6;
+		final double t101 = t97 - t100;
+		final double t102 = KP755749574 * t7;
+		final double t103 = t99 + t102;
+		final double t104 = KP415415013 * t9;
+		final double t105 = t101 + t104;
+		final double t106 = KP909631995 * t10;
+		final double t107 = t103 - t106;
+		final double t108 = KP142314838 * t12;
+		final double t109 = t105 - t108;
+		final double t110 = KP989821442 * t13;
+		final double t111 = t107 + t110;
+
+		out_re[ out_off ] = t14;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t31;
+		out_im[ out_off + out_stride ] = t33;
+		out_re[ out_off + 2 * out_stride ] = t50;
+		out_im[ out_off + 2 * out_stride ] = t52;
+		out_re[ out_off + 3 * out_stride ] = t70;
+		out_im[ out_off + 3 * out_stride ] = t72;
+		out_re[ out_off + 4 * out_stride ] = t89;
+		out_im[ out_off + 4 * out_stride ] = t91;
+		out_re[ out_off + 5 * out_stride ] = t109;
+		out_im[ out_off + 5 * out_stride ] = t111;
+		out_re[ out_off + 6 * out_stride ] = t109;
+		out_im[ out_off + 6 * out_stride ] = -t111;
+		out_re[ out_off + 7 * out_stride ] = t89;
+		out_im[ out_off + 7 * out_stride ] = t92;
+		out_re[ out_off + 8 * out_stride ] = t70;
+		out_im[ out_off + 8 * out_stride ] = -t72;
+		out_re[ out_off + 9 * out_stride ] = t50;
+		out_im[ out_off + 9 * out_stride ] = t53;
+		out_re[ out_off + 10 * out_stride ] = t31;
+		out_im[ out_off + 10 * out_stride ] = -t33;
+	}
+
+
+	/**
+	 * Size 12: 96 additions, 16 multiplications.
+	 */
+	private static void complexForward12( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+		final double re10 = in_re[ in_off + 10 * in_stride ];
+		final double im10 = in_im[ in_off + 10 * in_stride ];
+		final double re11 = in_re[ in_off + 11 * in_stride ];
+		final double im11 = in_im[ in_off + 11 * in_stride ];
+
+		final double t0 = re4 + re8;
+		final double t1 = im4 + im8;
+		final double t2 = re4 - re8;
+		final double t3 = im4 - im8;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = KP500000000 * t0;
+		final double t7 = re0 - t6;
+		final double t8 = KP500000000 * t1;
+		final double t9 = im0 - t8;
+		final double t10 = KP866025404 * t2;
+		final double t11 = KP866025404 * t3;
+		final double t12 = t7 + t11;
+		final double t13 = t9 - t10;
+		final double t14 = t7 - t11;
+		final double t15 = t9 + t10;
+		final double t16 = re7 + re11;
+		final double t17 = im7 + im11;
+		final double t18 = re7 - re11;
+		final double t19 = im7 - im11;
+		final double t20 = re3 + t16;
+		final double t21 = im3 + t17;
+		final double t22 = KP500000000 * t16;
+		final double t23 = re3 - t22;
+		final double t24 = KP500000000 * t17;
+		final double t25 = im3 - t24;
+		final double t26 = KP866025404 * t18;
+		final double t27 = KP866025404 * t19;
+		final double t28 = t23 + t27;
+		final double t29 = t25 - t26;
+		final double t30 = t23 - t27;
+		final double t31 = t25 + t26;
+		final double t32 = re2 + re10;
+		final double t33 = im2 + im10;
+		final double t34 = re10 - re2;
+		final double t35 = im10 - im2;
+		final double t36 = re6 + t32;
+		final double t37 = im6 + t33;
+		final double t38 = KP500000000 * t32;
+		final double t39 = re6 - t38;
+		final double t40 = KP500000000 * t33;
+		final double t41 = im6 - t40;
+		final double t42 = KP866025404 * t34;
+		final double t43 = KP866025404 * t35;
+		final double t44 = t39 + t43;
+		final double t45 = t41 - t42;
+		final double t46 = t39 - t43;
+		final double t47 = t41 + t42;
+		final double t48 = re1 + re5;
+		final double t49 = im1 + im5;
+		final double t50 = re1 - re5;
+		final double t51 = im1 - im5;
+		final double t52 = re9 + t48;
+		final double t53 = im9 + t49;
+		final double t54 = KP500000000 * t48;
+		final double t55 = re9 - t54;
+		final double t56 = KP500000000 * t49;
+		final double t57 = im9 - t56;
+		final double t58 = KP866025404 * t50;
+		final double t59 = KP866025404 * t51;
+		final double t60 = t55 + t59;
+		final double t61 = t57 - t58;
+		final double t62 = t55 - t59;
+		final double t63 = t57 + t58;
+		final double t64 = t4 - t36;
+		final double t65 = t5 - t37;
+		final double t66 = t4 + t36;
+		final double t67 = t5 + t37;
+		final double t68 = t21 - t53;
+		final double t69 = t20 + t52;
+		final double t70 = t21 + t53;
+		final double t71 = t52 - t20;
+		final double t72 = t66 - t69;
+		final double t73 = t67 - t70;
+		final double t74 = t66 + t69;
+		final double t75 = t67 + t70;
+		final double t76 = t64 - t68;
+		final double t77 = t65 - t71;
+		final double t78 = t64 + t68;
+		final double t79 = t65 + t71;
+		final double t80 = t12 - t44;
+		final double t81 = t13 - t45;
+		final double t82 = t12 + t44;
+		final double t83 = t13 + t45;
+		final double t84 = t29 - t61;
+		final double t85 = t28 + t60;
+		final double t86 = t29 + t61;
+		final double t87 = t60 - t28;
+		final double t88 = t82 - t85;
+		final double t89 = t83 - t86;
+		final double t90 = t82 + t85;
+		final double t91 = t83 + t86;
+		final double t92 = t80 - t84;
+		final double t93 = t81 - t87;
+		final double t94 = t80 + t84;
+		final double t95 = t81 + t87;
+		final double t96 = t14 - t46;
+		final double t97 = t15 - t47;
+		final double t98 = t14 + t46;
+		final double t99 = t15 + t47;
+		final double t100 = t31 - t63;
+		final double t101 = t30 + t62;
+		final double t102 = t31 + t63;
+		final double t103 = t62 - t30;
+		final double t104 = t98 - t101;
+		final double t105 = t99 - t102;
+		final double t106 = t98 + t101;
+		final double t107 = t99 + t102;
+		final double t108 = t96 - t100;
+		final double t109 = t97 - t103;
+		final double t110 = t96 + t100;
+		final double t111 = t97 + t103;
+
+		out_re[ out_off ] = t74;
+		out_im[ out_off ] = t75;
+		out_re[ out_off + out_stride ] = t94;
+		out_im[ out_off + out_stride ] = t95;
+		out_re[ out_off + 2 * out_stride ] = t104;
+		out_im[ out_off + 2 * out_stride ] = t105;
+		out_re[ out_off + 3 * out_stride ] = t76;
+		out_im[ out_off + 3 * out_stride ] = t77;
+		out_re[ out_off + 4 * out_stride ] = t90;
+		out_im[ out_off + 4 * out_stride ] = t91;
+		out_re[ out_off + 5 * out_stride ] = t110;
+		out_im[ out_off + 5 * out_stride ] = t111;
+		out_re[ out_off + 6 * out_stride ] = t72;
+		out_im[ out_off + 6 * out_stride ] = t73;
+		out_re[ out_off + 7 * out_stride ] = t92;
+		out_im[ out_off + 7 * out_stride ] = t93;
+		out_re[ out_off + 8 * out_stride ] = t106;
+		out_im[ out_off + 8 * out_stride ] = t107;
+		out_re[ out_off + 9 * out_stride ] = t78;
+		out_im[ out_off + 9 * out_stride ] = t79;
+		out_re[ out_off + 10 * out_stride ] = t88;
+		out_im[ out_off + 10 * out_stride ] = t89;
+		out_re[ out_off + 11 * out_stride ] = t108;
+		out_im[ out_off + 11 * out_stride ] = t109;
+	}
+
+
+	/**
+	 * Size 12: 47 additions, 8 multiplications.
+	 */
+	private static void realForward12( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+
+		final double t0 = x4 + x8;
+		final double t1 = x4 - x8;
+		final double t2 = x0 + t0;
+		final double t3 = KP500000000 * t0;
+		final double t4 = x0 - t3;
+		final double t5 = KP866025404 * t1;
+		final double t6 = x7 + x11;
+		final double t7 = x7 - x11;
+		final double t8 = x3 + t6;
+		final double t9 = KP500000000 * t6;
+		final double t10 = x3 - t9;
+		final double t11 = KP866025404 * t7;
+		final double t12 = x2 + x10;
+		final double t13 = x10 - x2;
+		final double t14 = x6 + t12;
+		final double t15 = KP500000000 * t12;
+		final double t16 = x6 - t15;
+		final double t17 = KP866025404 * t13;
+		final double t18 = x1 + x5;
+		final double t19 = x1 - x5;
+		final double t20 = x9 + t18;
+		final double t21 = KP500000000 * t18;
+		final double t22 = x9 - t21;
+		final double t23 = KP866025404 * t19;
+		final double t24 = t2 - t14;
+		final double t25 = t2 + t14;
+		final double t26 = t8 - t20;
+		final double t27 = t8 + t20;
+		final double t28 = t20 - t8;
+		final double t29 = t25 - t27;
+		final double t30 = t25 + t27;
+		final double t31 = t4 - t16;
+		final double t32 = t17 - t5;
+		final double t33 = t4 + t16;
+		final double t34 = t5 + t17;
+		final double t35 = t23 - t11;
+		final double t36 = t10 + t22;
+		final double t37 = t11 + t23;
+		final double t38 = t11 - t23;
+		final double t39 = t22 - t10;
+		final double t40 = t33 - t36;
+		final double t41 = t37 - t34;
+		final double t42 = t33 + t36;
+		final double t43 = t34 + t37;
+		final double t44 = t31 - t35;
+		final double t45 = t32 - t39;
+		final double t46 = t31 + t35;
+		final double t47 = t32 + t39;
+		final double t48 = t5 - t17;
+		final double t49 = t34 - t37;
+		final double t50 = t31 - t38;
+		final double t51 = t48 - t39;
+		final double t52 = t31 + t38;
+		final double t53 = t39 + t48;
+
+		out_re[ out_off ] = t30;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t46;
+		out_im[ out_off + out_stride ] = t47;
+		out_re[ out_off + 2 * out_stride ] = t40;
+		out_im[ out_off + 2 * out_stride ] = t49;
+		out_re[ out_off + 3 * out_stride ] = t24;
+		out_im[ out_off + 3 * out_stride ] = t26;
+		out_re[ out_off + 4 * out_stride ] = t42;
+		out_im[ out_off + 4 * out_stride ] = -t43;
+		out_re[ out_off + 5 * out_stride ] = t52;
+		out_im[ out_off + 5 * out_stride ] = t53;
+		out_re[ out_off + 6 * out_stride ] = t29;
+		out_im[ out_off + 6 * out_stride ] = 0.0;
+		out_re[ out_off + 7 * out_stride ] = t44;
+		out_im[ out_off + 7 * out_stride ] = t45;
+		out_re[ out_off + 8 * out_stride ] = t42;
+		out_im[ out_off + 8 * out_stride ] = t43;
+		out_re[ out_off + 9 * out_stride ] = t24;
+		out_im[ out_off + 9 * out_stride ] = t28;
+		out_re[ out_off + 10 * out_stride ] = t40;
+		out_im[ out_off + 10 * out_stride ] = t41;
+		out_re[ out_off + 11 * out_stride ] = t50;
+		out_im[ out_off + 11 * out_stride ] = t51;
+	}
+
+
+	/**
+	 * Size 12: 49 additions, 8 multiplications.
+	 */
+	private static void realBackward12( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+
+		final double t0 = x4 + x8;
+		final double t1 = x4 - x8;
+		final double t2 = x0 + t0;
+		final double t3 = KP500000000 * t0;
+		final double t4 = x0 - t3;
+		final double t5 = KP866025404 * t1;
+		final double t6 = x7 + x11;
+		final double t7 = x7 - x11;
+		final double t8 = x3 + t6;
+		final double t9 = KP500000000 * t6;
+		final double t10 = x3 - t9;
+		final double t11 = KP866025404 * t7;
+		final double t12 = x2 + x10;
+		final double t13 = x10 - x2;
+		final double t14 = x6 + t12;
+		final double t15 = KP500000000 * t12;
+		final double t16 = x6 - t15;
+		final double t17 = KP866025404 * t13;
+		final double t18 = x1 + x5;
+		final double t19 = x1 - x5;
+		final double t20 = x9 + t18;
+		final double t21 = KP500000000 * t18;
+		final double t22 = x9 - t21;
+		final double t23 = KP866025404 * t19;
+		final double t24 = t2 - t14;
+		final double t25 = t2 + t14;
+		final double t26 = t8 - t20;
+		final double t27 = t8 + t20;
+		final double t28 = t20 - t8;
+		final double t29 = t25 - t27;
+		final double t30 = t25 + t27;
+		final double t31 = t4 - t16;
+		final double t32 = t17 - t5;
+		final double t33 = t4 + t16;
+		final double t34 = t5 + t17;
+		final double t35 = t23 - t11;
+		final double t36 = t10 + t22;
+		final double t37 = t11 + t23;
+		final double t38 = t11 - t23;
+		final double t39 = t22 - t10;
+		final double t40 = t33 - t36;
+		final double t41 = t37 - t34;
+		final double t42 = t33 + t36;
+		final double t43 = t34 + t37;
+		final double t44 = t31 - t35;
+		final double t45 = t31 + t35;
+		final double t46 = t32 + t39;
+		final double t47 = t5 - t17;
+		final double t48 = t34 - t37;
+		final double t49 = t31 - t38;
+		final double t50 = t31 + t38;
+		final double t51 = t39 + t47;
+		final double t52 = t39 - t32;
+		final double t53 = t39 - t47;
+
+		out_re[ out_off ] = t30;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t45;
+		out_im[ out_off + out_stride ] = -t46;
+		out_re[ out_off + 2 * out_stride ] = t40;
+		out_im[ out_off + 2 * out_stride ] = t41;
+		out_re[ out_off + 3 * out_stride ] = t24;
+		out_im[ out_off + 3 * out_stride ] = t28;
+		out_re[ out_off + 4 * out_stride ] = t42;
+		out_im[ out_off + 4 * out_stride ] = t43;
+		out_re[ out_off + 5 * out_stride ] = t50;
+		out_im[ out_off + 5 * out_stride ] = -t51;
+		out_re[ out_off + 6 * out_stride ] = t29;
+		out_im[ out_off + 6 * out_stride ] = 0.0;
+		out_re[ out_off + 7 * out_stride ] = t44;
+		out_im[ out_off + 7 * out_stride ] = t52;
+		out_re[ out_off + 8 * out_stride ] = t42;
+		out_im[ out_off + 8 * out_stride ] = -t43;
+		out_re[ out_off + 9 * out_stride ] = t24;
+		out_im[ out_off + 9 * out_stride ] = t26;
+		out_re[ out_off + 10 * out_stride ] = t40;
+		out_im[ out_off + 10 * out_stride ] = t48;
+		out_re[ out_off + 11 * out_stride ] = t49;
+		out_im[ out_off + 11 * out_stride ] = t53;
+	}
+
+
+	/**
+	 * Size 13: 192 additions, 144 multiplications.
+	 */
+	private static void complexForward13( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+		final double re10 = in_re[ in_off + 10 * in_stride ];
+		final double im10 = in_im[ in_off + 10 * in_stride ];
+		final double re11 = in_re[ in_off + 11 * in_stride ];
+		final double im11 = in_im[ in_off + 11 * in_stride ];
+		final double re12 = in_re[ in_off + 12 * in_stride ];
+		final double im12 = in_im[ in_off + 12 * in_stride ];
+
+		final double t0 = re1 + re12;
+		final double t1 = im1 + im12;
+		final double t2 = re1 - re12;
+		final double t3 = im1 - im12;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = re2 + re11;
+		final double t7 = im2 + im11;
+		final double t8 = re2 - re11;
+		final double t9 = im2 - im11;
+		final double t10 = t4 + t6;
+		final double t11 = t5 + t7;
+		final double t12 = re3 + re10;
+		final double t13 = im3 + im10;
+		final double t14 = re3 - re10;
+		final double t15 = im3 - im10;
+		final double t16 = t10 + t12;
+		final double t17 = t11 + t13;
+		final double t18 = re4 + re9;
+		final double t19 = im4 + im9;
+		final double t20 = re4 - re9;
+		final double t21 = im4 - im9;
+		final double t22 = t16 + t18;
+		final double t23 = t17 + t19;
+		final double t24 = re5 + re8;
+		final double t25 = im5 + im8;
+		final double t26 = re5 - re8;
+		final double t27 = im5 - im8;
+		final double t28 = t22 + t24;
+		final double t29 = t23 + t25;
+		final double t30 = re6 + re7;
+		final double t31 = im6 + im7;
+		final double t32 = re6 - re7;
+		final double t33 = im6 - im7;
+		final double t34 = t28 + t30;
+		final double t35 = t29 + t31;
+		final double t36 = KP885456026 * t0;
+		final double t37 = re0 + t36;
+		final double t38 = KP885456026 * t1;
+		final double t39 = im0 + t38;
+		final double t40 = KP464723172 * t2;
+		final double t41 = KP464723172 * t3;
+		final double t42 = KP568064747 * t6;
+		final double t43 = t37 + t42;
+		final double t44 = KP568064747 * t7;
+		final double t45 = t39 + t44;
+		final double t46 = KP822983866 * t8;
+		final double t47 = t40 + t46;
+		final double t48 = KP822983866 * t9;
+		final double t49 = t41 + t48;
+		final double t50 = KP120536680 * t12;
+		final double t51 = t43 + t50;
+		final double t52 = KP120536680 * t13;
+		final double t53 = t45 + t52;
+		final double t54 = KP992708874 * t14;
+		final double t55 = t47 + t54;
+		final double t56 = KP992708874 * t15;
+		final double t57 = t49 + t56;
+		final double t58 = KP354604887 * t18;
+		final double t59 = t51 - t58;
+		final double t60 = KP354604887 * t19;
+		final double t61 = t53 - t60;
+		final double t62 = KP935016243 * t20;
+		final double t63 = t55 + t62;
+		final double t64 = KP935016243 * t21;
+		final double t65 = t57 + t64;
+		final double t66 = KP748510748 * t24;
+		final double t67 = t59 - t66;
+		final double t68 = KP748510748 * t25;
+		final double t69 = t61 - t68;
+		final double t70 = KP663122658 * t26;
+		final double t71 = t63 + t70;
+		final double t72 = KP663122658 * t27;
+		final double t73 = t65 + t72;
+		final double t74 = KP970941817 * t30;
+		final double t75 = t67 - t74;
+		final double t76 = KP970941817 * t31;
+		final double t77 = t69 - t76;
+		final double t78 = KP239315664 * t32;
+		final double t79 = t71 + t78;
+		final double t80 = KP239315664 * t33;
+		final double t81 = t73 + t80;
+		final double t82 = t75 + t81;
+		final double t83 = t77 - t79;
+		final double t84 = t75 - t81;
+		final double t85 = t77 + t79;
+		final double t86 = KP568064747 * t0;
+		final double t87 = re0 + t86;
+		final double t88 = KP568064747 * t1;
+		final double t89 = im0 + t88;
+		final double t90 = KP822983866 * t2;
+		final double t91 = KP822983866 * t3;
+		final double t92 = KP354604887 * t6;
+		final double t93 = t87 - t92;
+		final double t94 = KP354604887 * t7;
+		final double t95 = t89 - t94;
+		final double t96 = KP935016243 * t8;
+		final double t97 = t90 + t96;
+		final double t98 = KP935016243 * t9;
+		final double t99 = t91 + t98;
+		final double t100 = KP970941817 * t12;
+		final double t101 = t93 - t100;
+		final double t102 = KP970941817 * t13;
+		final double t103 = t95 - t102;
+		final double t104 = KP239315664 * t14;
+		final double t105 = t97 + t104;
+		final double t106 = KP239315664 * t15;
+		final double t107 = t99 + t106;
+		final double t108 = KP748510748 * t18;
+		final double t109 = t101 - t108;
+		final double t110 = KP748510748 * t19;
+		final double t111 = t103 - t110;
+		final double t112 = KP663122658 * t20;
+		final double t113 = t105 - t112;
+		final double t114 = KP663122658 * t21;
+		final double t115 = t107 - t114;
+		final double t116 = KP120536680 * t24;
+		final double t117 = t109 + t116;
+		final double t118 = KP120536680 * t25;
+		final double t119 = t111 + t118;
+		final double t120 = KP992708874 * t26;
+		final double t121 = t113 - t120;
+		final double t122 = KP992708874 * t27;
+		final double t123 = t115 - t122;
+		final double t124 = KP885456026 * t30;
+		final double t125 = t117 + t124;
+		final double t126 = KP885456026 * t31;
+		final double t127 = t119 + t126;
+		final double t128 = KP464723172 * t32;
+		final double t129 = t121 - t128;
+		final double t130 = KP464723172 * t33;
+		final double t131 = t123 - t130;
+		final double t132 = t125 + t131;
+		final double t133 = t127 - t129;
+		final double t134 = t125 - t131;
+		final double t135 = t127 + t129;
+		final double t136 = KP120536680 * t0;
+		final double t137 = re0 + t136;
+		final double t138 = KP120536680 * t1;
+		final double t139 = im0 + t138;
+		final double t140 = KP992708874 * t2;
+		final double t141 = KP992708874 * t3;
+		final double t142 = KP970941817 * t6;
+		final double t143 = t137 - t142;
+		final double t144 = KP970941817 * t7;
+		final double t145 = t139 - t144;
+		final double t146 = KP239315664 * t8;
+		final double t147 = t140 + t146;
+		final double t148 = KP239315664 * t9;
+		final double t149 = t141 + t148;
+		final double t150 = KP354604887 * t12;
+		final double t151 = t143 - t150;
+		final double t152 = KP354604887 * t13;
+		final double t153 = t145 - t152;
+		final double t154 = KP935016243 * t14;
+		final double t155 = t147 - t154;
+		final double t156 = KP935016243 * t15;
+		final double t157 = t149 - t156;
+		final double t158 = KP885456026 * t18;
+		final double t159 = t151 + t158;
+		final double t160 = KP885456026 * t19;
+		final double t161 = t153 + t160;
+		final double t162 = KP464723172 * t20;
+		final double t163 = t155 - t162;
+		final double t164 = KP464723172 * t21;
+		final double t165 = t157 - t164;
+		final double t166 = KP568064747 * t24;
+		final double t167 = t159 + t166;
+		final double t168 = KP568064747 * t25;
+		final double t169 = t161 + t168;
+		final double t170 = KP822983866 * t26;
+		final double t171 = t163 + t170;
+		final double t172 = KP822983866 * t27;
+		final double t173 = t165 + t172;
+		final double t174 = KP748510748 * t30;
+		final double t175 = t167 - t174;
+		final double t176 = KP748510748 * t31;
+		final double t177 = t169 - t176;
+		final double t178 = KP663122658 * t32;
+		final double t179 = t171 + t178;
+		final double t180 = KP663122658 * t33;
+		final double t181 = t173 + t180;
+		final double t182 = t175 + t181;
+		final double t183 = t177 - t179;
+		final double t184 = t175 - t181;
+		final double t185 = t177 + t179;
+		final double t186 = KP354604887 * t0;
+		final double t187 = re0 - t186;
+		final double t188 = KP354604887 * t1;
+		final double t189 = im0 - t188;
+		final double t190 = KP935016243 * t2;
+		final double t191 = KP935016243 * t3;
+		final double t192 = KP748510748 * t6;
+		final double t193 = t187 - t192;
+		final double t194 = KP748510748 * t7;
+		final double t195 = t189 - t194;
+		final double t196 = KP663122658 * t8;
+		final double t197 = t190 - t196;
+		final double t198 = KP663122658 * t9;
+		final double t199 = t191 - t198;
+		final double t200 = KP885456026 * t12;
+		final double t201 = t193 + t200;
+		final double t202 = KP885456026 * t13;
+		final double t203 = t195 + t202;
+		final double t204 = KP464723172 * t14;
+		final double t205 = t197 - t204;
+		final double t206 = KP464723172 * t15;
+		final double t207 = t199 - t206;
+		final double t208 = KP120536680 * t18;
+		final double t209 = t201 + t208;
+		final double t210 = KP120536680 * t19;
+		final double t211 = t203 + t210;
+		final double t212 = KP992708874 * t20;
+		final double t213 = t205 + t212;
+		final double t214 = KP992708874 * t21;
+		final double t215 = t207 + t214;
+		final double t216 = KP970941817 * t24;
+		final double t217 = t209 - t216;
+		final double t218 = KP970941817 * t25;
+		final double t219 = t211 - t218;
+		final double t220 = KP239315664 * t26;
+		final double t221 = t213 - t220;
+		final double t222 = KP239315664 * t27;
+		final double t223 = t215 - t222;
+		final double t224 = KP568064747 * t30;
+		final double t225 = t217 + t224;
+		final double t226 = KP568064747 * t31;
+		final double t227 = t219 + t226;
+		final double t228 = KP822983866 * t32;
+		final double t229 = t221 - t228;
+		final double t230 = KP822983866 * t33;
+		final double t231 = t223 - t230;
+		final double t232 = t225 + t231;
+		final double t233 = t227 - t229;
+		final double t234 = t225 - t231;
+		final double t235 = t227 + t229;
+		final double t236 = KP748510748 * t0;
+		final double t237 = re0 - t236;
+		final double t238 = KP748510748 * t1;
+		final double t239 = im0 - t238;
+		final double t240 = KP663122658 * t2;
+		final double t241 = KP663122658 * t3;
+		final double t242 = KP120536680 * t6;
+		final double t243 = t237 + t242;
+		final double t244 = KP120536680 * t7;
+		final double t245 = t239 + t244;
+		final double t246 = KP992708874 * t8;
+		final double t247 = t240 - t246;
+		final double t248 = KP992708874 * t9;
+		final double t249 = t241 - t248;
+		final double t250 = KP568064747 * t12;
+		final double t251 = t243 + t250;
+		final double t252 = KP568064747 * t13;
+		final double t253 = t245 + t252;
+		final double t254 = KP822983866 * t14;
+		final double t255 = t247 + t254;
+		final double t256 = KP822983866 * t15;
+		final double t257 = t249 + t256;
+		final double t258 = KP970941817 * t18;
+		final double t259 = t251 - t258;
+		final double t260 = KP970941817 * t19;
+		final double t261 = t253 - t260;
+		final double t262 = KP239315664 * t20;
+		final double t263 = t255 - t262;
+		final double t264 = KP239315664 * t21;
+		final double t265 = t257 - t264;
+		final double t266 = KP885456026 * t24;
+		final double t267 = t259 + t266;
+		final double t268 = KP885456026 * t25;
+		final double t269 = t261 + t268;
+		final double t270 = KP464723172 * t26;
+		final double t271 = t263 - t270;
+		final double t272 = KP464723172 * t27;
+		final double t273 = t265 - t272;
+		final double t274 = KP354604887 * t30;
+		final double t275 = t267 - t274;
+		final double t276 = KP354604887 * t31;
+		final double t277 = t269 - t276;
+		final double t278 = KP935016243 * t32;
+		final double t279 = t271 + t278;
+		final double t280 = KP935016243 * t33;
+		final double t281 = t273 + t280;
+		final double t282 = t275 + t281;
+		final double t283 = t277 - t279;
+		final double t284 = t275 - t281;
+		final double t285 = t277 + t279;
+		final double t286 = KP970941817 * t0;
+		final double t287 = re0 - t286;
+		final double t288 = KP970941817 * t1;
+		final double t289 = im0 - t288;
+		final double t290 = KP239315664 * t2;
+		final double t291 = KP239315664 * t3;
+		final double t292 = KP885456026 * t6;
+		final double t293 = t287 + t292;
+		final double t294 = KP885456026 * t7;
+		final double t295 = t289 + t294;
+		final double t296 = KP464723172 * t8;
+		final double t297 = t290 - t296;
+		final double t298 = KP464723172 * t9;
+		final double t299 = t291 - t298;
+		final double t300 = KP748510748 * t12;
+		final double t301 = t293 - t300;
+		final double t302 = KP748510748 * t13;
+		final double t303 = t295 - t302;
+		final double t304 = KP663122658 * t14;
+		final double t305 = t297 + t304;
+		final double t306 = KP663122658 * t15;
+		final double t307 = t299 + t306;
+		final double t308 = KP568064747 * t18;
+		final double t309 = t301 + t308;
+		final double t310 = KP568064747 * t19;
+		final double t311 = t303 + t310;
+		final double t312 = KP822983866 * t20;
+		final double t313 = t305 - t312;
+		final double t314 = KP822983866 * t21;
+		final double t315 = t307 - t314;
+		final double t316 = KP354604887 * t24;
+		final double t317 = t309 - t316;
+		final double t318 = KP354604887 * t25;
+		final double t319 = t311 - t318;
+		final double t320 = KP935016243 * t26;
+		final double t321 = t313 + t320;
+		final double t322 = KP935016243 * t27;
+		final double t323 = t315 + t322;
+		final double t324 = KP120536680 * t30;
+		final double t325 = t317 + t324;
+		final double t326 = KP120536680 * t31;
+		final double t327 = t319 + t326;
+		final double t328 = KP992708874 * t32;
+		final double t329 = t321 - t328;
+		final double t330 = KP992708874 * t33;
+		final double t331 = t323 - t330;
+		final double t332 = t325 + t331;
+		final double t333 = t327 - t329;
+		final double t334 = t325 - t331;
+		final double t335 = t327 + t329;
+
+		out_re[ out_off ] = t34;
+		out_im[ out_off ] = t35;
+		out_re[ out_off + out_stride ] = t82;
+		out_im[ out_off + out_stride ] = t83;
+		out_re[ out_off + 2 * out_stride ] = t132;
+		out_im[ out_off + 2 * out_stride ] = t133;
+		out_re[ out_off + 3 * out_stride ] = t182;
+		out_im[ out_off + 3 * out_stride ] = t183;
+		out_re[ out_off + 4 * out_stride ] = t232;
+		out_im[ out_off + 4 * out_stride ] = t233;
+		out_re[ out_off + 5 * out_stride ] = t282;
+		out_im[ out_off + 5 * out_stride ] = t283;
+		out_re[ out_off + 6 * out_stride ] = t332;
+		out_im[ out_off + 6 * out_stride ] = t333;
+		out_re[ out_off + 7 * out_stride ] = t334;
+		out_im[ out_off + 7 * out_stride ] = t335;
+		out_re[ out_off + 8 * out_stride ] = t284;
+		out_im[ out_off + 8 * out_stride ] = t285;
+		out_re[ out_off + 9 * out_stride ] = t234;
+		out_im[ out_off + 9 * out_stride ] = t235;
+		out_re[ out_off + 10 * out_stride ] = t184;
+		out_im[ out_off + 10 * out_stride ] = t185;
+		out_re[ out_off + 11 * out_stride ] = t134;
+		out_im[ out_off + 11 * out_stride ] = t135;
+		out_re[ out_off + 12 * out_stride ] = t84;
+		out_im[ out_off + 12 * out_stride ] = t85;
+	}
+
+
+	/**
+	 * Size 13: 90 additions, 72 multiplications.
+	 */
+	private static void realForward13( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+
+		final double t0 = x1 + x12;
+		final double t1 = x1 - x12;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x11;
+		final double t4 = x2 - x11;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x10;
+		final double t7 = x3 - x10;
+		final double t8 = t5 + t6;
+		final double t9 = x4 + x9;
+		final double t10 = x4 - x9;
+		final double t11 = t8 + t9;
+		final double t12 = x5 + x8;
+		final double t13 = x5 - x8;
+		final double t14 = t11 + t12;
+		final double t15 = x6 + x7;
+		final double t16 = x6 - x7;
+		final double t17 = t14 + t15;
+		final double t18 = KP885456026 * t0;
+		final double t19 = x0 + t18;
+		final double t20 = KP464723172 * t1;
+		final double t21 = KP568064747 * t3;
+		final double t22 = t19 + t21;
+		final double t23 = KP822983866 * t4;
+		final double t24 = t20 + t23;
+		final double t25 = KP120536680 * t6;
+		final double t26 = t22 + t25;
+		final double t27 = KP992708874 * t7;
+		final double t28 = t24 + t27;
+		final double t29 = KP354604887 * t9;
+		final double t30 = t26 - t29;
+		final double t31 = KP935016243 * t10;
+		final double t32 = t28 + t31;
+		final double t33 = KP748510748 * t12;
+		final double t34 = t30 - t33;
+		final double t35 = KP663122658 * t13;
+		final double t36 = t32 + t35;
+		final double t37 = KP970941817 * t15;
+		final double t38 = t34 - t37;
+		final double t39 = KP239315664 * t16;
+		final double t40 = t36 + t39;
+		final double t41 = KP568064747 * t0;
+		final double t42 = x0 + t41;
+		final double t43 = KP822983866 * t1;
+		final double t44 = KP354604887 * t3;
+		final double t45 = t42 - t44;
+		final double t46 = KP935016243 * t4;
+		final double t47 = t43 + t46;
+		final double t48 = KP970941817 * t6;
+		final double t49 = t45 - t48;
+		final double t50 = KP239315664 * t7;
+		final double t51 = t47 + t50;
+		final double t52 = KP748510748 * t9;
+		final double t53 = t49 - t52;
+		final double t54 = KP663122658 * t10;
+		final double t55 = t51 - t54;
+		final double t56 = KP120536680 * t12;
+		final double t57 = t53 + t56;
+		final double t58 = KP992708874 * t13;
+		final double t59 = t55 - t58;
+		final double t60 = KP885456026 * t15;
+		final double t61 = t57 + t60;
+		final double t62 = KP464723172 * t16;
+		final double t63 = t59 - t62;
+		final double t64 = t62 - t59;
+		final double t65 = KP120536680 * t0;
+		final double t66 = x0 + t65;
+		final double t67 = KP992708874 * t1;
+		final double t68 = KP970941817 * t3;
+		final double t69 = t66 - t68;
+		final double t70 = KP239315664 * t4;
+		final double t71 = t67 + t70;
+		final double t72 = KP354604887 * t6;
+		final double t73 = t69 - t72;
+		final double t74 = KP935016243 * t7;
+		final double t75 = t71 - t74;
+		final double t76 = KP885456026 * t9;
+		final double t77 = t73 + t76;
+		final double t78 = KP464723172 * t10;
+		final double t79 = t75 - t78;
+		final double t80 = KP568064747 * t12;
+		final double t81 = t77 + t80;
+		final double t82 = KP822983866 * t13;
+		final double t83 = t79 + t82;
+		final double t84 = KP748510748 * t15;
+		final double t85 = t81 - t84;
+		final double t86 = KP663122658 * t16;
+		final double t87 = t83 + t86;
+		final double t88 = KP354604887 * t0;
+		final double t89 = x0 - t88;
+		final double t90 = KP935016243 * t1;
+		final double t91 = KP748510748 * t3;
+		final double t92 = t89 - t91;
+		final double t93 = KP663122658 * t4;
+		final double t94 = t90 - t93;
+		final double t95 = KP885456026 * t6;
+		final double t96 = t92 + t95;
+		final double t97 = KP464723172 * t7;
+		final double t98 = t94 - t97;
+		final double t99 = KP120536680 * t9;
+		final double t100 = t96 + t99;
+		final double t101 = KP992708874 * t10;
+		final double t102 = t98 + t101;
+		final double t103 = KP970941817 * t12;
+		final double t104 = t100 - t103;
+		final double t105 = KP239315664 * t13;
+		final double t106 = t102 - t105;
+		final double t107 = KP568064747 * t15;
+		final double t108 = t104 + t107;
+		final double t109 = KP822983866 * t16;
+		final double t110 = t106 - t109;
+		final double t111 = t109 - t106;
+		final double t112 = KP748510748 * t0;
+		final double t113 = x0 - t112;
+		final double t114 = KP663122658 * t1;
+		final double t115 = KP120536680 * t3;
+		final double t116 = t113 + t115;
+		final double t117 = KP992708874 * t4;
+		final double t118 = t114 - t117;
+		final double t119 = KP568064747 * t6;
+		final double t120 = t116 + t119;
+		final double t121 = KP822983866 * t7;
+		final double t122 = t118 + t121;
+		final double t123 = KP970941817 * t9;
+		final double t124 = t120 - t123;
+		final double t125 = KP239315664 * t10;
+		final double t126 = t122 - t125;
+		final double t127 = KP885456026 * t12;
+		final double t128 = t124 + t127;
+		final double t129 = KP464723172 * t13;
+		final double t130 = t126 - t129;
+		final double t131 = KP354604887 * t15;
+		final double t132 = t128 - t131;
+		final double t133 = KP935016243 * t16;
+		final double t134 = t130 + t133;
+		final double t135 = KP970941817 * t0;
+		final double t136 = x0 - t135;
+		final double t137 = KP239315664 * t1;
+		final double t138 = KP885456026 * t3;
+		final double t139 = t136 + t138;
+		final double t140 = KP464723172 * t4;
+		final double t141 = t137 - t140;
+		final double t142 = KP748510748 * t6;
+		final double t143 = t139 - t142;
+		final double t144 = KP663122658 * t7;
+		final double t145 = t141 + t144;
+		final double t146 = KP568064747 * t9;
+		final double t147 = t143 + t146;
+		final double t148 = KP822983866 * t10;
+		final double t149 = t145 - t148;
+		final double t150 = KP354604887 * t12;
+		final double t151 = t147 - t150;
+		final double t152 = KP935016243 * t13;
+		final double t153 = t149 + t152;
+		final double t154 = KP120536680 * t15;
+		final double t155 = t151 + t154;
+		final double t156 = KP992708874 * t16;
+		final double t157 = t153 - t156;
+		final double t158 = t156 - t153;
+
+		out_re[ out_off ] = t17;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t38;
+		out_im[ out_off + out_stride ] = -t40;
+		out_re[ out_off + 2 * out_stride ] = t61;
+		out_im[ out_off + 2 * out_stride ] = t64;
+		out_re[ out_off + 3 * out_stride ] = t85;
+		out_im[ out_off + 3 * out_stride ] = -t87;
+		out_re[ out_off + 4 * out_stride ] = t108;
+		out_im[ out_off + 4 * out_stride ] = t111;
+		out_re[ out_off + 5 * out_stride ] = t132;
+		out_im[ out_off + 5 * out_stride ] = -t134;
+		out_re[ out_off + 6 * out_stride ] = t155;
+		out_im[ out_off + 6 * out_stride ] = t158;
+		out_re[ out_off + 7 * out_stride ] = t155;
+		out_im[ out_off + 7 * out_stride ] = t157;
+		out_re[ out_off + 8 * out_stride ] = t132;
+		out_im[ out_off + 8 * out_stride ] = t134;
+		out_re[ out_off + 9 * out_stride ] = t108;
+		out_im[ out_off + 9 * out_stride ] = t110;
+		out_re[ out_off + 10 * out_stride ] = t85;
+		out_im[ out_off + 10 * out_stride ] = t87;
+		out_re[ out_off + 11 * out_stride ] = t61;
+		out_im[ out_off + 11 * out_stride ] = t63;
+		out_re[ out_off + 12 * out_stride ] = t38;
+		out_im[ out_off + 12 * out_stride ] = t40;
+	}
+
+
+	/**
+	 * Size 13: 90 additions, 72 multiplications.
+	 */
+	private static void realBackward13( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+
+		final double t0 = x1 + x12;
+		final double t1 = x1 - x12;
+		final double t2 = x0 + t0;
+		final double t3 = x2 + x11;
+		final double t4 = x2 - x11;
+		final double t5 = t2 + t3;
+		final double t6 = x3 + x10;
+		final double t7 = x3 - x10;
+		final double t8 = t5 + t6;
+		final double t9 = x4 + x9;
+		final double t10 = x4 - x9;
+		final double t11 = t8 + t9;
+		final double t12 = x5 + x8;
+		final double t13 = x5 - x8;
+		final double t14 = t11 + t12;
+		final double t15 = x6 + x7;
+		final double t16 = x6 - x7;
+		final double t17 = t14 + t15;
+		final double t18 = KP885456026 * t0;
+		final double t19 = x0 + t18;
+		final double t20 = KP464723172 * t1;
+		final double t21 = KP568064747 * t3;
+		final double t22 = t19 + t21;
+		final double t23 = KP822983866 * t4;
+		final double t24 = t20 + t23;
+		final double t25 = KP120536680 * t6;
+		final double t26 = t22 + t25;
+		final double t27 = KP992708874 * t7;
+		final double t28 = t24 + t27;
+		final double t29 = KP354604887 * t9;
+		final double t30 = t26 - t29;
+		final double t31 = KP935016243 * t10;
+		final double t32 = t28 + t31;
+		final double t33 = KP748510748 * t12;
+		final double t34 = t30 - t33;
+		final double t35 = KP663122658 * t13;
+		final double t36 = t32 + t35;
+		final double t37 = KP970941817 * t15;
+		final double t38 = t34 - t37;
+		final double t39 = KP239315664 * t16;
+		final double t40 = t36 + t39;
+		final double t41 = KP568064747 * t0;
+		final double t42 = x0 + t41;
+		final double t43 = KP822983866 * t1;
+		final double t44 = KP354604887 * t3;
+		final double t45 = t42 - t44;
+		final double t46 = KP935016243 * t4;
+		final double t47 = t43 + t46;
+		final double t48 = KP970941817 * t6;
+		final double t49 = t45 - t48;
+		final double t50 = KP239315664 * t7;
+		final double t51 = t47 + t50;
+		final double t52 = KP748510748 * t9;
+		final double t53 = t49 - t52;
+		final double t54 = KP663122658 * t10;
+		final double t55 = t51 - t54;
+		final double t56 = KP120536680 * t12;
+		final double t57 = t53 + t56;
+		final double t58 = KP992708874 * t13;
+		final double t59 = t55 - t58;
+		final double t60 = KP885456026 * t15;
+		final double t61 = t57 + t60;
+		final double t62 = KP464723172 * t16;
+		final double t63 = t59 - t62;
+		final double t64 = t62 - t59;
+		final double t65 = KP120536680 * t0;
+		final double t66 = x0 + t65;
+		final double t67 = KP992708874 * t1;
+		final double t68 = KP970941817 * t3;
+		final double t69 = t66 - t68;
+		final double t70 = KP239315664 * t4;
+		final double t71 = t67 + t70;
+		final double t72 = KP354604887 * t6;
+		final double t73 = t69 - t72;
+		final double t74 = KP935016243 * t7;
+		final double t75 = t71 - t74;
+		final double t76 = KP885456026 * t9;
+		final double t77 = t73 + t76;
+		final double t78 = KP464723172 * t10;
+		final double t79 = t75 - t78;
+		final double t80 = KP568064747 * t12;
+		final double t81 = t77 + t80;
+		final double t82 = KP822983866 * t13;
+		final double t83 = t79 + t82;
+		final double t84 = KP748510748 * t15;
+		final double t85 = t81 - t84;
+		final double t86 = KP663122658 * t16;
+		final double t87 = t83 + t86;
+		final double t88 = KP354604887 * t0;
+		final double t89 = x0 - t88;
+		final double t90 = KP935016243 * t1;
+		final double t91 = KP748510748 * t3;
+		final double t92 = t89 - t91;
+		final double t93 = KP663122658 * t4;
+		final double t94 = t90 - t93;
+		final double t95 = KP885456026 * t6;
+		final double t96 = t92 + t95;
+		final double t97 = KP464723172 * t7;
+		final double t98 = t94 - t97;
+		final double t99 = KP120536680 * t9;
+		final double t100 = t96 + t99;
+		final double t101 = KP992708874 * t10;
+		final double t102 = t98 + t101;
+		final double t103 = KP970941817 * t12;
+		final double t104 = t100 - t103;
+		final double t105 = KP239315664 * t13;
+		final double t106 = t102 - t105;
+		final double t107 = KP568064747 * t15;
+		final double t108 = t104 + t107;
+		final double t109 = KP822983866 * t16;
+		final double t110 = t106 - t109;
+		final double t111 = t109 - t106;
+		final double t112 = KP748510748 * t0;
+		final double t113 = x0 - t112;
+		final double t114 = KP663122658 * t1;
+		final double t115 = KP120536680 * t3;
+		final double t116 = t113 + t115;
+		final double t117 = KP992708874 * t4;
+		final double t118 = t114 - t117;
+		final double t119 = KP568064747 * t6;
+		final double t120 = t116 + t119;
+		final double t121 = KP822983866 * t7;
+		final double t122 = t118 + t121;
+		final double t123 = KP970941817 * t9;
+		final double t124 = t120 - t123;
+		final double t125 = KP239315664 * t10;
+		final double t126 = t122 - t125;
+		final double t127 = KP885456026 * t12;
+		final double t128 = t124 + t127;
+		final double t129 = KP464723172 * t13;
+		final double t130 = t126 - t129;
+		final double t131 = KP354604887 * t15;
+		final double t132 = t128 - t131;
+		final double t133 = KP935016243 * t16;
+		final double t134 = t130 + t133;
+		final double t135 = KP970941817 * t0;
+		final double t136 = x0 - t135;
+		final double t137 = KP239315664 * t1;
+		final double t138 = KP885456026 * t3;
+		final double t139 = t136 + t138;
+		final double t140 = KP464723172 * t4;
+		final double t141 = t137 - t140;
+		final double t142 = KP748510748 * t6;
+		final double t143 = t139 - t142;
+		final double t144 = KP663122658 * t7;
+		final double t145 = t141 + t144;
+		final double t146 = KP568064747 * t9;
+		final double t147 = t143 + t146;
+		final double t148 = KP822983866 * t10;
+		final double t149 = t145 - t148;
+		final double t150 = KP354604887 * t12;
+		final double t151 = t147 - t150;
+		final double t152 = KP935016243 * t13;
+		final double t153 = t149 + t152;
+		final double t154 = KP120536680 * t15;
+		final double t155 = t151 + t154;
+		final double t156 = KP992708874 * t16;
+		final double t157 = t153 - t156;
+		final double t158 = t156 - t153;
+
+		out_re[ out_off ] = t17;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t38;
+		out_im[ out_off + out_stride ] = t40;
+		out_re[ out_off + 2 * out_stride ] = t61;
+		out_im[ out_off + 2 * out_stride ] = t63;
+		out_re[ out_off + 3 * out_stride ] = t85;
+		out_im[ out_off + 3 * out_stride ] = t87;
+		out_re[ out_off + 4 * out_stride ] = t108;
+		out_im[ out_off + 4 * out_stride ] = t110;
+		out_re[ out_off + 5 * out_stride ] = t132;
+		out_im[ out_off + 5 * out_stride ] = t134;
+		out_re[ out_off + 6 * out_stride ] = t155;
+		out_im[ out_off + 6 * out_stride ] = t157;
+		out_re[ out_off + 7 * out_stride ] = t155;
+		out_im[ out_off + 7 * out_stride ] = t158;
+		out_re[ out_off + 8 * out_stride ] = t132;
+		out_im[ out_off + 8 * out_stride ] = -t134;
+		out_re[ out_off + 9 * out_stride ] = t108;
+		out_im[ out_off + 9 * out_stride ] = t111;
+		out_re[ out_off + 10 * out_stride ] = t85;
+		out_im[ out_off + 10 * out_stride ] = -t87;
+		out_re[ out_off + 11 * out_stride ] = t61;
+		out_im[ out_off + 11 * out_stride ] = t64;
+		out_re[ out_off + 12 * out_stride ] = t38;
+		out_im[ out_off + 12 * out_stride ] = -t40;
+	}
+
+
+	/**
+	 * Size 14: 148 additions, 72 multiplications.
+	 */
+	private static void complexForward14( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+		final double re10 = in_re[ in_off + 10 * in_stride ];
+		final double im10 = in_im[ in_off + 10 * in_stride ];
+		final double re11 = in_re[ in_off + 11 * in_stride ];
+		final double im11 = in_im[ in_off + 11 * in_stride ];
+		final double re12 = in_re[ in_off + 12 * in_stride ];
+		final double im12 = in_im[ in_off + 12 * in_stride ];
+		final double re13 = in_re[ in_off + 13 * in_stride ];
+		final double im13 = in_im[ in_off + 13 * in_stride ];
+
+		final double t0 = re0 - re7;
+		final double t1 = im0 - im7;
+		final double t2 = re0 + re7;
+		final double t3 = im0 + im7;
+		final double t4 = re2 - re9;
+		final double t5 = im2 - im9;
+		final double t6 = re2 + re9;
+		final double t7 = im2 + im9;
+		final double t8 = re4 - re11;
+		final double t9 = im4 - im11;
+		final double t10 = re4 + re11;
+		final double t11 = im4 + im11;
+		final double t12 = re6 - re13;
+		final double t13 = im6 - im13;
+		final double t14 = re6 + re13;
+		final double t15 = im6 + im13;
+		final double t16 = re8 - re1;
+		final double t17 = im8 - im1;
+		final double t18 = re1 + re8;
+		final double t19 = im1 + im8;
+		final double t20 = re10 - re3;
+		final double t21 = im10 - im3;
+		final double t22 = re3 + re10;
+		final double t23 = im3 + im10;
+		final double t24 = re12 - re5;
+		final double t25 = im12 - im5;
+		final double t26 = re5 + re12;
+		final double t27 = im5 + im12;
+		final double t28 = t6 + t26;
+		final double t29 = t7 + t27;
+		final double t30 = t6 - t26;
+		final double t31 = t7 - t27;
+		final double t32 = t2 + t28;
+		final double t33 = t3 + t29;
+		final double t34 = t10 + t22;
+		final double t35 = t11 + t23;
+		final double t36 = t10 - t22;
+		final double t37 = t11 - t23;
+		final double t38 = t32 + t34;
+		final double t39 = t33 + t35;
+		final double t40 = t14 + t18;
+		final double t41 = t15 + t19;
+		final double t42 = t14 - t18;
+		final double t43 = t15 - t19;
+		final double t44 = t38 + t40;
+		final double t45 = t39 + t41;
+		final double t46 = KP623489802 * t28;
+		final double t47 = t2 + t46;
+		final double t48 = KP623489802 * t29;
+		final double t49 = t3 + t48;
+		final double t50 = KP781831482 * t30;
+		final double t51 = KP781831482 * t31;
+		final double t52 = KP222520934 * t34;
+		final double t53 = t47 - t52;
+		final double t54 = KP222520934 * t35;
+		final double t55 = t49 - t54;
+		final double t56 = KP974927912 * t36;
+		final double t57 = t50 + t56;
+		final double t58 = KP974927912 * t37;
+		final double t59 = t51 + t58;
+		final double t60 = KP900968868 * t40;
+		final double t61 = t53 - t60;
+		final double t62 = KP900968868 * t41;
+		final double t63 = t55 - t62;
+		final double t64 = KP433883739 * t42;
+		final double t65 = t57 + t64;
+		final double t66 = KP433883739 * t43;
+		final double t67 = t59 + t66;
+		final double t68 = t61 + t67;
+		final double t69 = t63 - t65;
+		final double t70 = t61 - t67;
+		final double t71 = t63 + t65;
+		final double t72 = KP222520934 * t28;
+		final double t73 = t2 - t72;
+		final double t74 = KP222520934 * t29;
+		final double t75 = t3 - t74;
+		final double t76 = KP974927912 * t30;
+		final double t77 = KP974927912 * t31;
+		final double t78 = KP900968868 * t34;
+		final double t79 = t73 - t78;
+		final double t80 = KP900968868 * t35;
+		final double t81 = t75 - t80;
+		final double t82 = KP433883739 * t36;
+		final double t83 = t76 - t82;
+		final double t84 = KP433883739 * t37;
+		final double t85 = t77 - t84;
+		final double t86 = KP623489802 * t40;
+		final double t87 = t79 + t86;
+		final double t88 = KP623489802 * t41;
+		final double t89 = t81 + t88;
+		final double t90 = KP781831482 * t42;
+		final double t91 = t83 - t90;
+		final double t92 = KP781831482 * t43;
+		final double t93 = t85 - t92;
+		final double t94 = t87 + t93;
+		final double t95 = t89 - t91;
+		final double t96 = t87 - t93;
+		final double t97 = t89 + t91;
+		final double t98 = KP900968868 * t28;
+		final double t99 = t2 - t98;
+		final double t100 = KP900968868 * t29;
+		final double t101 = t3 - t100;
+		final double t102 = KP433883739 * t30;
+		final double t103 = KP433883739 * t31;
+		final double t104 = KP623489802 * t34;
+		final double t105 = t99 + t104;
+		final double t106 = KP623489802 * t35;
+		final double t107 = t101 + t106;
+		final double t108 = KP781831482 * t36;
+		final double t109 = t102 - t108;
+		final double t110 = KP781831482 * t37;
+		final double t111 = t103 - t110;
+		final double t112 = KP222520934 * t40;
+		final double t113 = t105 - t112;
+		final double t114 = KP222520934 * t41;
+		final double t115 = t107 - t114;
+		final double t116 = KP974927912 * t42;
+		final double t117 = t109 + t116;
+		final double t118 = KP974927912 * t43;
+		final double t119 = t111 + t118;
+		final double t120 = t113 + t119;
+		final double t121 = t115 - t117;
+		final double t122 = t113 - t119;
+		final double t123 = t115 + t117;
+		final double t124 = t4 + t24;
+		final double t125 = t5 + t25;
+		final double t126 = t4 - t24;
+		final double t127 = t5 - t25;
+		final double t128 = t0 + t124;
+		final double t129 = t1 + t125;
+		final double t130 = t8 + t20;
+		final double t131 = t9 + t21;
+		final double t132 = t8 - t20;
+		final double t133 = t9 - t21;
+		final double t134 = t128 + t130;
+		final double t135 = t129 + t131;
+		final double t136 = t12 + t16;
+		final double t137 = t13 + t17;
+		final double t138 = t12 - t16;
+		final double t139 = t13 - t17;
+		final double t140 = t134 + t136;
+		final double t141 = t135 + t137;
+		final double t142 = KP623489802 * t124;
+		final double t143 = t0 + t142;
+		final double t144 = KP623489802 * t125;
+		final double t145 = t1 + t144;
+		final double t146 = KP781831482 * t126;
+		final double t147 = KP781831482 * t127;
+		final double t148 = KP222520934 * t130;
+		final double t149 = t143 - t148;
+		final double t150 = KP222520934 * t131;
+		final double t151 = t145 - t150;
+		final double t152 = KP974927912 * t132;
+		final double t153 = t146 + t152;
+		final double t154 = KP974927912 * t133;
+		final double t155 = t147 + t154;
+		final double t156 = KP900968868 * t136;
+		final double t157 = t149 - t156;
+		final double t158 = KP900968868 * t137;
+		final double t159 = t151 - t158;
+		final double t160 = KP433883739 * t138;
+		final double t161 = t153 + t160;
+		final double t162 = KP433883739 * t139;
+		final double t163 = t155 + t162;
+		final double t164 = t157 + t163;
+		final double t165 = t159 - t161;
+		final double t166 = t157 - t163;
+		final double t167 = t159 + t161;
+		final double t168 = KP222520934 * t124;
+		final double t169 = t0 - t168;
+		final double t170 = KP222520934 * t125;
+		final double t171 = t1 - t170;
+		final double t172 = KP974927912 * t126;
+		final double t173 = KP974927912 * t127;
+		final double t174 = KP900968868 * t130;
+		final double t175 = t169 - t174;
+		final double t176 = KP900968868 * t131;
+		final double t177 = t171 - t176;
+		final double t178 = KP433883739 * t132;
+		final double t179 = t172 - t178;
+		final double t180 = KP433883739 * t133;
+		final double t181 = t173 - t180;
+		final double t182 = KP623489802 * t136;
+		final double t183 = t175 + t182;
+		final double t184 = KP623489802 * t137;
+		final double t185 = t177 + t184;
+		final double t186 = KP781831482 * t138;
+		final double t187 = t179 - t186;
+		final double t188 = KP781831482 * t139;
+		final double t189 = t181 - t188;
+		final double t190 = t183 + t189;
+		final double t191 = t185 - t187;
+		final double t192 = t183 - t189;
+		final double t193 = t185 + t187;
+		final double t194 = KP900968868 * t124;
+		final double t195 = t0 - t194;
+		final double t196 = KP900968868 * t125;
+		final double t197 = t1 - t196;
+		final double t198 = KP433883739 * t126;
+		final double t199 = KP433883739 * t127;
+		final double t200 = KP623489802 * t130;
+		final double t201 = t195 + t200;
+		final double t202 = KP623489802 * t131;
+		final double t203 = t197 + t202;
+		final double t204 = KP781831482 * t132;
+		final double t205 = t198 - t204;
+		final double t206 = KP781831482 * t133;
+		final double t207 = t199 - t206;
+		final double t208 = KP222520934 * t136;
+		final double t209 = t201 - t208;
+		final double t210 = KP222520934 * t137;
+		final double t211 = t203 - t210;
+		final double t212 = KP974927912 * t138;
+		final double t213 = t205 + t212;
+		final double t214 = KP974927912 * t139;
+		final double t215 = t207 + t214;
+		final double t216 = t209 + t215;
+		final double t217 = t211 - t213;
+		final double t218 = t209 - t215;
+		final double t219 = t211 + t213;
+
+		out_re[ out_off ] = t44;
+		out_im[ out_off ] = t45;
+		out_re[ out_off + out_stride ] = t164;
+		out_im[ out_off + out_stride ] = t165;
+		out_re[ out_off + 2 * out_stride ] = t94;
+		out_im[ out_off + 2 * out_stride ] = t95;
+		out_re[ out_off + 3 * out_stride ] = t216;
+		out_im[ out_off + 3 * out_stride ] = t217;
+		out_re[ out_off + 4 * out_stride ] = t122;
+		out_im[ out_off + 4 * out_stride ] = t123;
+		out_re[ out_off + 5 * out_stride ] = t192;
+		out_im[ out_off + 5 * out_stride ] = t193;
+		out_re[ out_off + 6 * out_stride ] = t70;
+		out_im[ out_off + 6 * out_stride ] = t71;
+		out_re[ out_off + 7 * out_stride ] = t140;
+		out_im[ out_off + 7 * out_stride ] = t141;
+		out_re[ out_off + 8 * out_stride ] = t68;
+		out_im[ out_off + 8 * out_stride ] = t69;
+		out_re[ out_off + 9 * out_stride ] = t190;
+		out_im[ out_off + 9 * out_stride ] = t191;
+		out_re[ out_off + 10 * out_stride ] = t120;
+		out_im[ out_off + 10 * out_stride ] = t121;
+		out_re[ out_off + 11 * out_stride ] = t218;
+		out_im[ out_off + 11 * out_stride ] = t219;
+		out_re[ out_off + 12 * out_stride ] = t96;
+		out_im[ out_off + 12 * out_stride ] = t97;
+		out_re[ out_off + 13 * out_stride ] = t166;
+		out_im[ out_off + 13 * out_stride ] = t167;
+	}
+
+
+	/**
+	 * Size 14: 68 additions, 36 multiplications.
+	 */
+	private static void realForward14( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+		final double x13 = in[ in_off + 13 * in_stride ];
+
+		final double t0 = x0 - x7;
+		final double t1 = x0 + x7;
+		final double t2 = x2 - x9;
+		final double t3 = x2 + x9;
+		final double t4 = x4 - x11;
+		final double t5 = x4 + x11;
+		final double t6 = x6 - x13;
+		final double t7 = x6 + x13;
+		final double t8 = x8 - x1;
+		final double t9 = x1 + x8;
+		final double t10 = x10 - x3;
+		final double t11 = x3 + x10;
+		final double t12 = x12 - x5;
+		final double t13 = x5 + x12;
+		final double t14 = t3 + t13;
+		final double t15 = t3 - t13;
+		final double t16 = t1 + t14;
+		final double t17 = t5 + t11;
+		final double t18 = t5 - t11;
+		final double t19 = t16 + t17;
+		final double t20 = t7 + t9;
+		final double t21 = t7 - t9;
+		final double t22 = t19 + t20;
+		final double t23 = KP623489802 * t14;
+		final double t24 = t1 + t23;
+		final double t25 = KP781831482 * t15;
+		final double t26 = KP222520934 * t17;
+		final double t27 = t24 - t26;
+		final double t28 = KP974927912 * t18;
+		final double t29 = t25 + t28;
+		final double t30 = KP900968868 * t20;
+		final double t31 = t27 - t30;
+		final double t32 = KP433883739 * t21;
+		final double t33 = t29 + t32;
+		final double t34 = KP222520934 * t14;
+		final double t35 = t1 - t34;
+		final double t36 = KP974927912 * t15;
+		final double t37 = KP900968868 * t17;
+		final double t38 = t35 - t37;
+		final double t39 = KP433883739 * t18;
+		final double t40 = t36 - t39;
+		final double t41 = KP623489802 * t20;
+		final double t42 = t38 + t41;
+		final double t43 = KP781831482 * t21;
+		final double t44 = t40 - t43;
+		final double t45 = t43 - t40;
+		final double t46 = KP900968868 * t14;
+		final double t47 = t1 - t46;
+		final double t48 = KP433883739 * t15;
+		final double t49 = KP623489802 * t17;
+		final double t50 = t47 + t49;
+		final double t51 = KP781831482 * t18;
+		final double t52 = t48 - t51;
+		final double t53 = KP222520934 * t20;
+		final double t54 = t50 - t53;
+		final double t55 = KP974927912 * t21;
+		final double t56 = t52 + t55;
+		final double t57 = t2 + t12;
+		final double t58 = t2 - t12;
+		final double t59 = t0 + t57;
+		final double t60 = t4 + t10;
+		final double t61 = t4 - t10;
+		final double t62 = t59 + t60;
+		final double t63 = t6 + t8;
+		final double t64 = t6 - t8;
+		final double t65 = t62 + t63;
+		final double t66 = KP623489802 * t57;
+		final double t67 = t0 + t66;
+		final double t68 = KP781831482 * t58;
+		final double t69 = KP222520934 * t60;
+		final double t70 = t67 - t69;
+		final double t71 = KP974927912 * t61;
+		final double t72 = t68 + t71;
+		final double t73 = KP900968868 * t63;
+		final double t74 = t70 - t73;
+		final double t75 = KP433883739 * t64;
+		final double t76 = t72 + t75;
+		final double t77 = KP222520934 * t57;
+		final double t78 = t0 - t77;
+		final double t79 = KP974927912 * t58;
+		final double t80 = KP900968868 * t60;
+		final double t81 = t78 - t80;
+		final double t82 = KP433883739 * t61;
+		final double t83 = t79 - t82;
+		final double t84 = KP623489802 * t63;
+		final double t85 = t81 + t84;
+		final double t86 = KP781831482 * t64;
+		final double t87 = t83 - t86;
+		final double t88 = t86 - t83;
+		final double t89 = KP900968868 * t57;
+		final double t90 = t0 - t89;
+		final double t91 = KP433883739 * t58;
+		final double t92 = KP623489802 * t60;
+		final double t93 = t90 + t92;
+		final double t94 = KP781831482 * t61;
+		final double t95 = t91 - t94;
+		final double t96 = KP222520934 * t63;
+		final double t97 = t93 - t96;
+		final double t98 = KP974927912 * t64;
+		final double t99 = t95 + t98;
+
+		out_re[ out_off ] = t22;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t74;
+		out_im[ out_off + out_stride ] = -t76;
+		out_re[ out_off + 2 * out_stride ] = t42;
+		out_im[ out_off + 2 * out_stride ] = t45;
+		out_re[ out_off + 3 * out_stride ] = t97;
+		out_im[ out_off + 3 * out_stride ] = -t99;
+		out_re[ out_off + 4 * out_stride ] = t54;
+		out_im[ out_off + 4 * out_stride ] = t56;
+		out_re[ out_off + 5 * out_stride ] = t85;
+		out_im[ out_off + 5 * out_stride ] = t87;
+		out_re[ out_off + 6 * out_stride ] = t31;
+		out_im[ out_off + 6 * out_stride ] = t33;
+		out_re[ out_off + 7 * out_stride ] = t65;
+		out_im[ out_off + 7 * out_stride ] = 0.0;
+		out_re[ out_off + 8 * out_stride ] = t31;
+		out_im[ out_off + 8 * out_stride ] = -t33;
+		out_re[ out_off + 9 * out_stride ] = t85;
+		out_im[ out_off + 9 * out_stride ] = t88;
+		out_re[ out_off + 10 * out_stride ] = t54;
+		out_im[ out_off + 10 * out_stride ] = -t56;
+		out_re[ out_off + 11 * out_stride ] = t97;
+		out_im[ out_off + 11 * out_stride ] = t99;
+		out_re[ out_off + 12 * out_stride ] = t42;
+		out_im[ out_off + 12 * out_stride ] = t44;
+		out_re[ out_off + 13 * out_stride ] = t74;
+		out_im[ out_off + 13 * out_stride ] = t76;
+	}
+
+
+	/**
+	 * Size 14: 68 additions, 36 multiplications.
+	 */
+	private static void realBackward14( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+		final double x13 = in[ in_off + 13 * in_stride ];
+
+		final double t0 = x0 - x7;
+		final double t1 = x0 + x7;
+		final double t2 = x2 - x9;
+		final double t3 = x2 + x9;
+		final double t4 = x4 - x11;
+		final double t5 = x4 + x11;
+		final double t6 = x6 - x13;
+		final double t7 = x6 + x13;
+		final double t8 = x8 - x1;
+		final double t9 = x1 + x8;
+		final double t10 = x10 - x3;
+		final double t11 = x3 + x10;
+		final double t12 = x12 - x5;
+		final double t13 = x5 + x12;
+		final double t14 = t3 + t13;
+		final double t15 = t3 - t13;
+		final double t16 = t1 + t14;
+		final double t17 = t5 + t11;
+		final double t18 = t5 - t11;
+		final double t19 = t16 + t17;
+		final double t20 = t7 + t9;
+		final double t21 = t7 - t9;
+		final double t22 = t19 + t20;
+		final double t23 = KP623489802 * t14;
+		final double t24 = t1 + t23;
+		final double t25 = KP781831482 * t15;
+		final double t26 = KP222520934 * t17;
+		final double t27 = t24 - t26;
+		final double t28 = KP974927912 * t18;
+		final double t29 = t25 + t28;
+		final double t30 = KP900968868 * t20;
+		final double t31 = t27 - t30;
+		final double t32 = KP433883739 * t21;
+		final double t33 = t29 + t32;
+		final double t34 = KP222520934 * t14;
+		final double t35 = t1 - t34;
+		final double t36 = KP974927912 * t15;
+		final double t37 = KP900968868 * t17;
+		final double t38 = t35 - t37;
+		final double t39 = KP433883739 * t18;
+		final double t40 = t36 - t39;
+		final double t41 = KP623489802 * t20;
+		final double t42 = t38 + t41;
+		final double t43 = KP781831482 * t21;
+		final double t44 = t40 - t43;
+		final double t45 = t43 - t40;
+		final double t46 = KP900968868 * t14;
+		final double t47 = t1 - t46;
+		final double t48 = KP433883739 * t15;
+		final double t49 = KP623489802 * t17;
+		final double t50 = t47 + t49;
+		final double t51 = KP781831482 * t18;
+		final double t52 = t48 - t51;
+		final double t53 = KP222520934 * t20;
+		final double t54 = t50 - t53;
+		final double t55 = KP974927912 * t21;
+		final double t56 = t52 + t55;
+		final double t57 = t2 + t12;
+		final double t58 = t2 - t12;
+		final double t59 = t0 + t57;
+		final double t60 = t4 + t10;
+		final double t61 = t4 - t10;
+		final double t62 = t59 + t60;
+		final double t63 = t6 + t8;
+		final double t64 = t6 - t8;
+		final double t65 = t62 + t63;
+		final double t66 = KP623489802 * t57;
+		final double t67 = t0 + t66;
+		final double t68 = KP781831482 * t58;
+		final double t69 = KP222520934 * t60;
+		final double t70 = t67 - t69;
+		final double t71 = KP974927912 * t61;
+		final double t72 = t68 + t71;
+		final double t73 = KP900968868 * t63;
+		final double t74 = t70 - t73;
+		final double t75 = KP433883739 * t64;
+		final double t76 = t72 + t75;
+		final double t77 = KP222520934 * t57;
+		final double t78 = t0 - t77;
+		final double t79 = KP974927912 * t58;
+		final double t80 = KP900968868 * t60;
+		final double t81 = t78 - t80;
+		final double t82 = KP433883739 * t61;
+		final double t83 = t79 - t82;
+		final double t84 = KP623489802 * t63;
+		final double t85 = t81 + t84;
+		final double t86 = KP781831482 * t64;
+		final double t87 = t83 - t86;
+		final double t88 = t86 - t83;
+		final double t89 = KP900968868 * t57;
+		final double t90 = t0 - t89;
+		final double t91 = KP433883739 * t58;
+		final double t92 = KP623489802 * t60;
+		final double t93 = t90 + t92;
+		final double t94 = KP781831482 * t61;
+		final double t95 = t91 - t94;
+		final double t96 = KP222520934 * t63;
+		final double t97 = t93 - t96;
+		final double t98 = KP974927912 * t64;
+		final double t99 = t95 + t98;
+
+		out_re[ out_off ] = t22;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t74;
+		out_im[ out_off + out_stride ] = t76;
+		out_re[ out_off + 2 * out_stride ] = t42;
+		out_im[ out_off + 2 * out_stride ] = t44;
+		out_re[ out_off + 3 * out_stride ] = t97;
+		out_im[ out_off + 3 * out_stride ] = t99;
+		out_re[ out_off + 4 * out_stride ] = t54;
+		out_im[ out_off + 4 * out_stride ] = -t56;
+		out_re[ out_off + 5 * out_stride ] = t85;
+		out_im[ out_off + 5 * out_stride ] = t88;
+		out_re[ out_off + 6 * out_stride ] = t31;
+		out_im[ out_off + 6 * out_stride ] = -t33;
+		out_re[ out_off + 7 * out_stride ] = t65;
+		out_im[ out_off + 7 * out_stride ] = 0.0;
+		out_re[ out_off + 8 * out_stride ] = t31;
+		out_im[ out_off + 8 * out_stride ] = t33;
+		out_re[ out_off + 9 * out_stride ] = t85;
+		out_im[ out_off + 9 * out_stride ] = t87;
+		out_re[ out_off + 10 * out_stride ] = t54;
+		out_im[ out_off + 10 * out_stride ] = t56;
+		out_re[ out_off + 11 * out_stride ] = t97;
+		out_im[ out_off + 11 * out_stride ] = -t99;
+		out_re[ out_off + 12 * out_stride ] = t42;
+		out_im[ out_off + 12 * out_stride ] = t45;
+		out_re[ out_off + 13 * out_stride ] = t74;
+		out_im[ out_off + 13 * out_stride ] = -t76;
+	}
+
+
+	/**
+	 * Size 15: 156 additions, 68 multiplications.
+	 */
+	private static void complexForward15( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+		final double re10 = in_re[ in_off + 10 * in_stride ];
+		final double im10 = in_im[ in_off + 10 * in_stride ];
+		final double re11 = in_re[ in_off + 11 * in_stride ];
+		final double im11 = in_im[ in_off + 11 * in_stride ];
+		final double re12 = in_re[ in_off + 12 * in_stride ];
+		final double im12 = in_im[ in_off + 12 * in_stride ];
+		final double re13 = in_re[ in_off + 13 * in_stride ];
+		final double im13 = in_im[ in_off + 13 * in_stride ];
+		final double re14 = in_re[ in_off + 14 * in_stride ];
+		final double im14 = in_im[ in_off + 14 * in_stride ];
+
+		final double t0 = re5 + re10;
+		final double t1 = im5 + im10;
+		final double t2 = re5 - re10;
+		final double t3 = im5 - im10;
+		final double t4 = re0 + t0;
+		final double t5 = im0 + t1;
+		final double t6 = KP500000000 * t0;
+		final double t7 = re0 - t6;
+		final double t8 = KP500000000 * t1;
+		final double t9 = im0 - t8;
+		final double t10 = KP866025404 * t2;
+		final double t11 = KP866025404 * t3;
+		final double t12 = t7 + t11;
+		final double t13 = t9 - t10;
+		final double t14 = t7 - t11;
+		final double t15 = t9 + t10;
+		final double t16 = re8 + re13;
+		final double t17 = im8 + im13;
+		final double t18 = re8 - re13;
+		final double t19 = im8 - im13;
+		final double t20 = re3 + t16;
+		final double t21 = im3 + t17;
+		final double t22 = KP500000000 * t16;
+		final double t23 = re3 - t22;
+		final double t24 = KP500000000 * t17;
+		final double t25 = im3 - t24;
+		final double t26 = KP866025404 * t18;
+		final double t27 = KP866025404 * t19;
+		final double t28 = t23 + t27;
+		final double t29 = t25 - t26;
+		final double t30 = t23 - t27;
+		final double t31 = t25 + t26;
+		final double t32 = re1 + re11;
+		final double t33 = im1 + im11;
+		final double t34 = re11 - re1;
+		final double t35 = im11 - im1;
+		final double t36 = re6 + t32;
+		final double t37 = im6 + t33;
+		final double t38 = KP500000000 * t32;
+		final double t39 = re6 - t38;
+		final double t40 = KP500000000 * t33;
+		final double t41 = im6 - t40;
+		final double t42 = KP866025404 * t34;
+		final double t43 = KP866025404 * t35;
+		final double t44 = t39 + t43;
+		final double t45 = t41 - t42;
+		final double t46 = t39 - t43;
+		final double t47 = t41 + t42;
+		final double t48 = re4 + re14;
+		final double t49 = im4 + im14;
+		final double t50 = re14 - re4;
+		final double t51 = im14 - im4;
+		final double t52 = re9 + t48;
+		final double t53 = im9 + t49;
+		final double t54 = KP500000000 * t48;
+		final double t55 = re9 - t54;
+		final double t56 = KP500000000 * t49;
+		final double t57 = im9 - t56;
+		final double t58 = KP866025404 * t50;
+		final double t59 = KP866025404 * t51;
+		final double t60 = t55 + t59;
+		final double t61 = t57 - t58;
+		final double t62 = t55 - t59;
+		final double t63 = t57 + t58;
+		final double t64 = re2 + re7;
+		final double t65 = im2 + im7;
+		final double t66 = re2 - re7;
+		final double t67 = im2 - im7;
+		final double t68 = re12 + t64;
+		final double t69 = im12 + t65;
+		final double t70 = KP500000000 * t64;
+		final double t71 = re12 - t70;
+		final double t72 = KP500000000 * t65;
+		final double t73 = im12 - t72;
+		final double t74 = KP866025404 * t66;
+		final double t75 = KP866025404 * t67;
+		final double t76 = t71 + t75;
+		final double t77 = t73 - t74;
+		final double t78 = t71 - t75;
+		final double t79 = t73 + t74;
+		final double t80 = t20 + t68;
+		final double t81 = t21 + t69;
+		final double t82 = t20 - t68;
+		final double t83 = t21 - t69;
+		final double t84 = t4 + t80;
+		final double t85 = t5 + t81;
+		final double t86 = t36 + t52;
+		final double t87 = t37 + t53;
+		final double t88 = t36 - t52;
+		final double t89 = t37 - t53;
+		final double t90 = t84 + t86;
+		final double t91 = t85 + t87;
+		final double t92 = KP309016994 * t80;
+		final double t93 = t4 + t92;
+		final double t94 = KP309016994 * t81;
+		final double t95 = t5 + t94;
+		final double t96 = KP951056516 * t82;
+		final double t97 = KP951056516 * t83;
+		final double t98 = KP809016994 * t86;
+		final double t99 = t93 - t98;
+		final double t100 = KP809016994 * t87;
+		final double t101 = t95 - t100;
+		final double t102 = KP587785252 * t88;
+		final double t103 = t96 + t102;
+		final double t104 = KP587785252 * t89;
+		final double t105 = t97 + t104;
+		final double t106 = t99 + t105;
+		final double t107 = t101 - t103;
+		final double t108 = t99 - t105;
+		final double t109 = t101 + t103;
+		final double t110 = KP809016994 * t80;
+		final double t111 = t4 - t110;
+		final double t112 = KP809016994 * t81;
+		final double t113 = t5 - t112;
+		final double t114 = KP587785252 * t82;
+		final double t115 = KP587785252 * t83;
+		final double t116 = KP309016994 * t86;
+		final double t117 = t111 + t116;
+		final double t118 = KP309016994 * t87;
+		final double t119 = t113 + t118;
+		final double t120 = KP951056516 * t88;
+		final double t121 = t114 - t120;
+		final double t122 = KP951056516 * t89;
+		final double t123 = t115 - t122;
+		final double t124 = t117 + t123;
+		final double t125 = t119 - t121;
+		final double t126 = t117 - t123;
+		final double t127 = t119 + t121;
+		final double t128 = t28 + t76;
+		final double t129 = t29 + t77;
+		final double t130 = t28 - t76;
+		final double t131 = t29 - t77;
+		final double t132 = t12 + t128;
+		final double t133 = t13 + t129;
+		final double t134 = t44 + t60;
+		final double t135 = t45 + t61;
+		final double t136 = t44 - t60;
+		final double t137 = t45 - t61;
+		final double t138 = t132 + t134;
+		final double t139 = t133 + t135;
+		final double t140 = KP309016994 * t128;
+		final double t141 = t12 + t140;
+		final double t142 = KP309016994 * t129;
+		final double t143 = t13 + t142;
+		final double t144 = KP951056516 * t130;
+		final double t145 = KP951056516 * t131;
+		final double t146 = KP809016994 * t134;
+		final double t147 = t141 - t146;
+		final double t148 = KP809016994 * t135;
+		final double t149 = t143 - t148;
+		final double t150 = KP587785252 * t136;
+		final double t151 = t144 + t150;
+		final double t152 = KP587785252 * t137;
+		final double t153 = t145 + t152;
+		final double t154 = t147 + t153;
+		final double t155 = t149 - t151;
+		final double t156 = t147 - t153;
+		final double t157 = t149 + t151;
+		final double t158 = KP809016994 * t128;
+		final double t159 = t12 - t158;
+		final double t160 = KP809016994 * t129;
+		final double t161 = t13 - t160;
+		final double t162 = KP587785252 * t130;
+		final double t163 = KP587785252 * t131;
+		final double t164 = KP309016994 * t134;
+		final double t165 = t159 + t164;
+		final double t166 = KP309016994 * t135;
+		final double t167 = t161 + t166;
+		final double t168 = KP951056516 * t136;
+		final double t169 = t162 - t168;
+		final double t170 = KP951056516 * t137;
+		final double t171 = t163 - t170;
+		final double t172 = t165 + t171;
+		final double t173 = t167 - t169;
+		final double t174 = t165 - t171;
+		final double t175 = t167 + t169;
+		final double t176 = t30 + t78;
+		final double t177 = t31 + t79;
+		final double t178 = t30 - t78;
+		final double t179 = t31 - t79;
+		final double t180 = t14 + t176;
+		final double t181 = t15 + t177;
+		final double t182 = t46 + t62;
+		final double t183 = t47 + t63;
+		final double t184 = t46 - t62;
+		final double t185 = t47 - t63;
+		final double t186 = t180 + t182;
+		final double t187 = t181 + t183;
+		final double t188 = KP309016994 * t176;
+		final double t189 = t14 + t188;
+		final double t190 = KP309016994 * t177;
+		final double t191 = t15 + t190;
+		final double t192 = KP951056516 * t178;
+		final double t193 = KP951056516 * t179;
+		final double t194 = KP809016994 * t182;
+		final double t195 = t189 - t194;
+		final double t196 = KP809016994 * t183;
+		final double t197 = t191 - t196;
+		final double t198 = KP587785252 * t184;
+		final double t199 = t192 + t198;
+		final double t200 = KP587785252 * t185;
+		final double t201 = t193 + t200;
+		final double t202 = t195 + t201;
+		final double t203 = t197 - t199;
+		final double t204 = t195 - t201;
+		final double t205 = t197 + t199;
+		final double t206 = KP809016994 * t176;
+		final double t207 = t14 - t206;
+		final double t208 = KP809016994 * t177;
+		final double t209 = t15 - t208;
+		final double t210 = KP587785252 * t178;
+		final double t211 = KP587785252 * t179;
+		final double t212 = KP309016994 * t182;
+		final double t213 = t207 + t212;
+		final double t214 = KP309016994 * t183;
+		final double t215 = t209 + t214;
+		final double t216 = KP951056516 * t184;
+		final double t217 = t210 - t216;
+		final double t218 = KP951056516 * t185;
+		final double t219 = t211 - t218;
+		final double t220 = t213 + t219;
+		final double t221 = t215 - t217;
+		final double t222 = t213 - t219;
+		final double t223 = t215 + t217;
+
+		out_re[ out_off ] = t90;
+		out_im[ out_off ] = t91;
+		out_re[ out_off + out_stride ] = t154;
+		out_im[ out_off + out_stride ] = t155;
+		out_re[ out_off + 2 * out_stride ] = t220;
+		out_im[ out_off + 2 * out_stride ] = t221;
+		out_re[ out_off + 3 * out_stride ] = t126;
+		out_im[ out_off + 3 * out_stride ] = t127;
+		out_re[ out_off + 4 * out_stride ] = t156;
+		out_im[ out_off + 4 * out_stride ] = t157;
+		out_re[ out_off + 5 * out_stride ] = t186;
+		out_im[ out_off + 5 * out_stride ] = t187;
+		out_re[ out_off + 6 * out_stride ] = t106;
+		out_im[ out_off + 6 * out_stride ] = t107;
+		out_re[ out_off + 7 * out_stride ] = t172;
+		out_im[ out_off + 7 * out_stride ] = t173;
+		out_re[ out_off + 8 * out_stride ] = t222;
+		out_im[ out_off + 8 * out_stride ] = t223;
+		out_re[ out_off + 9 * out_stride ] = t108;
+		out_im[ out_off + 9 * out_stride ] = t109;
+		out_re[ out_off + 10 * out_stride ] = t138;
+		out_im[ out_off + 10 * out_stride ] = t139;
+		out_re[ out_off + 11 * out_stride ] = t202;
+		out_im[ out_off + 11 * out_stride ] = t203;
+		out_re[ out_off + 12 * out_stride ] = t124;
+		out_im[ out_off + 12 * out_stride ] = t125;
+		out_re[ out_off + 13 * out_stride ] = t174;
+		out_im[ out_off + 13 * out_stride ] = t175;
+		out_re[ out_off + 14 * out_stride ] = t204;
+		out_im[ out_off + 14 * out_stride ] = t205;
+	}
+
+
+	/**
+	 * Size 15: 82 additions, 38 multiplications.
+	 */
+	private static void realForward15( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+		final double x13 = in[ in_off + 13 * in_stride ];
+		final double x14 = in[ in_off + 14 * in_stride ];
+
+		final double t0 = x5 + x10;
+		final double t1 = x5 - x10;
+		final double t2 = x0 + t0;
+		final double t3 = KP500000000 * t0;
+		final double t4 = x0 - t3;
+		final double t5 = KP866025404 * t1;
+		final double t6 = x8 + x13;
+		final double t7 = x8 - x13;
+		final double t8 = x3 + t6;
+		final double t9 = KP500000000 * t6;
+		final double t10 = x3 - t9;
+		final double t11 = KP866025404 * t7;
+		final double t12 = x1 + x11;
+		final double t13 = x11 - x1;
+		final double t14 = x6 + t12;
+		final double t15 = KP500000000 * t12;
+		final double t16 = x6 - t15;
+		final double t17 = KP866025404 * t13;
+		final double t18 = x4 + x14;
+		final double t19 = x14 - x4;
+		final double t20 = x9 + t18;
+		final double t21 = KP500000000 * t18;
+		final double t22 = x9 - t21;
+		final double t23 = KP866025404 * t19;
+		final double t24 = x2 + x7;
+		final double t25 = x2 - x7;
+		final double t26 = x12 + t24;
+		final double t27 = KP500000000 * t24;
+		final double t28 = x12 - t27;
+		final double t29 = KP866025404 * t25;
+		final double t30 = t8 + t26;
+		final double t31 = t8 - t26;
+		final double t32 = t2 + t30;
+		final double t33 = t14 + t20;
+		final double t34 = t14 - t20;
+		final double t35 = t32 + t33;
+		final double t36 = KP309016994 * t30;
+		final double t37 = t2 + t36;
+		final double t38 = KP951056516 * t31;
+		final double t39 = KP809016994 * t33;
+		final double t40 = t37 - t39;
+		final double t41 = KP587785252 * t34;
+		final double t42 = t38 + t41;
+		final double t43 = KP809016994 * t30;
+		final double t44 = t2 - t43;
+		final double t45 = KP587785252 * t31;
+		final double t46 = KP309016994 * t33;
+		final double t47 = t44 + t46;
+		final double t48 = KP951056516 * t34;
+		final double t49 = t45 - t48;
+		final double t50 = t48 - t45;
+		final double t51 = t10 + t28;
+		final double t52 = t11 + t29;
+		final double t53 = t10 - t28;
+		final double t54 = t29 - t11;
+		final double t55 = t4 + t51;
+		final double t56 = t5 + t52;
+		final double t57 = t16 + t22;
+		final double t58 = t17 + t23;
+		final double t59 = t16 - t22;
+		final double t60 = t23 - t17;
+		final double t61 = t55 + t57;
+		final double t62 = t56 + t58;
+		final double t63 = KP309016994 * t51;
+		final double t64 = t4 + t63;
+		final double t65 = KP309016994 * t52;
+		final double t66 = t5 + t65;
+		final double t67 = KP951056516 * t53;
+		final double t68 = KP951056516 * t54;
+		final double t69 = KP809016994 * t57;
+		final double t70 = t64 - t69;
+		final double t71 = KP809016994 * t58;
+		final double t72 = t71 - t66;
+		final double t73 = KP587785252 * t59;
+		final double t74 = t67 + t73;
+		final double t75 = KP587785252 * t60;
+		final double t76 = t68 + t75;
+		final double t77 = t70 + t76;
+		final double t78 = t72 - t74;
+		final double t79 = t70 - t76;
+		final double t80 = t72 + t74;
+		final double t81 = KP809016994 * t51;
+		final double t82 = t4 - t81;
+		final double t83 = KP809016994 * t52;
+		final double t84 = t83 - t5;
+		final double t85 = KP587785252 * t53;
+		final double t86 = KP587785252 * t54;
+		final double t87 = KP309016994 * t57;
+		final double t88 = t82 + t87;
+		final double t89 = KP309016994 * t58;
+		final double t90 = t84 - t89;
+		final double t91 = KP951056516 * t59;
+		final double t92 = t85 - t91;
+		final double t93 = KP951056516 * t60;
+		final double t94 = t86 - t93;
+		final double t95 = t88 + t94;
+		final double t96 = t90 - t92;
+		final double t97 = t88 - t94;
+		final double t98 = t90 + t92;
+		final double t99 = t11 - t29;
+		final double t100 = t17 - t23;
+		final double t101 = KP951056516 * t99;
+		final double t102 = t66 - t71;
+		final double t103 = KP587785252 * t100;
+		final double t104 = t101 + t103;
+		final double t105 = t70 + t104;
+		final double t106 = t102 - t74;
+		final double t107 = t70 - t104;
+		final double t108 = t74 + t102;
+		final double t109 = t5 - t83;
+		final double t110 = KP587785252 * t99;
+		final double t111 = t89 + t109;
+		final double t112 = KP951056516 * t100;
+		final double t113 = t110 - t112;
+		final double t114 = t88 + t113;
+		final double t115 = t111 - t92;
+		final double t116 = t88 - t113;
+		final double t117 = t92 + t111;
+
+		out_re[ out_off ] = t35;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t77;
+		out_im[ out_off + out_stride ] = t78;
+		out_re[ out_off + 2 * out_stride ] = t114;
+		out_im[ out_off + 2 * out_stride ] = t115;
+		out_re[ out_off + 3 * out_stride ] = t47;
+		out_im[ out_off + 3 * out_stride ] = t49;
+		out_re[ out_off + 4 * out_stride ] = t79;
+		out_im[ out_off + 4 * out_stride ] = t80;
+		out_re[ out_off + 5 * out_stride ] = t61;
+		out_im[ out_off + 5 * out_stride ] = t62;
+		out_re[ out_off + 6 * out_stride ] = t40;
+		out_im[ out_off + 6 * out_stride ] = -t42;
+		out_re[ out_off + 7 * out_stride ] = t95;
+		out_im[ out_off + 7 * out_stride ] = t96;
+		out_re[ out_off + 8 * out_stride ] = t116;
+		out_im[ out_off + 8 * out_stride ] = t117;
+		out_re[ out_off + 9 * out_stride ] = t40;
+		out_im[ out_off + 9 * out_stride ] = t42;
+		out_re[ out_off + 10 * out_stride ] = t61;
+		out_im[ out_off + 10 * out_stride ] = -t62;
+		out_re[ out_off + 11 * out_stride ] = t105;
+		out_im[ out_off + 11 * out_stride ] = t106;
+		out_re[ out_off + 12 * out_stride ] = t47;
+		out_im[ out_off + 12 * out_stride ] = t50;
+		out_re[ out_off + 13 * out_stride ] = t97;
+		out_im[ out_off + 13 * out_stride ] = t98;
+		out_re[ out_off + 14 * out_stride ] = t107;
+		out_im[ out_off + 14 * out_stride ] = t108;
+	}
+
+
+	/**
+	 * Size 15: 86 additions, 38 multiplications.
+	 */
+	private static void realBackward15( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+		final double x13 = in[ in_off + 13 * in_stride ];
+		final double x14 = in[ in_off + 14 * in_stride ];
+
+		final double t0 = x5 + x10;
+		final double t1 = x5 - x10;
+		final double t2 = x0 + t0;
+		final double t3 = KP500000000 * t0;
+		final double t4 = x0 - t3;
+		final double t5 = KP866025404 * t1;
+		final double t6 = x8 + x13;
+		final double t7 = x8 - x13;
+		final double t8 = x3 + t6;
+		final double t9 = KP500000000 * t6;
+		final double t10 = x3 - t9;
+		final double t11 = KP866025404 * t7;
+		final double t12 = x1 + x11;
+		final double t13 = x11 - x1;
+		final double t14 = x6 + t12;
+		final double t15 = KP500000000 * t12;
+		final double t16 = x6 - t15;
+		final double t17 = KP866025404 * t13;
+		final double t18 = x4 + x14;
+		final double t19 = x14 - x4;
+		final double t20 = x9 + t18;
+		final double t21 = KP500000000 * t18;
+		final double t22 = x9 - t21;
+		final double t23 = KP866025404 * t19;
+		final double t24 = x2 + x7;
+		final double t25 = x2 - x7;
+		final double t26 = x12 + t24;
+		final double t27 = KP500000000 * t24;
+		final double t28 = x12 - t27;
+		final double t29 = KP866025404 * t25;
+		final double t30 = t8 + t26;
+		final double t31 = t8 - t26;
+		final double t32 = t2 + t30;
+		final double t33 = t14 + t20;
+		final double t34 = t14 - t20;
+		final double t35 = t32 + t33;
+		final double t36 = KP309016994 * t30;
+		final double t37 = t2 + t36;
+		final double t38 = KP951056516 * t31;
+		final double t39 = KP809016994 * t33;
+		final double t40 = t37 - t39;
+		final double t41 = KP587785252 * t34;
+		final double t42 = t38 + t41;
+		final double t43 = KP809016994 * t30;
+		final double t44 = t2 - t43;
+		final double t45 = KP587785252 * t31;
+		final double t46 = KP309016994 * t33;
+		final double t47 = t44 + t46;
+		final double t48 = KP951056516 * t34;
+		final double t49 = t45 - t48;
+		final double t50 = t48 - t45;
+		final double t51 = t10 + t28;
+		final double t52 = t11 + t29;
+		final double t53 = t10 - t28;
+		final double t54 = t29 - t11;
+		final double t55 = t4 + t51;
+		final double t56 = t5 + t52;
+		final double t57 = t16 + t22;
+		final double t58 = t17 + t23;
+		final double t59 = t16 - t22;
+		final double t60 = t23 - t17;
+		final double t61 = t55 + t57;
+		final double t62 = t56 + t58;
+		final double t63 = KP309016994 * t51;
+		final double t64 = t4 + t63;
+		final double t65 = KP309016994 * t52;
+		final double t66 = t5 + t65;
+		final double t67 = KP951056516 * t53;
+		final double t68 = KP951056516 * t54;
+		final double t69 = KP809016994 * t57;
+		final double t70 = t64 - t69;
+		final double t71 = KP809016994 * t58;
+		final double t72 = t71 - t66;
+		final double t73 = KP587785252 * t59;
+		final double t74 = t67 + t73;
+		final double t75 = KP587785252 * t60;
+		final double t76 = t68 + t75;
+		final double t77 = t70 + t76;
+		final double t78 = t70 - t76;
+		final double t79 = t72 + t74;
+		final double t80 = KP809016994 * t51;
+		final double t81 = t4 - t80;
+		final double t82 = KP809016994 * t52;
+		final double t83 = t82 - t5;
+		final double t84 = KP587785252 * t53;
+		final double t85 = KP587785252 * t54;
+		final double t86 = KP309016994 * t57;
+		final double t87 = t81 + t86;
+		final double t88 = KP309016994 * t58;
+		final double t89 = t83 - t88;
+		final double t90 = KP951056516 * t59;
+		final double t91 = t84 - t90;
+		final double t92 = KP951056516 * t60;
+		final double t93 = t85 - t92;
+		final double t94 = t87 + t93;
+		final double t95 = t87 - t93;
+		final double t96 = t89 + t91;
+		final double t97 = t11 - t29;
+		final double t98 = t17 - t23;
+		final double t99 = KP951056516 * t97;
+		final double t100 = t66 - t71;
+		final double t101 = KP587785252 * t98;
+		final double t102 = t99 + t101;
+		final double t103 = t70 + t102;
+		final double t104 = t70 - t102;
+		final double t105 = t74 + t100;
+		final double t106 = t5 - t82;
+		final double t107 = KP587785252 * t97;
+		final double t108 = t88 + t106;
+		final double t109 = KP951056516 * t98;
+		final double t110 = t107 - t109;
+		final double t111 = t87 + t110;
+		final double t112 = t87 - t110;
+		final double t113 = t91 + t108;
+		final double t114 = t74 - t72;
+		final double t115 = t91 - t108;
+		final double t116 = t91 - t89;
+		final double t117 = t74 - t100;
+
+		out_re[ out_off ] = t35;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t77;
+		out_im[ out_off + out_stride ] = t114;
+		out_re[ out_off + 2 * out_stride ] = t111;
+		out_im[ out_off + 2 * out_stride ] = t115;
+		out_re[ out_off + 3 * out_stride ] = t47;
+		out_im[ out_off + 3 * out_stride ] = t50;
+		out_re[ out_off + 4 * out_stride ] = t78;
+		out_im[ out_off + 4 * out_stride ] = -t79;
+		out_re[ out_off + 5 * out_stride ] = t61;
+		out_im[ out_off + 5 * out_stride ] = -t62;
+		out_re[ out_off + 6 * out_stride ] = t40;
+		out_im[ out_off + 6 * out_stride ] = t42;
+		out_re[ out_off + 7 * out_stride ] = t94;
+		out_im[ out_off + 7 * out_stride ] = t116;
+		out_re[ out_off + 8 * out_stride ] = t112;
+		out_im[ out_off + 8 * out_stride ] = -t113;
+		out_re[ out_off + 9 * out_stride ] = t40;
+		out_im[ out_off + 9 * out_stride ] = -t42;
+		out_re[ out_off + 10 * out_stride ] = t61;
+		out_im[ out_off + 10 * out_stride ] = t62;
+		out_re[ out_off + 11 * out_stride ] = t103;
+		out_im[ out_off + 11 * out_stride ] = t117;
+		out_re[ out_off + 12 * out_stride ] = t47;
+		out_im[ out_off + 12 * out_stride ] = t49;
+		out_re[ out_off + 13 * out_stride ] = t95;
+		out_im[ out_off + 13 * out_stride ] = -t96;
+		out_re[ out_off + 14 * out_stride ] = t104;
+		out_im[ out_off + 14 * out_stride ] = -t105;
+	}
+
+
+	/**
+	 * Size 16: 144 additions, 24 multiplications.
+	 */
+	private static void complexForward16( final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double re0 = in_re[ in_off ];
+		final double im0 = in_im[ in_off ];
+		final double re1 = in_re[ in_off + in_stride ];
+		final double im1 = in_im[ in_off + in_stride ];
+		final double re2 = in_re[ in_off + 2 * in_stride ];
+		final double im2 = in_im[ in_off + 2 * in_stride ];
+		final double re3 = in_re[ in_off + 3 * in_stride ];
+		final double im3 = in_im[ in_off + 3 * in_stride ];
+		final double re4 = in_re[ in_off + 4 * in_stride ];
+		final double im4 = in_im[ in_off + 4 * in_stride ];
+		final double re5 = in_re[ in_off + 5 * in_stride ];
+		final double im5 = in_im[ in_off + 5 * in_stride ];
+		final double re6 = in_re[ in_off + 6 * in_stride ];
+		final double im6 = in_im[ in_off + 6 * in_stride ];
+		final double re7 = in_re[ in_off + 7 * in_stride ];
+		final double im7 = in_im[ in_off + 7 * in_stride ];
+		final double re8 = in_re[ in_off + 8 * in_stride ];
+		final double im8 = in_im[ in_off + 8 * in_stride ];
+		final double re9 = in_re[ in_off + 9 * in_stride ];
+		final double im9 = in_im[ in_off + 9 * in_stride ];
+		final double re10 = in_re[ in_off + 10 * in_stride ];
+		final double im10 = in_im[ in_off + 10 * in_stride ];
+		final double re11 = in_re[ in_off + 11 * in_stride ];
+		final double im11 = in_im[ in_off + 11 * in_stride ];
+		final double re12 = in_re[ in_off + 12 * in_stride ];
+		final double im12 = in_im[ in_off + 12 * in_stride ];
+		final double re13 = in_re[ in_off + 13 * in_stride ];
+		final double im13 = in_im[ in_off + 13 * in_stride ];
+		final double re14 = in_re[ in_off + 14 * in_stride ];
+		final double im14 = in_im[ in_off + 14 * in_stride ];
+		final double re15 = in_re[ in_off + 15 * in_stride ];
+		final double im15 = in_im[ in_off + 15 * in_stride ];
+
+		final double t0 = re0 - re8;
+		final double t1 = im0 - im8;
+		final double t2 = re0 + re8;
+		final double t3 = im0 + im8;
+		final double t4 = im4 - im12;
+		final double t5 = re4 + re12;
+		final double t6 = im4 + im12;
+		final double t7 = re12 - re4;
+		final double t8 = t2 - t5;
+		final double t9 = t3 - t6;
+		final double t10 = t2 + t5;
+		final double t11 = t3 + t6;
+		final double t12 = t0 - t4;
+		final double t13 = t1 - t7;
+		final double t14 = t0 + t4;
+		final double t15 = t1 + t7;
+		final double t16 = re1 - re9;
+		final double t17 = im1 - im9;
+		final double t18 = re1 + re9;
+		final double t19 = im1 + im9;
+		final double t20 = im5 - im13;
+		final double t21 = re5 + re13;
+		final double t22 = im5 + im13;
+		final double t23 = re13 - re5;
+		final double t24 = t18 - t21;
+		final double t25 = t19 - t22;
+		final double t26 = t18 + t21;
+		final double t27 = t19 + t22;
+		final double t28 = t16 - t20;
+		final double t29 = t17 - t23;
+		final double t30 = t16 + t20;
+		final double t31 = t17 + t23;
+		final double t32 = KP923879533 * t30;
+		final double t33 = KP382683432 * t31;
+		final double t34 = t32 + t33;
+		final double t35 = KP923879533 * t31;
+		final double t36 = KP382683432 * t30;
+		final double t37 = t35 - t36;
+		final double t38 = t24 + t25;
+		final double t39 = t25 - t24;
+		final double t40 = KP707106781 * t38;
+		final double t41 = KP707106781 * t39;
+		final double t42 = KP382683432 * t28;
+		final double t43 = KP923879533 * t29;
+		final double t44 = t42 + t43;
+		final double t45 = KP382683432 * t29;
+		final double t46 = KP923879533 * t28;
+		final double t47 = t45 - t46;
+		final double t48 = re2 - re10;
+		final double t49 = im2 - im10;
+		final double t50 = re2 + re10;
+		final double t51 = im2 + im10;
+		final double t52 = im6 - im14;
+		final double t53 = re6 + re14;
+		final double t54 = im6 + im14;
+		final double t55 = re14 - re6;
+		final double t56 = t51 - t54;
+		final double t57 = t50 + t53;
+		final double t58 = t51 + t54;
+		final double t59 = t48 - t52;
+		final double t60 = t49 - t55;
+		final double t61 = t48 + t52;
+		final double t62 = t49 + t55;
+		final double t63 = t61 + t62;
+		final double t64 = t62 - t61;
+		final double t65 = KP707106781 * t63;
+		final double t66 = KP707106781 * t64;
+		final double t67 = t53 - t50;
+		final double t68 = t59 - t60;
+		final double t69 = t59 + t60;
+		final double t70 = KP707106781 * t68;
+		final double t71 = KP707106781 * t69;
+		final double t72 = re3 - re11;
+		final double t73 = im3 - im11;
+		final double t74 = re3 + re11;
+		final double t75 = im3 + im11;
+		final double t76 = im7 - im15;
+		final double t77 = re7 + re15;
+		final double t78 = im7 + im15;
+		final double t79 = re15 - re7;
+		final double t80 = t74 - t77;
+		final double t81 = t75 - t78;
+		final double t82 = t74 + t77;
+		final double t83 = t75 + t78;
+		final double t84 = t72 - t76;
+		final double t85 = t73 - t79;
+		final double t86 = t72 + t76;
+		final double t87 = t73 + t79;
+		final double t88 = KP382683432 * t86;
+		final double t89 = KP923879533 * t87;
+		final double t90 = t88 + t89;
+		final double t91 = KP382683432 * t87;
+		final double t92 = KP923879533 * t86;
+		final double t93 = t91 - t92;
+		final double t94 = t80 - t81;
+		final double t95 = t80 + t81;
+		final double t96 = KP707106781 * t94;
+		final double t97 = KP707106781 * t95;
+		final double t98 = KP923879533 * t84;
+		final double t99 = KP382683432 * t85;
+		final double t100 = t98 + t99;
+		final double t101 = KP923879533 * t85;
+		final double t102 = KP382683432 * t84;
+		final double t103 = t102 - t101;
+		final double t104 = t10 - t57;
+		final double t105 = t11 - t58;
+		final double t106 = t10 + t57;
+		final double t107 = t11 + t58;
+		final double t108 = t27 - t83;
+		final double t109 = t26 + t82;
+		final double t110 = t27 + t83;
+		final double t111 = t82 - t26;
+		final double t112 = t106 - t109;
+		final double t113 = t107 - t110;
+		final double t114 = t106 + t109;
+		final double t115 = t107 + t110;
+		final double t116 = t104 - t108;
+		final double t117 = t105 - t111;
+		final double t118 = t104 + t108;
+		final double t119 = t105 + t111;
+		final double t120 = t14 - t65;
+		final double t121 = t15 - t66;
+		final double t122 = t14 + t65;
+		final double t123 = t15 + t66;
+		final double t124 = t37 - t93;
+		final double t125 = t34 + t90;
+		final double t126 = t37 + t93;
+		final double t127 = t90 - t34;
+		final double t128 = t122 - t125;
+		final double t129 = t123 - t126;
+		final double t130 = t122 + t125;
+		final double t131 = t123 + t126;
+		final double t132 = t120 - t124;
+		final double t133 = t121 - t127;
+		final double t134 = t120 + t124;
+		final double t135 = t121 + t127;
+		final double t136 = t8 - t56;
+		final double t137 = t9 - t67;
+		final double t138 = t8 + t56;
+		final double t139 = t9 + t67;
+		final double t140 = t40 + t96;
+		final double t141 = t41 + t97;
+		final double t142 = t40 - t96;
+		final double t143 = t41 - t97;
+		final double t144 = t138 - t142;
+		final double t145 = t139 - t143;
+		final double t146 = t138 + t142;
+		final double t147 = t139 + t143;
+		final double t148 = t136 - t141;
+		final double t149 = t137 + t140;
+		final double t150 = t136 + t141;
+		final double t151 = t137 - t140;
+		final double t152 = t12 + t70;
+		final double t153 = t13 + t71;
+		final double t154 = t12 - t70;
+		final double t155 = t13 - t71;
+		final double t156 = t44 + t100;
+		final double t157 = t47 - t103;
+		final double t158 = t44 - t100;
+		final double t159 = t47 + t103;
+		final double t160 = t154 - t158;
+		final double t161 = t155 - t159;
+		final double t162 = t154 + t158;
+		final double t163 = t155 + t159;
+		final double t164 = t152 - t157;
+		final double t165 = t153 + t156;
+		final double t166 = t152 + t157;
+		final double t167 = t153 - t156;
+
+		out_re[ out_off ] = t114;
+		out_im[ out_off ] = t115;
+		out_re[ out_off + out_stride ] = t130;
+		out_im[ out_off + out_stride ] = t131;
+		out_re[ out_off + 2 * out_stride ] = t146;
+		out_im[ out_off + 2 * out_stride ] = t147;
+		out_re[ out_off + 3 * out_stride ] = t162;
+		out_im[ out_off + 3 * out_stride ] = t163;
+		out_re[ out_off + 4 * out_stride ] = t118;
+		out_im[ out_off + 4 * out_stride ] = t119;
+		out_re[ out_off + 5 * out_stride ] = t134;
+		out_im[ out_off + 5 * out_stride ] = t135;
+		out_re[ out_off + 6 * out_stride ] = t150;
+		out_im[ out_off + 6 * out_stride ] = t151;
+		out_re[ out_off + 7 * out_stride ] = t166;
+		out_im[ out_off + 7 * out_stride ] = t167;
+		out_re[ out_off + 8 * out_stride ] = t112;
+		out_im[ out_off + 8 * out_stride ] = t113;
+		out_re[ out_off + 9 * out_stride ] = t128;
+		out_im[ out_off + 9 * out_stride ] = t129;
+		out_re[ out_off + 10 * out_stride ] = t144;
+		out_im[ out_off + 10 * out_stride ] = t145;
+		out_re[ out_off + 11 * out_stride ] = t160;
+		out_im[ out_off + 11 * out_stride ] = t161;
+		out_re[ out_off + 12 * out_stride ] = t116;
+		out_im[ out_off + 12 * out_stride ] = t117;
+		out_re[ out_off + 13 * out_stride ] = t132;
+		out_im[ out_off + 13 * out_stride ] = t133;
+		out_re[ out_off + 14 * out_stride ] = t148;
+		out_im[ out_off + 14 * out_stride ] = t149;
+		out_re[ out_off + 15 * out_stride ] = t164;
+		out_im[ out_off + 15 * out_stride ] = t165;
+	}
+
+
+	/**
+	 * Size 16: 93 additions, 19 multiplications.
+	 */
+	private static void realForward16( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+		final double x13 = in[ in_off + 13 * in_stride ];
+		final double x14 = in[ in_off + 14 * in_stride ];
+		final double x15 = in[ in_off + 15 * in_stride ];
+
+		final double t0 = x0 - x8;
+		final double t1 = x0 + x8;
+		final double t2 = x4 - x12;
+		final double t3 = x4 + x12;
+		final double t4 = x12 - x4;
+		final double t5 = t1 - t3;
+		final double t6 = t1 + t3;
+		final double t7 = x1 - x9;
+		final double t8 = x1 + x9;
+		final double t9 = x5 - x13;
+		final double t10 = x5 + x13;
+		final double t11 = x13 - x5;
+		final double t12 = t8 - t10;
+		final double t13 = t8 + t10;
+		final double t14 = KP923879533 * t7;
+		final double t15 = KP382683432 * t11;
+		final double t16 = t14 + t15;
+		final double t17 = KP923879533 * t11;
+		final double t18 = KP382683432 * t7;
+		final double t19 = t17 - t18;
+		final double t20 = t10 - t8;
+		final double t21 = KP707106781 * t12;
+		final double t22 = KP707106781 * t20;
+		final double t23 = KP923879533 * t9;
+		final double t24 = t18 + t23;
+		final double t25 = KP382683432 * t9;
+		final double t26 = t25 - t14;
+		final double t27 = x2 - x10;
+		final double t28 = x2 + x10;
+		final double t29 = x6 - x14;
+		final double t30 = x6 + x14;
+		final double t31 = x14 - x6;
+		final double t32 = t28 - t30;
+		final double t33 = t28 + t30;
+		final double t34 = t27 + t31;
+		final double t35 = t31 - t27;
+		final double t36 = KP707106781 * t34;
+		final double t37 = KP707106781 * t35;
+		final double t38 = t30 - t28;
+		final double t39 = t27 - t29;
+		final double t40 = t27 + t29;
+		final double t41 = KP707106781 * t39;
+		final double t42 = KP707106781 * t40;
+		final double t43 = x3 - x11;
+		final double t44 = x3 + x11;
+		final double t45 = x7 - x15;
+		final double t46 = x7 + x15;
+		final double t47 = x15 - x7;
+		final double t48 = t44 - t46;
+		final double t49 = t44 + t46;
+		final double t50 = KP382683432 * t43;
+		final double t51 = KP923879533 * t47;
+		final double t52 = t50 + t51;
+		final double t53 = KP382683432 * t47;
+		final double t54 = KP923879533 * t43;
+		final double t55 = t53 - t54;
+		final double t56 = KP707106781 * t48;
+		final double t57 = KP382683432 * t45;
+		final double t58 = t54 + t57;
+		final double t59 = KP923879533 * t45;
+		final double t60 = t50 - t59;
+		final double t61 = t6 - t33;
+		final double t62 = t6 + t33;
+		final double t63 = t13 - t49;
+		final double t64 = t13 + t49;
+		final double t65 = t49 - t13;
+		final double t66 = t62 - t64;
+		final double t67 = t62 + t64;
+		final double t68 = t0 - t36;
+		final double t69 = t4 - t37;
+		final double t70 = t0 + t36;
+		final double t71 = t4 + t37;
+		final double t72 = t19 - t55;
+		final double t73 = t16 + t52;
+		final double t74 = t19 + t55;
+		final double t75 = t52 - t16;
+		final double t76 = t70 - t73;
+		final double t77 = t71 - t74;
+		final double t78 = t70 + t73;
+		final double t79 = t71 + t74;
+		final double t80 = t68 - t72;
+		final double t81 = t69 - t75;
+		final double t82 = t68 + t72;
+		final double t83 = t69 + t75;
+		final double t84 = t21 + t56;
+		final double t85 = t22 + t56;
+		final double t86 = t21 - t56;
+		final double t87 = t22 - t56;
+		final double t88 = t5 - t86;
+		final double t89 = t38 - t87;
+		final double t90 = t5 + t86;
+		final double t91 = t38 + t87;
+		final double t92 = t5 - t85;
+		final double t93 = t32 + t84;
+		final double t94 = t5 + t85;
+		final double t95 = t32 - t84;
+		final double t96 = t0 + t41;
+		final double t97 = t2 + t42;
+		final double t98 = t0 - t41;
+		final double t99 = t2 - t42;
+		final double t100 = t24 + t58;
+		final double t101 = t26 - t60;
+		final double t102 = t24 - t58;
+		final double t103 = t26 + t60;
+		final double t104 = t98 - t102;
+		final double t105 = t99 - t103;
+		final double t106 = t98 + t102;
+		final double t107 = t99 + t103;
+		final double t108 = t96 - t101;
+		final double t109 = t97 + t100;
+		final double t110 = t96 + t101;
+		final double t111 = t97 - t100;
+
+		out_re[ out_off ] = t67;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t78;
+		out_im[ out_off + out_stride ] = t79;
+		out_re[ out_off + 2 * out_stride ] = t90;
+		out_im[ out_off + 2 * out_stride ] = t91;
+		out_re[ out_off + 3 * out_stride ] = t106;
+		out_im[ out_off + 3 * out_stride ] = t107;
+		out_re[ out_off + 4 * out_stride ] = t61;
+		out_im[ out_off + 4 * out_stride ] = t65;
+		out_re[ out_off + 5 * out_stride ] = t82;
+		out_im[ out_off + 5 * out_stride ] = t83;
+		out_re[ out_off + 6 * out_stride ] = t94;
+		out_im[ out_off + 6 * out_stride ] = t95;
+		out_re[ out_off + 7 * out_stride ] = t110;
+		out_im[ out_off + 7 * out_stride ] = t111;
+		out_re[ out_off + 8 * out_stride ] = t66;
+		out_im[ out_off + 8 * out_stride ] = 0.0;
+		out_re[ out_off + 9 * out_stride ] = t76;
+		out_im[ out_off + 9 * out_stride ] = t77;
+		out_re[ out_off + 10 * out_stride ] = t88;
+		out_im[ out_off + 10 * out_stride ] = t89;
+		out_re[ out_off + 11 * out_stride ] = t104;
+		out_im[ out_off + 11 * out_stride ] = t105;
+		out_re[ out_off + 12 * out_stride ] = t61;
+		out_im[ out_off + 12 * out_stride ] = t63;
+		out_re[ out_off + 13 * out_stride ] = t80;
+		out_im[ out_off + 13 * out_stride ] = t81;
+		out_re[ out_off + 14 * out_stride ] = t92;
+		out_im[ out_off + 14 * out_stride ] = t93;
+		out_re[ out_off + 15 * out_stride ] = t108;
+		out_im[ out_off + 15 * out_stride ] = t109;
+	}
+
+
+	/**
+	 * Size 16: 99 additions, 19 multiplications.
+	 */
+	private static void realBackward16( final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride )
+	{
+		final double x0 = in[ in_off ];
+		final double x1 = in[ in_off + in_stride ];
+		final double x2 = in[ in_off + 2 * in_stride ];
+		final double x3 = in[ in_off + 3 * in_stride ];
+		final double x4 = in[ in_off + 4 * in_stride ];
+		final double x5 = in[ in_off + 5 * in_stride ];
+		final double x6 = in[ in_off + 6 * in_stride ];
+		final double x7 = in[ in_off + 7 * in_stride ];
+		final double x8 = in[ in_off + 8 * in_stride ];
+		final double x9 = in[ in_off + 9 * in_stride ];
+		final double x10 = in[ in_off + 10 * in_stride ];
+		final double x11 = in[ in_off + 11 * in_stride ];
+		final double x12 = in[ in_off + 12 * in_stride ];
+		final double x13 = in[ in_off + 13 * in_stride ];
+		final double x14 = in[ in_off + 14 * in_stride ];
+		final double x15 = in[ in_off + 15 * in_stride ];
+
+		final double t0 = x0 - x8;
+		final double t1 = x0 + x8;
+		final double t2 = x4 - x12;
+		final double t3 = x4 + x12;
+		final double t4 = x12 - x4;
+		final double t5 = t1 - t3;
+		final double t6 = t1 + t3;
+		final double t7 = x1 - x9;
+		final double t8 = x1 + x9;
+		final double t9 = x5 - x13;
+		final double t10 = x5 + x13;
+		final double t11 = x13 - x5;
+		final double t12 = t8 - t10;
+		final double t13 = t8 + t10;
+		final double t14 = KP923879533 * t7;
+		final double t15 = KP382683432 * t11;
+		final double t16 = t14 + t15;
+		final double t17 = KP923879533 * t11;
+		final double t18 = KP382683432 * t7;
+		final double t19 = t17 - t18;
+		final double t20 = t10 - t8;
+		final double t21 = KP707106781 * t12;
+		final double t22 = KP707106781 * t20;
+		final double t23 = KP923879533 * t9;
+		final double t24 = t18 + t23;
+		final double t25 = KP382683432 * t9;
+		final double t26 = t25 - t14;
+		final double t27 = x2 - x10;
+		final double t28 = x2 + x10;
+		final double t29 = x6 - x14;
+		final double t30 = x6 + x14;
+		final double t31 = x14 - x6;
+		final double t32 = t28 - t30;
+		final double t33 = t28 + t30;
+		final double t34 = t27 + t31;
+		final double t35 = t31 - t27;
+		final double t36 = KP707106781 * t34;
+		final double t37 = KP707106781 * t35;
+		final double t38 = t30 - t28;
+		final double t39 = t27 - t29;
+		final double t40 = t27 + t29;
+		final double t41 = KP707106781 * t39;
+		final double t42 = KP707106781 * t40;
+		final double t43 = x3 - x11;
+		final double t44 = x3 + x11;
+		final double t45 = x7 - x15;
+		final double t46 = x7 + x15;
+		final double t47 = x15 - x7;
+		final double t48 = t44 - t46;
+		final double t49 = t44 + t46;
+		final double t50 = KP382683432 * t43;
+		final double t51 = KP923879533 * t47;
+		final double t52 = t50 + t51;
+		final double t53 = KP382683432 * t47;
+		final double t54 = KP923879533 * t43;
+		final double t55 = t53 - t54;
+		final double t56 = KP707106781 * t48;
+		final double t57 = KP382683432 * t45;
+		final double t58 = t54 + t57;
+		final double t59 = KP923879533 * t45;
+		final double t60 = t50 - t59;
+		final double t61 = t6 - t33;
+		final double t62 = t6 + t33;
+		final double t63 = t13 - t49;
+		final double t64 = t13 + t49;
+		final double t65 = t49 - t13;
+		final double t66 = t62 - t64;
+		final double t67 = t62 + t64;
+		final double t68 = t0 - t36;
+		final double t69 = t4 - t37;
+		final double t70 = t0 + t36;
+		final double t71 = t4 + t37;
+		final double t72 = t19 - t55;
+		final double t73 = t16 + t52;
+		final double t74 = t19 + t55;
+		final double t75 = t52 - t16;
+		final double t76 = t70 - t73;
+		final double t77 = t70 + t73;
+		final double t78 = t71 + t74;
+		final double t79 = t68 - t72;
+		final double t80 = t68 + t72;
+		final double t81 = t69 + t75;
+		final double t82 = t21 + t56;
+		final double t83 = t22 + t56;
+		final double t84 = t21 - t56;
+		final double t85 = t22 - t56;
+		final double t86 = t5 - t84;
+		final double t87 = t5 + t84;
+		final double t88 = t38 + t85;
+		final double t89 = t5 - t83;
+		final double t90 = t32 + t82;
+		final double t91 = t5 + t83;
+		final double t92 = t0 + t41;
+		final double t93 = t2 + t42;
+		final double t94 = t0 - t41;
+		final double t95 = t2 - t42;
+		final double t96 = t24 + t58;
+		final double t97 = t26 - t60;
+		final double t98 = t24 - t58;
+		final double t99 = t26 + t60;
+		final double t100 = t94 - t98;
+		final double t101 = t94 + t98;
+		final double t102 = t95 + t99;
+		final double t103 = t92 - t97;
+		final double t104 = t93 + t96;
+		final double t105 = t92 + t97;
+		final double t106 = t82 - t32;
+		final double t107 = t96 - t93;
+		final double t108 = t74 - t71;
+		final double t109 = t85 - t38;
+		final double t110 = t99 - t95;
+		final double t111 = t75 - t69;
+
+		out_re[ out_off ] = t67;
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + out_stride ] = t77;
+		out_im[ out_off + out_stride ] = -t78;
+		out_re[ out_off + 2 * out_stride ] = t87;
+		out_im[ out_off + 2 * out_stride ] = -t88;
+		out_re[ out_off + 3 * out_stride ] = t101;
+		out_im[ out_off + 3 * out_stride ] = -t102;
+		out_re[ out_off + 4 * out_stride ] = t61;
+		out_im[ out_off + 4 * out_stride ] = t63;
+		out_re[ out_off + 5 * out_stride ] = t80;
+		out_im[ out_off + 5 * out_stride ] = -t81;
+		out_re[ out_off + 6 * out_stride ] = t91;
+		out_im[ out_off + 6 * out_stride ] = t106;
+		out_re[ out_off + 7 * out_stride ] = t105;
+		out_im[ out_off + 7 * out_stride ] = t107;
+		out_re[ out_off + 8 * out_stride ] = t66;
+		out_im[ out_off + 8 * out_stride ] = 0.0;
+		out_re[ out_off + 9 * out_stride ] = t76;
+		out_im[ out_off + 9 * out_stride ] = t108;
+		out_re[ out_off + 10 * out_stride ] = t86;
+		out_im[ out_off + 10 * out_stride ] = t109;
+		out_re[ out_off + 11 * out_stride ] = t100;
+		out_im[ out_off + 11 * out_stride ] = t110;
+		out_re[ out_off + 12 * out_stride ] = t61;
+		out_im[ out_off + 12 * out_stride ] = t65;
+		out_re[ out_off + 13 * out_stride ] = t79;
+		out_im[ out_off + 13 * out_stride ] = t111;
+		out_re[ out_off + 14 * out_stride ] = t89;
+		out_im[ out_off + 14 * out_stride ] = -t90;
+		out_re[ out_off + 15 * out_stride ] = t103;
+		out_im[ out_off + 15 * out_stride ] = -t104;
+	}
+
+
+
+}
@@ -50,6 +50,10 @@ import org.teneighty.fft.factor.DefaultFactorization;
  * <p>
  * You should not use this class for pure powers of two; use the specially
  * written class instead.
+ * <p>
+ * The twiddle factors and sub-transforms are never modified after
+ * construction; the matrices and re-indexers a transform works in are kept
+ * per thread, so one instance can be used by several threads at once.
  * 
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -86,41 +90,15 @@ public strictfp class CooleyTukeyFastFourierTransform
 	 */
 	private FourierTransform n2_transform;
 
-	/**
-	 * The arrays in which we will temporarily store everything, during the
-	 * comp_inner transform.
-	 */
-	private transient double[][] re, im;
-
 	/**
 	 * Twiddle factors.
 	 */
 	private transient double[][] twiddle_re, twiddle_im_for, twiddle_im_bak;
 
 	/**
-	 * Column major dope wrapper.
-	 */
-	private transient ColumnMajorComplexDopeVector col;
-
-	/**
-	 * Row major dope wrapper.
-	 */
-	private transient RowMajorComplexDopeVector row;
-
-	/**
-	 * Complex comp_inner re-indexer.
-	 */
-	private transient CooleyTukeyReIndexedComplexDopeVector comp_inner;
-
-	/**
-	 * Complex comp_inner re-indexer.
-	 */
-	private transient CooleyTukeyReIndexedRealDopeVector real_inner;
-
-	/**
-	 * Outer re-indexer.
+	 * Each thread's workspace.
 	 */
-	private transient CooleyTukeyReIndexedComplexDopeVector outer;
+	private transient ThreadLocal<Workspace> workspace;
 
 
 	/**
@@ -183,18 +161,18 @@ public strictfp class CooleyTukeyFastFourierTransform
 	 */
 	private void transientInit()
 	{
-		// create happy matrices.
-		this.re = new double[ this.cap_n1 ][ this.cap_n2 ];
-		this.im = new double[ this.cap_n1 ][ this.cap_n2 ];
+		final int n1 = this.cap_n1;
+		final int n2 = this.cap_n2;
 
-		// create dopes around matrices.
-		this.col = new ColumnMajorComplexDopeVector( this.re, this.im );
-		this.row = new RowMajorComplexDopeVector( this.re, this.im );
-
-		// create re-indexers.
-		this.comp_inner = new CooleyTukeyReIndexedComplexDopeVector( this.cap_n1, this.cap_n2 );
-		this.real_inner = new CooleyTukeyReIndexedRealDopeVector( this.cap_n1, this.cap_n2 );
-		this.outer = new CooleyTukeyReIndexedComplexDopeVector( this.cap_n2, this.cap_n1 );
+		// workspaces are created as threads first use this transform.
+		this.workspace = new ThreadLocal<Workspace>()
+		{
+			@Override
+			protected Workspace initialValue()
+			{
+				return ( new Workspace( n1, n2 ) );
+			}
+		};
 
 		// create twiddle factors and such.
 		this.createTwiddles();
@@ -263,17 +241,18 @@ public strictfp class CooleyTukeyFastFourierTransform
 		this.checkVectors( input, dest );		
 		this.checkDirection( dir );
 
-		this.comp_inner.setDelegate( input );
-		this.outer.setDelegate( dest );
+		final Workspace ws = this.workspace.get();
+		ws.comp_inner.setDelegate( input );
+		ws.outer.setDelegate( dest );
 
 		for( int index = 0; index < this.cap_n1; index++ )
 		{
-			this.col.setRow( index );
-			this.comp_inner.setK( index );
-			this.n2_transform.transform( this.comp_inner, this.col, dir );
+			ws.col.setRow( index );
+			ws.comp_inner.setK( index );
+			this.n2_transform.transform( ws.comp_inner, ws.col, dir );
 		}
 
-		this.finishTransform( dir );
+		this.finishTransform( ws, dir );
 	}
 	
 	
@@ -295,51 +274,58 @@ public strictfp class CooleyTukeyFastFourierTransform
 		this.checkVectors( input, dest );
 		this.checkDirection( dir );
 		
-		this.real_inner.setDelegate( input );
-		this.outer.setDelegate( dest );
+		final Workspace ws = this.workspace.get();
+		ws.real_inner.setDelegate( input );
+		ws.outer.setDelegate( dest );
 
 		for( int index = 0; index < this.cap_n1; index++ )
 		{
-			this.col.setRow( index );
-			this.comp_inner.setK( index );
-			this.n2_transform.transform( this.comp_inner, this.col, dir );
+			ws.col.setRow( index );
+			ws.real_inner.setK( index );
+			this.n2_transform.transform( ws.real_inner, ws.col, dir );
 		}
 
-		this.finishTransform( dir );
+		this.finishTransform( ws, dir );
 	}
 
 
 	/**
 	 * Finish the transform.
 	 * 
+	 * @param ws the calling thread's workspace.
 	 * @param direction the direction.
 	 */
-	private void finishTransform( final TransformDirection direction )
+	private void finishTransform( final Workspace ws, final TransformDirection direction )
 	{
 		// multiply by twiddle factors and such.
-		this.twiddle( direction );
+		this.twiddle( ws, direction );
 
 			for( int index = 0; index < this.cap_n2; index++ )
 			{
-				this.row.setColumn( index );
-				this.outer.setK( index );
-				this.n1_transform.transform( this.row, this.outer, direction );
+				ws.row.setColumn( index );
+				ws.outer.setK( index );
+				this.n1_transform.transform( ws.row, ws.outer, direction );
 			}
 
-		this.comp_inner.setDelegate( null );
-		this.outer.setDelegate( null );
+		// don't hang on to the caller's vectors.
+		ws.comp_inner.setDelegate( null );
+		ws.real_inner.setDelegate( null );
+		ws.outer.setDelegate( null );
 	}
 
 
 	/**
 	 * Multiply by the twiddle factors in the specified direction.
 	 * 
+	 * @param ws the calling thread's workspace.
 	 * @param direction the direction.
 	 */
-	private void twiddle( final TransformDirection direction )
+	private void twiddle( final Workspace ws, final TransformDirection direction )
 	{
 		double a, b, c, d;
 
+		final double[][] re = ws.re;
+		final double[][] im = ws.im;
 		double[][] real = this.twiddle_re;
 		double[][] imag = ( direction == TransformDirection.FORWARD ? this.twiddle_im_for : this.twiddle_im_bak );
 
@@ -347,15 +333,15 @@ public strictfp class CooleyTukeyFastFourierTransform
 		{
 			for( int jindex = 0; jindex < this.cap_n2; jindex++ )
 			{
-				a = this.re[ index ][ jindex ];
-				b = this.im[ index ][ jindex ];
+				a = re[ index ][ jindex ];
+				b = im[ index ][ jindex ];
 
 				c = real[ index ][ jindex ];
 				d = imag[ index ][ jindex ];
 
 				// point-wise multiply.
-				this.re[ index ][ jindex ] = ( a * c ) - ( b * d );
-				this.im[ index ][ jindex ] = ( a * d ) + ( b * c );
+				re[ index ][ jindex ] = ( a * c ) - ( b * d );
+				im[ index ][ jindex ] = ( a * d ) + ( b * c );
 			}
 		}
 	}
@@ -392,6 +378,77 @@ public strictfp class CooleyTukeyFastFourierTransform
 	}
 
 
+	/**
+	 * The matrices and re-indexers one transform works in.
+	 * 
+	 * @author se.sandos.android contributors
+	 * @version $Revision$ $Date$
+	 */
+	private static final class Workspace
+		extends Object
+	{
+
+
+		/**
+		 * The arrays in which we will temporarily store everything, during the
+		 * inner transforms.
+		 */
+		final double[][] re, im;
+
+		/**
+		 * Column major dope wrapper.
+		 */
+		final ColumnMajorComplexDopeVector col;
+
+		/**
+		 * Row major dope wrapper.
+		 */
+		final RowMajorComplexDopeVector row;
+
+		/**
+		 * Complex inner re-indexer.
+		 */
+		final CooleyTukeyReIndexedComplexDopeVector comp_inner;
+
+		/**
+		 * Real inner re-indexer.
+		 */
+		final CooleyTukeyReIndexedRealDopeVector real_inner;
+
+		/**
+		 * Outer re-indexer.
+		 */
+		final CooleyTukeyReIndexedComplexDopeVector outer;
+
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param cap_n1 N1.
+		 * @param cap_n2 N2.
+		 */
+		Workspace( final int cap_n1, final int cap_n2 )
+		{
+			super();
+
+			// create happy matrices.
+			this.re = new double[ cap_n1 ][ cap_n2 ];
+			this.im = new double[ cap_n1 ][ cap_n2 ];
+
+			// create dopes around matrices.
+			this.col = new ColumnMajorComplexDopeVector( this.re, this.im );
+			this.row = new RowMajorComplexDopeVector( this.re, this.im );
+
+			// create re-indexers.
+			this.comp_inner = new CooleyTukeyReIndexedComplexDopeVector( cap_n1, cap_n2 );
+			this.real_inner = new CooleyTukeyReIndexedRealDopeVector( cap_n1, cap_n2 );
+			this.outer = new CooleyTukeyReIndexedComplexDopeVector( cap_n2, cap_n1 );
+		}
+
+
+	}
+
+
 	/**
 	 * Cooley-Tukey style reindexer.
 	 * <p>
@@ -0,0 +1,502 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2006 Fran Lattanzio
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.teneighty.fft.FastFourierTransform;
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.TransformDirection;
+import org.teneighty.fft.dope.ComplexDopeVector;
+import org.teneighty.fft.dope.RealDopeVector;
+
+
+/**
+ * A radix four (or radix 2<sup>2</sup>) Cooley-Tukey for powers of two ONLY!
+ * <p>
+ * Each stage merges four sub-transforms, doing the work of two radix two
+ * stages with three complex multiplies per butterfly instead of four. When
+ * the size is an odd power of two, a single radix two stage (which needs no
+ * twiddles) comes first.
+ * <p>
+ * All twiddles come from one table holding a quarter wave of sines,
+ * <code>n / 4 + 1</code> doubles, rather than a table per stage.
+ * 
+ * @author Fran Lattanzio
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public strictfp class CooleyTukeyRadixFourFastFourierTransform
+	extends AbstractFastFourierTransform
+	implements FourierTransform, FastFourierTransform, Serializable
+{
+
+
+	/**
+	 * Serial version UID.
+	 */
+	private static final long serialVersionUID = 38473724L;
+
+
+	/**
+	 * Quarter wave sine table: <code>sin( 2 pi k / n )</code> for
+	 * <code>k = 0 .. n / 4</code>.
+	 */
+	private transient double[] sine;
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param size the size.
+	 * @throws IllegalArgumentException If <code>size</code> is not a power of
+	 *         two.
+	 */
+	public CooleyTukeyRadixFourFastFourierTransform( final int size )
+		throws IllegalArgumentException
+	{
+		super( size );
+
+		if( ( size & ( size - 1 ) ) != 0 )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.createWaveTable();
+	}
+
+
+	/**
+	 * Create the wave table.
+	 */
+	private void createWaveTable()
+	{
+		final int size = this.getLength();
+		final int quarter = size / 4;
+
+		this.sine = new double[ quarter + 1 ];
+
+		for( int k = 0; k <= quarter; k++ )
+		{
+			// use the cosine of the complement past the eighth wave, so both
+			// ends are as accurate as the middle.
+			if( 2 * k <= quarter )
+			{
+				this.sine[ k ] = Math.sin( ( 2.0 * Math.PI * k ) / size );
+			}
+			else
+			{
+				this.sine[ k ] = Math.cos( ( 2.0 * Math.PI * ( quarter - k ) ) / size );
+			}
+		}
+	}
+
+
+	/**
+	 * Get <code>cos( 2 pi e / n )</code> from the wave table.
+	 * 
+	 * @param sine the wave table.
+	 * @param quarter <code>n / 4</code>.
+	 * @param e the exponent; less than <code>3 n / 4</code>.
+	 * @return double the cosine.
+	 */
+	private static double cos( final double[] sine, final int quarter, final int e )
+	{
+		if( e <= quarter )
+		{
+			return ( sine[ quarter - e ] );
+		}
+		else if( e <= 2 * quarter )
+		{
+			return ( -sine[ e - quarter ] );
+		}
+
+		return ( -sine[ 3 * quarter - e ] );
+	}
+
+
+	/**
+	 * Get <code>sin( 2 pi e / n )</code> from the wave table.
+	 * 
+	 * @param sine the wave table.
+	 * @param quarter <code>n / 4</code>.
+	 * @param e the exponent; less than <code>3 n / 4</code>.
+	 * @return double the sine.
+	 */
+	private static double sin( final double[] sine, final int quarter, final int e )
+	{
+		if( e <= quarter )
+		{
+			return ( sine[ e ] );
+		}
+		else if( e <= 2 * quarter )
+		{
+			return ( sine[ 2 * quarter - e ] );
+		}
+
+		return ( -sine[ e - 2 * quarter ] );
+	}
+
+
+	/**
+	 * Compute the CT-FFT, radix 4, for complex data.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final ComplexDopeVector input,
+													final ComplexDopeVector dest, final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transformArrays( input, dest, direction );
+	}
+
+
+	/**
+	 * Compute the CT-FFT, radix 4, for real data.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final RealDopeVector input,
+													final ComplexDopeVector dest,
+													final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transformArrays( input, dest, direction );
+	}
+
+
+	/**
+	 * Actually compute the CT-FFT, radix 4, for complex data.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		// happy local vars.
+		final int n = this.getLength();
+		int i, j, m;
+		int ii, jj;
+
+		for( i = j = 0; i < n; ++i )
+		{
+			if( j >= i )
+			{
+				// bit reversal into the output array.
+				ii = in_off + i * in_stride;
+				jj = out_off + j * out_stride;
+				out_re[ jj ] = in_re[ ii ];
+				out_im[ jj ] = in_im[ ii ];
+
+				ii = in_off + j * in_stride;
+				jj = out_off + i * out_stride;
+				out_re[ jj ] = in_re[ ii ];
+				out_im[ jj ] = in_im[ ii ];
+			}
+
+			m = n / 2;
+
+			while ( ( m >= 1 ) && ( j >= m ) )
+			{
+				j -= m;
+				m /= 2;
+			}
+			j += m;
+		}
+
+		this.butterflies( out_re, out_im, out_off, out_stride, direction );
+	}
+
+
+	/**
+	 * Actually compute the CT-FFT, radix 4, for real data.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		// happy local vars.
+		final int n = this.getLength();
+		int i, j, m;
+		int jj;
+
+		for( i = j = 0; i < n; ++i )
+		{
+			if( j >= i )
+			{
+				// bit reversal into the output array.
+				jj = out_off + j * out_stride;
+				out_re[ jj ] = in[ in_off + i * in_stride ];
+				out_im[ jj ] = 0.0;
+
+				jj = out_off + i * out_stride;
+				out_re[ jj ] = in[ in_off + j * in_stride ];
+				out_im[ jj ] = 0.0;
+			}
+
+			m = n / 2;
+
+			while ( ( m >= 1 ) && ( j >= m ) )
+			{
+				j -= m;
+				m /= 2;
+			}
+			j += m;
+		}
+
+		this.butterflies( out_re, out_im, out_off, out_stride, direction );
+	}
+
+
+	/**
+	 * Run the butterfly stages in place over bit reversed data.
+	 * <p>
+	 * In bit reversed order, the four size <code>m</code> sub-transforms a
+	 * radix four stage merges hold the elements that are 0, 2, 1 and 3 modulo
+	 * four, in that order.
+	 * 
+	 * @param re real part.
+	 * @param im imaginary part.
+	 * @param off index of element 0.
+	 * @param stride distance between elements.
+	 * @param direction the direction.
+	 */
+	private void butterflies( final double[] re, final double[] im,
+			final int off, final int stride, final TransformDirection direction )
+	{
+		final int n = this.getLength();
+		final int last = off + ( n - 1 ) * stride;
+		final int quarter = n / 4;
+		final double[] sine = this.sine;
+		final boolean forward = ( direction == TransformDirection.FORWARD );
+
+		// loop vars.
+		int m, k, i, i1, i2, i3;
+
+		// butterfly span and step, in array indices; twiddle exponent step.
+		int span, step, e_step;
+
+		// twiddles.
+		double re_w1, im_w1, re_w2, im_w2, re_w3, im_w3;
+
+		// happy vars, so each element is loaded and stored once.
+		double re_0, im_0, re_1, im_1, re_2, im_2, re_3, im_3;
+		double re_t, im_t;
+
+		m = 1;
+		if( ( Integer.numberOfTrailingZeros( n ) & 1 ) == 1 )
+		{
+			// odd power: one radix two stage, all twiddles are 1.
+			step = 2 * stride;
+			for( i = off; i < last; i += step )
+			{
+				i1 = i + stride;
+				re_0 = re[ i ];
+				im_0 = im[ i ];
+				re_1 = re[ i1 ];
+				im_1 = im[ i1 ];
+				re[ i ] = re_0 + re_1;
+				im[ i ] = im_0 + im_1;
+				re[ i1 ] = re_0 - re_1;
+				im[ i1 ] = im_0 - im_1;
+			}
+
+			m = 2;
+		}
+
+		for( ; m < n; m *= 4 )
+		{
+			span = m * stride;
+			step = 4 * span;
+			e_step = n / ( 4 * m );
+
+			for( k = 0; k < m; k++ )
+			{
+				// twiddles w^k, w^2k and w^3k of the 4m-point transform.
+				final int e = k * e_step;
+				re_w1 = cos( sine, quarter, e );
+				re_w2 = cos( sine, quarter, 2 * e );
+				re_w3 = cos( sine, quarter, 3 * e );
+				im_w1 = sin( sine, quarter, e );
+				im_w2 = sin( sine, quarter, 2 * e );
+				im_w3 = sin( sine, quarter, 3 * e );
+				if( forward == true )
+				{
+					im_w1 = -im_w1;
+					im_w2 = -im_w2;
+					im_w3 = -im_w3;
+				}
+
+				for( i = off + k * stride; i <= last; i += step )
+				{
+					i1 = i + span;
+					i2 = i1 + span;
+					i3 = i2 + span;
+
+					// elements 0 mod 4 are not twiddled.
+					re_0 = re[ i ];
+					im_0 = im[ i ];
+
+					// 2 mod 4, at i1.
+					re_t = re[ i1 ];
+					im_t = im[ i1 ];
+					re_2 = ( re_w2 * re_t ) - ( im_w2 * im_t );
+					im_2 = ( re_w2 * im_t ) + ( im_w2 * re_t );
+
+					// 1 mod 4, at i2.
+					re_t = re[ i2 ];
+					im_t = im[ i2 ];
+					re_1 = ( re_w1 * re_t ) - ( im_w1 * im_t );
+					im_1 = ( re_w1 * im_t ) + ( im_w1 * re_t );
+
+					// 3 mod 4, at i3.
+					re_t = re[ i3 ];
+					im_t = im[ i3 ];
+					re_3 = ( re_w3 * re_t ) - ( im_w3 * im_t );
+					im_3 = ( re_w3 * im_t ) + ( im_w3 * re_t );
+
+					// two radix two butterflies...
+					re_t = re_0 - re_2;
+					im_t = im_0 - im_2;
+					re_0 += re_2;
+					im_0 += im_2;
+
+					re_2 = re_1 - re_3;
+					im_2 = im_1 - im_3;
+					re_1 += re_3;
+					im_1 += im_3;
+
+					// ... and two more, the second turned by -i (forward) or i.
+					re[ i ] = re_0 + re_1;
+					im[ i ] = im_0 + im_1;
+					re[ i2 ] = re_0 - re_1;
+					im[ i2 ] = im_0 - im_1;
+
+					if( forward == true )
+					{
+						re[ i1 ] = re_t + im_2;
+						im[ i1 ] = im_t - re_2;
+						re[ i3 ] = re_t - im_2;
+						im[ i3 ] = im_t + re_2;
+					}
+					else
+					{
+						re[ i1 ] = re_t - im_2;
+						im[ i1 ] = im_t + re_2;
+						re[ i3 ] = re_t + im_2;
+						im[ i3 ] = im_t - re_2;
+					}
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Serialize this object to the specified stream.
+	 * 
+	 * @param out the stream to which to write.
+	 * @throws IOException If serialization fails.
+	 */
+	private void writeObject( final ObjectOutputStream out )
+		throws IOException
+	{
+		out.defaultWriteObject();
+	}
+
+
+	/**
+	 * Read and restore this object from the specified stream.
+	 * 
+	 * @param in the stream from which to read.
+	 * @throws IOException If deserialization fails.
+	 * @throws ClassNotFoundException If deserialization attempts to classload a
+	 *         non-existant class.
+	 */
+	private void readObject( final ObjectInputStream in )
+		throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+
+		// create wave table.
+		this.createWaveTable();
+	}
+
+
+}
@@ -131,7 +131,7 @@ public strictfp class CooleyTukeyRadixTwoFastFourierTransform
 
 	
 	/**
-	 * Actually compute the CT-FFT, radix 2, for complex data.
+	 * Compute the CT-FFT, radix 2, for complex data.
 	 * 
 	 * @param input the input vector.
 	 * @param dest the output vector.
@@ -145,23 +145,76 @@ public strictfp class CooleyTukeyRadixTwoFastFourierTransform
 													final ComplexDopeVector dest, final TransformDirection direction )
 		throws NullPointerException, IllegalArgumentException
 	{
-		this.checkVectors( input, dest );
+		this.transformArrays( input, dest, direction );
+	}
+	
+
+	/**
+	 * Compute the CT-FFT, radix 2, for real data.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final RealDopeVector input,
+													final ComplexDopeVector dest,
+													final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transformArrays( input, dest, direction );
+	}
+
+
+	/**
+	 * Actually compute the CT-FFT, radix 2, for complex data.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
 		this.checkDirection( direction );
 
 		// happy local vars.
 		final int n = this.getLength();
 		int i, j, m;
+		int ii, jj;
 
 		for( i = j = 0; i < n; ++i )
 		{
 			if( j >= i )
 			{
 				// bit reversal into the output array.
-				dest.setReal( input.getReal( i ), j );
-				dest.setImaginary( input.getImaginary( i ), j );
-
-				dest.setReal( input.getReal( j ), i );
-				dest.setImaginary( input.getImaginary( j ), i );
+				ii = in_off + i * in_stride;
+				jj = out_off + j * out_stride;
+				out_re[ jj ] = in_re[ ii ];
+				out_im[ jj ] = in_im[ ii ];
+
+				ii = in_off + j * in_stride;
+				jj = out_off + i * out_stride;
+				out_re[ jj ] = in_re[ ii ];
+				out_im[ jj ] = in_im[ ii ];
 			}
 
 			m = n / 2;
@@ -174,94 +227,53 @@ public strictfp class CooleyTukeyRadixTwoFastFourierTransform
 			j += m;
 		}
 
-		// loop vars
-		int mmax, istep, log;
-
-		// temporary real and imaginary turds.
-		double re_t, im_t;
-
-		// wave table values.
-		double re_w, im_w;
-
-		// happy vars to hit the dope with fewer method calls.
-		double re_i, im_i, re_j, im_j;
-
-		// get wavetables.
-		double[][] real_wave = this.real_wavetable;
-		double[][] im_wave = ( direction == TransformDirection.FORWARD ? this.for_im_wavetable : this.bak_im_wavetable );
-				
-		for( log = 0, mmax = 1, istep = 2 * mmax; mmax < n; mmax = istep, istep = 2 * mmax, log += 1 )
-		{
-			for( m = 0; m < mmax; m++ )
-			{
-				// pull up stuff from wave table.
-				re_w = real_wave[ log ][ m ];
-				im_w = im_wave[ log ][ m ];
-
-				for( i = m; i < n; i += istep )
-				{					
-					j = i + mmax;
-          
-					// get j stuff.
-					re_j = dest.getReal( j );
-					im_j = dest.getImaginary( j );
-
-					// get i stuff.
-					re_i = dest.getReal( i );
-					im_i = dest.getImaginary( i );
-
-					// compute temporary real and imaginary parts.
-					re_t = ( re_w * re_j ) - ( im_w * im_j );
-					im_t = ( re_w * im_j ) + ( im_w * re_j );
-
-					// compute new j values.
-					re_j = re_i - re_t;
-					im_j = im_i - im_t;
-
-					// compute new i values.
-					re_i += re_t;
-					im_i += im_t;
-
-					// store everything back in the dope.
-					dest.setReal( re_j, j );
-					dest.setImaginary( im_j, j );
-					dest.setReal( re_i, i );
-					dest.setImaginary( im_i, i );
-				}
-			}
-		}	
+		this.butterflies( out_re, out_im, out_off, out_stride, direction );
 	}
-	
+
 
 	/**
 	 * Actually compute the CT-FFT, radix 2, for real data.
 	 * 
-	 * @param input the input vector.
-	 * @param dest the output vector.
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
 	 * @param direction the direction.
-	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
-	 *         is <code>null</code>.
-	 * @throws IllegalArgumentException If <code>input</code> does not have the
-	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
 	 */
-	public void transform( final RealDopeVector input,
-													final ComplexDopeVector dest,
-													final TransformDirection direction )
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection direction )
 		throws NullPointerException, IllegalArgumentException
 	{
-		this.checkVectors( input, dest );
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
 
 		// happy local vars.
 		final int n = this.getLength();
 		int i, j, m;
+		int jj;
 
 		for( i = j = 0; i < n; ++i )
 		{
 			if( j >= i )
 			{
 				// bit reversal into the output array.
-				dest.setReal( input.getReal( i ), j );
-				dest.setReal( input.getReal( j ), i );
+				jj = out_off + j * out_stride;
+				out_re[ jj ] = in[ in_off + i * in_stride ];
+				out_im[ jj ] = 0.0;
+
+				jj = out_off + i * out_stride;
+				out_re[ jj ] = in[ in_off + j * in_stride ];
+				out_im[ jj ] = 0.0;
 			}
 
 			m = n / 2;
@@ -274,8 +286,32 @@ public strictfp class CooleyTukeyRadixTwoFastFourierTransform
 			j += m;
 		}
 
+		// The input is real, but after the first stage the partial transforms
+		// are not.
+		this.butterflies( out_re, out_im, out_off, out_stride, direction );
+	}
+
+
+	/**
+	 * Run the butterfly stages in place over bit reversed data.
+	 * 
+	 * @param re real part.
+	 * @param im imaginary part.
+	 * @param off index of element 0.
+	 * @param stride distance between elements.
+	 * @param direction the direction.
+	 */
+	private void butterflies( final double[] re, final double[] im,
+			final int off, final int stride, final TransformDirection direction )
+	{
+		final int n = this.getLength();
+		final int last = off + ( n - 1 ) * stride;
+
 		// loop vars
-		int mmax, istep, log;
+		int mmax, istep, log, m, i, j;
+
+		// butterfly span and step, in array indices.
+		int span, step;
 
 		// temporary real and imaginary turds.
 		double re_t, im_t;
@@ -283,55 +319,54 @@ public strictfp class CooleyTukeyRadixTwoFastFourierTransform
 		// wave table values.
 		double re_w, im_w;
 
-		// happy vars to hit the dope with fewer method calls.
+		// happy vars, so each element is loaded and stored once.
 		double re_i, im_i, re_j, im_j;
 
 		// get wavetables.
-		double[][] real_wave = this.real_wavetable;
-		double[][] im_wave = ( direction == TransformDirection.FORWARD ? this.for_im_wavetable : this.bak_im_wavetable );
+		final double[][] real_wave = this.real_wavetable;
+		final double[][] im_wave = ( direction == TransformDirection.FORWARD ? this.for_im_wavetable : this.bak_im_wavetable );
+
+		double[] real_row, im_row;
 
 		for( log = 0, mmax = 1, istep = 2 * mmax; mmax < n; mmax = istep, istep = 2 * mmax, log += 1 )
 		{
-			for( m = 0; m < mmax; ++m )
-			{
+			real_row = real_wave[ log ];
+			im_row = im_wave[ log ];
+			span = mmax * stride;
+			step = istep * stride;
 
+			for( m = 0; m < mmax; m++ )
+			{
 				// pull up stuff from wave table.
-				re_w = real_wave[ log ][ m ];
-				im_w = im_wave[ log ][ m ];
+				re_w = real_row[ m ];
+				im_w = im_row[ m ];
 
-				for( i = m; i < n; i += istep )
+				for( i = off + m * stride; i <= last; i += step )
 				{
-					j = i + mmax;
+					j = i + span;
 
 					// get j stuff.
-					re_j = dest.getReal( j );
-					im_j = 0;
+					re_j = re[ j ];
+					im_j = im[ j ];
 
 					// get i stuff.
-					re_i = dest.getReal( i );
-					im_i = 0;
+					re_i = re[ i ];
+					im_i = im[ i ];
 
 					// compute temporary real and imaginary parts.
-					re_t = ( re_w * re_j );
-					im_t = ( im_w * re_j );
+					re_t = ( re_w * re_j ) - ( im_w * im_j );
+					im_t = ( re_w * im_j ) + ( im_w * re_j );
 
 					// compute new j values.
-					re_j = re_i - re_t;
-					im_j = im_t;
+					re[ j ] = re_i - re_t;
+					im[ j ] = im_i - im_t;
 
 					// compute new i values.
-					re_i += re_t;
-					im_i += im_t;
-
-					// store everything back in the dope.
-					dest.setReal( re_j, j );
-					dest.setImaginary( im_j, j );
-					dest.setReal( re_i, i );
-					dest.setImaginary( im_i, i );
+					re[ i ] = re_i + re_t;
+					im[ i ] = im_i + im_t;
 				}
 			}
 		}
-		
 	}
 
 	
@@ -156,7 +156,53 @@ public strictfp class DirectFourierTransform
 														final ComplexDopeVector dest,
 														final TransformDirection dir )
 	{
-		this.checkVectors( input, dest );
+		this.transformArrays( input, dest, dir );
+	}
+	
+	
+	/**
+	 * This method transforms the input dope in the specified direction.
+	 * 
+	 * @param input the input.
+	 * @param dest the destination.
+	 * @param dir the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final RealDopeVector input,
+														final ComplexDopeVector dest,
+														final TransformDirection dir )
+	{
+		this.transformArrays( input, dest, dir );
+	}
+
+
+	/**
+	 * This method transforms the input arrays in the specified direction.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param dir the direction.
+	 * @throws NullPointerException If any array or <code>dir</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection dir )
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
 		this.checkDirection( dir );
 
 		// the numbers xk = a + bi
@@ -167,10 +213,13 @@ public strictfp class DirectFourierTransform
 		double re = 0;
 		double im = 0;
 
-		// n of inner summa.
+		// n of inner summa, and its array index.
 		int n = 0;
+		int in_index = 0;
+
+		// wavetable index, (2 * k * n) mod (2 * length), and its step.
 		int num = 0;
-		int num_help = 0;
+		int num_step = 0;
 
 		// sin and cos helpers.
 		double sin = 0;
@@ -178,9 +227,11 @@ public strictfp class DirectFourierTransform
 
 		// length of the transform/N.
 		final int length = this.getLength();
+		final int wrap = 2 * length;
 		
 		// choose appropiate imaginary wavetable.
-		double[] im_wavetable = ( dir == TransformDirection.FORWARD ? this.im_wavetable_for : this.im_wavetable_bak );
+		final double[] re_wavetable = this.re_wavetable;
+		final double[] im_wavetable = ( dir == TransformDirection.FORWARD ? this.im_wavetable_for : this.im_wavetable_bak );
 
 		for( int k = 0; k < length; k++)
 		{
@@ -188,69 +239,61 @@ public strictfp class DirectFourierTransform
 			re = 0;
 			im = 0;
 
-			// compute new num help.
-			num_help = 2 * k;
+			num = 0;
+			num_step = 2 * k;
 
-			for( n = 0; n < length; n++)
+			for( n = 0, in_index = in_off; n < length; n++, in_index += in_stride )
 			{
-				a = input.getReal( n );
-				b = input.getImaginary( n );
-
-				if( n == 0 || k == 0 )
-				{
-					// easy case!
-					re += a;
-					im += b;
-					continue;
-				}
-
-				// compute numerator.
-				num = num_help * n;
-
-				// mod fraction (num/length) down to between [0, 2 * denom).
-				num %= ( 2 * length );
+				a = in_re[ in_index ];
+				b = in_im[ in_index ];
 
-				// easy case recheck.
-				if( num == 0 )
-				{
-					re += a;
-					im += b;
-					continue;
-				}
-
-				// pull from wavetables.
-				cos = this.re_wavetable[ num ];
+				// pull from wavetables; entry 0 is exactly 1 and 0.
+				cos = re_wavetable[ num ];
 				sin = im_wavetable[ num ];
 
 				// update real and imaginary pieces.
 				re += ( a * cos ) - ( b * sin );
 				im += ( a * sin ) + ( b * cos );
+
+				// step the numerator, mod 2 * length.
+				num += num_step;
+				if( num >= wrap )
+				{
+					num -= wrap;
+				}
 			}
 
-			// Store in aux dope.
-			dest.setReal( re, k );
-			dest.setImaginary( im, k );
+			// Store in output.
+			out_re[ out_off + k * out_stride ] = re;
+			out_im[ out_off + k * out_stride ] = im;
 		}
 
 	}
 	
 	
 	/**
-	 * This method transforms the input dope in the specified direction.
+	 * This method transforms the real input array in the specified direction.
 	 * 
-	 * @param input the input.
-	 * @param dest the destination.
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
 	 * @param dir the direction.
-	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
-	 *         is <code>null</code>.
-	 * @throws IllegalArgumentException If <code>input</code> does not have the
-	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 * @throws NullPointerException If any array or <code>dir</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
 	 */
-	public void transform( final RealDopeVector input,
-														final ComplexDopeVector dest,
-														final TransformDirection dir )
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection dir )
 	{
-		this.checkVectors( input, dest );
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
 		this.checkDirection( dir );
 
 		// the numbers xk = a
@@ -260,20 +303,21 @@ public strictfp class DirectFourierTransform
 		double re = 0;
 		double im = 0;
 
-		// n of inner summa.
+		// n of inner summa, and its array index.
 		int n = 0;
-		int num = 0;
-		int num_help = 0;
+		int in_index = 0;
 
-		// sin and cos helpers.
-		double sin = 0;
-		double cos = 0;
+		// wavetable index, (2 * k * n) mod (2 * length), and its step.
+		int num = 0;
+		int num_step = 0;
 
 		// length of the transform/N.
 		final int length = this.getLength();
+		final int wrap = 2 * length;
 		
 		// imaginary wavetable.
-		double[] im_wavetable = ( dir == TransformDirection.FORWARD ? this.im_wavetable_for : this.im_wavetable_bak );
+		final double[] re_wavetable = this.re_wavetable;
+		final double[] im_wavetable = ( dir == TransformDirection.FORWARD ? this.im_wavetable_for : this.im_wavetable_bak );
 
 		for( int k = 0; k < length; k++)
 		{
@@ -281,45 +325,28 @@ public strictfp class DirectFourierTransform
 			re = 0;
 			im = 0;
 
-			// compute new num help.
-			num_help = 2 * k;
+			num = 0;
+			num_step = 2 * k;
 
-			for( n = 0; n < length; n++)
+			for( n = 0, in_index = in_off; n < length; n++, in_index += in_stride )
 			{
-				a = input.getReal( n );
+				a = in[ in_index ];
 
-				if( n == 0 || k == 0 )
-				{
-					// easy case!
-					re += a;
-					continue;
-				}
-
-				// compute numerator.
-				num = num_help * n;
-
-				// mod fraction (num/denom) down to between [0, 2).
-				num %= ( 2 * length );
+				// update real and imaginary pieces.
+				re += ( a * re_wavetable[ num ] );
+				im += ( a * im_wavetable[ num ] );
 
-				// easy case recheck.
-				if( num == 0 )
+				// step the numerator, mod 2 * length.
+				num += num_step;
+				if( num >= wrap )
 				{
-					re += a;
-					continue;
+					num -= wrap;
 				}
-
-				// pull from wavetable.
-				cos = this.re_wavetable[ num ];
-				sin = im_wavetable[ num ];
-
-				// update real and imaginary pieces.
-				re += ( a * cos );
-				im += ( a * sin );
 			}
 
-			// Store in aux dope.
-			dest.setReal( re, k );
-			dest.setImaginary( im, k );
+			// Store in output.
+			out_re[ out_off + k * out_stride ] = re;
+			out_im[ out_off + k * out_stride ] = im;
 		}
 
 	}
@@ -0,0 +1,406 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.teneighty.fft.FastFourierTransform;
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.FourierTransformFactory;
+import org.teneighty.fft.TransformDirection;
+import org.teneighty.fft.dope.ComplexDopeVector;
+import org.teneighty.fft.dope.RealDopeVector;
+
+
+/**
+ * A transform for even sizes that handles real data with a complex transform
+ * of half the size.
+ * <p>
+ * Real input <code>x</code> of length <code>n</code> is packed as
+ * <code>z[ j ] = x[ 2 j ] + i x[ 2 j + 1 ]</code>, transformed at length
+ * <code>n / 2</code>, and pulled apart into the spectra of the even and odd
+ * samples, which one twiddle pass combines into <code>X[ 0 .. n / 2 ]</code>;
+ * the rest follows by conjugate symmetry. The complex to real backward
+ * transform runs the same steps in reverse. Either way, that is about half the
+ * work and half the scratch of a complex transform.
+ * <p>
+ * Complex data is handed to the complex transform this one was created with.
+ * 
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public strictfp class PackedRealFastFourierTransform
+	extends AbstractFastFourierTransform
+	implements FourierTransform, FastFourierTransform, Serializable
+{
+
+
+	/**
+	 * Serial version UID.
+	 */
+	private static final long serialVersionUID = 38473725L;
+
+
+	/**
+	 * Transform for complex data, of the full size.
+	 */
+	private FourierTransform complex;
+
+	/**
+	 * Transform of half the size, for packed real data.
+	 */
+	private FourierTransform half;
+
+	/**
+	 * <code>cos( 2 pi k / n )</code> and <code>sin( 2 pi k / n )</code>, for
+	 * <code>k &lt; n / 2</code>.
+	 */
+	private transient double[] cos, sin;
+
+	/**
+	 * Each thread's workspace: packed real and imaginary, then half size
+	 * transform real and imaginary.
+	 */
+	private transient ThreadLocal<double[][]> workspace;
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param complex the transform to use for complex data. Its size is the
+	 *        size of this transform.
+	 * @throws NullPointerException If <code>complex</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the size is odd.
+	 */
+	public PackedRealFastFourierTransform( final FourierTransform complex )
+		throws NullPointerException, IllegalArgumentException
+	{
+		super( complex.getLength() );
+
+		if( ( complex.getLength() & 1 ) != 0 )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.complex = complex;
+		this.half = FourierTransformFactory.getTransform( complex.getLength() / 2 );
+
+		this.transientInit();
+	}
+
+
+	/**
+	 * Initialize transient fields.
+	 */
+	private void transientInit()
+	{
+		final int n = this.getLength();
+		final int h = n / 2;
+
+		this.cos = new double[ h ];
+		this.sin = new double[ h ];
+		for( int k = 0; k < h; k++ )
+		{
+			this.cos[ k ] = Math.cos( ( 2.0 * Math.PI * k ) / n );
+			this.sin[ k ] = Math.sin( ( 2.0 * Math.PI * k ) / n );
+		}
+
+		// workspaces are created as threads first use this transform.
+		this.workspace = new ThreadLocal<double[][]>()
+		{
+			@Override
+			protected double[][] initialValue()
+			{
+				return ( new double[ 4 ][ h ] );
+			}
+		};
+	}
+
+
+	/**
+	 * Transform complex data, with the complex transform.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final ComplexDopeVector input,
+													final ComplexDopeVector dest, final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.complex.transform( input, dest, direction );
+	}
+
+
+	/**
+	 * Transform real data.
+	 * 
+	 * @param input the input vector.
+	 * @param dest the output vector.
+	 * @param direction the direction.
+	 * @throws NullPointerException If <code>input</code> or <code>dest</code>
+	 *         is <code>null</code>.
+	 * @throws IllegalArgumentException If <code>input</code> does not have the
+	 *         right length</code>, or if <code>input</code> == <code>dest</code>.
+	 */
+	public void transform( final RealDopeVector input,
+													final ComplexDopeVector dest,
+													final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.transformArrays( input, dest, direction );
+	}
+
+
+	/**
+	 * Transform complex array data, with the complex transform.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.complex.transform( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride, direction );
+	}
+
+
+	/**
+	 * Transform real array data, by way of the half size transform.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		final int n = this.getLength();
+		final int h = n / 2;
+		final double[] cos = this.cos;
+		final double[] sin = this.sin;
+
+		final double[][] w = this.workspace.get();
+		final double[] z_re = w[ 0 ];
+		final double[] z_im = w[ 1 ];
+		final double[] f_re = w[ 2 ];
+		final double[] f_im = w[ 3 ];
+
+		// pack even samples as real, odd as imaginary.
+		for( int j = 0, i = in_off; j < h; j++, i += 2 * in_stride )
+		{
+			z_re[ j ] = in[ i ];
+			z_im[ j ] = in[ i + in_stride ];
+		}
+
+		this.half.transform( z_re, z_im, 0, 1, f_re, f_im, 0, 1, TransformDirection.FORWARD );
+
+		// the backward transform of real data is the conjugate of the forward.
+		final double sign = ( direction == TransformDirection.FORWARD ? 1.0 : -1.0 );
+
+		// even and odd spectra, their combination, and array indices.
+		double a_re, a_im, b_re, b_im;
+		double e_re, e_im, o_re, o_im;
+		double x_re, x_im;
+		int lo, hi;
+
+		// 0 and n / 2 are real.
+		out_re[ out_off ] = f_re[ 0 ] + f_im[ 0 ];
+		out_im[ out_off ] = 0.0;
+		out_re[ out_off + h * out_stride ] = f_re[ 0 ] - f_im[ 0 ];
+		out_im[ out_off + h * out_stride ] = 0.0;
+
+		for( int k = 1; k < h; k++ )
+		{
+			a_re = f_re[ k ];
+			a_im = f_im[ k ];
+			b_re = f_re[ h - k ];
+			b_im = f_im[ h - k ];
+
+			// E = ( Z[ k ] + conj( Z[ h - k ] ) ) / 2.
+			e_re = 0.5 * ( a_re + b_re );
+			e_im = 0.5 * ( a_im - b_im );
+
+			// O = ( Z[ k ] - conj( Z[ h - k ] ) ) / 2i.
+			o_re = 0.5 * ( a_im + b_im );
+			o_im = 0.5 * ( b_re - a_re );
+
+			// X = E + W^k O.
+			x_re = e_re + ( cos[ k ] * o_re ) + ( sin[ k ] * o_im );
+			x_im = e_im + ( cos[ k ] * o_im ) - ( sin[ k ] * o_re );
+
+			lo = out_off + k * out_stride;
+			hi = out_off + ( n - k ) * out_stride;
+			out_re[ lo ] = x_re;
+			out_im[ lo ] = sign * x_im;
+			out_re[ hi ] = x_re;
+			out_im[ hi ] = -sign * x_im;
+		}
+	}
+
+
+	/**
+	 * Perform the backward transform of a conjugate symmetric spectrum held in
+	 * arrays, by way of the half size transform.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @throws NullPointerException If any array is <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void backward( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out,
+			final int out_off, final int out_stride )
+		throws NullPointerException, IllegalArgumentException
+	{
+		this.checkArrays( in_re, in_im, in_off, in_stride, out, out_off, out_stride );
+
+		final int h = this.getLength() / 2;
+		final double[] cos = this.cos;
+		final double[] sin = this.sin;
+
+		final double[][] w = this.workspace.get();
+		final double[] z_re = w[ 0 ];
+		final double[] z_im = w[ 1 ];
+		final double[] f_re = w[ 2 ];
+		final double[] f_im = w[ 3 ];
+
+		// input, sum and difference, and array indices.
+		double a_re, a_im, b_re, b_im;
+		double e_re, e_im, d_re, d_im, o_re, o_im;
+		int lo, hi;
+
+		for( int k = 0; k < h; k++ )
+		{
+			lo = in_off + k * in_stride;
+			hi = in_off + ( h - k ) * in_stride;
+			a_re = in_re[ lo ];
+			a_im = in_im[ lo ];
+			b_re = in_re[ hi ];
+			b_im = in_im[ hi ];
+
+			// twice the even spectrum, X[ k ] + conj( X[ h - k ] ).
+			e_re = a_re + b_re;
+			e_im = a_im - b_im;
+
+			// twice the odd spectrum, ( X[ k ] - conj( X[ h - k ] ) ) W^-k.
+			d_re = a_re - b_re;
+			d_im = a_im + b_im;
+			o_re = ( cos[ k ] * d_re ) - ( sin[ k ] * d_im );
+			o_im = ( cos[ k ] * d_im ) + ( sin[ k ] * d_re );
+
+			// Z = E + i O.
+			z_re[ k ] = e_re - o_im;
+			z_im[ k ] = e_im + o_re;
+		}
+
+		this.half.transform( z_re, z_im, 0, 1, f_re, f_im, 0, 1, TransformDirection.BACKWARD );
+
+		// unpack.
+		for( int j = 0, i = out_off; j < h; j++, i += 2 * out_stride )
+		{
+			out[ i ] = f_re[ j ];
+			out[ i + out_stride ] = f_im[ j ];
+		}
+	}
+
+
+	/**
+	 * Serialize this object to the specified stream.
+	 * 
+	 * @param out the stream to which to write.
+	 * @throws IOException If serialization fails.
+	 */
+	private void writeObject( final ObjectOutputStream out )
+		throws IOException
+	{
+		out.defaultWriteObject();
+	}
+
+
+	/**
+	 * Read and restore this object from the specified stream.
+	 * 
+	 * @param in the stream from which to read.
+	 * @throws IOException If deserialization fails.
+	 * @throws ClassNotFoundException If deserialization attempts to classload a
+	 *         non-existant class.
+	 */
+	private void readObject( final ObjectInputStream in )
+		throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+
+		this.transientInit();
+	}
+
+
+}
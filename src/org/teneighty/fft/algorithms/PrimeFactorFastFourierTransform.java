@@ -45,6 +45,18 @@ import org.teneighty.fft.factor.Factorization.Factor;
 
 /**
  * This class implements the Prime-Factor FFT.
+ * <p>
+ * The input is gathered into a contiguous <code>N1</code> by <code>N2</code>
+ * matrix through a flattened CRT map, the size <code>N2</code> transforms run
+ * over its rows and the size <code>N1</code> ones down its columns, through
+ * the array methods of the sub-transforms, and the result is scattered to
+ * the output through a second map. The original execution, which runs the
+ * sub-transforms on dope vectors that re-index every element through the
+ * maps, can still be had by asking for a <i>re-indexed</i> transform.
+ * <p>
+ * The CRT permutation maps and sub-transforms are never modified after
+ * construction; the matrices and re-indexers a transform works in are kept
+ * per thread, so one instance can be used by several threads at once.
  * 
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -92,35 +104,43 @@ public strictfp class PrimeFactorFastFourierTransform
 	private FourierTransform n2_transform;
 
 	/**
-	 * The arrays in which we will temporarily store everything, during the
-	 * inner_comp transform.
+	 * Whether to run through the re-indexing dope vectors.
 	 */
-	private transient double[][] re, im;
+	private boolean reindexed;
 
 	/**
-	 * Column major dope wrapper.
+	 * Flattened input map: matrix element <code>n1 N2 + n2</code> comes from
+	 * input element <code>( n1 N2 + n2 N1 ) mod N</code>.
 	 */
-	private transient ColumnMajorComplexDopeVector col;
+	private transient int[] input_map;
 
 	/**
-	 * Row major dope wrapper.
+	 * Flattened output map: matrix element <code>k1 N2 + k2</code> goes to the
+	 * output element congruent to <code>k1</code> mod <code>N1</code> and
+	 * <code>k2</code> mod <code>N2</code>.
 	 */
-	private transient RowMajorComplexDopeVector row;
+	private transient int[] output_map;
 
 	/**
-	 * Inner CRT re-indexer
+	 * Each thread's matrices: real and imaginary, then a second real and
+	 * imaginary for the row transforms to write to.
 	 */
-	private transient InnerCrtComplexDopeVector inner_comp;
+	private transient ThreadLocal<double[][]> matrices;
 
 	/**
-	 * Inner CRT re-indexer
+	 * Inner CRT permutation map, by n1 and then n2.
 	 */
-	private transient InnerCrtRealDopeVector inner_real;
+	private transient int[][] inner_map;
 
 	/**
-	 * Outer CRT re-indexer.
+	 * Outer CRT permutation map, by k2 and then k1.
+	 */
+	private transient int[][] outer_map;
+
+	/**
+	 * Each thread's workspace.
 	 */
-	private transient OuterCrtComplexDopeVector outer;
+	private transient ThreadLocal<Workspace> workspace;
 
 
 	/**
@@ -139,9 +159,35 @@ public strictfp class PrimeFactorFastFourierTransform
 																					final List<Factor> fac2,
 																					final int size )
 		throws IllegalArgumentException, NullPointerException
+	{
+		this( fac1, fac2, size, false );
+	}
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param fac1 the first set of factors.
+	 * @param fac2 the second set of factors.
+	 * @param size the size.
+	 * @param reindexed whether to run the sub-transforms on re-indexing dope
+	 *        vectors rather than on contiguous matrices.
+	 * @throws IllegalArgumentException If <code>size</code> is less than 1, or
+	 *         fac1 and fac2 are illegal in some way (e.g. they're not relatively
+	 *         prime).
+	 * @throws NullPointerException If <code>fac1</code> or <code>fac2</code>
+	 *         are <code>null</code>.
+	 */
+	public PrimeFactorFastFourierTransform( final List<Factor> fac1,
+																					final List<Factor> fac2,
+																					final int size,
+																					final boolean reindexed )
+		throws IllegalArgumentException, NullPointerException
 	{
 		super( size );
 
+		this.reindexed = reindexed;
+
 		if( fac1 == null || fac2 == null )
 		{
 			throw new NullPointerException();
@@ -190,23 +236,201 @@ public strictfp class PrimeFactorFastFourierTransform
 	}
 
 
+	/**
+	 * Is this transform run through the re-indexing dope vectors?
+	 * 
+	 * @return boolean <code>true</code> if re-indexed.
+	 */
+	public boolean isReindexed()
+	{
+		return ( this.reindexed );
+	}
+
+
 	/**
 	 * Create the transient stuff.
 	 */
 	private void transientInit()
 	{
-		// create happy matrices.
-		this.re = new double[ this.cap_n1 ][ this.cap_n2 ];
-		this.im = new double[ this.cap_n1 ][ this.cap_n2 ];
-
-		// create dopes around matrices.
-		this.col = new ColumnMajorComplexDopeVector( this.re, this.im );
-		this.row = new RowMajorComplexDopeVector( this.re, this.im );
-
-		// create inner_comp and outer vectors.
-		this.inner_comp = new InnerCrtComplexDopeVector( this.cap_n1, this.cap_n2 );
-		this.inner_real = new InnerCrtRealDopeVector( this.cap_n1, this.cap_n2 );
-		this.outer = new OuterCrtComplexDopeVector( this.cap_n1, this.cap_n2, this.cap_n1_inv, this.cap_n2_inv );
+		if( this.reindexed == false )
+		{
+			this.flatInit();
+			return;
+		}
+
+		// find n.
+		final int n = this.cap_n1 * this.cap_n2;
+
+		// create permutation maps.
+		this.inner_map = new int[ this.cap_n1 ][ this.cap_n2 ];
+		for( int index = 0; index < this.cap_n1; index++ )
+		{
+			for( int jindex = 0; jindex < this.cap_n2; jindex++ )
+			{
+				this.inner_map[ index ][ jindex ] = ( ( index * this.cap_n2 ) + ( jindex * this.cap_n1 ) ) % n;
+			}
+		}
+
+		this.outer_map = new int[ this.cap_n2 ][ this.cap_n1 ];
+		for( int jindex = 0; jindex < this.cap_n2; jindex++ )
+		{
+			for( int index = 0; index < this.cap_n1; index++ )
+			{
+				this.outer_map[ jindex ][ index ] = ( ( index * this.cap_n2 * this.cap_n2_inv ) + ( jindex * this.cap_n1 * this.cap_n1_inv ) ) % n;
+			}
+		}
+
+		final int n1 = this.cap_n1;
+		final int n2 = this.cap_n2;
+		final int[][] in_map = this.inner_map;
+		final int[][] out_map = this.outer_map;
+
+		// workspaces are created as threads first use this transform.
+		this.workspace = new ThreadLocal<Workspace>()
+		{
+			@Override
+			protected Workspace initialValue()
+			{
+				return ( new Workspace( n1, n2, in_map, out_map ) );
+			}
+		};
+	}
+
+
+	/**
+	 * Create the flattened maps and the matrices.
+	 */
+	private void flatInit()
+	{
+		final int n1 = this.cap_n1;
+		final int n2 = this.cap_n2;
+		final int n = n1 * n2;
+
+		this.input_map = new int[ n ];
+		this.output_map = new int[ n ];
+
+		// step through both maps mod n rather than multiplying out.
+		final int out_step1 = (int)( ( (long) n2 * this.cap_n2_inv ) % n );
+		final int out_step2 = (int)( ( (long) n1 * this.cap_n1_inv ) % n );
+		int in_row = 0;
+		int out_row = 0;
+		int in_index, out_index;
+		for( int row = 0; row < n1; row++ )
+		{
+			in_index = in_row;
+			out_index = out_row;
+			for( int column = 0; column < n2; column++ )
+			{
+				this.input_map[ row * n2 + column ] = in_index;
+				this.output_map[ row * n2 + column ] = out_index;
+
+				in_index += n1;
+				if( in_index >= n )
+				{
+					in_index -= n;
+				}
+
+				out_index += out_step2;
+				if( out_index >= n )
+				{
+					out_index -= n;
+				}
+			}
+
+			in_row += n2;
+			out_row += out_step1;
+			if( out_row >= n )
+			{
+				out_row -= n;
+			}
+		}
+
+		this.matrices = new ThreadLocal<double[][]>()
+		{
+			@Override
+			protected double[][] initialValue()
+			{
+				return ( new double[ 4 ][ n ] );
+			}
+		};
+	}
+
+
+	/**
+	 * Run the transform on the calling thread's matrices. The input is
+	 * gathered before anything is written to the output.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input, or <code>null</code> for real
+	 *        input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param dir the direction.
+	 */
+	private void transformFlat( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection dir )
+	{
+		final int n1 = this.cap_n1;
+		final int n2 = this.cap_n2;
+		final int n = n1 * n2;
+		final int[] input_map = this.input_map;
+		final int[] output_map = this.output_map;
+
+		final double[][] m = this.matrices.get();
+		final double[] a_re = m[ 0 ];
+		final double[] a_im = m[ 1 ];
+		final double[] b_re = m[ 2 ];
+		final double[] b_im = m[ 3 ];
+
+		// gather, and transform the rows.
+		if( in_im == null )
+		{
+			for( int index = 0; index < n; index++ )
+			{
+				a_re[ index ] = in_re[ in_off + input_map[ index ] * in_stride ];
+			}
+
+			for( int row = 0; row < n1; row++ )
+			{
+				this.n2_transform.transform( a_re, row * n2, 1, b_re, b_im, row * n2, 1, dir );
+			}
+		}
+		else
+		{
+			int in_index;
+			for( int index = 0; index < n; index++ )
+			{
+				in_index = in_off + input_map[ index ] * in_stride;
+				a_re[ index ] = in_re[ in_index ];
+				a_im[ index ] = in_im[ in_index ];
+			}
+
+			for( int row = 0; row < n1; row++ )
+			{
+				this.n2_transform.transform( a_re, a_im, row * n2, 1, b_re, b_im, row * n2, 1, dir );
+			}
+		}
+
+		// the columns.
+		for( int column = 0; column < n2; column++ )
+		{
+			this.n1_transform.transform( b_re, b_im, column, n2, a_re, a_im, column, n2, dir );
+		}
+
+		// scatter.
+		int out_index;
+		for( int index = 0; index < n; index++ )
+		{
+			out_index = out_off + output_map[ index ] * out_stride;
+			out_re[ out_index ] = a_re[ index ];
+			out_im[ out_index ] = a_im[ index ];
+		}
 	}
 
 
@@ -225,28 +449,35 @@ public strictfp class PrimeFactorFastFourierTransform
 			final ComplexDopeVector dest, final TransformDirection dir )
 		throws NullPointerException, IllegalArgumentException
 	{
+		if( this.reindexed == false )
+		{
+			this.transformArrays( input, dest, dir );
+			return;
+		}
+
 		this.checkVectors( input, dest );
 		this.checkDirection( dir );
 
-		this.inner_comp.setDelegate( input );
-		this.outer.setDelegate( dest );
+		final Workspace ws = this.workspace.get();
+		ws.inner_comp.setDelegate( input );
+		ws.outer.setDelegate( dest );
 
 		for( int index = 0; index < this.cap_n1; index++ )
 		{
-			this.col.setRow( index );
-			this.inner_comp.setN1( index );
-			this.n2_transform.transform( this.inner_comp, this.col, dir );
+			ws.col.setRow( index );
+			ws.inner_comp.setN1( index );
+			this.n2_transform.transform( ws.inner_comp, ws.col, dir );
 		}
 
 		for( int index = 0; index < this.cap_n2; index++ )
 		{
-			this.row.setColumn( index );
-			this.outer.setK2( index );
-			this.n1_transform.transform( this.row, this.outer, dir );
+			ws.row.setColumn( index );
+			ws.outer.setK2( index );
+			this.n1_transform.transform( ws.row, ws.outer, dir );
 		}
 
-		this.inner_comp.setDelegate( null );
-		this.outer.setDelegate( null );
+		ws.inner_comp.setDelegate( null );
+		ws.outer.setDelegate( null );
 	}
 
 
@@ -264,28 +495,108 @@ public strictfp class PrimeFactorFastFourierTransform
 	public void transform( final RealDopeVector input, final ComplexDopeVector dest, final TransformDirection dir )
 		throws NullPointerException, IllegalArgumentException
 	{
+		if( this.reindexed == false )
+		{
+			this.transformArrays( input, dest, dir );
+			return;
+		}
+
 		this.checkVectors( input, dest );
 		this.checkDirection( dir );
 		
-		this.inner_real.setDelegate( input );
-		this.outer.setDelegate( dest );
+		final Workspace ws = this.workspace.get();
+		ws.inner_real.setDelegate( input );
+		ws.outer.setDelegate( dest );
 
 		for( int index = 0; index < this.cap_n1; index++ )
 		{
-			this.col.setRow( index );
-			this.inner_real.setN1( index );
-			this.n2_transform.forward( this.inner_real, this.col );
+			ws.col.setRow( index );
+			ws.inner_real.setN1( index );
+			this.n2_transform.transform( ws.inner_real, ws.col, dir );
 		}
 
 		for( int index = 0; index < this.cap_n2; index++ )
 		{
-			this.row.setColumn( index );
-			this.outer.setK2( index );
-			this.n1_transform.forward( this.row, this.outer );
+			ws.row.setColumn( index );
+			ws.outer.setK2( index );
+			this.n1_transform.transform( ws.row, ws.outer, dir );
+		}
+
+		ws.inner_real.setDelegate( null );
+		ws.outer.setDelegate( null );
+	}
+
+
+	/**
+	 * Transform complex array data in the specified direction.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param dir the direction.
+	 * @throws NullPointerException If any array or <code>dir</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection dir )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( this.reindexed == true )
+		{
+			super.transform( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride, dir );
+			return;
+		}
+
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( dir );
+
+		this.transformFlat( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride, dir );
+	}
+
+
+	/**
+	 * Transform real array data in the specified direction.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param dir the direction.
+	 * @throws NullPointerException If any array or <code>dir</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection dir )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( this.reindexed == true )
+		{
+			super.transform( in, in_off, in_stride, out_re, out_im, out_off, out_stride, dir );
+			return;
 		}
 
-		this.inner_comp.setDelegate( null );
-		this.outer.setDelegate( null );
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( dir );
+
+		this.transformFlat( in, null, in_off, in_stride, out_re, out_im, out_off, out_stride, dir );
 	}
 
 
@@ -321,31 +632,90 @@ public strictfp class PrimeFactorFastFourierTransform
 
 
 	/**
-	 * Inner CRT re-indexer.
+	 * The matrices and re-indexers one transform works in.
 	 * 
-	 * @author Fran Lattanzio
+	 * @author se.sandos.android contributors
 	 * @version $Revision$ $Date$
 	 */
-	private static final class InnerCrtComplexDopeVector
-		extends AbstractReIndexedComplexDopeVector
-		implements ComplexDopeVector
+	private static final class Workspace
+		extends Object
 	{
 
 
 		/**
-		 * N = n1 * n2
+		 * The arrays in which we will temporarily store everything, during the
+		 * inner transforms.
+		 */
+		final double[][] re, im;
+
+		/**
+		 * Column major dope wrapper.
+		 */
+		final ColumnMajorComplexDopeVector col;
+
+		/**
+		 * Row major dope wrapper.
 		 */
-		private int n;
+		final RowMajorComplexDopeVector row;
 
 		/**
-		 * Cap n1.
+		 * Inner CRT re-indexer
 		 */
-		private int cap_n1;
+		final InnerCrtComplexDopeVector inner_comp;
 
 		/**
-		 * N2.
+		 * Inner CRT re-indexer
 		 */
-		private int cap_n2;
+		final InnerCrtRealDopeVector inner_real;
+
+		/**
+		 * Outer CRT re-indexer.
+		 */
+		final OuterCrtComplexDopeVector outer;
+
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param cap_n1 N1.
+		 * @param cap_n2 N2.
+		 * @param inner_map the shared inner permutation map.
+		 * @param outer_map the shared outer permutation map.
+		 */
+		Workspace( final int cap_n1, final int cap_n2, final int[][] inner_map,
+				final int[][] outer_map )
+		{
+			super();
+
+			// create happy matrices.
+			this.re = new double[ cap_n1 ][ cap_n2 ];
+			this.im = new double[ cap_n1 ][ cap_n2 ];
+
+			// create dopes around matrices.
+			this.col = new ColumnMajorComplexDopeVector( this.re, this.im );
+			this.row = new RowMajorComplexDopeVector( this.re, this.im );
+
+			// create inner and outer vectors.
+			this.inner_comp = new InnerCrtComplexDopeVector( inner_map );
+			this.inner_real = new InnerCrtRealDopeVector( inner_map );
+			this.outer = new OuterCrtComplexDopeVector( outer_map );
+		}
+
+
+	}
+
+
+	/**
+	 * Inner CRT re-indexer.
+	 * 
+	 * @author Fran Lattanzio
+	 * @version $Revision$ $Date$
+	 */
+	private static final class InnerCrtComplexDopeVector
+		extends AbstractReIndexedComplexDopeVector
+		implements ComplexDopeVector
+	{
+
 
 		/**
 		 * Little n1.
@@ -353,36 +723,22 @@ public strictfp class PrimeFactorFastFourierTransform
 		private int low_n1;
 
 		/**
-		 * Permutation map.
+		 * Permutation map, shared with the transform.
 		 */
-		private int[][] perm_map;
+		private final int[][] perm_map;
 		
 
 		/**
 		 * Contructor.
 		 * 
-		 * @param cap_n1 N1 in the PFA definition.
-		 * @param cap_n2 N2 in the PFA definition.
+		 * @param perm_map the permutation map, by n1 and then n2.
 		 */
-		InnerCrtComplexDopeVector( final int cap_n1, final int cap_n2 )
+		InnerCrtComplexDopeVector( final int[][] perm_map )
 		{
 			super();
 
 			// store it.
-			this.cap_n1 = cap_n1;
-			this.cap_n2 = cap_n2;
-
-			// find n.
-			this.n = cap_n1 * cap_n2;
-			
-			this.perm_map = new int[ this.cap_n1 ][ this.cap_n2 ];
-			for( int index = 0; index < this.cap_n1; index++ )
-			{
-				for( int jindex = 0; jindex < this.cap_n2; jindex++ )
-				{
-					this.perm_map[ index ][ jindex ] = ( ( index * this.cap_n2 ) + ( jindex * this.cap_n1 ) ) % this.n;
-				}
-			}
+			this.perm_map = perm_map;
 		}
 
 
@@ -429,7 +785,7 @@ public strictfp class PrimeFactorFastFourierTransform
 		@Override
 		public int getLength()
 		{
-			return ( this.cap_n2 );
+			return ( this.perm_map[ 0 ].length );
 		}
 
 
@@ -448,57 +804,28 @@ public strictfp class PrimeFactorFastFourierTransform
 	{
 
 
-		/**
-		 * N = n1 * n2
-		 */
-		private int n;
-
-		/**
-		 * Cap n1.
-		 */
-		private int cap_n1;
-
-		/**
-		 * N2.
-		 */
-		private int cap_n2;
-
 		/**
 		 * Little n1.
 		 */
 		private int low_n1;
 
 		/**
-		 * Permutation map.
+		 * Permutation map, shared with the transform.
 		 */
-		private int[][] perm_map;
+		private final int[][] perm_map;
 		
 
 		/**
 		 * Contructor.
 		 * 
-		 * @param cap_n1 N1 in the PFA definition.
-		 * @param cap_n2 N2 in the PFA definition.
+		 * @param perm_map the permutation map, by n1 and then n2.
 		 */
-		InnerCrtRealDopeVector( final int cap_n1, final int cap_n2 )
+		InnerCrtRealDopeVector( final int[][] perm_map )
 		{
 			super();
 
 			// store it.
-			this.cap_n1 = cap_n1;
-			this.cap_n2 = cap_n2;
-
-			// find n.
-			this.n = cap_n1 * cap_n2;
-			
-			this.perm_map = new int[ this.cap_n1 ][ this.cap_n2 ];
-			for( int index = 0; index < this.cap_n1; index++ )
-			{
-				for( int jindex = 0; jindex < this.cap_n2; jindex++ )
-				{
-					this.perm_map[ index ][ jindex ] = ( ( index * this.cap_n2 ) + ( jindex * this.cap_n1 ) ) % this.n;
-				}
-			}
+			this.perm_map = perm_map;
 		}
 
 
@@ -545,7 +872,7 @@ public strictfp class PrimeFactorFastFourierTransform
 		@Override
 		public int getLength()
 		{
-			return ( this.cap_n2 );
+			return ( this.perm_map[ 0 ].length );
 		}
 
 
@@ -564,74 +891,28 @@ public strictfp class PrimeFactorFastFourierTransform
 	{
 
 
-		/**
-		 * N = n1 * n2
-		 */
-		private int n;
-
-		/**
-		 * Cap n1.
-		 */
-		private int cap_n1;
-
-		/**
-		 * Cap n2.
-		 */
-		private int cap_n2;
-
-		/**
-		 * Cap n1.
-		 */
-		private int cap_n1_inv;
-
-		/**
-		 * Cap n2.
-		 */
-		private int cap_n2_inv;
-
 		/**
 		 * n1 * N2.
 		 */
 		private int k2;
 
 		/**
-		 * Permutation map.
+		 * Permutation map, shared with the transform.
 		 */
-		private int[][] perm_map;
+		private final int[][] perm_map;
 
 
 		/**
 		 * Contructor.
 		 * 
-		 * @param cap_n1 N1 in the PFA defintion.
-		 * @param cap_n2 N2 in the PFA definition.
-		 * @param cap_n1_inv the multiplicative inverse of N1.
-		 * @param cap_n2_inv the multiplicative inverse of N2.
+		 * @param perm_map the permutation map, by k2 and then k1.
 		 */
-		OuterCrtComplexDopeVector( final int cap_n1, final int cap_n2,
-															final int cap_n1_inv, final int cap_n2_inv )
+		OuterCrtComplexDopeVector( final int[][] perm_map )
 		{
 			super();
 
 			// store it.
-			this.cap_n1 = cap_n1;
-			this.cap_n2 = cap_n2;
-			this.cap_n1_inv = cap_n1_inv;
-			this.cap_n2_inv = cap_n2_inv;
-
-			// find n.
-			this.n = cap_n1 * cap_n2;
-
-			// create permuation map.
-			this.perm_map = new int[ this.cap_n2 ][ this.cap_n1 ];
-
-			for( int jindex = 0; jindex < this.cap_n2; jindex++ )
-			{
-				for( int index = 0; index < this.cap_n1; index++ )
-				{
-					this.perm_map[ jindex ][ index ] = ( ( index * this.cap_n2 * this.cap_n2_inv ) + ( jindex * this.cap_n1 * this.cap_n1_inv ) ) % this.n;
-				}
-			}
+			this.perm_map = perm_map;
 		}
 
 
@@ -678,7 +959,7 @@ public strictfp class PrimeFactorFastFourierTransform
 		@Override
 		public int getLength()
 		{
-			return ( this.cap_n1 );
+			return ( this.perm_map[ 0 ].length );
 		}
 
 
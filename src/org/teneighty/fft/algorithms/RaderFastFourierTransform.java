@@ -42,6 +42,20 @@ import org.teneighty.fft.dope.ComplexDopeVector;
 
 /**
  * This class implements Rader's Fast Fourier Transform.
+ * <p>
+ * The cyclic convolution of <code>p - 1</code> points can be run through a
+ * transform of exactly that size, or, when padded, through a power of two
+ * transform of at least <code>2 ( p - 1 ) - 1</code> points with the kernel
+ * wrapped around its end. The first is best when <code>p - 1</code> factors
+ * into small primes; the second keeps the work at two power of two transforms
+ * when <code>p - 1</code> has large prime factors, which would otherwise
+ * recurse through further Rader or Bluestein transforms. The padded
+ * transform works on arrays and gets the backward transform by conjugating
+ * the input and output of the forward one.
+ * <p>
+ * The convolution kernels and permutation maps are never modified after
+ * construction; the buffers and re-indexers a transform works in are kept per
+ * thread, so one instance can be used by several threads at once.
  * 
  * @author Fran Lattanzio
  * @version $Revision$ $Date$
@@ -59,10 +73,15 @@ public strictfp class RaderFastFourierTransform
 
 
 	/**
-	 * Size - 1 transform.
+	 * Size - 1 transform, or the convolution transform if padded.
 	 */
 	private FourierTransform ft;
 
+	/**
+	 * Whether the convolution is zero padded to a power of two.
+	 */
+	private boolean padded;
+
 	/**
 	 * The generator of the group.
 	 */
@@ -79,12 +98,13 @@ public strictfp class RaderFastFourierTransform
 	private transient int lm1;
 
 	/**
-	 * Forward FFT'ed twiddle factors.
+	 * Forward FFT'ed twiddle factors. If padded, these are of the convolution
+	 * length and already divided by it.
 	 */
 	private transient double[] fft_re_for, fft_im_for;
 
 	/**
-	 * Backward FFT'ed twiddle factors.
+	 * Backward FFT'ed twiddle factors; not used if padded.
 	 */
 	private transient double[] fft_re_back, fft_im_back;
 
@@ -99,29 +119,31 @@ public strictfp class RaderFastFourierTransform
 	private transient int[] output_perm;
 
 	/**
-	 * Buffers for intermediate transforms.
-	 */
-	private transient BackedComplexDopeVector buffer;
-
-	/**
-	 * Happy buffers.
+	 * Each thread's workspace.
 	 */
-	private transient double[] buffer_re, buffer_im;
+	private transient ThreadLocal<Workspace> workspace;
 
 	/**
-	 * Permutation wrapper.
+	 * Each thread's padded workspace: convolution real and imaginary, then
+	 * transform real and imaginary.
 	 */
-	private transient PermutedComplexDopeVector perm_vec;
+	private transient ThreadLocal<double[][]> padded_workspace;
 
-	/**
-	 * Real permutation wrapper.
-	 */
-	private transient PermutedRealDopeVector perm_vec_real;
 
 	/**
-	 * Shifted complex dope.
+	 * Constructor.
+	 * <p>
+	 * We do not check if <code>size</code> is prime here. Passing a composite
+	 * number will simply result in meaningless data.
+	 * 
+	 * @param size the size. Assumed to be prime.
+	 * @throws IllegalArgumentException If <code>size</code> is illegal.
 	 */
-	private transient ShiftedComplexDopeVector shifted_vec;
+	public RaderFastFourierTransform( final int size )
+		throws IllegalArgumentException
+	{
+		this( size, false );
+	}
 
 
 	/**
@@ -131,13 +153,21 @@ public strictfp class RaderFastFourierTransform
 	 * number will simply result in meaningless data.
 	 * 
 	 * @param size the size. Assumed to be prime.
+	 * @param padded whether to zero pad the convolution to a power of two.
 	 * @throws IllegalArgumentException If <code>size</code> is illegal.
 	 */
-	public RaderFastFourierTransform( final int size )
+	public RaderFastFourierTransform( final int size, final boolean padded )
 		throws IllegalArgumentException
 	{
 		super( size );
 
+		if( padded == true && size > ( 1 << 29 ) )
+		{
+			throw new IllegalArgumentException();
+		}
+
+		this.padded = padded;
+
 		// get the generator.
 		this.lm1 = size - 1;
 		this.generator = FourierTransformUtilities.generator( size );
@@ -146,13 +176,43 @@ public strictfp class RaderFastFourierTransform
 		this.generator_inv = FourierTransformUtilities.inverse( this.generator, size );
 
 		// get delegate transform.
-		this.ft = FourierTransformFactory.getTransform( this.lm1 );
+		this.ft = FourierTransformFactory.getTransform( ( padded == true ? convolutionLength( this.lm1 ) : this.lm1 ) );
 
 		// init the twiddles and whatnot.
 		this.transientInit();
 	}
 
 
+	/**
+	 * Get the padded convolution length for a cyclic convolution.
+	 * 
+	 * @param lm1 the length of the cyclic convolution.
+	 * @return int the smallest power of two that holds
+	 *         <code>2 lm1 - 1</code> points.
+	 */
+	private static int convolutionLength( final int lm1 )
+	{
+		int l = 1;
+		while( l < 2 * lm1 - 1 )
+		{
+			l <<= 1;
+		}
+
+		return ( l );
+	}
+
+
+	/**
+	 * Is the convolution zero padded to a power of two?
+	 * 
+	 * @return boolean <code>true</code> if padded.
+	 */
+	public boolean isPadded()
+	{
+		return ( this.padded );
+	}
+
+
 	/**
 	 * Create and initialize all the happy transient data.
 	 */
@@ -160,6 +220,12 @@ public strictfp class RaderFastFourierTransform
 	{
 		final int size = this.getLength();
 
+		if( this.padded == true )
+		{
+			this.paddedInit();
+			return;
+		}
+
 		// create stuff.
 		this.fft_re_for = new double[ this.lm1 ];
 		this.fft_im_for = new double[ this.lm1 ];
@@ -213,37 +279,191 @@ public strictfp class RaderFastFourierTransform
 			this.output_perm[ index ] = ( power - 1 );
 		}
 
-		// create buffers.
-		this.buffer_re = new double[ this.lm1 ];
-		this.buffer_im = new double[ this.lm1 ];
-		this.buffer = new BackedComplexDopeVector( this.buffer_re, this.buffer_im );
+		final int[] perm = this.input_perm;
 
-		// create perm vector.
-		this.perm_vec = new PermutedComplexDopeVector( this.input_perm );
-		this.perm_vec_real = new PermutedRealDopeVector( this.input_perm );
+		// workspaces are created as threads first use this transform.
+		this.workspace = new ThreadLocal<Workspace>()
+		{
+			@Override
+			protected Workspace initialValue()
+			{
+				return ( new Workspace( perm ) );
+			}
+		};
+	}
 
-		// create shitfted vector.
-		this.shifted_vec = new ShiftedComplexDopeVector( this.lm1 );
+
+	/**
+	 * Create the padded kernel, permutation tables and workspace.
+	 */
+	private void paddedInit()
+	{
+		final int size = this.getLength();
+		final int lm1 = this.lm1;
+		final int l = this.ft.getLength();
+
+		// the kernel, wrapped around the end so that the cyclic convolution of
+		// length l gives the one of length lm1 in its first lm1 points.
+		double[] kernel_re = new double[ l ];
+		double[] kernel_im = new double[ l ];
+
+		int num, denom, gcd, power;
+		for( int index = 0; index < lm1; index++ )
+		{
+			power = FourierTransformUtilities.powerMod( this.generator, index, size );
+			num = FourierTransformUtilities.inverse( power, size );
+			denom = size;
+
+			gcd = FourierTransformUtilities.euclid( num, denom );
+			num /= gcd;
+			denom /= gcd;
+
+			final double re = Math.cos( 2 * Math.PI * num / denom );
+			final double im = -Math.sin( 2 * Math.PI * num / denom );
+			kernel_re[ index ] = re;
+			kernel_im[ index ] = im;
+			if( index > 0 )
+			{
+				kernel_re[ l - lm1 + index ] = re;
+				kernel_im[ l - lm1 + index ] = im;
+			}
+		}
+
+		this.fft_re_for = new double[ l ];
+		this.fft_im_for = new double[ l ];
+		this.ft.transform( kernel_re, kernel_im, 0, 1, this.fft_re_for, this.fft_im_for, 0, 1, TransformDirection.FORWARD );
+
+		// fold the normalization of the backward transform in.
+		for( int index = 0; index < l; index++ )
+		{
+			this.fft_re_for[ index ] /= l;
+			this.fft_im_for[ index ] /= l;
+		}
+
+		this.input_perm = new int[ lm1 ];
+		this.output_perm = new int[ lm1 ];
+		for( int index = 0; index < lm1; index++ )
+		{
+			this.input_perm[ index ] = FourierTransformUtilities.powerMod( this.generator, index, size );
+			this.output_perm[ index ] = FourierTransformUtilities.powerMod( this.generator_inv, index, size ) - 1;
+		}
+
+		this.padded_workspace = new ThreadLocal<double[][]>()
+		{
+			@Override
+			protected double[][] initialValue()
+			{
+				return ( new double[ 4 ][ l ] );
+			}
+		};
+	}
+
+
+	/**
+	 * Transform through the padded convolution. The input is gathered in
+	 * generator order into the calling thread's workspace before anything is
+	 * written, so input and output may be the same arrays.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input, or <code>null</code> for real
+	 *        input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param conjugate whether to conjugate the input and output, which makes
+	 *        it the backward transform.
+	 */
+	private void convolve( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final boolean conjugate )
+	{
+		final int lm1 = this.lm1;
+		final int l = this.ft.getLength();
+		final int[] input_perm = this.input_perm;
+		final int[] output_perm = this.output_perm;
+		final double sign = ( conjugate == true ? -1.0 : 1.0 );
+
+		final double[][] s = this.padded_workspace.get();
+		final double[] a_re = s[ 0 ];
+		final double[] a_im = s[ 1 ];
+		final double[] t_re = s[ 2 ];
+		final double[] t_im = s[ 3 ];
+
+		// x0, and the sum of everything for X0.
+		final double x0_re = in_re[ in_off ];
+		final double x0_im = ( in_im == null ? 0.0 : sign * in_im[ in_off ] );
+		double sum_re = x0_re;
+		double sum_im = x0_im;
+
+		int index;
+		for( int q = 0; q < lm1; q++ )
+		{
+			index = in_off + input_perm[ q ] * in_stride;
+			a_re[ q ] = in_re[ index ];
+			a_im[ q ] = ( in_im == null ? 0.0 : sign * in_im[ index ] );
+			sum_re += a_re[ q ];
+			sum_im += a_im[ q ];
+		}
+
+		for( int q = lm1; q < l; q++ )
+		{
+			a_re[ q ] = 0.0;
+			a_im[ q ] = 0.0;
+		}
+
+		this.ft.transform( a_re, a_im, 0, 1, t_re, t_im, 0, 1, TransformDirection.FORWARD );
+
+		final double[] k_re = this.fft_re_for;
+		final double[] k_im = this.fft_im_for;
+		double a, b, c, d;
+		for( int q = 0; q < l; q++ )
+		{
+			a = t_re[ q ];
+			b = t_im[ q ];
+			c = k_re[ q ];
+			d = k_im[ q ];
+
+			t_re[ q ] = ( a * c ) - ( b * d );
+			t_im[ q ] = ( a * d ) + ( b * c );
+		}
+
+		this.ft.transform( t_re, t_im, 0, 1, a_re, a_im, 0, 1, TransformDirection.BACKWARD );
+
+		// scatter back, X[ g^-q ] = x0 + conv[ q ].
+		for( int q = 0; q < lm1; q++ )
+		{
+			index = out_off + ( output_perm[ q ] + 1 ) * out_stride;
+			out_re[ index ] = a_re[ q ] + x0_re;
+			out_im[ index ] = sign * ( a_im[ q ] + x0_im );
+		}
+
+		out_re[ out_off ] = sum_re;
+		out_im[ out_off ] = sign * sum_im;
 	}
 
 
 	/**
 	 * Permuate the specified dopes, according to the specified permutation map.
 	 * 
+	 * @param ws the calling thread's workspace.
 	 * @param input the input dope.
 	 */
-	private void permute( final ComplexDopeVector input )
+	private void permute( final Workspace ws, final ComplexDopeVector input )
 	{
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.buffer_re[ this.output_perm[ index ] ] = input.getReal( index );
-			this.buffer_im[ this.output_perm[ index ] ] = input.getImaginary( index );
+			ws.buffer_re[ this.output_perm[ index ] ] = input.getReal( index );
+			ws.buffer_im[ this.output_perm[ index ] ] = input.getImaginary( index );
 		}
 
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			input.setReal( this.buffer_re[ index ], index );
-			input.setImaginary( this.buffer_im[ index ], index );
+			input.setReal( ws.buffer_re[ index ], index );
+			input.setImaginary( ws.buffer_im[ index ], index );
 		}
 	}
 
@@ -251,20 +471,21 @@ public strictfp class RaderFastFourierTransform
 	/**
 	 * Normalize the specified dope.
 	 * 
+	 * @param ws the calling thread's workspace.
 	 * @param input the input dope.
 	 */
-	private void normalize( final ComplexDopeVector input )
+	private void normalize( final Workspace ws, final ComplexDopeVector input )
 	{
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.buffer_re[ index ] = input.getReal( index ) / this.lm1;
-			this.buffer_im[ index ] = input.getImaginary( index ) / this.lm1;
+			ws.buffer_re[ index ] = input.getReal( index ) / this.lm1;
+			ws.buffer_im[ index ] = input.getImaginary( index ) / this.lm1;
 		}
 
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			input.setReal( this.buffer_re[ index ], index );
-			input.setImaginary( this.buffer_im[ index ], index );
+			input.setReal( ws.buffer_re[ index ], index );
+			input.setImaginary( ws.buffer_im[ index ], index );
 		}
 	}
 
@@ -275,20 +496,21 @@ public strictfp class RaderFastFourierTransform
 	 * Obviously, we're assuming the most recent backwards transform did an
 	 * unnormalized transform... otherwise, this will create problems.
 	 * 
+	 * @param ws the calling thread's workspace.
 	 * @param input the input dope.
 	 */
-	private void permuteAndNormalize( final ComplexDopeVector input )
+	private void permuteAndNormalize( final Workspace ws, final ComplexDopeVector input )
 	{
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.buffer_re[ this.output_perm[ index ] ] = input.getReal( index ) / this.lm1;
-			this.buffer_im[ this.output_perm[ index ] ] = input.getImaginary( index ) / this.lm1;
+			ws.buffer_re[ this.output_perm[ index ] ] = input.getReal( index ) / this.lm1;
+			ws.buffer_im[ this.output_perm[ index ] ] = input.getImaginary( index ) / this.lm1;
 		}
 
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			input.setReal( this.buffer_re[ index ], index );
-			input.setImaginary( this.buffer_im[ index ], index );
+			input.setReal( ws.buffer_re[ index ], index );
+			input.setImaginary( ws.buffer_im[ index ], index );
 		}
 	}
 
@@ -308,35 +530,43 @@ public strictfp class RaderFastFourierTransform
 			final ComplexDopeVector dest )
 		throws NullPointerException, IllegalArgumentException
 	{
+		if( this.padded == true )
+		{
+			this.transformArrays( input, dest, TransformDirection.FORWARD );
+			return;
+		}
+
 		this.checkVectors( input, dest );
 
-		this.perm_vec.setDelegate( input );
+		final Workspace ws = this.workspace.get();
+
+		ws.perm_vec.setDelegate( input );
 
 		// run the forward transformation.
-		this.ft.forward( this.perm_vec, this.buffer );
+		this.ft.forward( ws.perm_vec, ws.buffer );
 
 		// multiply aq and bq (which was pre-computed, above) point-wise.
 		double a, b, c, d;
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			a = this.buffer_re[ index ];
-			b = this.buffer_im[ index ];
+			a = ws.buffer_re[ index ];
+			b = ws.buffer_im[ index ];
 			c = this.fft_re_for[ index ];
 			d = this.fft_im_for[ index ];
 
-			this.buffer_re[ index ] = ( a * c ) - ( b * d );
-			this.buffer_im[ index ] = ( a * d ) + ( b * c );
+			ws.buffer_re[ index ] = ( a * c ) - ( b * d );
+			ws.buffer_im[ index ] = ( a * d ) + ( b * c );
 		}
 
-		this.shifted_vec.setDelegate( dest );
+		ws.shifted_vec.setDelegate( dest );
 
 		// perform inverse transform, as per the convolution theorem.
-		this.ft.backward( this.buffer, this.shifted_vec );
+		this.ft.backward( ws.buffer, ws.shifted_vec );
 
 		// normalize the data (we assume that the backwards/inverse transform was
 		// unnormalized)
 		// and permute the data back into the right order.
-		this.permuteAndNormalize( this.shifted_vec );
+		this.permuteAndNormalize( ws, ws.shifted_vec );
 
 		double x0_real = input.getReal( 0 );
 		double x0_imag = input.getImaginary( 0 );
@@ -344,8 +574,8 @@ public strictfp class RaderFastFourierTransform
 		// add x0 to all Xi.
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.shifted_vec.setReal( this.shifted_vec.getReal( index ) + x0_real, index );
-			this.shifted_vec.setImaginary( this.shifted_vec.getImaginary( index ) + x0_imag, index );
+			ws.shifted_vec.setReal( ws.shifted_vec.getReal( index ) + x0_real, index );
+			ws.shifted_vec.setImaginary( ws.shifted_vec.getImaginary( index ) + x0_imag, index );
 		}
 
 		// compute x0.
@@ -378,38 +608,46 @@ public strictfp class RaderFastFourierTransform
 			final ComplexDopeVector dest )
 		throws NullPointerException, IllegalArgumentException
 	{
+		if( this.padded == true )
+		{
+			this.transformArrays( input, dest, TransformDirection.BACKWARD );
+			return;
+		}
+
 		this.checkVectors( input, dest );
 
-		this.perm_vec.setDelegate( input );
+		final Workspace ws = this.workspace.get();
+
+		ws.perm_vec.setDelegate( input );
 
 		// run the backward transformation.
-		this.ft.backward( this.perm_vec, this.buffer );
+		this.ft.backward( ws.perm_vec, ws.buffer );
 
 		// normalize the results.
-		this.normalize( this.buffer );
+		this.normalize( ws, ws.buffer );
 
 		// multiply aq and bq (which was pre-computed, above) point-wise.
 		double a, b, c, d;
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			a = this.buffer_re[ index ];
-			b = this.buffer_im[ index ];
+			a = ws.buffer_re[ index ];
+			b = ws.buffer_im[ index ];
 			c = this.fft_re_back[ index ];
 			d = this.fft_im_back[ index ];
 
-			this.buffer_re[ index ] = ( a * c ) - ( b * d );
-			this.buffer_im[ index ] = ( a * d ) + ( b * c );
+			ws.buffer_re[ index ] = ( a * c ) - ( b * d );
+			ws.buffer_im[ index ] = ( a * d ) + ( b * c );
 		}
 
-		this.shifted_vec.setDelegate( dest );
+		ws.shifted_vec.setDelegate( dest );
 
 		// perform inverse transform, as per the convolution theorem.
-		this.ft.forward( this.buffer, this.shifted_vec );
+		this.ft.forward( ws.buffer, ws.shifted_vec );
 
 		// normalize the data (we assume that the backwards/inverse transform was
 		// unnormalized)
 		// and permute the data back into the right order.
-		this.permute( this.shifted_vec );
+		this.permute( ws, ws.shifted_vec );
 
 		double x0_real = input.getReal( 0 );
 		double x0_imag = input.getImaginary( 0 );
@@ -417,8 +655,8 @@ public strictfp class RaderFastFourierTransform
 		// add x0 to all Xi.
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.shifted_vec.setReal( this.shifted_vec.getReal( index ) + x0_real, index );
-			this.shifted_vec.setImaginary( this.shifted_vec.getImaginary( index ) + x0_imag, index );
+			ws.shifted_vec.setReal( ws.shifted_vec.getReal( index ) + x0_real, index );
+			ws.shifted_vec.setImaginary( ws.shifted_vec.getImaginary( index ) + x0_imag, index );
 		}
 
 		// compute x0.
@@ -450,42 +688,50 @@ public strictfp class RaderFastFourierTransform
 	public void forward( final RealDopeVector input, final ComplexDopeVector dest )
 		throws NullPointerException, IllegalArgumentException
 	{
+		if( this.padded == true )
+		{
+			this.transformArrays( input, dest, TransformDirection.FORWARD );
+			return;
+		}
+
 		this.checkVectors( input, dest );
 
-		this.perm_vec_real.setDelegate( input );
+		final Workspace ws = this.workspace.get();
+
+		ws.perm_vec_real.setDelegate( input );
 
 		// run the forward transformation.
-		this.ft.forward( this.perm_vec, this.buffer );
+		this.ft.forward( ws.perm_vec_real, ws.buffer );
 
 		// multiply aq and bq (which was pre-computed, above) point-wise.
 		double a, b, c, d;
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			a = this.buffer_re[ index ];
-			b = this.buffer_im[ index ];
+			a = ws.buffer_re[ index ];
+			b = ws.buffer_im[ index ];
 			c = this.fft_re_for[ index ];
 			d = this.fft_im_for[ index ];
 
-			this.buffer_re[ index ] = ( a * c ) - ( b * d );
-			this.buffer_im[ index ] = ( a * d ) + ( b * c );
+			ws.buffer_re[ index ] = ( a * c ) - ( b * d );
+			ws.buffer_im[ index ] = ( a * d ) + ( b * c );
 		}
 
-		this.shifted_vec.setDelegate( dest );
+		ws.shifted_vec.setDelegate( dest );
 
 		// perform inverse transform, as per the convolution theorem.
-		this.ft.backward( this.buffer, this.shifted_vec );
+		this.ft.backward( ws.buffer, ws.shifted_vec );
 
 		// normalize the data (we assume that the backwards/inverse transform was
 		// unnormalized)
 		// and permute the data back into the right order.
-		this.permuteAndNormalize( this.shifted_vec );
+		this.permuteAndNormalize( ws, ws.shifted_vec );
 
 		double x0_real = input.getReal( 0 );
 
 		// add x0 to all Xi.
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.shifted_vec.setReal( this.shifted_vec.getReal( index ) + x0_real, index );
+			ws.shifted_vec.setReal( ws.shifted_vec.getReal( index ) + x0_real, index );
 		}
 
 		// compute x0.
@@ -515,45 +761,53 @@ public strictfp class RaderFastFourierTransform
 	public void backward( final RealDopeVector input, final ComplexDopeVector dest )
 		throws NullPointerException, IllegalArgumentException
 	{
+		if( this.padded == true )
+		{
+			this.transformArrays( input, dest, TransformDirection.BACKWARD );
+			return;
+		}
+
 		this.checkVectors( input, dest );
 
-		this.perm_vec_real.setDelegate( input );
+		final Workspace ws = this.workspace.get();
+
+		ws.perm_vec_real.setDelegate( input );
 
 		// run the backward transformation.
-		this.ft.backward( this.perm_vec, this.buffer );
+		this.ft.backward( ws.perm_vec_real, ws.buffer );
 
 		// normalize the results.
-		this.normalize( this.buffer );
+		this.normalize( ws, ws.buffer );
 
 		// multiply aq and bq (which was pre-computed, above) point-wise.
 		double a, b, c, d;
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			a = this.buffer_re[ index ];
-			b = this.buffer_im[ index ];
+			a = ws.buffer_re[ index ];
+			b = ws.buffer_im[ index ];
 			c = this.fft_re_back[ index ];
 			d = this.fft_im_back[ index ];
 
-			this.buffer_re[ index ] = ( a * c ) - ( b * d );
-			this.buffer_im[ index ] = ( a * d ) + ( b * c );
+			ws.buffer_re[ index ] = ( a * c ) - ( b * d );
+			ws.buffer_im[ index ] = ( a * d ) + ( b * c );
 		}
 
-		this.shifted_vec.setDelegate( dest );
+		ws.shifted_vec.setDelegate( dest );
 
 		// perform inverse transform, as per the convolution theorem.
-		this.ft.forward( this.buffer, this.shifted_vec );
+		this.ft.forward( ws.buffer, ws.shifted_vec );
 
 		// normalize the data (we assume that the backwards/inverse transform was
 		// unnormalized)
 		// and permute the data back into the right order.
-		this.permute( this.shifted_vec );
+		this.permute( ws, ws.shifted_vec );
 
 		double x0_real = input.getReal( 0 );
 
 		// add x0 to all Xi.
 		for( int index = 0; index < this.lm1; index++ )
 		{
-			this.shifted_vec.setReal( this.shifted_vec.getReal( index ) + x0_real, index );
+			ws.shifted_vec.setReal( ws.shifted_vec.getReal( index ) + x0_real, index );
 		}
 
 		// compute x0.
@@ -625,6 +879,79 @@ public strictfp class RaderFastFourierTransform
 	}
 
 
+	/**
+	 * Transform complex array data in the specified direction.
+	 * 
+	 * @param in_re real part of the input.
+	 * @param in_im imaginary part of the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in_re, final double[] in_im,
+			final int in_off, final int in_stride, final double[] out_re,
+			final double[] out_im, final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( this.padded == false )
+		{
+			super.transform( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride, direction );
+			return;
+		}
+
+		this.checkArrays( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		this.convolve( in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride, ( direction == TransformDirection.BACKWARD ) );
+	}
+
+
+	/**
+	 * Transform real array data in the specified direction.
+	 * 
+	 * @param in the input.
+	 * @param in_off index of the first input element.
+	 * @param in_stride distance between input elements.
+	 * @param out_re real part of the destination.
+	 * @param out_im imaginary part of the destination.
+	 * @param out_off index of the first output element.
+	 * @param out_stride distance between output elements.
+	 * @param direction the direction.
+	 * @throws NullPointerException If any array or <code>direction</code> is
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException If the arrays do not fit this
+	 *         transform.
+	 */
+	@Override
+	public void transform( final double[] in, final int in_off,
+			final int in_stride, final double[] out_re, final double[] out_im,
+			final int out_off, final int out_stride,
+			final TransformDirection direction )
+		throws NullPointerException, IllegalArgumentException
+	{
+		if( this.padded == false )
+		{
+			super.transform( in, in_off, in_stride, out_re, out_im, out_off, out_stride, direction );
+			return;
+		}
+
+		this.checkArrays( in, in_off, in_stride, out_re, out_im, out_off, out_stride );
+		this.checkDirection( direction );
+
+		this.convolve( in, null, in_off, in_stride, out_re, out_im, out_off, out_stride, ( direction == TransformDirection.BACKWARD ) );
+	}
+
+
 	/**
 	 * Serialization nonsense.
 	 * 
@@ -661,6 +988,71 @@ public strictfp class RaderFastFourierTransform
 	}
 
 
+	/**
+	 * The buffers and re-indexers one transform works in.
+	 * 
+	 * @author se.sandos.android contributors
+	 * @version $Revision$ $Date$
+	 */
+	private static final class Workspace
+		extends Object
+	{
+
+
+		/**
+		 * Buffers for intermediate transforms.
+		 */
+		final BackedComplexDopeVector buffer;
+
+		/**
+		 * Happy buffers.
+		 */
+		final double[] buffer_re, buffer_im;
+
+		/**
+		 * Permutation wrapper.
+		 */
+		final PermutedComplexDopeVector perm_vec;
+
+		/**
+		 * Real permutation wrapper.
+		 */
+		final PermutedRealDopeVector perm_vec_real;
+
+		/**
+		 * Shifted complex dope.
+		 */
+		final ShiftedComplexDopeVector shifted_vec;
+
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param input_perm the shared input permutation map.
+		 */
+		Workspace( final int[] input_perm )
+		{
+			super();
+
+			final int lm1 = input_perm.length;
+
+			// create buffers.
+			this.buffer_re = new double[ lm1 ];
+			this.buffer_im = new double[ lm1 ];
+			this.buffer = new BackedComplexDopeVector( this.buffer_re, this.buffer_im );
+
+			// create perm vector.
+			this.perm_vec = new PermutedComplexDopeVector( input_perm );
+			this.perm_vec_real = new PermutedRealDopeVector( input_perm );
+
+			// create shitfted vector.
+			this.shifted_vec = new ShiftedComplexDopeVector( lm1 );
+		}
+
+
+	}
+
+
 	/**
 	 * Creates a +1 shifted view around the backed dope vector.
 	 * 
@@ -0,0 +1,104 @@
+/*
+ * $Id$
+ *
+ * Copyright (c) 2006 Fran Lattanzio
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft.algorithms;
+
+import org.teneighty.fft.dope.ComplexDopeVector;
+import org.teneighty.fft.dope.RealDopeVector;
+
+
+/**
+ * Strided view of part of a pair of arrays.
+ * <p>
+ * This is a package-level class.
+ *
+ * @author Fran Lattanzio
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+class StridedComplexDopeVector
+	extends StridedRealDopeVector
+	implements RealDopeVector, ComplexDopeVector
+{
+
+
+	/**
+	 * Imaginary part.
+	 */
+	private final double[] im;
+
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param re the real part.
+	 * @param im the imaginary part.
+	 * @param offset index of element 0.
+	 * @param stride distance between elements.
+	 * @param length number of elements.
+	 */
+	StridedComplexDopeVector( final double[] re, final double[] im,
+			final int offset, final int stride, final int length )
+	{
+		super( re, offset, stride, length );
+
+		// store stuff.
+		this.im = im;
+	}
+
+
+	/**
+	 * Get the imaginary part of the specified number.
+	 * 
+	 * @param index the index.
+	 * @return double the imaginary part.
+	 * @throws ArrayIndexOutOfBoundsException If <code>index</code> is out of
+	 *         bounds.
+	 */
+	public final double getImaginary( final int index )
+		throws ArrayIndexOutOfBoundsException
+	{
+		this.checkIndex( index );
+		return ( this.im[ this.offset + index * this.stride ] );
+	}
+
+
+	/**
+	 * Set the imaginary part of the specified number.
+	 * 
+	 * @param value the value.
+	 * @param index the index.
+	 * @throws ArrayIndexOutOfBoundsException If <code>index</code> is out of
+	 *         bounds.
+	 */
+	public final void setImaginary( final double value, final int index )
+		throws ArrayIndexOutOfBoundsException
+	{
+		this.checkIndex( index );
+		this.im[ this.offset + index * this.stride ] = value;
+	}
+
+
+}
@@ -0,0 +1,69 @@
+package se.sandos.android;
+
+import android.util.Log;
+
+/**
+ * Consumer side of the capture pipeline. Pulls fixed size chunks out of an
+ * {@link AudioRingBuffer} and hands them to the analysis callback on its own
+ * thread, so that slow analysis never holds up AudioRecord.read.
+ */
+public class AnalysisWorker implements Runnable {
+
+    /** How long to park before re-checking the running flag. */
+    private static final long POLL_MILLIS = 250;
+
+    private final AudioRingBuffer ring;
+    private final AudioCallback callback;
+    private final int sampleRate;
+    private final short[] chunk;
+    private volatile boolean running = true;
+
+    private long reportedOverruns;
+
+    /**
+     * @param ring
+     *            ring buffer filled by the capture thread
+     * @param callback
+     *            receives each chunk, on the worker thread
+     * @param sampleRate
+     *            sample rate of the audio in the ring
+     * @param chunkSize
+     *            number of samples handed to the callback per call
+     */
+    public AnalysisWorker(AudioRingBuffer ring, AudioCallback callback, int sampleRate, int chunkSize) {
+        if (chunkSize > ring.getCapacity()) {
+            throw new IllegalArgumentException("Chunk larger than ring: " + chunkSize);
+        }
+        this.ring = ring;
+        this.callback = callback;
+        this.sampleRate = sampleRate;
+        this.chunk = new short[chunkSize];
+    }
+
+    public void run() {
+        while (running) {
+            if (!ring.awaitAvailable(chunk.length, POLL_MILLIS)) {
+                continue;
+            }
+
+            int read = ring.read(chunk, 0, chunk.length);
+
+            long overruns = ring.getOverrunCount();
+            if (overruns != reportedOverruns) {
+                reportedOverruns = overruns;
+                Log.w("MAJS", "Analysis falling behind: " + overruns + " overruns, "
+                        + ring.getDroppedSamples() + " samples dropped");
+            }
+
+            callback.receiveAudio(chunk, read, sampleRate);
+        }
+    }
+
+    /**
+     * Ask the worker to finish. Returns immediately; join the thread running
+     * the worker to wait for it.
+     */
+    public void stop() {
+        running = false;
+    }
+}
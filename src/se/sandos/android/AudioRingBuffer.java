@@ -0,0 +1,159 @@
+package se.sandos.android;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer of PCM samples.
+ *
+ * The producer (the capture thread) never blocks: if the consumer has fallen
+ * behind and there is not enough free space, the samples that do not fit are
+ * dropped and counted as an overrun. Exactly one thread may call
+ * {@link #write(short[], int, int)} and exactly one other thread may call
+ * {@link #read(short[], int, int)} and {@link #awaitAvailable(int, long)}.
+ */
+public class AudioRingBuffer {
+
+    private final short[] buffer;
+    private final int mask;
+
+    /** Total number of samples ever written. Only advanced by the producer. */
+    private volatile long writePosition;
+    /** Total number of samples ever read. Only advanced by the consumer. */
+    private volatile long readPosition;
+
+    private volatile long overruns;
+    private volatile long droppedSamples;
+
+    /** The consumer thread parked in awaitAvailable, if any. */
+    private volatile Thread waiter;
+
+    /**
+     * @param minCapacity
+     *            minimum number of samples the ring can hold, rounded up to
+     *            the next power of two
+     */
+    public AudioRingBuffer(int minCapacity) {
+        if (minCapacity < 1 || minCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Bad capacity " + minCapacity);
+        }
+        int capacity = 1;
+        while (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        buffer = new short[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Copy samples into the ring. Never blocks. Producer thread only.
+     *
+     * @return the number of samples actually written; anything less than
+     *         length was dropped and is accounted for in the overrun counters
+     */
+    public int write(short[] src, int offset, int length) {
+        final long w = writePosition;
+        final int free = buffer.length - (int) (w - readPosition);
+        final int n = Math.min(free, length);
+
+        if (n < length) {
+            // Single writer, so plain read-modify-write is fine here.
+            overruns++;
+            droppedSamples += length - n;
+        }
+
+        if (n > 0) {
+            final int start = (int) w & mask;
+            final int first = Math.min(n, buffer.length - start);
+            System.arraycopy(src, offset, buffer, start, first);
+            if (first < n) {
+                System.arraycopy(src, offset + first, buffer, 0, n - first);
+            }
+            // Publish the samples to the consumer.
+            writePosition = w + n;
+        }
+
+        final Thread t = waiter;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+        return n;
+    }
+
+    /**
+     * Copy up to length samples out of the ring. Never blocks. Consumer thread
+     * only.
+     *
+     * @return the number of samples read, possibly 0
+     */
+    public int read(short[] dst, int offset, int length) {
+        final long r = readPosition;
+        final int n = Math.min(length, (int) (writePosition - r));
+
+        if (n > 0) {
+            final int start = (int) r & mask;
+            final int first = Math.min(n, buffer.length - start);
+            System.arraycopy(buffer, start, dst, offset, first);
+            if (first < n) {
+                System.arraycopy(buffer, 0, dst, offset + first, n - first);
+            }
+            // Hand the space back to the producer.
+            readPosition = r + n;
+        }
+        return n;
+    }
+
+    /**
+     * Wait until at least count samples can be read. Consumer thread only.
+     *
+     * @return true if the samples are available, false on timeout or
+     *         interrupt
+     */
+    public boolean awaitAvailable(int count, long timeoutMillis) {
+        if (available() >= count) {
+            return true;
+        }
+
+        final long deadline = System.nanoTime() + timeoutMillis * 1000000L;
+        waiter = Thread.currentThread();
+        try {
+            while (available() < count) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            return true;
+        } finally {
+            waiter = null;
+        }
+    }
+
+    /**
+     * @return the number of samples waiting to be read
+     */
+    public int available() {
+        return (int) (writePosition - readPosition);
+    }
+
+    /**
+     * @return the number of samples the ring can hold
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return how many writes could not be stored completely
+     */
+    public long getOverrunCount() {
+        return overruns;
+    }
+
+    /**
+     * @return the total number of samples dropped because of overruns
+     */
+    public long getDroppedSamples() {
+        return droppedSamples;
+    }
+}
@@ -0,0 +1,41 @@
+package se.sandos.android;
+
+import java.io.IOException;
+
+/**
+ * Somewhere to get mono 16-bit PCM from. Mirrors the parts of
+ * android.media.AudioRecord that {@link Recorder} uses, so the analysis chain
+ * can be fed from a microphone, a file or a generator alike.
+ */
+public interface AudioSource {
+
+    /** Returned by {@link #read(short[], int, int)} when a finite source is exhausted. */
+    public static final int END_OF_STREAM = -1;
+
+    /**
+     * @return sample rate in Hz
+     */
+    public int getSampleRate();
+
+    /**
+     * @return a sensible number of samples to ask for per read
+     */
+    public int getBufferSize();
+
+    /**
+     * Start producing samples.
+     */
+    public void start() throws IOException;
+
+    /**
+     * Read up to length samples. Live sources block until data is available.
+     *
+     * @return number of samples read, or {@link #END_OF_STREAM}
+     */
+    public int read(short[] buffer, int offset, int length) throws IOException;
+
+    /**
+     * Stop and free any resources. The source cannot be restarted.
+     */
+    public void release();
+}
@@ -0,0 +1,227 @@
+package se.sandos.android;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Analyzes a long recording offline, much faster than real time, by cutting it
+ * into overlapping segments and running the same FFT and peak search as the
+ * live {@link FFTReceiver} on every segment in a pool of worker threads.
+ * 
+ * Every segment is analyzed from scratch by a fresh spectrum, so the output
+ * is the same whatever the number of threads. Results are written in segment
+ * order as CSV lines of segment center time, frequency and RPM, the latter
+ * from a {@link HarmonicRpmDetector} for the given engine.
+ * 
+ * Usage:
+ * <pre>
+ * BatchAnalyzer &lt;in.wav&gt; &lt;out.csv&gt; [segmentSamples hopSamples threads [cylinders strokes]]
+ * </pre>
+ */
+public class BatchAnalyzer {
+
+    /** Segments handed to the pool at a time; bounds memory use. */
+    private static final int SEGMENTS_PER_BLOCK = 256;
+    private static final double MIN_RPM = 500;
+    private static final double MAX_RPM = 8000;
+    private static final int HARMONICS = 4;
+
+    private final int segmentLength;
+    private final int hop;
+    private final int threads;
+    private final int cylinders;
+    private final int strokes;
+
+    private long samples;
+    private long segments;
+    private long nanos;
+
+    /**
+     * Analysis for a four cylinder four stroke engine.
+     */
+    public BatchAnalyzer(int segmentLength, int hop, int threads) {
+        this(segmentLength, hop, threads, 4, 4);
+    }
+
+    /**
+     * @param segmentLength
+     *            samples per segment, at least one FFT frame
+     * @param hop
+     *            samples between segment starts
+     * @param threads
+     *            worker threads
+     * @param cylinders
+     *            engine cylinders, for the RPM
+     * @param strokes
+     *            2 or 4
+     */
+    public BatchAnalyzer(int segmentLength, int hop, int threads, int cylinders, int strokes) {
+        if (segmentLength < FFTReceiver.FFT_SIZE) {
+            throw new IllegalArgumentException("Segment shorter than one FFT: " + segmentLength);
+        }
+        if (hop < 1 || hop > segmentLength) {
+            throw new IllegalArgumentException("Bad hop " + hop);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Bad thread count " + threads);
+        }
+        this.segmentLength = segmentLength;
+        this.hop = hop;
+        this.threads = threads;
+        this.cylinders = cylinders;
+        this.strokes = strokes;
+        // Fail here rather than on the first worker thread.
+        new HarmonicRpmDetector(cylinders, strokes, MIN_RPM, MAX_RPM, HARMONICS);
+    }
+
+    /**
+     * Analyze the whole source and write one CSV line per segment.
+     */
+    public void analyze(AudioSource source, Writer out) throws IOException {
+        final int sampleRate = source.getSampleRate();
+        final short[] block = new short[(SEGMENTS_PER_BLOCK - 1) * hop + segmentLength];
+        final FFTResult[] results = new FFTResult[SEGMENTS_PER_BLOCK];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new FFTResult();
+        }
+
+        // One analyzer per worker thread, they keep their own spectrum.
+        final ThreadLocal<FFTReceiver> analyzers = new ThreadLocal<FFTReceiver>() {
+            @Override
+            protected FFTReceiver initialValue() {
+                FFTReceiver receiver = new FFTReceiver(null, WindowFunction.HANN, FFTReceiver.FFT_SIZE / 2,
+                        new JavaFrameTransform(FFTReceiver.FFT_SIZE));
+                receiver.setRpmDetector(new HarmonicRpmDetector(cylinders, strokes, MIN_RPM, MAX_RPM, HARMONICS));
+                return receiver;
+            }
+        };
+
+        final PrintWriter csv = new PrintWriter(out);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        final List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(SEGMENTS_PER_BLOCK);
+
+        samples = 0;
+        segments = 0;
+        long start = System.nanoTime();
+        source.start();
+        try {
+            int filled = 0;
+            boolean eof = false;
+            while (!eof) {
+                // Top up the block.
+                while (filled < block.length) {
+                    int read = source.read(block, filled, block.length - filled);
+                    if (read == AudioSource.END_OF_STREAM) {
+                        eof = true;
+                        break;
+                    }
+                    filled += read;
+                    samples += read;
+                }
+
+                int count = filled < segmentLength ? 0 : Math.min(SEGMENTS_PER_BLOCK, (filled - segmentLength) / hop + 1);
+
+                tasks.clear();
+                for (int i = 0; i < count; i++) {
+                    final int offset = i * hop;
+                    final FFTResult result = results[i];
+                    tasks.add(new Callable<Object>() {
+                        public Object call() {
+                            analyzers.get().analyze(block, offset, segmentLength, sampleRate, result);
+                            return null;
+                        }
+                    });
+                }
+                waitFor(pool.invokeAll(tasks));
+
+                for (int i = 0; i < count; i++) {
+                    double center = (segments + i) * (double) hop + segmentLength / 2.0;
+                    csv.println((center / sampleRate) + "," + results[i].frequency + "," + results[i].rpm);
+                }
+                segments += count;
+
+                // Keep the samples the next segment still needs.
+                int consumed = count * hop;
+                if (consumed > 0) {
+                    System.arraycopy(block, consumed, block, 0, filled - consumed);
+                    filled -= consumed;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted");
+        } finally {
+            pool.shutdownNow();
+            source.release();
+            csv.flush();
+        }
+        nanos = System.nanoTime() - start;
+    }
+
+    private static void waitFor(List<Future<Object>> futures) throws IOException, InterruptedException {
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException e) {
+                throw (IOException) new IOException("Analysis failed").initCause(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * @return number of samples read by the last run
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return number of segments analyzed by the last run
+     */
+    public long getSegments() {
+        return segments;
+    }
+
+    /**
+     * @return samples per second of wall clock time in the last run
+     */
+    public double getSamplesPerSecond() {
+        return nanos == 0 ? 0 : samples * 1e9 / nanos;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 5 && args.length != 7) {
+            System.err.println("Usage: BatchAnalyzer <in.wav> <out.csv> [segmentSamples hopSamples threads [cylinders strokes]]");
+            System.exit(1);
+        }
+
+        int segment = args.length >= 5 ? Integer.parseInt(args[2]) : 4 * FFTReceiver.FFT_SIZE;
+        int hop = args.length >= 5 ? Integer.parseInt(args[3]) : segment / 2;
+        int threads = args.length >= 5 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        int cylinders = args.length == 7 ? Integer.parseInt(args[5]) : 4;
+        int strokes = args.length == 7 ? Integer.parseInt(args[6]) : 4;
+
+        WavFileAudioSource source = new WavFileAudioSource(new File(args[0]));
+        BatchAnalyzer analyzer = new BatchAnalyzer(segment, hop, threads, cylinders, strokes);
+        FileWriter out = new FileWriter(args[1]);
+        try {
+            analyzer.analyze(source, out);
+        } finally {
+            out.close();
+        }
+
+        System.err.println(analyzer.getSegments() + " segments, " + analyzer.getSamples() + " samples, "
+                + (long) analyzer.getSamplesPerSecond() + " samples/s on " + threads + " threads, "
+                + (long) (analyzer.getSamplesPerSecond() / source.getSampleRate()) + "x real time");
+    }
+}
@@ -0,0 +1,37 @@
+package se.sandos.android;
+
+/**
+ * Low pass filters and downsamples audio before handing it on, so analysis
+ * that only looks at low frequencies can run at a fraction of the capture
+ * rate. The downstream callback sees sampleRate / factor.
+ */
+public class DecimatingCallback implements AudioCallback {
+
+    private final AudioCallback downstream;
+    private final Decimator decimator;
+    private short[] out = new short[0];
+
+    /**
+     * @param downstream
+     *            receives the decimated audio
+     * @param factor
+     *            decimation factor, e.g. 8 to go from 8 kHz to 1 kHz
+     */
+    public DecimatingCallback(AudioCallback downstream, int factor) {
+        this.downstream = downstream;
+        this.decimator = new Decimator(factor);
+    }
+
+    @Override
+    public void receiveAudio(short[] audio, int numSamples, int sampleRate) {
+        int needed = decimator.maxOutput(numSamples);
+        if (out.length < needed) {
+            // Only grows when a larger buffer than before arrives.
+            out = new short[needed];
+        }
+        int n = decimator.process(audio, 0, numSamples, out);
+        if (n > 0) {
+            downstream.receiveAudio(out, n, sampleRate / decimator.getFactor());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package se.sandos.android;
+
+/**
+ * Streaming anti-alias low pass filter and downsampler. Only every factor'th
+ * output of the FIR is computed, so the cost is taps / factor multiplies per
+ * input sample, the same as a polyphase filter bank. Filter state is kept
+ * between calls, so buffers can be of any size.
+ */
+public class Decimator {
+
+    /** Filter length per output phase. */
+    private static final int TAPS_PER_PHASE = 16;
+    /** Passband edge as a fraction of the output Nyquist frequency. */
+    private static final double CUTOFF = 0.8;
+    private static final int COEFF_SHIFT = 15;
+
+    private final int factor;
+    /** Coefficients in Q15, reversed so they run oldest to newest sample. */
+    private final int[] taps;
+    /** Delay line stored twice, so a window of taps.length is always contiguous. */
+    private final short[] delay;
+    private int pos;
+    private int phase;
+
+    /**
+     * @param factor
+     *            keep one sample of every factor, 1 passes audio through
+     */
+    public Decimator(int factor) {
+        if (factor < 1) {
+            throw new IllegalArgumentException("Bad decimation factor " + factor);
+        }
+        this.factor = factor;
+        this.taps = factor == 1 ? new int[] { 1 << COEFF_SHIFT } : design(factor * TAPS_PER_PHASE, CUTOFF * 0.5
+                / factor);
+        this.delay = new short[2 * taps.length];
+    }
+
+    /**
+     * Blackman windowed sinc, normalized to unity gain at DC.
+     * 
+     * @param cutoff
+     *            cycles per input sample
+     */
+    private static int[] design(int length, double cutoff) {
+        double[] h = new double[length];
+        double sum = 0;
+        double mid = (length - 1) / 2.0;
+        for (int n = 0; n < length; n++) {
+            double x = n - mid;
+            double sinc = x == 0 ? 2 * cutoff : Math.sin(2 * Math.PI * cutoff * x) / (Math.PI * x);
+            double w = 0.42 - 0.5 * Math.cos(2 * Math.PI * n / (length - 1)) + 0.08
+                    * Math.cos(4 * Math.PI * n / (length - 1));
+            h[n] = sinc * w;
+            sum += h[n];
+        }
+        int[] fixed = new int[length];
+        for (int n = 0; n < length; n++) {
+            fixed[length - 1 - n] = (int) Math.round(h[n] / sum * (1 << COEFF_SHIFT));
+        }
+        return fixed;
+    }
+
+    /**
+     * Filter and downsample.
+     * 
+     * @param out
+     *            room for at least {@link #maxOutput(int)} samples
+     * @return the number of samples written to out
+     */
+    public int process(short[] in, int offset, int numSamples, short[] out) {
+        final int n = taps.length;
+        int produced = 0;
+        for (int i = 0; i < numSamples; i++) {
+            final short s = in[offset + i];
+            delay[pos] = s;
+            delay[pos + n] = s;
+            pos = pos + 1 == n ? 0 : pos + 1;
+
+            if (++phase == factor) {
+                phase = 0;
+                // delay[pos .. pos + n) runs from the oldest to the newest sample.
+                long acc = 0;
+                for (int k = 0; k < n; k++) {
+                    acc += delay[pos + k] * taps[k];
+                }
+                long v = (acc + (1 << (COEFF_SHIFT - 1))) >> COEFF_SHIFT;
+                if (v > Short.MAX_VALUE) {
+                    v = Short.MAX_VALUE;
+                } else if (v < Short.MIN_VALUE) {
+                    v = Short.MIN_VALUE;
+                }
+                out[produced++] = (short) v;
+            }
+        }
+        return produced;
+    }
+
+    /**
+     * @return the most samples {@link #process} can produce from numSamples
+     */
+    public int maxOutput(int numSamples) {
+        return numSamples / factor + 1;
+    }
+
+    public int getFactor() {
+        return factor;
+    }
+
+    /**
+     * Clear the filter state.
+     */
+    public void reset() {
+        for (int i = 0; i < delay.length; i++) {
+            delay[i] = 0;
+        }
+        pos = 0;
+        phase = 0;
+    }
+}
@@ -9,55 +9,210 @@ import android.util.Log;
 public class FFTReceiver implements AudioCallback {
 
     private static final int FFT_SIZE_BITS = 11;
-    private static final int FFT_SIZE = 1 << FFT_SIZE_BITS;
+    static final int FFT_SIZE = 1 << FFT_SIZE_BITS;
     
-    private static final int HOP = FFT_SIZE;
     private HertzReceiver receiver;
     private FFTView fft;
     //private double[] avg;
-    private long[] avg = new long[FFT_SIZE/2];
+    private final long[] avg;
     private FourierTransform transform;
     
     private final static boolean doubleDft = false;
+
+    /**
+     * Verbose logging. Off, the string building in the per-buffer path is
+     * compiled out entirely.
+     */
+    private final static boolean logging = false;
+
+    // Reused every buffer so the steady state does not allocate.
+    private final short[] magdft = doubleDft ? new short[FFT_SIZE] : null;
+    private final FFTResult result = new FFTResult();
+    /** Forward transform, created once; this instance is its only user. */
+    private final FrameTransform frameTransform;
+    /** Frame size, FFT_SIZE unless another transform was given. */
+    private final int size;
+
+    private final StftFramer framer;
+
+    /** Optional time domain estimator overriding the spectral peak. */
+    private PitchEstimator pitchEstimator;
+    private final FFTResult pitch = new FFTResult();
+    private boolean pitchFound;
+
+    private HarmonicRpmDetector rpmDetector;
+
+    /** Full search range of the peak search. */
+    private static final double MIN_HZ = 25;
+    private static final double MAX_HZ = 70;
+    private RpmTracker tracker;
+    /** Samples received since the tracker was last updated. */
+    private long samplesSinceUpdate;
+    /** Bins accumulated in avg. */
+    private int accumulatedBins;
     
+    /**
+     * Hann window with 50% overlap.
+     */
     public FFTReceiver(HertzReceiver recv) {
+        this(recv, WindowFunction.HANN, FFT_SIZE / 2);
+    }
+
+    /**
+     * @param recv
+     *            gets the strongest frequency after every buffer, may be null
+     * @param window
+     *            window applied to each frame
+     * @param hop
+     *            samples between frames, size / 2 for 50% overlap and
+     *            size / 4 for 75%
+     */
+    public FFTReceiver(HertzReceiver recv, WindowFunction window, int hop) {
+        this(recv, window, hop, new NativeFrameTransform(FFT_SIZE));
+    }
+
+    /**
+     * @param frameTransform
+     *            FFT to use, e.g. a {@link JavaFrameTransform} where the
+     *            native library is not available. Its size sets the frame
+     *            size, so a smaller one suits decimated audio.
+     */
+    public FFTReceiver(HertzReceiver recv, WindowFunction window, int hop, FrameTransform frameTransform) {
         //transform = FourierTransformFactory.getTransform(FFT_SIZE);
         receiver = recv;
+        size = frameTransform.getSize();
+        avg = new long[size/2];
+        framer = new StftFramer(size, hop, window);
+        this.frameTransform = frameTransform;
     }
 
+    /**
+     * Frames may straddle buffers: samples left over at the end of one buffer
+     * are kept and completed by the next. If a buffer does not complete any
+     * frame the view and receiver are not updated.
+     */
     @Override
     public void receiveAudio(short[] audio, int numSamples, int sampleRate) {
-        Log.v("MAJS", "" + numSamples);
-        int offset = 0;
+        if(logging) {
+            Log.v("MAJS", "" + numSamples);
+        }
+        samplesSinceUpdate += numSamples;
+        if(accumulate(audio, 0, numSamples, sampleRate) == 0) {
+            return;
+        }
+        if(tracker == null) {
+            spectrumDone(sampleRate, result, MIN_HZ, MAX_HZ);
+        } else {
+            track(sampleRate);
+        }
+        
+        if(fft != null) {
+            fft.newFFT(avg, result, sampleRate, size);
+        }
+//
+//        //Log.v("MAJS", "Freq: " + result.frequency);
+        if(receiver != null) {
+            receiver.hertz((int) result.frequency);
+        }
+    }
+
+    /**
+     * Run the spectrum accumulation and peak search over part of a buffer,
+     * without touching the view or the receiver. Each instance keeps its own
+     * spectrum, so use one instance per thread. The segment is analyzed on its
+     * own; nothing is carried over from or to other calls.
+     * 
+     * @param audio samples
+     * @param offset first sample to analyze
+     * @param numSamples number of samples to analyze
+     * @param sampleRate sample rate of the audio
+     * @param result receives the strongest frequency
+     */
+    public void analyze(short[] audio, int offset, int numSamples, int sampleRate, FFTResult result) {
+        framer.reset();
+        accumulate(audio, offset, numSamples, sampleRate);
+        framer.reset();
+        spectrumDone(sampleRate, result, MIN_HZ, MAX_HZ);
+    }
+
+    /**
+     * Search only around the tracker's prediction and report its smoothed
+     * frequency.
+     */
+    private void track(int sampleRate) {
+        final double dt = samplesSinceUpdate / (double) sampleRate;
+        samplesSinceUpdate = 0;
+        final double min = tracker.getSearchMin(dt);
+        final double max = tracker.getSearchMax(dt);
+        spectrumDone(sampleRate, result, min, max);
+
+        // A peak on a narrowed edge of the window probably belongs to
+        // something outside it.
+        boolean good = result.bin >= 0;
+        if(good && !pitchFound) {
+            if(min > tracker.getMinHz() && binFreq(result.bin - 1, sampleRate) <= min) {
+                good = false;
+            }
+            if(max < tracker.getMaxHz() && binFreq(result.bin + 1, sampleRate) >= max) {
+                good = false;
+            }
+        }
+        result.frequency = tracker.update(result.frequency, dt, good);
+    }
+
+    /**
+     * Clear the spectrum and add up every frame the samples complete.
+     * 
+     * @return the number of frames
+     */
+    private int accumulate(short[] audio, int offset, int numSamples, int sampleRate) {
         //avg = new double[FFT_SIZE/2];
         //avg = new long[FFT_SIZE/2];
         for(int i=0; i<avg.length; i++) {
             avg[i] = 0;
         }
         long s = System.currentTimeMillis();
-        int num = 0;
+        pitchFound = false;
         
-        while(offset + FFT_SIZE <= numSamples) {
-            doFFT(audio, offset, sampleRate);
-            offset += HOP;
-            num++;
+        // All frames of the buffer are windowed, transformed and summed in
+        // one call, only for bins below 500 Hz, or as far as the harmonics
+        // the rpm detector needs.
+        int num = framer.append(audio, offset, numSamples);
+        if(num > 0) {
+            double top = rpmDetector == null ? 500 : Math.max(500, rpmDetector.getHighestFrequency());
+            int maxBin = Math.min(size/2, (int) Math.ceil(top*size / sampleRate));
+            accumulatedBins = maxBin;
+            frameTransform.powerSpectrum(framer.getBlock(), 0, framer.getBlockLength(), framer.getHop(),
+                    framer.getWindow(), 0, maxBin, avg);
+            if(pitchEstimator != null) {
+                // Latest frame only, unwindowed.
+                pitchFound = pitchEstimator.estimate(framer.getBlock(), (num - 1) * framer.getHop(), size,
+                        sampleRate, pitch);
+            }
+            framer.consume(num);
         }
             
-        Log.v("MAJS", "" + num + " FFTs took " + (System.currentTimeMillis() - s));
-        
-        
-        if(doubleDft) {
-            short[] magdft = null;
-            magdft = new short[FFT_SIZE];
+        if(logging) {
+            Log.v("MAJS", "" + num + " FFTs took " + (System.currentTimeMillis() - s));
+        }
+        return num;
+    }
 
+    private void spectrumDone(int sampleRate, FFTResult result, double minHz, double maxHz) {
+        if(doubleDft) {
             for(int i=0; i<FFT_SIZE/2; i++) {
                 magdft[i] = (short) (avg[i]);
             }
-            Log.v("MAJS", "first val " + magdft[0]);
+            for(int i=FFT_SIZE/2; i<FFT_SIZE; i++) {
+                magdft[i] = 0;
+            }
+            if(logging) {
+                Log.v("MAJS", "first val " + magdft[0]);
+            }
             JniTest.fix_fft(magdft, (short) FFT_SIZE_BITS, (short)0);
     
             for(int i=0; i<FFT_SIZE/2; i++) {
-                long mag = (long) Math.sqrt((long)magdft[i] * magdft[i] + (long)magdft[i*2] * magdft[i*2]);
+                long mag = (long) Math.sqrt(PackedSpectrum.power(magdft, FFT_SIZE, i));
                 avg[i] = mag;
             }
         }
@@ -73,19 +228,21 @@ public class FFTReceiver implements AudioCallback {
 //        }
         //Log.v("MAJS", "max at " + index + "[" + binFreq(index, sampleRate) + "] is " + max);
         
-        FFTResult result = new FFTResult();
         //result.frequency = binFreq(index, sampleRate);
-        findFreq(avg, result, sampleRate);
-//
-        fft.newFFT(avg, result, sampleRate, FFT_SIZE);
-//
-//        //Log.v("MAJS", "Freq: " + result.frequency);
-        receiver.hertz((int) result.frequency);
-
+        findFreq(avg, result, sampleRate, minHz, maxHz);
+        if(pitchFound) {
+            result.frequency = pitch.frequency;
+            result.frequency_raw = pitch.frequency_raw;
+        }
+        if(rpmDetector != null) {
+            rpmDetector.detect(avg, accumulatedBins, sampleRate, size, result);
+        } else {
+            result.rpm = 0;
+        }
     }
 
     private int binFreq(int index, int sampleRate) {
-        return sampleRate*index/FFT_SIZE;
+        return sampleRate*index/size;
         
     }
 
@@ -93,51 +250,42 @@ public class FFTReceiver implements AudioCallback {
     {
         fft = view;
     }
-    
-    private void doFFT(short[] audio, int offset, int sampleRate) {
-        short[] dummy = new short[FFT_SIZE];
-//        for(int i=FFT_SIZE/2; i<FFT_SIZE; i++) {
-//            dummy[i] = 0;
-//        }
-        System.arraycopy(audio, offset, dummy, 0, FFT_SIZE);
-//        for(int i=0; i<FFT_SIZE; i++) {
-//            dummy[i] = audio[i+offset];
-//        }
-        
-//        Log.v("MAJS", "Firt values java: " + dummy[0]);
-//        Log.v("MAJS", "Next-Last value java: " + dummy[FFT_SIZE/2-1]);
-//        Log.v("MAJS", "Last value java: " + dummy[FFT_SIZE/2]);
-
-        JniTest.fix_fft(dummy, (short) FFT_SIZE_BITS, (short)0);
- 
-        for(int i=0; i<FFT_SIZE/2; i++) {
-            long mag = (long)dummy[i] * dummy[i] + (long)dummy[i*2] * dummy[i*2];
-            //avg[i] += dummy[i];
-            if(binFreq(i, sampleRate) < 500) {
-                avg[i] += mag;
-            }
-        }
 
-//        double in[] = new double[FFT_SIZE];
-//        long avg = 0;
-//        for(int i=0; i<FFT_SIZE; i++) {
-//            avg += audio[i+offset];
-//        }
-//        
-//        avg /= FFT_SIZE;
-//        
-//        for(int i=0; i<FFT_SIZE; i++) {
-//            double where = i/((double)FFT_SIZE-1);
-//            double window = where;
-//            if(window > 0.5) {
-//                window = 1.0 - window;
-//            }
-//            in[i] = ((audio[i+offset]-avg) / 65536.0) * window * 2;
-//        }
-//        
-//        testFFT(FFT_SIZE, in, sampleRate);
+    /**
+     * Take the reported frequency from a time domain estimator instead of
+     * the strongest bin. The spectrum is still computed for the view.
+     * 
+     * @param estimator null to go back to peak picking
+     */
+    public void setPitchEstimator(PitchEstimator estimator)
+    {
+        pitchEstimator = estimator;
+    }
+
+    /**
+     * Also work out the engine speed from the harmonics of the spectrum, into
+     * FFTResult.rpm.
+     * 
+     * @param detector null to stop
+     */
+    public void setRpmDetector(HarmonicRpmDetector detector)
+    {
+        rpmDetector = detector;
     }
 
+    /**
+     * Smooth the reported frequency and narrow the peak search around it.
+     * Only used for streamed audio, not by {@link #analyze}. The receiver
+     * gets 0 while the tracker has no lock.
+     * 
+     * @param tracker null to search the full range every time
+     */
+    public void setTracker(RpmTracker tracker)
+    {
+        this.tracker = tracker;
+        samplesSinceUpdate = 0;
+    }
+    
     private void testFFT(int size, double[] data, int sampleRate) {
         RealDopeVector in_dope = new BackedRealDopeVector(data);
         MyDope out_dope = new MyDope(size);
@@ -155,8 +303,10 @@ public class FFTReceiver implements AudioCallback {
      * Find the strongest frequency. Uses some simple interpolation for now.
      * @param fftMagnitude Array of magnitude of the FFT
      * @param result
+     * @param minHz only bins above this are considered
+     * @param maxHz only bins below this are considered
      */
-    private void findFreq(long[] fftMagnitude, FFTResult result, int sampleRate)
+    private void findFreq(long[] fftMagnitude, FFTResult result, int sampleRate, double minHz, double maxHz)
     {
         double max = -1;
         double maxTwo = -1;
@@ -165,10 +315,13 @@ public class FFTReceiver implements AudioCallback {
         int index = -1;
         int index2 = -1;
         
-        for(int i=0; i<fftMagnitude.length; i++) {
+        // Only the bins that can be in range.
+        final int from = Math.max(0, (int) (minHz * size / sampleRate));
+        final int to = Math.min(fftMagnitude.length, (int) (maxHz * size / sampleRate) + 2);
+        for(int i=from; i<to; i++) {
             double amp = fftMagnitude[i];
             int freq = binFreq(i, sampleRate);
-            if(max < amp && freq > 25 && freq < 70) {
+            if(max < amp && freq > minHz && freq < maxHz) {
                 maxTwo = max;
                 index2 = index;
                 max = amp;
@@ -188,18 +341,20 @@ public class FFTReceiver implements AudioCallback {
         
         double d = (maxPlus - maxMinus) / (maxMinus + max + maxPlus);
         
-        double freq = sampleRate * index / FFT_SIZE;
-        double freq2 = sampleRate * (index + d) / FFT_SIZE;
+        double freq = sampleRate * index / size;
+        double freq2 = sampleRate * (index + d) / size;
 
-        double freq3 = sampleRate * index2 / FFT_SIZE;
+        double freq3 = sampleRate * index2 / size;
         
         double harmonicRatio = Math.max(freq2, freq3) / Math.min(freq2, freq3);
-        if(harmonicRatio > 1.8 && harmonicRatio < 2.2) {
+        if(logging && harmonicRatio > 1.8 && harmonicRatio < 2.2) {
             Log.v("MAJS", "Found harmonic: " + Math.min(freq2, freq3) + " " + Math.max(freq2, freq3) / 2 + " " + Math.max(freq2, freq3));
             Log.v("MAJS", "RPM: " + Math.max(freq2, freq3) * 60 / 2);
         }
         
-        Log.i("MAJS", "Found highest frequency at index " + index + "[" + freq + "][" + freq2 + "] at value " + max + " index2 " + index2 + " " + harmonicRatio);
+        if(logging) {
+            Log.i("MAJS", "Found highest frequency at index " + index + "[" + freq + "][" + freq2 + "] at value " + max + " index2 " + index2 + " " + harmonicRatio);
+        }
 
         
         result.frequency = freq2;
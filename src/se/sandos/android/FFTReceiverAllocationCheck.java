@@ -0,0 +1,86 @@
+package se.sandos.android;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that the analysis chain of the app, a {@link DecimatingCallback}
+ * feeding an {@link FFTReceiver}, allocates nothing per buffer once warmed
+ * up, with and without an {@link RpmTracker}. The Java transform is used so
+ * that the native library is not needed. Exits with status 1 if any bytes
+ * were allocated.
+ *
+ * Usage:
+ * <pre>
+ * FFTReceiverAllocationCheck [buffers [bufferSize]]
+ * </pre>
+ */
+public class FFTReceiverAllocationCheck {
+
+    private static final int SAMPLE_RATE = 8000;
+    private static final int DECIMATION = 8;
+    private static final int ANALYSIS_SIZE = FFTReceiver.FFT_SIZE / DECIMATION;
+    private static final int WARMUP_BUFFERS = 20000;
+
+    public static void main(String[] args) {
+        int buffers = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int bufferSize = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+
+        SyntheticEngineAudioSource source = new SyntheticEngineAudioSource(SAMPLE_RATE, 4, 4, 0.05, 1)
+                .addRamp(10, 900, 4000);
+        short[] pcm = new short[(int) source.getTotalSamples()];
+        source.start();
+        int total = 0;
+        int read;
+        while (total < pcm.length && (read = source.read(pcm, total, pcm.length - total)) != AudioSource.END_OF_STREAM) {
+            total += read;
+        }
+        source.release();
+
+        // Cut the audio into buffers up front so that the loops below only
+        // hand out references.
+        short[][] chunks = new short[pcm.length / bufferSize][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new short[bufferSize];
+            System.arraycopy(pcm, i * bufferSize, chunks[i], 0, bufferSize);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        boolean failed = false;
+
+        for (int t = 0; t < 2; t++) {
+            FFTReceiver receiver = new FFTReceiver(null, WindowFunction.HANN, ANALYSIS_SIZE / 2,
+                    new JavaFrameTransform(ANALYSIS_SIZE));
+            if (t == 1) {
+                receiver.setTracker(new RpmTracker(25, 70, 0.5, 0.1, 12, 3));
+            }
+            AudioCallback callback = new DecimatingCallback(receiver, DECIMATION);
+
+            for (int i = 0; i < WARMUP_BUFFERS; i++) {
+                callback.receiveAudio(chunks[i % chunks.length], bufferSize, SAMPLE_RATE);
+            }
+            // Measure once so that anything the bean itself allocates on its
+            // first call is out of the way.
+            threads.getThreadAllocatedBytes(thread);
+
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < buffers; i++) {
+                callback.receiveAudio(chunks[i % chunks.length], bufferSize, SAMPLE_RATE);
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            System.out.println((t == 0 ? "without" : "with") + " tracker: " + allocated + " bytes over "
+                    + buffers + " buffers, " + String.format("%.3f", allocated / (double) buffers)
+                    + " bytes per buffer");
+            if (allocated > 0) {
+                failed = true;
+            }
+        }
+
+        if (failed) {
+            System.out.println("FAILED: the steady state allocates");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+}
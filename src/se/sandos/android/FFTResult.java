@@ -6,4 +6,6 @@ public class FFTResult {
     public int bin;
     public int bin2;
     public double freq2;
+    /** Engine speed, set when FFTReceiver has a HarmonicRpmDetector, otherwise 0. */
+    public double rpm;
 }
@@ -0,0 +1,27 @@
+package se.sandos.android;
+
+/**
+ * Turns overlapping frames of PCM into an accumulated power spectrum. Lets
+ * FFTReceiver switch between the native fixed point FFT and the pure Java
+ * one, which produce the same {@link PackedSpectrum} scaling. Implementations
+ * keep scratch state, so use one instance per thread.
+ */
+public interface FrameTransform {
+
+    /**
+     * @return the frame size
+     */
+    public int getSize();
+
+    /**
+     * Window and transform every whole frame in a block, starting at offset,
+     * offset + hop ... and add the power of bins minBin up to, not including,
+     * maxBin to power.
+     * 
+     * @param window
+     *            getSize() coefficients scaled by 2^{@link WindowFunction#FIXED_SHIFT}
+     * @return the number of frames transformed
+     */
+    public int powerSpectrum(short[] pcm, int offset, int length, int hop, int[] window, int minBin, int maxBin,
+            long[] power);
+}
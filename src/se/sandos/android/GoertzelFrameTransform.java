@@ -0,0 +1,116 @@
+package se.sandos.android;
+
+/**
+ * Computes only a narrow band of bins, one Goertzel filter per bin, instead of
+ * a full FFT. Worth it when the band is a handful of bins, like the 25-70 Hz
+ * RPM search. Bins outside the band are left untouched in the accumulator.
+ * Frames are windowed like the other transforms and the power is scaled by
+ * 1 / n like kiss_fftr, so the bins match theirs up to rounding.
+ */
+public class GoertzelFrameTransform implements FrameTransform {
+
+    private final int size;
+    private final int firstBin;
+    private final int endBin;
+    /** 2 cos(2 pi k / size) for each bin in the band. */
+    private final double[] coeff;
+    private final double[] frame;
+
+    /**
+     * @param firstBin
+     *            first bin of the band
+     * @param endBin
+     *            bin after the last one of the band
+     */
+    public GoertzelFrameTransform(int size, int firstBin, int endBin) {
+        if (firstBin < 0 || endBin > size / 2 + 1 || firstBin >= endBin) {
+            throw new IllegalArgumentException("Bad band " + firstBin + "-" + endBin + " for size " + size);
+        }
+        this.size = size;
+        this.firstBin = firstBin;
+        this.endBin = endBin;
+        coeff = new double[endBin - firstBin];
+        for (int k = firstBin; k < endBin; k++) {
+            coeff[k - firstBin] = 2 * Math.cos(2 * Math.PI * k / size);
+        }
+        frame = new double[size];
+    }
+
+    /**
+     * A transform covering minHz to maxHz, plus one bin on either side so that
+     * peak interpolation at the band edges still has neighbours.
+     */
+    public static GoertzelFrameTransform forBand(int size, int sampleRate, double minHz, double maxHz) {
+        int first = Math.max(0, (int) Math.floor(minHz * size / sampleRate) - 1);
+        int end = Math.min(size / 2 + 1, (int) Math.ceil(maxHz * size / sampleRate) + 2);
+        return new GoertzelFrameTransform(size, first, end);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int powerSpectrum(short[] pcm, int offset, int length, int hop, int[] window, int minBin, int maxBin,
+            long[] power) {
+        final int from = Math.max(minBin, firstBin);
+        final int to = Math.min(maxBin, endBin);
+        final double scale = 1.0 / ((double) size * size);
+        final int end = offset + length;
+        int frames = 0;
+        for (int start = offset; start + size <= end; start += hop) {
+            for (int i = 0; i < size; i++) {
+                frame[i] = (short) ((pcm[start + i] * window[i]) >> WindowFunction.FIXED_SHIFT);
+            }
+            int k = from;
+            // Four bins per pass over the frame. Each filter is one long
+            // dependency chain, so running several side by side keeps the
+            // FPU busy instead of waiting on the previous sample.
+            for (; k + 4 <= to; k += 4) {
+                final double c0 = coeff[k - firstBin];
+                final double c1 = coeff[k + 1 - firstBin];
+                final double c2 = coeff[k + 2 - firstBin];
+                final double c3 = coeff[k + 3 - firstBin];
+                double a1 = 0, a2 = 0, b1 = 0, b2 = 0, d1 = 0, d2 = 0, e1 = 0, e2 = 0;
+                for (int i = 0; i < size; i++) {
+                    final double x = frame[i];
+                    final double a = x + c0 * a1 - a2;
+                    final double b = x + c1 * b1 - b2;
+                    final double d = x + c2 * d1 - d2;
+                    final double e = x + c3 * e1 - e2;
+                    a2 = a1;
+                    a1 = a;
+                    b2 = b1;
+                    b1 = b;
+                    d2 = d1;
+                    d1 = d;
+                    e2 = e1;
+                    e1 = e;
+                }
+                power[k] += goertzelPower(a1, a2, c0, scale);
+                power[k + 1] += goertzelPower(b1, b2, c1, scale);
+                power[k + 2] += goertzelPower(d1, d2, c2, scale);
+                power[k + 3] += goertzelPower(e1, e2, c3, scale);
+            }
+            for (; k < to; k++) {
+                final double c = coeff[k - firstBin];
+                double s1 = 0;
+                double s2 = 0;
+                for (int i = 0; i < size; i++) {
+                    final double s = frame[i] + c * s1 - s2;
+                    s2 = s1;
+                    s1 = s;
+                }
+                power[k] += goertzelPower(s1, s2, c, scale);
+            }
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * |X(k)|^2 from the last two filter states.
+     */
+    private static long goertzelPower(double s1, double s2, double c, double scale) {
+        return (long) ((s1 * s1 + s2 * s2 - c * s1 * s2) * scale);
+    }
+}
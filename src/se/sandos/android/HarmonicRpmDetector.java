@@ -0,0 +1,151 @@
+package se.sandos.android;
+
+/**
+ * Finds the engine speed from the accumulated power spectrum by scoring
+ * every candidate firing frequency on all its harmonics at once, the product
+ * of their power (summed as logarithms). Picking the single strongest peak
+ * easily locks onto a harmonic; a candidate only scores well here if its
+ * harmonics are present too, and half the true frequency loses on the odd
+ * harmonics it predicts but does not find.
+ * 
+ * The cost is a handful of lookups per candidate bin, no more than one pass
+ * over the bins it covers, and no allocation.
+ */
+public class HarmonicRpmDetector {
+
+    private final double firingOrder;
+    private final double minRpm;
+    private final double maxRpm;
+    private final int harmonics;
+
+    /**
+     * @param cylinders
+     *            number of cylinders
+     * @param strokes
+     *            2 or 4
+     * @param minRpm
+     *            lowest speed to consider
+     * @param maxRpm
+     *            highest speed to consider
+     * @param harmonics
+     *            number of firing harmonics to score, fewer are used if the
+     *            spectrum does not reach that far
+     */
+    public HarmonicRpmDetector(int cylinders, int strokes, double minRpm, double maxRpm, int harmonics) {
+        if (cylinders < 1 || (strokes != 2 && strokes != 4)) {
+            throw new IllegalArgumentException("Bad engine: " + cylinders + " cylinders, " + strokes + " strokes");
+        }
+        if (minRpm <= 0 || maxRpm <= minRpm || harmonics < 1) {
+            throw new IllegalArgumentException("Bad rpm range or harmonic count");
+        }
+        this.firingOrder = cylinders * 2.0 / strokes;
+        this.minRpm = minRpm;
+        this.maxRpm = maxRpm;
+        this.harmonics = harmonics;
+    }
+
+    /**
+     * @return the highest frequency the detector looks at, the last harmonic
+     *         of the fastest firing frequency
+     */
+    public double getHighestFrequency() {
+        return maxRpm / 60 * firingOrder * (harmonics + 0.5);
+    }
+
+    /**
+     * Firing pulses per crankshaft revolution.
+     */
+    public double getFiringOrder() {
+        return firingOrder;
+    }
+
+    /**
+     * Score the candidates and set result.rpm, 0 if the spectrum does not
+     * cover the rpm range.
+     * 
+     * @param power
+     *            accumulated power per bin
+     * @param bins
+     *            number of valid bins in power
+     * @param size
+     *            FFT size the spectrum came from
+     */
+    public void detect(long[] power, int bins, int sampleRate, int size, FFTResult result) {
+        final double binHz = (double) sampleRate / size;
+        final int first = Math.max(1, (int) Math.ceil(minRpm / 60 * firingOrder / binHz));
+        final int last = Math.min(bins - 1, (int) Math.floor(maxRpm / 60 * firingOrder / binHz));
+        if (last < first) {
+            result.rpm = 0;
+            return;
+        }
+
+        // Every candidate is scored on the same number of harmonics, as many
+        // as fit in the spectrum for the fastest one.
+        final int h = Math.max(1, Math.min(harmonics, (int) ((bins - 1) / (last + 0.5))));
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int best = first;
+        for (int b = first; b <= last; b++) {
+            double score = 0;
+            for (int k = 1; k <= h; k++) {
+                score += Math.log(1 + power[peakNear(power, bins, b, k)]);
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = b;
+            }
+        }
+
+        // Slower firing frequencies score almost as well as the true one on
+        // a four stroke engine, since the crank and camshaft orders put
+        // real lines at a half and a quarter of it. The firing line is the
+        // strongest order, so move up to a harmonic of the winner while that
+        // line is stronger than the winner's own.
+        for (int m = 2; m * best <= last; m++) {
+            int line = peakNear(power, bins, best, m);
+            if (power[line] > power[peakNear(power, bins, best, 1)]) {
+                best = line;
+                m = 1;
+            }
+        }
+
+        // Every harmonic k of the winner gives an estimate of the
+        // fundamental with k times the resolution. Weigh them by power.
+        final int refine = Math.max(1, Math.min(harmonics, (int) ((bins - 1) / (best + 0.5))));
+        double sum = 0;
+        double weights = 0;
+        for (int k = 1; k <= refine; k++) {
+            int i = peakNear(power, bins, best, k);
+            double d = 0;
+            if (i > 0 && i + 1 < bins) {
+                double l = Math.log(1 + power[i - 1]);
+                double m = Math.log(1 + power[i]);
+                double r = Math.log(1 + power[i + 1]);
+                double denom = l - 2 * m + r;
+                if (denom < 0) {
+                    d = Math.max(-0.5, Math.min(0.5, 0.5 * (l - r) / denom));
+                }
+            }
+            sum += power[i] * (i + d) / k;
+            weights += power[i];
+        }
+        double fundamental = weights > 0 ? sum / weights : best;
+
+        result.rpm = fundamental * binHz * 60 / firingOrder;
+    }
+
+    /**
+     * The strongest bin where the k'th harmonic of anything within half a
+     * bin of the candidate can be.
+     */
+    private static int peakNear(long[] power, int bins, int bin, int k) {
+        int lo = (int) Math.round(k * (bin - 0.5));
+        int hi = Math.min(bins - 1, (int) Math.round(k * (bin + 0.5)));
+        int peak = lo;
+        for (int i = lo + 1; i <= hi; i++) {
+            if (power[i] > power[peak]) {
+                peak = i;
+            }
+        }
+        return peak;
+    }
+}
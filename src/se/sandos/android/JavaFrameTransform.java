@@ -0,0 +1,52 @@
+package se.sandos.android;
+
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.FourierTransformFactory;
+import org.teneighty.fft.TransformDirection;
+
+/**
+ * Reference path using the teneighty FFT in double precision. Frames are
+ * windowed in fixed point exactly like the native path and the spectrum is
+ * scaled by 1 / n like kiss_fftr, so the two give the same spectra up to
+ * rounding.
+ */
+public class JavaFrameTransform implements FrameTransform {
+
+    private final int size;
+    private final FourierTransform transform;
+
+    private final double[] frame;
+    private final double[] re;
+    private final double[] im;
+    private final double[] packed;
+
+    public JavaFrameTransform(int size) {
+        this.size = size;
+        transform = FourierTransformFactory.getTransform(size);
+        frame = new double[size];
+        re = new double[size];
+        im = new double[size];
+        packed = new double[size];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int powerSpectrum(short[] pcm, int offset, int length, int hop, int[] window, int minBin, int maxBin,
+            long[] power) {
+        final double scale = 1.0 / size;
+        final int end = offset + length;
+        int frames = 0;
+        for (int start = offset; start + size <= end; start += hop) {
+            for (int i = 0; i < size; i++) {
+                frame[i] = (short) ((pcm[start + i] * window[i]) >> WindowFunction.FIXED_SHIFT);
+            }
+            transform.transform(frame, 0, 1, re, im, 0, 1, TransformDirection.FORWARD);
+            PackedSpectrum.pack(re, im, size, scale, packed);
+            PackedSpectrum.addPower(packed, size, minBin, maxBin, power);
+            frames++;
+        }
+        return frames;
+    }
+}
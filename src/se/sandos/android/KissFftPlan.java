@@ -0,0 +1,151 @@
+package se.sandos.android;
+
+/**
+ * A reusable native real FFT of one size and direction, backed by kiss_fftr in
+ * fixed point. Creating the plan computes the twiddles once; executing it only
+ * runs the transform. Call {@link #destroy()} when done with it.
+ * 
+ * Frequency data is size shorts in the {@link PackedSpectrum} layout. As
+ * with kiss_fftr in fixed point, both directions scale their output down to
+ * avoid overflow. A plan has native scratch space, so use it from one thread
+ * at a time.
+ */
+public class KissFftPlan {
+
+    static {
+        System.loadLibrary("fft_fix");
+    }
+
+    private final int size;
+    private final boolean inverse;
+    private long handle;
+
+    /**
+     * @param size
+     *            transform size, any even number
+     * @param inverse
+     *            true for frequency to time
+     */
+    public KissFftPlan(int size, boolean inverse) {
+        if (size < 2 || (size & 1) != 0) {
+            throw new IllegalArgumentException("Size must be even: " + size);
+        }
+        this.size = size;
+        this.inverse = inverse;
+        handle = nativeCreate(size, inverse);
+        if (handle == 0) {
+            throw new OutOfMemoryError("Could not allocate FFT plan of size " + size);
+        }
+    }
+
+    /**
+     * Time to frequency. Only for plans created with inverse false.
+     * 
+     * @param time
+     *            size samples, not modified
+     * @param freq
+     *            receives size shorts, packed
+     */
+    public void forward(short[] time, short[] freq) {
+        if (inverse) {
+            throw new IllegalStateException("Inverse plan");
+        }
+        check(time, freq);
+        nativeForward(handle, time, freq);
+    }
+
+    /**
+     * Frequency to time. Only for plans created with inverse true.
+     * 
+     * @param freq
+     *            size shorts, packed, not modified
+     * @param time
+     *            receives size samples
+     */
+    public void inverse(short[] freq, short[] time) {
+        if (!inverse) {
+            throw new IllegalStateException("Forward plan");
+        }
+        check(time, freq);
+        nativeInverse(handle, freq, time);
+    }
+
+    /**
+     * Run every whole frame in a block of PCM through the plan and add the
+     * power of each bin to an accumulator, all in a single native call.
+     * Frames start at offset, offset + hop, ... as long as they fit in length.
+     * Only for forward plans.
+     * 
+     * @param window
+     *            size coefficients scaled by 2^{@link WindowFunction#FIXED_SHIFT}
+     * @param minBin
+     *            first bin to accumulate
+     * @param maxBin
+     *            bin after the last one to accumulate, at most size / 2 + 1
+     * @param power
+     *            accumulator, added to and not cleared
+     * @return the number of frames transformed
+     */
+    public int powerSpectrum(short[] pcm, int offset, int length, int hop, int[] window, int minBin, int maxBin,
+            long[] power) {
+        if (inverse) {
+            throw new IllegalStateException("Inverse plan");
+        }
+        if (handle == 0) {
+            throw new IllegalStateException("Plan destroyed");
+        }
+        if (offset < 0 || length < 0 || offset + length > pcm.length || hop < 1 || window.length < size
+                || minBin < 0 || maxBin > size / 2 + 1 || maxBin > power.length) {
+            throw new IllegalArgumentException("Bad power spectrum arguments");
+        }
+        return nativePowerSpectrum(handle, pcm, offset, length, hop, window, minBin, Math.max(minBin, maxBin),
+                power);
+    }
+
+    private void check(short[] time, short[] freq) {
+        if (handle == 0) {
+            throw new IllegalStateException("Plan destroyed");
+        }
+        if (time.length < size || freq.length < size) {
+            throw new IllegalArgumentException("Arrays too short for size " + size);
+        }
+    }
+
+    /**
+     * Free the native plan. Further use throws IllegalStateException.
+     */
+    public synchronized void destroy() {
+        if (handle != 0) {
+            nativeDestroy(handle);
+            handle = 0;
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isInverse() {
+        return inverse;
+    }
+
+    @Override
+    protected void finalize() throws Throwable {
+        try {
+            destroy();
+        } finally {
+            super.finalize();
+        }
+    }
+
+    private static native long nativeCreate(int nfft, boolean inverse);
+
+    private static native void nativeForward(long handle, short[] time, short[] freq);
+
+    private static native void nativeInverse(long handle, short[] freq, short[] time);
+
+    private static native int nativePowerSpectrum(long handle, short[] pcm, int offset, int length, int hop,
+            int[] window, int minBin, int maxBin, long[] power);
+
+    private static native void nativeDestroy(long handle);
+}
@@ -0,0 +1,57 @@
+package se.sandos.android;
+
+import android.media.AudioRecord;
+import android.media.MediaRecorder;
+import android.util.Log;
+
+/**
+ * The device microphone, through AudioRecord.
+ */
+public class MicAudioSource implements AudioSource {
+
+    private final int sampleRate;
+    private final int channelConfiguration;
+    private final int audioEncoding;
+    private final int bufferSize;
+    private AudioRecord recordInstance;
+
+    public MicAudioSource(int sampleRate, int channelConfiguration, int audioEncoding) {
+        this.sampleRate = sampleRate;
+        this.channelConfiguration = channelConfiguration;
+        this.audioEncoding = audioEncoding;
+        this.bufferSize = AudioRecord.getMinBufferSize(sampleRate, channelConfiguration, audioEncoding) * 8;
+        Log.v("MAJS", "Buffersize is " + bufferSize);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void start() {
+        recordInstance = new AudioRecord(MediaRecorder.AudioSource.MIC, sampleRate, channelConfiguration,
+                audioEncoding, bufferSize);
+        recordInstance.startRecording();
+    }
+
+    public int read(short[] buffer, int offset, int length) {
+        int bufferRead = recordInstance.read(buffer, offset, length);
+        if (bufferRead == AudioRecord.ERROR_INVALID_OPERATION) {
+            throw new IllegalStateException("read() returned AudioRecord.ERROR_INVALID_OPERATION");
+        } else if (bufferRead == AudioRecord.ERROR_BAD_VALUE) {
+            throw new IllegalStateException("read() returned AudioRecord.ERROR_BAD_VALUE");
+        }
+        return bufferRead;
+    }
+
+    public void release() {
+        if (recordInstance != null) {
+            recordInstance.stop();
+            recordInstance.release();
+            recordInstance = null;
+        }
+    }
+}
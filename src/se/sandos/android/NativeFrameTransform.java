@@ -0,0 +1,30 @@
+package se.sandos.android;
+
+/**
+ * Fixed point kiss_fftr through a {@link KissFftPlan}, all frames of a block
+ * in one native call. Call {@link #destroy()} when done with it.
+ */
+public class NativeFrameTransform implements FrameTransform {
+
+    private final KissFftPlan plan;
+
+    public NativeFrameTransform(int size) {
+        plan = new KissFftPlan(size, false);
+    }
+
+    public int getSize() {
+        return plan.getSize();
+    }
+
+    public int powerSpectrum(short[] pcm, int offset, int length, int hop, int[] window, int minBin, int maxBin,
+            long[] power) {
+        return plan.powerSpectrum(pcm, offset, length, hop, window, minBin, maxBin, power);
+    }
+
+    /**
+     * Free the native plan. Further use throws IllegalStateException.
+     */
+    public void destroy() {
+        plan.destroy();
+    }
+}
@@ -0,0 +1,100 @@
+package se.sandos.android;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Pushes an {@link AudioSource} through an {@link AudioCallback} as fast as
+ * the analysis allows, without the capture thread, ring or UI. Used to run
+ * the analysis chain headless, e.g. for regression and throughput runs.
+ *
+ * Usage:
+ * <pre>
+ * OfflineRunner wav &lt;file&gt;
+ * OfflineRunner synth &lt;seconds&gt; &lt;startRpm&gt; &lt;endRpm&gt; [cylinders strokes noise]
+ * </pre>
+ */
+public class OfflineRunner {
+
+    private final AudioSource source;
+    private final AudioCallback callback;
+    private long samples;
+    private long nanos;
+
+    public OfflineRunner(AudioSource source, AudioCallback callback) {
+        this.source = source;
+        this.callback = callback;
+    }
+
+    /**
+     * Feed the whole source to the callback.
+     */
+    public void run() throws IOException {
+        final short[] buffer = new short[source.getBufferSize()];
+        final int sampleRate = source.getSampleRate();
+
+        long start = System.nanoTime();
+        source.start();
+        try {
+            int read;
+            while ((read = source.read(buffer, 0, buffer.length)) != AudioSource.END_OF_STREAM) {
+                callback.receiveAudio(buffer, read, sampleRate);
+                samples += read;
+            }
+        } finally {
+            source.release();
+        }
+        nanos = System.nanoTime() - start;
+    }
+
+    /**
+     * @return number of samples processed by the last run
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return processed samples per second of wall clock time in the last run
+     */
+    public double getSamplesPerSecond() {
+        return nanos == 0 ? 0 : samples * 1e9 / nanos;
+    }
+
+    /**
+     * @return how many times faster than real time the last run was
+     */
+    public double getRealTimeFactor() {
+        return getSamplesPerSecond() / source.getSampleRate();
+    }
+
+    public static void main(String[] args) throws IOException {
+        AudioSource source;
+        if (args.length == 2 && args[0].equals("wav")) {
+            source = new WavFileAudioSource(new File(args[1]));
+        } else if ((args.length == 4 || args.length == 7) && args[0].equals("synth")) {
+            int cylinders = args.length == 7 ? Integer.parseInt(args[4]) : 4;
+            int strokes = args.length == 7 ? Integer.parseInt(args[5]) : 4;
+            double noise = args.length == 7 ? Double.parseDouble(args[6]) : 0.02;
+            source = new SyntheticEngineAudioSource(8000, cylinders, strokes, noise, 1)
+                    .addRamp(Double.parseDouble(args[1]), Double.parseDouble(args[2]), Double.parseDouble(args[3]));
+        } else {
+            System.err.println("Usage: OfflineRunner wav <file>");
+            System.err.println("       OfflineRunner synth <seconds> <startRpm> <endRpm> [cylinders strokes noise]");
+            System.exit(1);
+            return;
+        }
+
+        // Java transform: the native library is only built for Android.
+        FFTReceiver receiver = new FFTReceiver(new HertzReceiver() {
+            public void hertz(int frequency) {
+                System.out.println(frequency);
+            }
+        }, WindowFunction.HANN, FFTReceiver.FFT_SIZE / 2, new JavaFrameTransform(FFTReceiver.FFT_SIZE));
+
+        OfflineRunner runner = new OfflineRunner(source, receiver);
+        runner.run();
+        System.err.println(runner.getSamples() + " samples, " + (long) runner.getSamplesPerSecond()
+                + " samples/s, " + (long) runner.getRealTimeFactor() + "x real time");
+    }
+}
@@ -0,0 +1,105 @@
+package se.sandos.android;
+
+/**
+ * The packed layout used for the spectrum of a real frame of n samples, by
+ * both the native and the Java transforms. Since the input is real only bins
+ * 0 to n / 2 are stored, and bins 0 and n / 2 are purely real, so the whole
+ * spectrum fits in n values:
+ * 
+ * <pre>
+ * [0] re(0)   [1] re(n/2)   [2k] re(k)   [2k+1] im(k)   for 0 &lt; k &lt; n/2
+ * </pre>
+ */
+public final class PackedSpectrum {
+
+    private PackedSpectrum() {
+    }
+
+    /**
+     * Power, re^2 + im^2, of one bin.
+     */
+    public static long power(short[] packed, int n, int bin) {
+        if (bin == 0) {
+            return (long) packed[0] * packed[0];
+        }
+        if (bin == n / 2) {
+            return (long) packed[1] * packed[1];
+        }
+        final long re = packed[2 * bin];
+        final long im = packed[2 * bin + 1];
+        return re * re + im * im;
+    }
+
+    /**
+     * Power, re^2 + im^2, of one bin.
+     */
+    public static double power(double[] packed, int n, int bin) {
+        if (bin == 0) {
+            return packed[0] * packed[0];
+        }
+        if (bin == n / 2) {
+            return packed[1] * packed[1];
+        }
+        final double re = packed[2 * bin];
+        final double im = packed[2 * bin + 1];
+        return re * re + im * im;
+    }
+
+    public static double magnitude(double[] packed, int n, int bin) {
+        return Math.sqrt(power(packed, n, bin));
+    }
+
+    /**
+     * Add the power of bins minBin up to, not including, maxBin to acc. The
+     * native batch transform accumulates in exactly the same way.
+     */
+    public static void addPower(short[] packed, int n, int minBin, int maxBin, long[] acc) {
+        int k = minBin;
+        if (k == 0 && k < maxBin) {
+            acc[0] += (long) packed[0] * packed[0];
+            k = 1;
+        }
+        final int last = Math.min(maxBin, n / 2);
+        for (; k < last; k++) {
+            final long re = packed[2 * k];
+            final long im = packed[2 * k + 1];
+            acc[k] += re * re + im * im;
+        }
+        if (maxBin > n / 2) {
+            acc[n / 2] += (long) packed[1] * packed[1];
+        }
+    }
+
+    /**
+     * Add the power of bins minBin up to, not including, maxBin to acc,
+     * truncated to whole numbers like the fixed point path.
+     */
+    public static void addPower(double[] packed, int n, int minBin, int maxBin, long[] acc) {
+        int k = minBin;
+        if (k == 0 && k < maxBin) {
+            acc[0] += (long) (packed[0] * packed[0]);
+            k = 1;
+        }
+        final int last = Math.min(maxBin, n / 2);
+        for (; k < last; k++) {
+            final double re = packed[2 * k];
+            final double im = packed[2 * k + 1];
+            acc[k] += (long) (re * re + im * im);
+        }
+        if (maxBin > n / 2) {
+            acc[n / 2] += (long) (packed[1] * packed[1]);
+        }
+    }
+
+    /**
+     * Pack bins 0 to n / 2 of a full complex spectrum, multiplying by scale.
+     */
+    public static void pack(double[] re, double[] im, int n, double scale, double[] packed) {
+        packed[0] = re[0] * scale;
+        packed[1] = re[n / 2] * scale;
+        for (int k = 1; k < n / 2; k++) {
+            packed[2 * k] = re[k] * scale;
+            packed[2 * k + 1] = im[k] * scale;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package se.sandos.android;
+
+/**
+ * Compares spectral peak picking with the YIN {@link PitchEstimator} on
+ * synthetic engines at steady speeds, reporting the error against the true
+ * firing frequency and the time taken per second of audio. Like the app, the
+ * audio is decimated to 1 kHz first.
+ *
+ * Usage:
+ * <pre>
+ * PitchBenchmark [seconds [noise]]
+ * </pre>
+ */
+public class PitchBenchmark {
+
+    private static final int SAMPLE_RATE = 8000;
+    private static final int DECIMATION = 8;
+    private static final double MIN_HZ = 25;
+    private static final double MAX_HZ = 70;
+
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 10;
+        double noise = args.length > 1 ? Double.parseDouble(args[1]) : 0.05;
+        final int rate = SAMPLE_RATE / DECIMATION;
+        final int size = FFTReceiver.FFT_SIZE / DECIMATION;
+        final int segment = 2 * size;
+
+        String[] names = new String[] { "peak", "yin" };
+        double[] errorSum = new double[2];
+        int[] gross = new int[2];
+        long[] nanos = new long[2];
+        int estimates = 0;
+        long samples = 0;
+
+        for (double rpm = 800; rpm <= 2000; rpm += 50) {
+            SyntheticEngineAudioSource source = new SyntheticEngineAudioSource(SAMPLE_RATE, 4, 4, noise, (long) rpm)
+                    .addRamp(seconds, rpm, rpm);
+            double truth = rpm / 60 * source.getFiringOrder();
+            short[] pcm = read(source);
+            samples += pcm.length;
+            pcm = decimate(pcm);
+
+            for (int e = 0; e < 2; e++) {
+                NativeFrameTransform transform = new NativeFrameTransform(size);
+                FFTReceiver receiver = new FFTReceiver(null, WindowFunction.HANN, size / 2, transform);
+                if (e == 1) {
+                    receiver.setPitchEstimator(new YinPitchEstimator(size, MIN_HZ, MAX_HZ, 0.3));
+                }
+                FFTResult result = new FFTResult();
+                long start = System.nanoTime();
+                for (int off = 0; off + segment <= pcm.length; off += segment) {
+                    receiver.analyze(pcm, off, segment, rate, result);
+                    double error = Math.abs(result.frequency - truth);
+                    errorSum[e] += error;
+                    // Off by more than a bin, e.g. locked onto another order.
+                    if (error > (double) rate / size) {
+                        gross[e]++;
+                    }
+                    if (e == 0) {
+                        estimates++;
+                    }
+                }
+                nanos[e] += System.nanoTime() - start;
+                transform.destroy();
+            }
+        }
+
+        double audioSeconds = samples / (double) SAMPLE_RATE;
+        for (int e = 0; e < 2; e++) {
+            System.out.println(names[e] + ": mean error " + String.format("%.3f", errorSum[e] / estimates)
+                    + " Hz, " + gross[e] + "/" + estimates + " off by more than a bin, "
+                    + String.format("%.3f", nanos[e] / 1e6 / audioSeconds) + " ms per second of audio");
+        }
+    }
+
+    private static short[] decimate(short[] pcm) {
+        Decimator decimator = new Decimator(DECIMATION);
+        short[] out = new short[decimator.maxOutput(pcm.length)];
+        int n = decimator.process(pcm, 0, pcm.length, out);
+        short[] trimmed = new short[n];
+        System.arraycopy(out, 0, trimmed, 0, n);
+        return trimmed;
+    }
+
+    private static short[] read(SyntheticEngineAudioSource source) {
+        short[] pcm = new short[(int) source.getTotalSamples()];
+        source.start();
+        int total = 0;
+        int read;
+        while (total < pcm.length && (read = source.read(pcm, total, pcm.length - total)) != AudioSource.END_OF_STREAM) {
+            total += read;
+        }
+        source.release();
+        return pcm;
+    }
+}
@@ -0,0 +1,18 @@
+package se.sandos.android;
+
+/**
+ * Estimates the fundamental frequency of a frame directly from the samples,
+ * as an alternative to picking the strongest spectral peak. Implementations
+ * keep scratch state, so use one instance per thread.
+ */
+public interface PitchEstimator {
+
+    /**
+     * @param audio
+     *            samples, not windowed
+     * @param result
+     *            receives frequency and frequency_raw if a pitch was found
+     * @return false if the frame has no usable pitch
+     */
+    public boolean estimate(short[] audio, int offset, int length, int sampleRate, FFTResult result);
+}
@@ -1,12 +1,9 @@
 package se.sandos.android;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
 
 import android.content.Context;
 import android.media.AudioFormat;
-import android.media.AudioRecord;
-import android.media.MediaRecorder;
 import android.os.Environment;
 import android.util.Log;
 
@@ -20,7 +17,15 @@ public class Recorder implements Runnable {
     private final Object mutex = new Object();
     private final static boolean writeFile = false;
 
+    /** How many analysis chunks the ring between capture and analysis holds. */
+    private static final int RING_CHUNKS = 4;
+
+    /** Size of each raw audio file when writeFile is on, 16MB is ~17 minutes at 8kHz. */
+    private static final long RECORDING_SEGMENT_BYTES = 16L << 20;
+
     private AudioCallback callback;
+    private AudioSource source;
+    private volatile AudioRingBuffer ring;
 
     private Context context;
 
@@ -28,7 +33,7 @@ public class Recorder implements Runnable {
     private static final int audioEncoding = AudioFormat.ENCODING_PCM_16BIT;
 
     /** 
-      * 
+      * Record from the microphone.
       */
     public Recorder(AudioCallback callback, Context ctx) {
         super();
@@ -39,6 +44,21 @@ public class Recorder implements Runnable {
         context = ctx;
     }
 
+    /**
+     * Record from the given source. Recording stops by itself when a finite
+     * source runs out.
+     * 
+     * Note that the source is read as fast as it delivers, so a file or
+     * synthetic source will overrun the analysis ring; use
+     * {@link OfflineRunner} to push those through the analysis without
+     * dropping anything.
+     */
+    public Recorder(AudioCallback callback, AudioSource source, Context ctx) {
+        this(callback, ctx);
+        this.source = source;
+        this.setFrequency(source.getSampleRate());
+    }
+
     public void run() {
         // Wait until we're recording...
         synchronized (mutex) {
@@ -56,14 +76,31 @@ public class Recorder implements Runnable {
 
         // Allocate Recorder and Start Recording...
         int bufferRead = 0;
-        int bufferSize = AudioRecord.getMinBufferSize(this.getFrequency(), this.getChannelConfiguration(),
-                this.getAudioEncoding())*8;
-        Log.v("MAJS", "Buffersize is " + bufferSize);
-        AudioRecord recordInstance = new AudioRecord(MediaRecorder.AudioSource.MIC, this.getFrequency(), this
-                .getChannelConfiguration(), this.getAudioEncoding(), bufferSize);
+        AudioSource recordInstance = source;
+        if (recordInstance == null) {
+            recordInstance = new MicAudioSource(this.getFrequency(), this.getChannelConfiguration(),
+                    this.getAudioEncoding());
+        }
+        int bufferSize = recordInstance.getBufferSize();
         short[] tempBuffer = new short[bufferSize];
-        recordInstance.startRecording();
+
+        // Analysis runs on its own thread, fed through a ring, so that it can
+        // never delay the next read().
+        ring = new AudioRingBuffer(bufferSize * RING_CHUNKS);
+        AnalysisWorker worker = new AnalysisWorker(ring, callback, this.getFrequency(), bufferSize);
+        Thread analysisThread = new Thread(worker, "analysis");
+        analysisThread.start();
+
+        RecordingSink sink = null;
+        if(writeFile) {
+            sink = new RecordingSink(Environment.getExternalStorageDirectory(), "rawAudio", this.getFrequency(),
+                    RECORDING_SEGMENT_BYTES, bufferSize * RING_CHUNKS);
+            sink.start();
+        }
+
         try {
+            recordInstance.start();
+
             while (this.isRecording) {
                 // Are we paused?
                 synchronized (mutex) {
@@ -79,40 +116,55 @@ public class Recorder implements Runnable {
 
                 bufferRead = recordInstance.read(tempBuffer, 0, bufferSize);
                 // Log.i("", "Got audio " + bufferSize);
-                if (bufferRead == AudioRecord.ERROR_INVALID_OPERATION) {
-                    throw new IllegalStateException("read() returned AudioRecord.ERROR_INVALID_OPERATION");
-                } else if (bufferRead == AudioRecord.ERROR_BAD_VALUE) {
-                    throw new IllegalStateException("read() returned AudioRecord.ERROR_BAD_VALUE");
-                } else if (bufferRead == AudioRecord.ERROR_INVALID_OPERATION) {
-                    throw new IllegalStateException("read() returned AudioRecord.ERROR_INVALID_OPERATION");
+                if (bufferRead == AudioSource.END_OF_STREAM) {
+                    Log.v("MAJS", "End of audio source");
+                    setRecording(false);
+                    break;
                 }
 
-                if(writeFile) {
-                    try {
-                        FileOutputStream fos = new FileOutputStream(Environment.getExternalStorageDirectory().toString() + File.separator + "rawAudio", true);
-                        byte[] data = new byte[bufferRead*2];
-                        for(int i=0; i<bufferRead; i++) {
-                            data[i*2] = (byte) (tempBuffer[i] & 0x00ff);
-                            data[i*2+1] = (byte) ((tempBuffer[i] & 0xff00) >> 8);
-                        }
-                        fos.write(data);
-                        Log.v("MAJS", "Wrote " + bufferRead + " bytes");
-                    } catch (Exception e) {
-                        Log.v("MAJS", "Error: " + e);
-                    }
+                if(sink != null) {
+                    sink.write(tempBuffer, 0, bufferRead);
                 }
                 
-                callback.receiveAudio(tempBuffer, bufferRead, this.getFrequency());
-
+                ring.write(tempBuffer, 0, bufferRead);
             }
+        } catch (IOException e) {
+            Log.e("MAJS", "Reading audio failed", e);
         } finally {
             // Close resources...
-            recordInstance.stop();
             recordInstance.release();
+            if(sink != null) {
+                sink.close();
+            }
+            worker.stop();
+            analysisThread.interrupt();
+            try {
+                analysisThread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
             Log.v("MAJS", "Cleaning up recorder etc");
         }
     }
 
+    /**
+     * @return how many captured buffers could not be stored completely because
+     *         analysis had fallen behind
+     */
+    public long getOverrunCount() {
+        AudioRingBuffer r = ring;
+        return r == null ? 0 : r.getOverrunCount();
+    }
+
+    /**
+     * @return total number of captured samples dropped because analysis had
+     *         fallen behind
+     */
+    public long getDroppedSamples() {
+        AudioRingBuffer r = ring;
+        return r == null ? 0 : r.getDroppedSamples();
+    }
+
     /**
      * @param isRecording
      *            the isRecording to set
@@ -0,0 +1,214 @@
+package se.sandos.android;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+
+import android.util.Log;
+
+/**
+ * Writes captured audio to mono 16-bit WAV files on its own thread.
+ * 
+ * The capture thread only copies samples into a ring buffer; byte swapping
+ * and file I/O happen on the writer thread, through a preallocated direct
+ * little-endian buffer and a FileChannel. Output is split into numbered
+ * segments of bounded size, each a complete WAV file whose header is patched
+ * with the real length when the segment is closed.
+ */
+public class RecordingSink implements Runnable {
+
+    private static final int HEADER_BYTES = 44;
+    private static final int CHUNK_SAMPLES = 4096;
+    private static final long POLL_MILLIS = 250;
+
+    private final File directory;
+    private final String prefix;
+    private final int sampleRate;
+    private final long maxSegmentBytes;
+
+    private final AudioRingBuffer ring;
+    private final short[] chunk = new short[CHUNK_SAMPLES];
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK_SAMPLES * 2).order(ByteOrder.LITTLE_ENDIAN);
+    private final ShortBuffer shorts = bytes.asShortBuffer();
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    private volatile boolean running;
+    private Thread thread;
+
+    private RandomAccessFile file;
+    private FileChannel channel;
+    private long segmentBytes;
+    private int segment;
+
+    /**
+     * @param directory
+     *            where to put the files
+     * @param prefix
+     *            file name prefix, segments are named prefix-0000.wav and up
+     * @param sampleRate
+     *            sample rate written to the headers
+     * @param maxSegmentBytes
+     *            audio bytes per file before rolling over to the next one
+     * @param bufferSamples
+     *            how many samples the writer may lag behind capture before
+     *            samples are dropped
+     */
+    public RecordingSink(File directory, String prefix, int sampleRate, long maxSegmentBytes, int bufferSamples) {
+        if (maxSegmentBytes < 2 || maxSegmentBytes > 0xffffffffL - HEADER_BYTES) {
+            throw new IllegalArgumentException("Bad segment size " + maxSegmentBytes);
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.sampleRate = sampleRate;
+        this.maxSegmentBytes = maxSegmentBytes & ~1L;
+        this.ring = new AudioRingBuffer(bufferSamples);
+    }
+
+    /**
+     * Start the writer thread.
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this, "recording");
+        thread.start();
+    }
+
+    /**
+     * Queue samples for writing. Never blocks; called from the capture thread.
+     * 
+     * @return number of samples queued, the rest were dropped
+     */
+    public int write(short[] samples, int offset, int length) {
+        return ring.write(samples, offset, length);
+    }
+
+    /**
+     * Write out whatever is queued, finish the current file and stop the
+     * writer thread.
+     */
+    public void close() {
+        running = false;
+        if (thread != null) {
+            // No interrupt: it would close the FileChannel mid-write. The
+            // writer notices the flag within POLL_MILLIS.
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    /**
+     * @return how many writes could not be queued completely
+     */
+    public long getOverrunCount() {
+        return ring.getOverrunCount();
+    }
+
+    /**
+     * @return total number of samples that never made it to disk
+     */
+    public long getDroppedSamples() {
+        return ring.getDroppedSamples();
+    }
+
+    public void run() {
+        try {
+            while (running || ring.available() > 0) {
+                if (running && !ring.awaitAvailable(1, POLL_MILLIS)) {
+                    continue;
+                }
+
+                int n = ring.read(chunk, 0, chunk.length);
+                int done = 0;
+                while (done < n) {
+                    if (channel == null || segmentBytes >= maxSegmentBytes) {
+                        nextSegment();
+                    }
+                    int count = (int) Math.min(n - done, (maxSegmentBytes - segmentBytes) / 2);
+                    writeSamples(done, count);
+                    done += count;
+                }
+            }
+        } catch (IOException e) {
+            Log.e("MAJS", "Recording failed, " + prefix + " segment " + segment, e);
+        } finally {
+            try {
+                finishSegment();
+            } catch (IOException e) {
+                Log.e("MAJS", "Could not finish " + prefix + " segment " + segment, e);
+            }
+        }
+    }
+
+    private void writeSamples(int offset, int count) throws IOException {
+        shorts.clear();
+        shorts.put(chunk, offset, count);
+        bytes.clear();
+        bytes.limit(count * 2);
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        segmentBytes += count * 2;
+    }
+
+    private void nextSegment() throws IOException {
+        finishSegment();
+
+        String name = prefix + "-" + String.format("%04d", segment) + ".wav";
+        file = new RandomAccessFile(new File(directory, name), "rw");
+        file.setLength(0);
+        channel = file.getChannel();
+        segmentBytes = 0;
+
+        // Placeholder lengths, patched in finishSegment.
+        writeHeader(0);
+        Log.v("MAJS", "Recording to " + name);
+    }
+
+    private void finishSegment() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            writeHeader(segmentBytes);
+        } finally {
+            file.close();
+            file = null;
+            channel = null;
+            segment++;
+        }
+    }
+
+    private void writeHeader(long dataBytes) throws IOException {
+        header.clear();
+        header.putInt(0x46464952); // RIFF
+        header.putInt((int) (36 + dataBytes));
+        header.putInt(0x45564157); // WAVE
+        header.putInt(0x20746d66); // "fmt "
+        header.putInt(16);
+        header.putShort((short) 1); // PCM
+        header.putShort((short) 1); // mono
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * 2);
+        header.putShort((short) 2);
+        header.putShort((short) 16);
+        header.putInt(0x61746164); // data
+        header.putInt((int) dataBytes);
+        header.flip();
+
+        long position = 0;
+        while (header.hasRemaining()) {
+            position += channel.write(header, position);
+        }
+        if (channel.position() < HEADER_BYTES) {
+            channel.position(HEADER_BYTES);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package se.sandos.android;
+
+/**
+ * Follows the engine frequency from one update to the next with an
+ * alpha-beta filter. While locked, only a window around the predicted
+ * frequency needs to be searched, which keeps the readout from jumping to a
+ * harmonic and saves work. After too many updates without a good peak in the
+ * window the lock is dropped and the next update searches the full range.
+ */
+public class RpmTracker {
+
+    private final double minHz;
+    private final double maxHz;
+    private final double alpha;
+    private final double beta;
+    private final double windowHz;
+    private final int maxMisses;
+
+    private boolean locked;
+    private double frequency;
+    /** Rate of change, Hz per second. */
+    private double slope;
+    private int misses;
+
+    /**
+     * @param minHz
+     *            bottom of the full search range
+     * @param maxHz
+     *            top of the full search range
+     * @param alpha
+     *            how much of the frequency error to correct per update, 0-1
+     * @param beta
+     *            how much of the error to feed into the rate of change, 0-1
+     *            and well below alpha
+     * @param windowHz
+     *            half width of the window searched around the prediction
+     * @param maxMisses
+     *            updates in a row without a good peak before giving up the
+     *            lock
+     */
+    public RpmTracker(double minHz, double maxHz, double alpha, double beta, double windowHz, int maxMisses) {
+        if (minHz >= maxHz || alpha <= 0 || alpha > 1 || beta < 0 || beta > 1 || windowHz <= 0 || maxMisses < 0) {
+            throw new IllegalArgumentException("Bad tracker parameters");
+        }
+        this.minHz = minHz;
+        this.maxHz = maxHz;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.windowHz = windowHz;
+        this.maxMisses = maxMisses;
+    }
+
+    /**
+     * Where the next measurement should look for its peak.
+     * 
+     * @param dt
+     *            seconds until the measurement
+     */
+    public double getSearchMin(double dt) {
+        return locked ? Math.max(minHz, predict(dt) - windowHz) : minHz;
+    }
+
+    /**
+     * @see #getSearchMin(double)
+     */
+    public double getSearchMax(double dt) {
+        return locked ? Math.min(maxHz, predict(dt) + windowHz) : maxHz;
+    }
+
+    private double predict(double dt) {
+        return frequency + slope * dt;
+    }
+
+    /**
+     * Feed in a measurement.
+     * 
+     * @param measuredHz
+     *            frequency found in the search window
+     * @param dt
+     *            seconds since the previous update
+     * @param good
+     *            false if there was no clear peak, e.g. it was at the edge of
+     *            the window and the real one is probably outside
+     * @return the smoothed frequency, 0 while there is no lock
+     */
+    public double update(double measuredHz, double dt, boolean good) {
+        if (!locked) {
+            if (good) {
+                locked = true;
+                frequency = measuredHz;
+                slope = 0;
+                misses = 0;
+            }
+            return locked ? frequency : 0;
+        }
+
+        double predicted = predict(dt);
+        if (!good) {
+            // Coast on the prediction until the lock is given up.
+            frequency = predicted;
+            if (++misses > maxMisses) {
+                locked = false;
+                return 0;
+            }
+            return frequency;
+        }
+
+        misses = 0;
+        double residual = measuredHz - predicted;
+        frequency = predicted + alpha * residual;
+        if (dt > 0) {
+            slope += beta * residual / dt;
+        }
+        return frequency;
+    }
+
+    public double getMinHz() {
+        return minHz;
+    }
+
+    public double getMaxHz() {
+        return maxHz;
+    }
+
+    public boolean isLocked() {
+        return locked;
+    }
+
+    /**
+     * Drop the lock, the next update starts from a full search.
+     */
+    public void reset() {
+        locked = false;
+        misses = 0;
+    }
+}
@@ -0,0 +1,82 @@
+package se.sandos.android;
+
+/**
+ * Runs the native, the Java and the band limited Goertzel
+ * {@link FrameTransform} over the same synthetic engine audio, reporting the
+ * cost per second of audio and how far each spectrum is from the native one.
+ * The Goertzel bank only covers the 25-70 Hz RPM band, so it is compared
+ * over that band only.
+ *
+ * Usage:
+ * <pre>
+ * SpectrumBenchmark [seconds [rounds]]
+ * </pre>
+ */
+public class SpectrumBenchmark {
+
+    private static final int SAMPLE_RATE = 8000;
+
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 10;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        SyntheticEngineAudioSource source = new SyntheticEngineAudioSource(SAMPLE_RATE, 4, 4, 0.02, 1)
+                .addRamp(seconds, 900, 4000);
+        short[] pcm = new short[(int) source.getTotalSamples()];
+        source.start();
+        int total = 0;
+        int read;
+        while (total < pcm.length && (read = source.read(pcm, total, pcm.length - total)) != AudioSource.END_OF_STREAM) {
+            total += read;
+        }
+        source.release();
+
+        final int size = FFTReceiver.FFT_SIZE;
+        final int[] window = WindowFunction.HANN.createFixed(size);
+        final int hop = size / 2;
+
+        GoertzelFrameTransform goertzel = GoertzelFrameTransform.forBand(size, SAMPLE_RATE, 25, 70);
+        NativeFrameTransform nativeTransform = new NativeFrameTransform(size);
+        FrameTransform[] transforms = new FrameTransform[] { nativeTransform, new JavaFrameTransform(size),
+                goertzel };
+        String[] names = new String[] { "native", "java", "goertzel" };
+        long[][] spectra = new long[transforms.length][size / 2 + 1];
+
+        for (int t = 0; t < transforms.length; t++) {
+            long best = Long.MAX_VALUE;
+            for (int r = 0; r < rounds; r++) {
+                long[] power = new long[size / 2 + 1];
+                long start = System.nanoTime();
+                transforms[t].powerSpectrum(pcm, 0, total, hop, window, 0, size / 2 + 1, power);
+                best = Math.min(best, System.nanoTime() - start);
+                spectra[t] = power;
+            }
+            double audioSeconds = total / (double) SAMPLE_RATE;
+            System.out.println(names[t] + ": " + String.format("%.3f", best / 1e6 / audioSeconds)
+                    + " ms per second of audio");
+        }
+        nativeTransform.destroy();
+
+        report("java", spectra[0], spectra[1], 0, size / 2 + 1);
+        int first = -1;
+        int end = 0;
+        for (int k = 0; k < spectra[2].length; k++) {
+            if (spectra[2][k] != 0) {
+                first = first < 0 ? k : first;
+                end = k + 1;
+            }
+        }
+        report("goertzel", spectra[0], spectra[2], Math.max(0, first), end);
+    }
+
+    private static void report(String name, long[] reference, long[] spectrum, int from, int to) {
+        long peak = 1;
+        double maxDiff = 0;
+        for (int k = from; k < to; k++) {
+            peak = Math.max(peak, reference[k]);
+            maxDiff = Math.max(maxDiff, Math.abs(reference[k] - spectrum[k]));
+        }
+        System.out.println(name + " bins " + from + "-" + to + ", largest difference from native: "
+                + String.format("%.4f", 100 * maxDiff / peak) + "% of peak");
+    }
+}
@@ -0,0 +1,101 @@
+package se.sandos.android;
+
+/**
+ * Cuts a continuous stream of samples into overlapping, windowed frames.
+ * Samples that do not complete a frame are kept for the next call, so frame
+ * boundaries do not depend on how the stream was split into buffers.
+ * 
+ * Samples are collected with {@link #append} into a block that the
+ * transform windows and frames itself, and released with {@link #consume}.
+ */
+public class StftFramer {
+
+    private final int frameSize;
+    private final int hop;
+    private final int[] window;
+    private short[] history;
+    private int fill;
+
+    /**
+     * @param frameSize
+     *            samples per frame
+     * @param hop
+     *            samples between frame starts, e.g. frameSize / 2 for 50%
+     *            overlap
+     * @param window
+     *            window applied to every frame
+     */
+    public StftFramer(int frameSize, int hop, WindowFunction window) {
+        if (hop < 1 || hop > frameSize) {
+            throw new IllegalArgumentException("Bad hop " + hop + " for frame size " + frameSize);
+        }
+        this.frameSize = frameSize;
+        this.hop = hop;
+        this.window = window.createFixed(frameSize);
+        this.history = new short[frameSize];
+    }
+
+    /**
+     * Add samples behind the ones kept from earlier calls, without windowing.
+     * The block from {@link #getBlock()} then holds the returned number of
+     * whole frames, starting at 0, hop, 2 * hop ... Call {@link #consume} with
+     * the frames processed before appending again.
+     * 
+     * @return the number of whole frames in the block
+     */
+    public int append(short[] audio, int offset, int numSamples) {
+        if (fill + numSamples > history.length) {
+            // Only grows when a larger buffer than before arrives.
+            short[] bigger = new short[fill + numSamples];
+            System.arraycopy(history, 0, bigger, 0, fill);
+            history = bigger;
+        }
+        System.arraycopy(audio, offset, history, fill, numSamples);
+        fill += numSamples;
+        return fill < frameSize ? 0 : (fill - frameSize) / hop + 1;
+    }
+
+    /**
+     * Samples collected by {@link #append}, valid up to {@link #getBlockLength()}.
+     */
+    public short[] getBlock() {
+        return history;
+    }
+
+    public int getBlockLength() {
+        return fill;
+    }
+
+    /**
+     * Drop the samples only needed by the first frames of the block, keeping
+     * the overlap for the next one.
+     */
+    public void consume(int frames) {
+        int drop = Math.min(fill, frames * hop);
+        System.arraycopy(history, drop, history, 0, fill - drop);
+        fill -= drop;
+    }
+
+    /**
+     * The window, scaled by 2^{@link WindowFunction#FIXED_SHIFT}.
+     */
+    public int[] getWindow() {
+        return window;
+    }
+
+    /**
+     * Forget any buffered samples, the next frame starts with the next sample
+     * appended.
+     */
+    public void reset() {
+        fill = 0;
+    }
+
+    public int getFrameSize() {
+        return frameSize;
+    }
+
+    public int getHop() {
+        return hop;
+    }
+}
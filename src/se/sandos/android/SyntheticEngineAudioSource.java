@@ -0,0 +1,169 @@
+package se.sandos.android;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates an engine-like tone: the crank rotation order, the firing order
+ * and a couple of its harmonics, plus gaussian noise, following a piecewise
+ * linear RPM profile. Output is deterministic for a given seed, so it can be
+ * used for regression runs, and is produced as fast as it is asked for.
+ */
+public class SyntheticEngineAudioSource implements AudioSource {
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final double FULL_SCALE = 32767;
+
+    private final int sampleRate;
+    private final int cylinders;
+    private final int strokes;
+    private final double noise;
+    private final long seed;
+
+    private final List<double[]> ramps = new ArrayList<double[]>();
+    private double totalSeconds;
+
+    /** Engine orders generated, relative to crank rotation, and their amplitudes. */
+    private double[] orders;
+    private double[] amplitudes;
+
+    private Random random;
+    private double phase;
+    private long position;
+    private long totalSamples;
+
+    /**
+     * @param sampleRate
+     *            output sample rate
+     * @param cylinders
+     *            number of cylinders
+     * @param strokes
+     *            2 or 4
+     * @param noise
+     *            standard deviation of the added noise, as a fraction of full
+     *            scale
+     * @param seed
+     *            seed for the noise generator
+     */
+    public SyntheticEngineAudioSource(int sampleRate, int cylinders, int strokes, double noise, long seed) {
+        if (strokes != 2 && strokes != 4) {
+            throw new IllegalArgumentException("Strokes must be 2 or 4: " + strokes);
+        }
+        if (cylinders < 1) {
+            throw new IllegalArgumentException("Bad cylinder count " + cylinders);
+        }
+        this.sampleRate = sampleRate;
+        this.cylinders = cylinders;
+        this.strokes = strokes;
+        this.noise = noise;
+        this.seed = seed;
+
+        final double firing = getFiringOrder();
+        if (strokes == 4) {
+            orders = new double[] { 0.5, 1, firing, 2 * firing, 3 * firing };
+            amplitudes = new double[] { 0.05, 0.1, 0.3, 0.15, 0.08 };
+        } else {
+            orders = new double[] { 1, firing, 2 * firing, 3 * firing };
+            amplitudes = new double[] { 0.1, 0.3, 0.15, 0.08 };
+        }
+    }
+
+    /**
+     * Append a segment to the RPM profile. Segments play back to back.
+     *
+     * @return this, for chaining
+     */
+    public SyntheticEngineAudioSource addRamp(double seconds, double startRpm, double endRpm) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Bad duration " + seconds);
+        }
+        ramps.add(new double[] { seconds, startRpm, endRpm });
+        totalSeconds += seconds;
+        return this;
+    }
+
+    /**
+     * @return number of firing events per crank revolution
+     */
+    public double getFiringOrder() {
+        return cylinders * 2.0 / strokes;
+    }
+
+    /**
+     * @return the true RPM at the given time, or 0 past the end of the profile
+     */
+    public double getRpmAt(double seconds) {
+        double start = 0;
+        for (int i = 0; i < ramps.size(); i++) {
+            double[] ramp = ramps.get(i);
+            if (seconds < start + ramp[0]) {
+                double t = (seconds - start) / ramp[0];
+                return ramp[1] + (ramp[2] - ramp[1]) * t;
+            }
+            start += ramp[0];
+        }
+        return 0;
+    }
+
+    /**
+     * @return total length of the profile in samples
+     */
+    public long getTotalSamples() {
+        return (long) (totalSeconds * sampleRate);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBufferSize() {
+        return BUFFER_SIZE;
+    }
+
+    public void start() {
+        random = new Random(seed);
+        phase = 0;
+        position = 0;
+        totalSamples = getTotalSamples();
+    }
+
+    public int read(short[] buffer, int offset, int length) {
+        if (position >= totalSamples) {
+            return END_OF_STREAM;
+        }
+
+        final int n = (int) Math.min(length, totalSamples - position);
+        final double twoPiOverRate = 2 * Math.PI / sampleRate;
+        final double noiseScale = noise * FULL_SCALE;
+
+        for (int i = 0; i < n; i++) {
+            double rotationHz = getRpmAt((double) (position + i) / sampleRate) / 60;
+            phase += rotationHz * twoPiOverRate;
+            if (phase > 2 * Math.PI * strokes) {
+                // Keep the phase small, but a whole number of cam cycles, so
+                // the half order stays continuous.
+                phase -= 2 * Math.PI * strokes;
+            }
+
+            double v = 0;
+            for (int k = 0; k < orders.length; k++) {
+                v += amplitudes[k] * Math.sin(orders[k] * phase);
+            }
+            v = v * FULL_SCALE + random.nextGaussian() * noiseScale;
+
+            if (v > FULL_SCALE) {
+                v = FULL_SCALE;
+            } else if (v < -FULL_SCALE) {
+                v = -FULL_SCALE;
+            }
+            buffer[offset + i] = (short) v;
+        }
+        position += n;
+        return n;
+    }
+
+    public void release() {
+        position = totalSamples;
+    }
+}
@@ -11,6 +11,13 @@ public class Test extends Activity implements HertzReceiver {
     private Thread th;
     private Recorder recorder;
     private FFTView fft;
+    /** Native plan of the running analysis, destroyed once its thread has stopped. */
+    private NativeFrameTransform transform;
+
+    /** 8 kHz capture down to 1 kHz, plenty for the 25-70 Hz we look at. */
+    private static final int DECIMATION = 8;
+    /** Same frame length in time, and so the same resolution, as FFT_SIZE at the capture rate. */
+    private static final int ANALYSIS_SIZE = FFTReceiver.FFT_SIZE / DECIMATION;
     
     @Override
     public void onCreate(Bundle savedInstanceState) {
@@ -32,12 +39,16 @@ public class Test extends Activity implements HertzReceiver {
     {
         super.onResume();
         
-        FFTReceiver receiver = new FFTReceiver(this);
-        receiver.setView(fft);
-
         if(th == null) {
             Log.v("MAJS", "RESUMING RECORDING!");
-            final Recorder recorderInstance = new Recorder(receiver, getApplicationContext());
+            transform = new NativeFrameTransform(ANALYSIS_SIZE);
+            FFTReceiver receiver = new FFTReceiver(this, WindowFunction.HANN, ANALYSIS_SIZE / 2, transform);
+            receiver.setView(fft);
+            // Steadies the readout; it shows 0 until the tracker has a lock.
+            receiver.setTracker(new RpmTracker(25, 70, 0.5, 0.1, 12, 3));
+            AudioCallback callback = new DecimatingCallback(receiver, DECIMATION);
+
+            final Recorder recorderInstance = new Recorder(callback, getApplicationContext());
             this.recorder = recorderInstance;
             final Thread th = new Thread(recorderInstance);
             this.th = th;
@@ -81,24 +92,35 @@ public class Test extends Activity implements HertzReceiver {
         } catch (InterruptedException e) {
             Log.v("MAJS", e.getMessage());
         }
+        if(th == null && transform != null) {
+            transform.destroy();
+            transform = null;
+        }
     }
     
+    /** Latest value from the analysis thread, shown by showFrequency. */
+    private volatile int frequency;
+
+    /** Posted for every analysis result; kept around so posting does not allocate. */
+    private final Runnable showFrequency = new Runnable(){
+        @Override
+        public void run() {
+            fft.invalidate();
+            
+            TextView v = (TextView) findViewById(R.id.Frequency);
+            
+            //CharSequence t = v.getText();
+            
+            //v.setText(v.getText() + " " + frequency);
+            v.setText("" + frequency);
+            v.invalidate();
+        }
+    };
+
     @Override
     public void hertz(final int frequency) {
-        runOnUiThread(new Runnable(){
-            @Override
-            public void run() {
-                fft.invalidate();
-                
-                TextView v = (TextView) findViewById(R.id.Frequency);
-                
-                //CharSequence t = v.getText();
-                
-                //v.setText(v.getText() + " " + frequency);
-                v.setText("" + frequency);
-                v.invalidate();
-            }
-        });
+        this.frequency = frequency;
+        runOnUiThread(showFrequency);
     }
 
 }
\ No newline at end of file
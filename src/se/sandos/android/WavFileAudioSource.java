@@ -0,0 +1,189 @@
+package se.sandos.android;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Streams samples out of a 16-bit PCM WAV file. Multi-channel files are
+ * mixed down to mono. Nothing but a small conversion buffer is held in
+ * memory, so arbitrarily long recordings can be played through the analysis.
+ */
+public class WavFileAudioSource implements AudioSource {
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_EXTENSIBLE = 0xfffe;
+    private static final int FRAMES_PER_CHUNK = 4096;
+
+    private final File file;
+    private final int sampleRate;
+    private final int channels;
+    private final long dataOffset;
+    private final long totalFrames;
+
+    private DataInputStream in;
+    private long framesLeft;
+    private final byte[] bytes;
+
+    /**
+     * Parse the header of the given file.
+     *
+     * @throws IOException
+     *             if the file can not be read or is not 16-bit PCM
+     */
+    public WavFileAudioSource(File file) throws IOException {
+        this.file = file;
+
+        DataInputStream header = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            if (readTag(header) != 0x46464952 /* RIFF */) {
+                throw new IOException(file + " is not a RIFF file");
+            }
+            readIntLE(header);
+            if (readTag(header) != 0x45564157 /* WAVE */) {
+                throw new IOException(file + " is not a WAVE file");
+            }
+
+            int rate = -1;
+            int chans = -1;
+            long offset = 12;
+            while (true) {
+                int tag = readTag(header);
+                long size = readIntLE(header) & 0xffffffffL;
+                offset += 8;
+
+                if (tag == 0x20746d66 /* "fmt " */) {
+                    int format = readShortLE(header);
+                    chans = readShortLE(header);
+                    rate = readIntLE(header);
+                    readIntLE(header); // byte rate
+                    readShortLE(header); // block align
+                    int bits = readShortLE(header);
+                    if ((format != FORMAT_PCM && format != FORMAT_EXTENSIBLE) || bits != 16) {
+                        throw new IOException(file + ": only 16-bit PCM is supported, got format " + format
+                                + " with " + bits + " bits");
+                    }
+                    skipFully(header, size - 16);
+                } else if (tag == 0x61746164 /* data */) {
+                    if (rate < 0) {
+                        throw new IOException(file + ": data chunk before fmt chunk");
+                    }
+                    sampleRate = rate;
+                    channels = chans;
+                    dataOffset = offset;
+                    totalFrames = size / (2 * chans);
+                    break;
+                } else {
+                    skipFully(header, size);
+                }
+                // Chunks are padded to an even number of bytes.
+                if ((size & 1) != 0) {
+                    skipFully(header, 1);
+                    offset++;
+                }
+                offset += size;
+            }
+        } finally {
+            header.close();
+        }
+
+        bytes = new byte[FRAMES_PER_CHUNK * 2 * channels];
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBufferSize() {
+        return FRAMES_PER_CHUNK;
+    }
+
+    /**
+     * @return number of channels in the file (output is always mono)
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * @return total length of the file in samples per channel
+     */
+    public long getTotalFrames() {
+        return totalFrames;
+    }
+
+    public void start() throws IOException {
+        in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        skipFully(in, dataOffset);
+        framesLeft = totalFrames;
+    }
+
+    public int read(short[] buffer, int offset, int length) throws IOException {
+        if (framesLeft == 0) {
+            return END_OF_STREAM;
+        }
+
+        final int frames = (int) Math.min(Math.min(length, FRAMES_PER_CHUNK), framesLeft);
+        final int frameBytes = 2 * channels;
+        try {
+            in.readFully(bytes, 0, frames * frameBytes);
+        } catch (EOFException e) {
+            // Truncated file, header promised more than there is.
+            framesLeft = 0;
+            return END_OF_STREAM;
+        }
+        framesLeft -= frames;
+
+        if (channels == 1) {
+            for (int i = 0; i < frames; i++) {
+                buffer[offset + i] = (short) ((bytes[2 * i] & 0xff) | (bytes[2 * i + 1] << 8));
+            }
+        } else {
+            for (int i = 0; i < frames; i++) {
+                int sum = 0;
+                int b = i * frameBytes;
+                for (int c = 0; c < channels; c++, b += 2) {
+                    sum += (short) ((bytes[b] & 0xff) | (bytes[b + 1] << 8));
+                }
+                buffer[offset + i] = (short) (sum / channels);
+            }
+        }
+        return frames;
+    }
+
+    public void release() {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // Nothing sensible to do, we were only reading.
+            }
+            in = null;
+        }
+    }
+
+    private static int readTag(DataInputStream in) throws IOException {
+        return readIntLE(in);
+    }
+
+    private static int readIntLE(DataInputStream in) throws IOException {
+        return Integer.reverseBytes(in.readInt());
+    }
+
+    private static int readShortLE(DataInputStream in) throws IOException {
+        return Short.reverseBytes(in.readShort()) & 0xffff;
+    }
+
+    private static void skipFully(DataInputStream in, long count) throws IOException {
+        while (count > 0) {
+            int skipped = in.skipBytes((int) Math.min(count, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            count -= skipped;
+        }
+    }
+}
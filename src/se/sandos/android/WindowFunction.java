@@ -0,0 +1,55 @@
+package se.sandos.android;
+
+/**
+ * Analysis windows for the STFT. Coefficients are computed once per frame
+ * size and applied in fixed point, since the native FFT works on shorts.
+ */
+public enum WindowFunction {
+    /** No window at all, what FFTReceiver used to do. */
+    RECTANGULAR(new double[] { 1 }),
+    /** Good general purpose window. */
+    HANN(new double[] { 0.5, -0.5 }),
+    /** 4-term Blackman-Harris, very low leakage at the cost of a wider peak. */
+    BLACKMAN_HARRIS(new double[] { 0.35875, -0.48829, 0.14128, -0.01168 }),
+    /** Flat top, accurate peak amplitudes but a very wide peak. */
+    FLAT_TOP(new double[] { 0.21557895, -0.41663158, 0.277263158, -0.083578947, 0.006947368 });
+
+    /** Fixed point scale of the coefficients returned by {@link #createFixed(int)}. */
+    public static final int FIXED_SHIFT = 15;
+
+    /** Cosine series coefficients, a0 + a1 cos(x) + a2 cos(2x) ... */
+    private final double[] terms;
+
+    private WindowFunction(double[] terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * Compute the periodic form of the window, which is the right one for
+     * spectral analysis of overlapping frames.
+     */
+    public double[] create(int size) {
+        double[] w = new double[size];
+        for (int n = 0; n < size; n++) {
+            double x = 2 * Math.PI * n / size;
+            double v = 0;
+            for (int k = 0; k < terms.length; k++) {
+                v += terms[k] * Math.cos(k * x);
+            }
+            w[n] = v;
+        }
+        return w;
+    }
+
+    /**
+     * The window scaled by 2^FIXED_SHIFT, for multiplying with PCM samples.
+     */
+    public int[] createFixed(int size) {
+        double[] w = create(size);
+        int[] fixed = new int[size];
+        for (int n = 0; n < size; n++) {
+            fixed[n] = (int) Math.round(w[n] * (1 << FIXED_SHIFT));
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,151 @@
+package se.sandos.android;
+
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.FourierTransformFactory;
+import org.teneighty.fft.TransformDirection;
+
+/**
+ * YIN pitch estimator. The difference function is built from an
+ * autocorrelation computed with the library FFT, so a frame costs two
+ * transforms of twice its length instead of a lag-by-lag sum.
+ * 
+ * YIN looks for the shortest period where the signal repeats, which avoids
+ * locking onto a strong harmonic the way peak picking does. Only periods
+ * between 1 / maxHz and 1 / minHz are considered.
+ */
+public class YinPitchEstimator implements PitchEstimator {
+
+    private final int size;
+    private final double minHz;
+    private final double maxHz;
+    private final double threshold;
+
+    private final int fftSize;
+    private final FourierTransform transform;
+    private final double[] aRe, aIm, bRe, bIm, cRe, cIm;
+    /** Cumulative mean normalized difference, by lag. */
+    private final double[] cmnd;
+    /** Running sums of squares of the frame. */
+    private final double[] energy;
+
+    /**
+     * @param size
+     *            frame length the estimator is used with
+     * @param minHz
+     *            lowest pitch to report
+     * @param maxHz
+     *            highest pitch to report
+     * @param threshold
+     *            how far above the deepest dip a shorter period may be and
+     *            still win, around 0.1-0.3
+     */
+    public YinPitchEstimator(int size, double minHz, double maxHz, double threshold) {
+        if (minHz <= 0 || maxHz <= minHz) {
+            throw new IllegalArgumentException("Bad pitch range " + minHz + "-" + maxHz);
+        }
+        this.size = size;
+        this.minHz = minHz;
+        this.maxHz = maxHz;
+        this.threshold = threshold;
+
+        int n = 1;
+        while (n < 2 * size) {
+            n <<= 1;
+        }
+        fftSize = n;
+        transform = FourierTransformFactory.getTransform(n);
+        aRe = new double[n];
+        aIm = new double[n];
+        bRe = new double[n];
+        bIm = new double[n];
+        cRe = new double[n];
+        cIm = new double[n];
+        cmnd = new double[size];
+        energy = new double[size + 1];
+    }
+
+    public boolean estimate(short[] audio, int offset, int length, int sampleRate, FFTResult result) {
+        final int n = Math.min(length, size);
+        final int minLag = Math.max(2, (int) Math.floor(sampleRate / maxHz));
+        final int maxLag = (int) Math.ceil(sampleRate / minHz);
+        // Samples compared at each lag.
+        final int w = n - maxLag - 1;
+        if (w < maxLag) {
+            // Less than two periods of the lowest pitch in the frame.
+            return false;
+        }
+
+        energy[0] = 0;
+        for (int i = 0; i < n; i++) {
+            double x = audio[offset + i];
+            energy[i + 1] = energy[i] + x * x;
+        }
+
+        // r(tau) = sum over j < w of x(j) x(j + tau), as the inverse
+        // transform of conj(A) B with A the first w samples and B the frame.
+        for (int i = 0; i < fftSize; i++) {
+            aRe[i] = i < w ? audio[offset + i] : 0;
+            bRe[i] = i < n ? audio[offset + i] : 0;
+        }
+        transform.transform(aRe, 0, 1, cRe, cIm, 0, 1, TransformDirection.FORWARD);
+        System.arraycopy(cRe, 0, aRe, 0, fftSize);
+        System.arraycopy(cIm, 0, aIm, 0, fftSize);
+        transform.transform(bRe, 0, 1, cRe, cIm, 0, 1, TransformDirection.FORWARD);
+        // The product is conjugate symmetric, so the real backward transform
+        // only needs its first half.
+        for (int i = 0; i <= fftSize / 2; i++) {
+            double re = aRe[i] * cRe[i] + aIm[i] * cIm[i];
+            double im = aRe[i] * cIm[i] - aIm[i] * cRe[i];
+            bRe[i] = re;
+            bIm[i] = im;
+        }
+        transform.backward(bRe, bIm, 0, 1, cRe, 0, 1);
+        final double scale = 1.0 / fftSize;
+
+        // d(tau) = sum (x(j) - x(j + tau))^2 = e(0) + e(tau) - 2 r(tau),
+        // normalized by its running mean.
+        final double e0 = energy[w];
+        double sum = 0;
+        cmnd[0] = 1;
+        for (int tau = 1; tau <= maxLag + 1; tau++) {
+            double d = e0 + (energy[tau + w] - energy[tau]) - 2 * cRe[tau] * scale;
+            sum += d;
+            cmnd[tau] = sum == 0 ? 1 : d * tau / sum;
+        }
+
+        // First dip below the threshold, followed down to its minimum. The
+        // threshold counts from the deepest dip in range, so that noise,
+        // which lifts the whole curve, does not push the choice out to the
+        // longest period.
+        int deepest = minLag;
+        for (int tau = minLag + 1; tau <= maxLag; tau++) {
+            if (cmnd[tau] < cmnd[deepest]) {
+                deepest = tau;
+            }
+        }
+        final double limit = cmnd[deepest] + threshold;
+        int best = deepest;
+        for (int tau = minLag; tau < deepest; tau++) {
+            if (cmnd[tau] < limit) {
+                while (tau + 1 <= maxLag && cmnd[tau + 1] < cmnd[tau]) {
+                    tau++;
+                }
+                best = tau;
+                break;
+            }
+        }
+
+        double lag = best;
+        if (best > 1 && best < maxLag + 1) {
+            double l = cmnd[best - 1], m = cmnd[best], r = cmnd[best + 1];
+            double denom = l - 2 * m + r;
+            if (denom > 0) {
+                lag = best + 0.5 * (l - r) / denom;
+            }
+        }
+
+        result.frequency_raw = (double) sampleRate / best;
+        result.frequency = sampleRate / lag;
+        return true;
+    }
+}
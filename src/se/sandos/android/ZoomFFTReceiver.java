@@ -0,0 +1,198 @@
+package se.sandos.android;
+
+import org.teneighty.fft.FourierTransform;
+import org.teneighty.fft.FourierTransformFactory;
+import org.teneighty.fft.TransformDirection;
+
+/**
+ * Zoom FFT: instead of transforming the whole audio band, the signal is mixed
+ * down so the search band is centered on 0 Hz, low pass filtered and
+ * decimated, and only that narrow band goes through a complex FFT. A 512
+ * point transform over a 50 Hz span resolves about 0.1 Hz, where a plain FFT
+ * at 8 kHz would need 64k points.
+ * 
+ * Resolution is still one over the frame length, so fine resolution means
+ * frames of several seconds; the hop sets how often a result is reported.
+ */
+public class ZoomFFTReceiver implements AudioCallback {
+
+    private final HertzReceiver receiver;
+    private final double center;
+    private final double span;
+    private final int size;
+    private final int hop;
+
+    private final FourierTransform transform;
+    private final double[] window;
+    /** Last size decimated samples, circular. */
+    private final double[] histRe, histIm;
+    private int histPos;
+    private int histFill;
+    private int sinceFrame;
+
+    private final double[] frameRe, frameIm, outRe, outIm;
+    private final FFTResult result = new FFTResult();
+
+    // Set up for the sample rate of the first buffer.
+    private int sampleRate;
+    private Decimator decimatorRe, decimatorIm;
+    private short[] mixedRe = new short[0], mixedIm = new short[0];
+    private short[] decRe = new short[0], decIm = new short[0];
+    /** Oscillator phasor and its per sample rotation. */
+    private double oscRe = 1, oscIm = 0, stepRe, stepIm;
+
+    /**
+     * @param recv
+     *            gets the strongest frequency in the band after every frame,
+     *            may be null
+     * @param centerHz
+     *            middle of the band to search
+     * @param spanHz
+     *            width of the band
+     * @param size
+     *            complex transform size, the resolution is about
+     *            spanHz / size
+     * @param hop
+     *            decimated samples between frames
+     */
+    public ZoomFFTReceiver(HertzReceiver recv, double centerHz, double spanHz, int size, int hop) {
+        if (spanHz <= 0 || centerHz - spanHz / 2 < 0 || hop < 1 || hop > size) {
+            throw new IllegalArgumentException("Bad zoom band or hop");
+        }
+        receiver = recv;
+        center = centerHz;
+        span = spanHz;
+        this.size = size;
+        this.hop = hop;
+        transform = FourierTransformFactory.getTransform(size);
+        window = WindowFunction.HANN.create(size);
+        histRe = new double[size];
+        histIm = new double[size];
+        frameRe = new double[size];
+        frameIm = new double[size];
+        outRe = new double[size];
+        outIm = new double[size];
+    }
+
+    private void setup(int rate) {
+        sampleRate = rate;
+        // The decimator passes 0.8 of its output Nyquist band, which has to
+        // cover half the span on either side of 0 Hz.
+        int factor = Math.max(1, (int) (0.8 * rate / span));
+        decimatorRe = new Decimator(factor);
+        decimatorIm = new Decimator(factor);
+        double w = -2 * Math.PI * center / rate;
+        stepRe = Math.cos(w);
+        stepIm = Math.sin(w);
+        oscRe = 1;
+        oscIm = 0;
+        histPos = histFill = sinceFrame = 0;
+    }
+
+    @Override
+    public void receiveAudio(short[] audio, int numSamples, int rate) {
+        if (rate != sampleRate) {
+            setup(rate);
+        }
+        if (mixedRe.length < numSamples) {
+            // Only grows when a larger buffer than before arrives.
+            mixedRe = new short[numSamples];
+            mixedIm = new short[numSamples];
+        }
+        int needed = decimatorRe.maxOutput(numSamples);
+        if (decRe.length < needed) {
+            // Also grows when a rate change lowered the decimation factor.
+            decRe = new short[needed];
+            decIm = new short[needed];
+        }
+
+        // Shift the band center to 0 Hz.
+        double cr = oscRe, ci = oscIm;
+        for (int i = 0; i < numSamples; i++) {
+            mixedRe[i] = (short) (audio[i] * cr);
+            mixedIm[i] = (short) (audio[i] * ci);
+            double t = cr * stepRe - ci * stepIm;
+            ci = cr * stepIm + ci * stepRe;
+            cr = t;
+        }
+        // Keep the oscillator on the unit circle.
+        double norm = 1 / Math.sqrt(cr * cr + ci * ci);
+        oscRe = cr * norm;
+        oscIm = ci * norm;
+
+        int n = decimatorRe.process(mixedRe, 0, numSamples, decRe);
+        decimatorIm.process(mixedIm, 0, numSamples, decIm);
+
+        for (int i = 0; i < n; i++) {
+            histRe[histPos] = decRe[i];
+            histIm[histPos] = decIm[i];
+            histPos = histPos + 1 == size ? 0 : histPos + 1;
+            if (histFill < size) {
+                histFill++;
+            }
+            if (histFill == size && ++sinceFrame >= hop) {
+                sinceFrame = 0;
+                analyzeFrame();
+                if (receiver != null) {
+                    receiver.hertz((int) result.frequency);
+                }
+            }
+        }
+    }
+
+    private void analyzeFrame() {
+        for (int i = 0; i < size; i++) {
+            int j = histPos + i < size ? histPos + i : histPos + i - size;
+            frameRe[i] = histRe[j] * window[i];
+            frameIm[i] = histIm[j] * window[i];
+        }
+        transform.transform(frameRe, frameIm, 0, 1, outRe, outIm, 0, 1, TransformDirection.FORWARD);
+
+        // Bins are offsets from the center, negative ones in the upper half.
+        final double binHz = getResolution();
+        final int reach = Math.min(size / 2 - 1, (int) (span / 2 / binHz));
+        double max = -1;
+        int best = 0;
+        for (int k = -reach; k <= reach; k++) {
+            double p = power(k);
+            if (p > max) {
+                max = p;
+                best = k;
+            }
+        }
+
+        double d = 0;
+        if (best > -reach && best < reach) {
+            // Parabolic interpolation between the neighbours.
+            double a = power(best - 1);
+            double c = power(best + 1);
+            double denom = a - 2 * max + c;
+            if (denom != 0) {
+                d = 0.5 * (a - c) / denom;
+            }
+        }
+
+        result.frequency_raw = center + best * binHz;
+        result.frequency = center + (best + d) * binHz;
+        result.bin = best;
+    }
+
+    private double power(int k) {
+        int j = k < 0 ? k + size : k;
+        return outRe[j] * outRe[j] + outIm[j] * outIm[j];
+    }
+
+    /**
+     * @return Hz per bin, once the sample rate is known
+     */
+    public double getResolution() {
+        return sampleRate == 0 ? 0 : (double) sampleRate / decimatorRe.getFactor() / size;
+    }
+
+    /**
+     * @return the result of the latest frame
+     */
+    public FFTResult getResult() {
+        return result;
+    }
+}
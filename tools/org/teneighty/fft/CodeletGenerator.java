@@ -0,0 +1,1413 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.teneighty.fft.algorithms.CodeletFourierTransform;
+import org.teneighty.fft.algorithms.DirectFourierTransform;
+
+
+/**
+ * Generates <code>org.teneighty.fft.algorithms.Codelets</code>, the
+ * straight-line transforms behind {@link CodeletFourierTransform}.
+ * <p>
+ * Each size is built as an expression graph over its inputs. Sizes are split
+ * by Cooley-Tukey or, where the factors are coprime, by the prime factor
+ * mapping, which needs no twiddles at all; what's left, and every size that
+ * splits worse, pairs up <code>x[j]</code> with <code>x[n - j]</code> so that
+ * each cosine and sine is applied once to a sum or difference. Multiplications
+ * by 0 and 1 disappear, negations are folded into the surrounding additions,
+ * twiddles of an eighth of a turn cost two multiplications rather than four
+ * and common subexpressions are shared. For each size the cheapest of the
+ * candidate splits is kept, separately for complex and for real input.
+ * <p>
+ * Every graph is evaluated against a naive DFT before it is written out.
+ * Regenerate and check the compiled codelets against
+ * {@link DirectFourierTransform} with:
+ * <pre>
+ * java org.teneighty.fft.CodeletGenerator src/org/teneighty/fft/algorithms/Codelets.java
+ * java org.teneighty.fft.CodeletGenerator -check
+ * </pre>
+ * The first writes to standard out if no file is given. The second exits with
+ * status 1 if any codelet is off.
+ *
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public final class CodeletGenerator
+	extends Object
+{
+
+
+	/**
+	 * Largest size generated.
+	 */
+	public static final int MAX_SIZE = 16;
+
+	/**
+	 * Largest error tolerated, relative to the size.
+	 */
+	private static final double TOLERANCE = 1e-13;
+
+	/**
+	 * Plans for complex input, by size.
+	 */
+	private static final Plan[] complex_plans = new Plan[ MAX_SIZE + 1 ];
+
+	/**
+	 * Plans for real input, by size.
+	 */
+	private static final Plan[] real_plans = new Plan[ MAX_SIZE + 1 ];
+
+
+	/**
+	 * Generate the codelets, or check them.
+	 * 
+	 * @param args the output file, or <code>-check</code>.
+	 * @throws IOException If the output can't be written.
+	 */
+	public static void main( final String[] args )
+		throws IOException
+	{
+		if( args.length == 1 && args[ 0 ].equals( "-check" ) == true )
+		{
+			if( check() == false )
+			{
+				System.exit( 1 );
+			}
+
+			return;
+		}
+
+		plan();
+
+		PrintStream out = System.out;
+		if( args.length > 0 )
+		{
+			out = new PrintStream( new FileOutputStream( args[ 0 ] ), false, "US-ASCII" );
+		}
+
+		try
+		{
+			new CodeletGenerator().write( out );
+		}
+		finally
+		{
+			out.flush();
+			if( out != System.out )
+			{
+				out.close();
+			}
+		}
+	}
+
+
+	/**
+	 * Run every compiled codelet against a direct transform, in both directions
+	 * and for complex and real input, with an offset and a stride.
+	 * 
+	 * @return boolean <code>true</code> if all of them are within tolerance.
+	 */
+	private static boolean check()
+	{
+		final Random random = new Random( 80 );
+		final int off = 3;
+		final int stride = 2;
+		boolean ok = true;
+
+		for( int size = 2; size <= CodeletFourierTransform.MAX_SIZE; size++ )
+		{
+			FourierTransform codelet = new CodeletFourierTransform( size );
+			FourierTransform direct = new DirectFourierTransform( size );
+
+			final int length = off + size * stride;
+			double[] in_re = new double[ length ];
+			double[] in_im = new double[ length ];
+			for( int index = 0; index < length; index++ )
+			{
+				in_re[ index ] = random.nextDouble() - 0.5;
+				in_im[ index ] = random.nextDouble() - 0.5;
+			}
+
+			double[][] got = new double[ 2 ][ length ];
+			double[][] want = new double[ 2 ][ length ];
+			double error = 0.0;
+
+			for( TransformDirection dir : TransformDirection.values() )
+			{
+				codelet.transform( in_re, in_im, off, stride, got[ 0 ], got[ 1 ], off, stride, dir );
+				direct.transform( in_re, in_im, off, stride, want[ 0 ], want[ 1 ], off, stride, dir );
+				error = Math.max( error, difference( got, want ) );
+
+				codelet.transform( in_re, off, stride, got[ 0 ], got[ 1 ], off, stride, dir );
+				direct.transform( in_re, off, stride, want[ 0 ], want[ 1 ], off, stride, dir );
+				error = Math.max( error, difference( got, want ) );
+			}
+
+			final boolean good = ( error <= TOLERANCE * size );
+			System.out.println( size + ": " + error + ( good == true ? "" : " FAILED" ) );
+			ok &= good;
+		}
+
+		return ( ok );
+	}
+
+
+	/**
+	 * Largest difference between two complex arrays.
+	 * 
+	 * @param one the first.
+	 * @param two the second.
+	 * @return double the largest difference.
+	 */
+	private static double difference( final double[][] one, final double[][] two )
+	{
+		double max = 0.0;
+		for( int part = 0; part < 2; part++ )
+		{
+			for( int index = 0; index < one[ part ].length; index++ )
+			{
+				max = Math.max( max, Math.abs( one[ part ][ index ] - two[ part ][ index ] ) );
+			}
+		}
+
+		return ( max );
+	}
+
+
+	/**
+	 * Choose the cheapest plan for every size, smallest first, since a split
+	 * uses the plans of its factors.
+	 */
+	private static void plan()
+	{
+		for( int size = 1; size <= MAX_SIZE; size++ )
+		{
+			for( int real = 1; real >= 0; real-- )
+			{
+				Plan best = null;
+				int best_cost = Integer.MAX_VALUE;
+
+				for( Plan plan : candidates( size ) )
+				{
+					Graph graph = new Graph();
+					final int cost = graph.cost( plan.apply( graph, graph.inputs( size, real == 1 ) ) );
+					if( cost < best_cost )
+					{
+						best = plan;
+						best_cost = cost;
+					}
+				}
+
+				( real == 1 ? real_plans : complex_plans )[ size ] = best;
+			}
+		}
+	}
+
+
+	/**
+	 * Get the candidate plans for a size.
+	 * 
+	 * @param size the size.
+	 * @return List&lt;Plan&gt; the plans.
+	 */
+	private static List<Plan> candidates( final int size )
+	{
+		List<Plan> plans = new ArrayList<Plan>();
+		plans.add( new Plan( size, 0, false ) );
+
+		for( int n1 = 2; n1 < size; n1++ )
+		{
+			if( size % n1 != 0 )
+			{
+				continue;
+			}
+
+			plans.add( new Plan( size, n1, false ) );
+			if( FourierTransformUtilities.euclid( n1, size / n1 ) == 1 )
+			{
+				plans.add( new Plan( size, n1, true ) );
+			}
+		}
+
+		return ( plans );
+	}
+
+
+	/**
+	 * Transform symbolically with the chosen plan.
+	 * 
+	 * @param graph the graph.
+	 * @param input the input.
+	 * @param real whether the input is real.
+	 * @return Complex[] the output.
+	 */
+	private static Complex[] dft( final Graph graph, final Complex[] input, final boolean real )
+	{
+		return ( ( real == true ? real_plans : complex_plans )[ input.length ].apply( graph, input ) );
+	}
+
+
+	/**
+	 * Cosine of <code>pi * p / q</code>, computed on the first octant so that
+	 * equal values come out bit for bit equal, whatever the fraction.
+	 * 
+	 * @param p the numerator.
+	 * @param q the denominator.
+	 * @return double the cosine.
+	 */
+	private static double cosPi( final int p, final int q )
+	{
+		int num = p % ( 2 * q );
+		if( num < 0 )
+		{
+			num += 2 * q;
+		}
+
+		if( num > q )
+		{
+			num = 2 * q - num;
+		}
+
+		double sign = 1.0;
+		if( 2 * num > q )
+		{
+			num = q - num;
+			sign = -1.0;
+		}
+
+		// now 0 <= num / q <= 1 / 2.
+		if( 4 * num > q )
+		{
+			return ( sign * octant( q - 2 * num, 2 * q, true ) );
+		}
+
+		return ( sign * octant( num, q, false ) );
+	}
+
+
+	/**
+	 * Sine of <code>pi * p / q</code>.
+	 * 
+	 * @param p the numerator.
+	 * @param q the denominator.
+	 * @return double the sine.
+	 */
+	private static double sinPi( final int p, final int q )
+	{
+		return ( cosPi( q - 2 * p, 2 * q ) );
+	}
+
+
+	/**
+	 * Cosine or sine of <code>pi * p / q</code>, for at most a quarter of
+	 * <code>pi</code>.
+	 * 
+	 * @param p the numerator.
+	 * @param q the denominator.
+	 * @param sine whether to take the sine.
+	 * @return double the value.
+	 */
+	private static double octant( final int p, final int q, final boolean sine )
+	{
+		final int gcd = FourierTransformUtilities.euclid( p, q );
+		final int num = p / gcd;
+		final int den = q / gcd;
+
+		if( num == 0 )
+		{
+			return ( sine == true ? 0.0 : 1.0 );
+		}
+		else if( 4 * num == den )
+		{
+			return ( Math.sqrt( 0.5 ) );
+		}
+		else if( 6 * num == den )
+		{
+			return ( sine == true ? 0.5 : Math.sqrt( 0.75 ) );
+		}
+
+		final double angle = Math.PI * num / den;
+		return ( sine == true ? Math.sin( angle ) : Math.cos( angle ) );
+	}
+
+
+	/**
+	 * Constants, by value.
+	 */
+	private final Map<Double,String> constants;
+
+	/**
+	 * Constant names in use.
+	 */
+	private final Map<String,Double> names;
+
+
+	/**
+	 * Constructor.
+	 */
+	private CodeletGenerator()
+	{
+		super();
+
+		this.constants = new java.util.TreeMap<Double,String>();
+		this.names = new HashMap<String,Double>();
+	}
+
+
+	/**
+	 * Write the codelets class.
+	 * 
+	 * @param out the stream to write to.
+	 */
+	private void write( final PrintStream out )
+	{
+		// methods first, which collects the constants.
+		StringBuilder methods = new StringBuilder();
+		for( int size = 2; size <= MAX_SIZE; size++ )
+		{
+			this.method( methods, size, Variant.COMPLEX );
+			this.method( methods, size, Variant.REAL_FORWARD );
+			this.method( methods, size, Variant.REAL_BACKWARD );
+		}
+
+		out.print( HEADER );
+		out.print( "package org.teneighty.fft.algorithms;\n\n\n" );
+		out.print( "/**\n" );
+		out.print( " * Straight-line discrete Fourier transforms of sizes 2 through " + MAX_SIZE + ", forward\n" );
+		out.print( " * only; the backward transform of complex data is the forward transform\n" );
+		out.print( " * with the real and imaginary parts swapped on the way in and out.\n" );
+		out.print( " * <p>\n" );
+		out.print( " * This class was automatically generated by <code>CodeletGenerator</code>.\n" );
+		out.print( " * You should not edit this class.\n" );
+		out.print( " *\n" );
+		out.print( " * @author se.sandos.android contributors\n" );
+		out.print( " * @version $Revision$ $Date$\n" );
+		out.print( " */\n" );
+		out.print( "final strictfp class Codelets\n\textends Object\n{\n\n\n" );
+
+		out.print( "\t/**\n\t * Largest size.\n\t */\n" );
+		out.print( "\tstatic final int MAX_SIZE = " + MAX_SIZE + ";\n\n" );
+		for( Map.Entry<Double,String> entry : this.constants.entrySet() )
+		{
+			out.print( "\tprivate static final double " + entry.getValue() + " = " + entry.getKey() + ";\n" );
+		}
+		out.print( "\n\n" );
+
+		this.dispatch( out, Variant.COMPLEX );
+		this.dispatch( out, Variant.REAL_FORWARD );
+		this.dispatch( out, Variant.REAL_BACKWARD );
+
+		out.print( methods );
+		out.print( "\n}\n" );
+	}
+
+
+	/**
+	 * Write the method choosing the codelet for a size.
+	 * 
+	 * @param out the stream to write to.
+	 * @param variant the variant.
+	 */
+	private void dispatch( final PrintStream out, final Variant variant )
+	{
+		out.print( "\t/**\n" );
+		out.print( "\t * " + variant.summary + "\n" );
+		out.print( "\t * \n" );
+		out.print( "\t * @param size the size, 2 through " + MAX_SIZE + ".\n" );
+		out.print( variant.params );
+		out.print( "\t * @throws IllegalArgumentException If there's no codelet for\n" );
+		out.print( "\t *         <code>size</code>.\n" );
+		out.print( "\t */\n" );
+		out.print( "\tstatic void " + variant.name + "( final int size, " + variant.signature + " )\n" );
+		out.print( "\t{\n" );
+		out.print( "\t\tswitch( size )\n" );
+		out.print( "\t\t{\n" );
+		for( int size = 2; size <= MAX_SIZE; size++ )
+		{
+			out.print( "\t\t\tcase( " + size + " ):\n" );
+			out.print( "\t\t\t" + variant.name + size + "( " + variant.arguments + " );\n" );
+			out.print( "\t\t\treturn;\n" );
+		}
+		out.print( "\t\t\tdefault:\n" );
+		out.print( "\t\t\tthrow new IllegalArgumentException( \"No codelet of size \" + size );\n" );
+		out.print( "\t\t}\n" );
+		out.print( "\t}\n\n\n" );
+	}
+
+
+	/**
+	 * Generate one codelet.
+	 * 
+	 * @param out the buffer to write to.
+	 * @param size the size.
+	 * @param variant the variant.
+	 */
+	private void method( final StringBuilder out, final int size, final Variant variant )
+	{
+		final boolean real = ( variant != Variant.COMPLEX );
+
+		Graph graph = new Graph();
+		Complex[] input = graph.inputs( size, real );
+		Complex[] output = dft( graph, input, real );
+		if( variant == Variant.REAL_BACKWARD )
+		{
+			for( int k = 0; k < size; k++ )
+			{
+				output[ k ] = new Complex( output[ k ].re, graph.neg( output[ k ].im ) );
+			}
+		}
+
+		verify( graph, input, output, variant );
+
+		List<Node> order = graph.reachable( output );
+		int adds = 0;
+		int muls = 0;
+		for( Node node : order )
+		{
+			if( node.op == '*' )
+			{
+				muls++;
+			}
+			else if( node.op == '+' || node.op == '-' || node.op == 'n' )
+			{
+				adds++;
+			}
+		}
+
+		out.append( "\t/**\n" );
+		out.append( "\t * Size " + size + ": " + adds + " additions, " + muls + " multiplications.\n" );
+		out.append( "\t */\n" );
+		out.append( "\tprivate static void " + variant.name + size + "( " + variant.signature + " )\n" );
+		out.append( "\t{\n" );
+
+		// load everything first, so input and output may be the same.
+		Map<Node,String> refs = new HashMap<Node,String>();
+		int temps = 0;
+		for( Node node : order )
+		{
+			if( node.op == 'x' )
+			{
+				refs.put( node, node.name );
+				out.append( "\t\tfinal double " + node.name + " = " + node.array + "[ in_off" + offset( node.index, "in_stride" ) + " ];\n" );
+			}
+		}
+
+		out.append( "\n" );
+		for( Node node : order )
+		{
+			final String expr;
+			switch( node.op )
+			{
+				case( '+' ):
+				expr = ref( refs, node.a ) + " + " + ref( refs, node.b );
+				break;
+				case( '-' ):
+				expr = ref( refs, node.a ) + " - " + ref( refs, node.b );
+				break;
+				case( '*' ):
+				expr = this.constant( node.k ) + " * " + ref( refs, node.a );
+				break;
+				default:
+				continue;
+			}
+
+			final String name = "t" + ( temps++ );
+			refs.put( node, name );
+			out.append( "\t\tfinal double " + name + " = " + expr + ";\n" );
+		}
+
+		out.append( "\n" );
+		for( int k = 0; k < size; k++ )
+		{
+			final String index = "out_off" + offset( k, "out_stride" );
+			out.append( "\t\tout_re[ " + index + " ] = " + ref( refs, output[ k ].re ) + ";\n" );
+			out.append( "\t\tout_im[ " + index + " ] = " + ref( refs, output[ k ].im ) + ";\n" );
+		}
+
+		out.append( "\t}\n\n\n" );
+	}
+
+
+	/**
+	 * Reference a node in an expression.
+	 * 
+	 * @param refs names of the nodes so far.
+	 * @param node the node.
+	 * @return String the reference.
+	 */
+	private static String ref( final Map<Node,String> refs, final Node node )
+	{
+		if( node.op == '0' )
+		{
+			return ( "0.0" );
+		}
+		else if( node.op == 'n' )
+		{
+			return ( "-" + refs.get( node.a ) );
+		}
+
+		return ( refs.get( node ) );
+	}
+
+
+	/**
+	 * Offset of an element.
+	 * 
+	 * @param index the index.
+	 * @param stride the stride variable.
+	 * @return String the offset expression.
+	 */
+	private static String offset( final int index, final String stride )
+	{
+		if( index == 0 )
+		{
+			return ( "" );
+		}
+		else if( index == 1 )
+		{
+			return ( " + " + stride );
+		}
+
+		return ( " + " + index + " * " + stride );
+	}
+
+
+	/**
+	 * Name a constant.
+	 * 
+	 * @param value the value.
+	 * @return String the name.
+	 */
+	private String constant( final double value )
+	{
+		String name = this.constants.get( Double.valueOf( value ) );
+		if( name != null )
+		{
+			return ( name );
+		}
+
+		name = "KP" + String.format( java.util.Locale.US, "%.9f", Double.valueOf( value ) ).replace( ".", "" ).substring( 1 );
+		if( value >= 1.0 || this.names.containsKey( name ) == true )
+		{
+			throw new IllegalStateException( "Constant name clash: " + value );
+		}
+
+		this.constants.put( Double.valueOf( value ), name );
+		this.names.put( name, Double.valueOf( value ) );
+		return ( name );
+	}
+
+
+	/**
+	 * Evaluate the graph on random data and compare it with a naive DFT.
+	 * 
+	 * @param graph the graph.
+	 * @param input the input.
+	 * @param output the output.
+	 * @param variant the variant.
+	 * @throws IllegalStateException If the graph is wrong.
+	 */
+	private static void verify( final Graph graph, final Complex[] input,
+			final Complex[] output, final Variant variant )
+		throws IllegalStateException
+	{
+		final int size = input.length;
+		final Random random = new Random( size );
+		final double sign = ( variant == Variant.REAL_BACKWARD ? 1.0 : -1.0 );
+
+		Map<Node,Double> values = new HashMap<Node,Double>();
+		double[] re = new double[ size ];
+		double[] im = new double[ size ];
+		for( int j = 0; j < size; j++ )
+		{
+			re[ j ] = random.nextDouble() - 0.5;
+			values.put( input[ j ].re, Double.valueOf( re[ j ] ) );
+			if( variant == Variant.COMPLEX )
+			{
+				im[ j ] = random.nextDouble() - 0.5;
+				values.put( input[ j ].im, Double.valueOf( im[ j ] ) );
+			}
+		}
+
+		for( int k = 0; k < size; k++ )
+		{
+			double want_re = 0.0;
+			double want_im = 0.0;
+			for( int j = 0; j < size; j++ )
+			{
+				final double angle = sign * 2.0 * Math.PI * ( ( j * k ) % size ) / size;
+				want_re += re[ j ] * Math.cos( angle ) - im[ j ] * Math.sin( angle );
+				want_im += re[ j ] * Math.sin( angle ) + im[ j ] * Math.cos( angle );
+			}
+
+			final double error = Math.max( Math.abs( graph.evaluate( output[ k ].re, values ) - want_re ),
+					Math.abs( graph.evaluate( output[ k ].im, values ) - want_im ) );
+			if( error > TOLERANCE * size )
+			{
+				throw new IllegalStateException( variant.name + size + " is off by " + error + " at " + k );
+			}
+		}
+	}
+
+
+	/**
+	 * A node of an expression graph.
+	 */
+	private static final class Node
+		extends Object
+	{
+
+
+		/**
+		 * The operation: <code>x</code> for an input, <code>0</code> for zero,
+		 * <code>+</code>, <code>-</code>, <code>n</code> for negation and
+		 * <code>*</code> for a product with a positive constant.
+		 */
+		final char op;
+
+		/**
+		 * Creation order; operands come first.
+		 */
+		final int id;
+
+		/**
+		 * First operand.
+		 */
+		final Node a;
+
+		/**
+		 * Second operand.
+		 */
+		final Node b;
+
+		/**
+		 * The constant.
+		 */
+		final double k;
+
+		/**
+		 * Variable name, for an input.
+		 */
+		final String name;
+
+		/**
+		 * Array holding an input.
+		 */
+		final String array;
+
+		/**
+		 * Index of an input.
+		 */
+		final int index;
+
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param op the operation.
+		 * @param id the id.
+		 * @param a the first operand.
+		 * @param b the second operand.
+		 * @param k the constant.
+		 * @param name the variable name.
+		 * @param array the input array.
+		 * @param index the input index.
+		 */
+		Node( final char op, final int id, final Node a, final Node b,
+				final double k, final String name, final String array, final int index )
+		{
+			super();
+
+			this.op = op;
+			this.id = id;
+			this.a = a;
+			this.b = b;
+			this.k = k;
+			this.name = name;
+			this.array = array;
+			this.index = index;
+		}
+
+
+	}
+
+
+	/**
+	 * A complex value in a graph.
+	 */
+	private static final class Complex
+		extends Object
+	{
+
+
+		/**
+		 * Real part.
+		 */
+		final Node re;
+
+		/**
+		 * Imaginary part.
+		 */
+		final Node im;
+
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param re the real part.
+		 * @param im the imaginary part.
+		 */
+		Complex( final Node re, final Node im )
+		{
+			super();
+
+			this.re = re;
+			this.im = im;
+		}
+
+
+	}
+
+
+	/**
+	 * An expression graph, simplifying as it goes and sharing equal
+	 * subexpressions.
+	 */
+	private static final class Graph
+		extends Object
+	{
+
+
+		/**
+		 * Zero.
+		 */
+		final Node zero;
+
+		/**
+		 * Nodes by operation and operands.
+		 */
+		private final Map<String,Node> nodes;
+
+		/**
+		 * Next node id.
+		 */
+		private int next;
+
+
+		/**
+		 * Constructor.
+		 */
+		Graph()
+		{
+			super();
+
+			this.nodes = new HashMap<String,Node>();
+			this.zero = new Node( '0', this.next++, null, null, 0.0, null, null, 0 );
+		}
+
+
+		/**
+		 * Create the inputs.
+		 * 
+		 * @param size the size.
+		 * @param real whether the imaginary parts are zero.
+		 * @return Complex[] the inputs.
+		 */
+		Complex[] inputs( final int size, final boolean real )
+		{
+			Complex[] input = new Complex[ size ];
+			for( int j = 0; j < size; j++ )
+			{
+				Node re = new Node( 'x', this.next++, null, null, 0.0, ( real == true ? "x" : "re" ) + j, ( real == true ? "in" : "in_re" ), j );
+				Node im = this.zero;
+				if( real == false )
+				{
+					im = new Node( 'x', this.next++, null, null, 0.0, "im" + j, "in_im", j );
+				}
+
+				input[ j ] = new Complex( re, im );
+			}
+
+			return ( input );
+		}
+
+
+		/**
+		 * Get or create a node.
+		 */
+		private Node make( final char op, final Node a, final Node b, final double k )
+		{
+			final String key = op + " " + a.id + " " + ( b == null ? -1 : b.id ) + " " + k;
+			Node node = this.nodes.get( key );
+			if( node == null )
+			{
+				node = new Node( op, this.next++, a, b, k, null, null, 0 );
+				this.nodes.put( key, node );
+			}
+
+			return ( node );
+		}
+
+
+		/**
+		 * Sum.
+		 */
+		Node add( final Node a, final Node b )
+		{
+			if( a == this.zero )
+			{
+				return ( b );
+			}
+			else if( b == this.zero )
+			{
+				return ( a );
+			}
+			else if( a.op == 'n' && b.op == 'n' )
+			{
+				return ( this.neg( this.add( a.a, b.a ) ) );
+			}
+			else if( b.op == 'n' )
+			{
+				return ( this.sub( a, b.a ) );
+			}
+			else if( a.op == 'n' )
+			{
+				return ( this.sub( b, a.a ) );
+			}
+
+			return ( a.id < b.id ? this.make( '+', a, b, 0.0 ) : this.make( '+', b, a, 0.0 ) );
+		}
+
+
+		/**
+		 * Difference.
+		 */
+		Node sub( final Node a, final Node b )
+		{
+			if( b == this.zero )
+			{
+				return ( a );
+			}
+			else if( a == this.zero )
+			{
+				return ( this.neg( b ) );
+			}
+			else if( a == b )
+			{
+				return ( this.zero );
+			}
+			else if( b.op == 'n' )
+			{
+				return ( this.add( a, b.a ) );
+			}
+			else if( a.op == 'n' )
+			{
+				return ( this.neg( this.add( a.a, b ) ) );
+			}
+
+			return ( this.make( '-', a, b, 0.0 ) );
+		}
+
+
+		/**
+		 * Negation.
+		 */
+		Node neg( final Node a )
+		{
+			if( a == this.zero )
+			{
+				return ( a );
+			}
+			else if( a.op == 'n' )
+			{
+				return ( a.a );
+			}
+			else if( a.op == '-' )
+			{
+				return ( this.make( '-', a.b, a.a, 0.0 ) );
+			}
+
+			return ( this.make( 'n', a, null, 0.0 ) );
+		}
+
+
+		/**
+		 * Product with a constant.
+		 */
+		Node mul( final double k, final Node a )
+		{
+			if( k == 0.0 || a == this.zero )
+			{
+				return ( this.zero );
+			}
+			else if( k == 1.0 )
+			{
+				return ( a );
+			}
+			else if( k < 0.0 || a.op == 'n' )
+			{
+				final Node product = this.mul( Math.abs( k ), ( a.op == 'n' ? a.a : a ) );
+				return ( ( k < 0.0 ) != ( a.op == 'n' ) ? this.neg( product ) : product );
+			}
+
+			return ( this.make( '*', a, null, k ) );
+		}
+
+
+		/**
+		 * Complex sum.
+		 */
+		Complex add( final Complex x, final Complex y )
+		{
+			return ( new Complex( this.add( x.re, y.re ), this.add( x.im, y.im ) ) );
+		}
+
+
+		/**
+		 * Complex difference.
+		 */
+		Complex sub( final Complex x, final Complex y )
+		{
+			return ( new Complex( this.sub( x.re, y.re ), this.sub( x.im, y.im ) ) );
+		}
+
+
+		/**
+		 * Product with <code>exp( -2 pi i e / n )</code>.
+		 */
+		Complex twiddle( final Complex x, final int e, final int n )
+		{
+			final double c = cosPi( 2 * e, n );
+			final double s = -sinPi( 2 * e, n );
+
+			if( Math.abs( c ) == Math.abs( s ) )
+			{
+				// eighth of a turn: scale sums instead of each part.
+				final Node re = ( c > 0 ) == ( s > 0 ) ? this.sub( x.re, x.im ) : this.add( x.re, x.im );
+				final Node im = ( c > 0 ) == ( s > 0 ) ? this.add( x.re, x.im ) : this.sub( x.im, x.re );
+				return ( new Complex( this.mul( c, re ), this.mul( c, im ) ) );
+			}
+
+			return ( new Complex( this.sub( this.mul( c, x.re ), this.mul( s, x.im ) ),
+					this.add( this.mul( c, x.im ), this.mul( s, x.re ) ) ) );
+		}
+
+
+		/**
+		 * Nodes reachable from the outputs, operands first.
+		 */
+		List<Node> reachable( final Complex[] output )
+		{
+			Map<Integer,Node> seen = new java.util.TreeMap<Integer,Node>();
+			for( Complex x : output )
+			{
+				this.visit( x.re, seen );
+				this.visit( x.im, seen );
+			}
+
+			return ( new ArrayList<Node>( seen.values() ) );
+		}
+
+
+		/**
+		 * Visit a node and its operands.
+		 */
+		private void visit( final Node node, final Map<Integer,Node> seen )
+		{
+			if( node == null || seen.containsKey( Integer.valueOf( node.id ) ) == true )
+			{
+				return;
+			}
+
+			seen.put( Integer.valueOf( node.id ), node );
+			this.visit( node.a, seen );
+			this.visit( node.b, seen );
+		}
+
+
+		/**
+		 * Count the operations needed for the outputs.
+		 */
+		int cost( final Complex[] output )
+		{
+			int cost = 0;
+			for( Node node : this.reachable( output ) )
+			{
+				if( node.op != 'x' && node.op != '0' )
+				{
+					cost++;
+				}
+			}
+
+			return ( cost );
+		}
+
+
+		/**
+		 * Evaluate a node.
+		 */
+		double evaluate( final Node node, final Map<Node,Double> values )
+		{
+			Double value = values.get( node );
+			if( value != null )
+			{
+				return ( value.doubleValue() );
+			}
+
+			double result = 0.0;
+			switch( node.op )
+			{
+				case( '+' ):
+				result = this.evaluate( node.a, values ) + this.evaluate( node.b, values );
+				break;
+				case( '-' ):
+				result = this.evaluate( node.a, values ) - this.evaluate( node.b, values );
+				break;
+				case( 'n' ):
+				result = -this.evaluate( node.a, values );
+				break;
+				case( '*' ):
+				result = node.k * this.evaluate( node.a, values );
+				break;
+				default:
+				break;
+			}
+
+			values.put( node, Double.valueOf( result ) );
+			return ( result );
+		}
+
+
+	}
+
+
+	/**
+	 * One way of computing a size.
+	 */
+	private static final class Plan
+		extends Object
+	{
+
+
+		/**
+		 * The size.
+		 */
+		final int size;
+
+		/**
+		 * Size of the inner transforms of a split, or 0 to pair up the inputs.
+		 */
+		final int n1;
+
+		/**
+		 * Whether the split uses the prime factor mapping.
+		 */
+		final boolean prime_factor;
+
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param size the size.
+		 * @param n1 the inner size, or 0.
+		 * @param prime_factor whether to use the prime factor mapping.
+		 */
+		Plan( final int size, final int n1, final boolean prime_factor )
+		{
+			super();
+
+			this.size = size;
+			this.n1 = n1;
+			this.prime_factor = prime_factor;
+		}
+
+
+		/**
+		 * Transform symbolically.
+		 * 
+		 * @param graph the graph.
+		 * @param input the input.
+		 * @return Complex[] the output.
+		 */
+		Complex[] apply( final Graph graph, final Complex[] input )
+		{
+			if( this.n1 == 0 )
+			{
+				return ( this.pairs( graph, input ) );
+			}
+
+			final boolean real = ( input[ 0 ].im == graph.zero );
+			final int n = this.size;
+			final int n1 = this.n1;
+			final int n2 = n / n1;
+
+			// inner transforms over j1, for each j2.
+			Complex[][] inner = new Complex[ n2 ][];
+			for( int j2 = 0; j2 < n2; j2++ )
+			{
+				Complex[] column = new Complex[ n1 ];
+				for( int j1 = 0; j1 < n1; j1++ )
+				{
+					column[ j1 ] = input[ this.prime_factor == true ? ( j1 * n2 + j2 * n1 ) % n : j1 * n2 + j2 ];
+				}
+
+				inner[ j2 ] = dft( graph, column, real );
+				if( this.prime_factor == false )
+				{
+					for( int k1 = 1; k1 < n1; k1++ )
+					{
+						inner[ j2 ][ k1 ] = graph.twiddle( inner[ j2 ][ k1 ], j2 * k1, n );
+					}
+				}
+			}
+
+			// outer transforms over j2, for each k1.
+			Complex[] output = new Complex[ n ];
+			for( int k1 = 0; k1 < n1; k1++ )
+			{
+				Complex[] row = new Complex[ n2 ];
+				for( int j2 = 0; j2 < n2; j2++ )
+				{
+					row[ j2 ] = inner[ j2 ][ k1 ];
+				}
+
+				Complex[] outer = dft( graph, row, false );
+				for( int k2 = 0; k2 < n2; k2++ )
+				{
+					if( this.prime_factor == true )
+					{
+						// the k with k = k1 mod n1 and k = k2 mod n2.
+						for( int k = k1; k < n; k += n1 )
+						{
+							if( k % n2 == k2 )
+							{
+								output[ k ] = outer[ k2 ];
+							}
+						}
+					}
+					else
+					{
+						output[ k1 + n1 * k2 ] = outer[ k2 ];
+					}
+				}
+			}
+
+			return ( output );
+		}
+
+
+		/**
+		 * Transform by pairing <code>x[j]</code> with <code>x[n - j]</code>: the
+		 * cosines apply to their sum and the sines to their difference.
+		 * 
+		 * @param graph the graph.
+		 * @param input the input.
+		 * @return Complex[] the output.
+		 */
+		private Complex[] pairs( final Graph graph, final Complex[] input )
+		{
+			final int n = input.length;
+			final int m = ( n - 1 ) / 2;
+			Complex[] output = new Complex[ n ];
+
+			Complex[] sum = new Complex[ m + 1 ];
+			Complex[] diff = new Complex[ m + 1 ];
+			Complex total = input[ 0 ];
+			for( int j = 1; j <= m; j++ )
+			{
+				sum[ j ] = graph.add( input[ j ], input[ n - j ] );
+				diff[ j ] = graph.sub( input[ j ], input[ n - j ] );
+				total = graph.add( total, sum[ j ] );
+			}
+
+			if( ( n & 1 ) == 0 )
+			{
+				// the middle element has no partner.
+				Complex middle = input[ n / 2 ];
+				Complex alternating = input[ 0 ];
+				for( int j = 1; j <= m; j++ )
+				{
+					alternating = ( ( j & 1 ) == 0 ? graph.add( alternating, sum[ j ] ) : graph.sub( alternating, sum[ j ] ) );
+				}
+
+				output[ n / 2 ] = ( ( ( n / 2 ) & 1 ) == 0 ? graph.add( alternating, middle ) : graph.sub( alternating, middle ) );
+				total = graph.add( total, middle );
+			}
+
+			output[ 0 ] = total;
+			for( int k = 1; k <= m; k++ )
+			{
+				Node a_re = input[ 0 ].re;
+				Node a_im = input[ 0 ].im;
+				Node b_re = graph.zero;
+				Node b_im = graph.zero;
+				for( int j = 1; j <= m; j++ )
+				{
+					final double c = cosPi( 2 * j * k, n );
+					final double s = sinPi( 2 * j * k, n );
+					a_re = graph.add( a_re, graph.mul( c, sum[ j ].re ) );
+					a_im = graph.add( a_im, graph.mul( c, sum[ j ].im ) );
+					b_re = graph.add( b_re, graph.mul( s, diff[ j ].re ) );
+					b_im = graph.add( b_im, graph.mul( s, diff[ j ].im ) );
+				}
+
+				if( ( n & 1 ) == 0 )
+				{
+					Complex middle = input[ n / 2 ];
+					a_re = ( ( k & 1 ) == 0 ? graph.add( a_re, middle.re ) : graph.sub( a_re, middle.re ) );
+					a_im = ( ( k & 1 ) == 0 ? graph.add( a_im, middle.im ) : graph.sub( a_im, middle.im ) );
+				}
+
+				// X[k] = A - i B and X[n - k] = A + i B.
+				output[ k ] = new Complex( graph.add( a_re, b_im ), graph.sub( a_im, b_re ) );
+				output[ n - k ] = new Complex( graph.sub( a_re, b_im ), graph.add( a_im, b_re ) );
+			}
+
+			return ( output );
+		}
+
+
+	}
+
+
+	/**
+	 * The kinds of codelet.
+	 */
+	private static enum Variant
+	{
+
+
+		/**
+		 * Forward transform of complex input.
+		 */
+		COMPLEX( "complexForward", "Forward transform of complex input.",
+				"final double[] in_re, final double[] in_im, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride",
+				"in_re, in_im, in_off, in_stride, out_re, out_im, out_off, out_stride",
+				"\t * @param in_re real part of the input.\n\t * @param in_im imaginary part of the input.\n" ),
+
+		/**
+		 * Forward transform of real input.
+		 */
+		REAL_FORWARD( "realForward", "Forward transform of real input.",
+				"final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride",
+				"in, in_off, in_stride, out_re, out_im, out_off, out_stride",
+				"\t * @param in the input.\n" ),
+
+		/**
+		 * Backward transform of real input.
+		 */
+		REAL_BACKWARD( "realBackward", "Backward transform of real input.",
+				"final double[] in, final int in_off, final int in_stride, final double[] out_re, final double[] out_im, final int out_off, final int out_stride",
+				"in, in_off, in_stride, out_re, out_im, out_off, out_stride",
+				"\t * @param in the input.\n" );
+
+
+		/**
+		 * Method name.
+		 */
+		final String name;
+
+		/**
+		 * Javadoc summary.
+		 */
+		final String summary;
+
+		/**
+		 * Parameter list.
+		 */
+		final String signature;
+
+		/**
+		 * Argument list.
+		 */
+		final String arguments;
+
+		/**
+		 * Javadoc for the parameters.
+		 */
+		final String params;
+
+
+		/**
+		 * Constructor.
+		 */
+		private Variant( final String name, final String summary,
+				final String signature, final String arguments, final String input )
+		{
+			this.name = name;
+			this.summary = summary;
+			this.signature = signature;
+			this.arguments = arguments;
+			this.params = input
+					+ "\t * @param in_off index of the first input element.\n"
+					+ "\t * @param in_stride distance between input elements.\n"
+					+ "\t * @param out_re real part of the destination.\n"
+					+ "\t * @param out_im imaginary part of the destination.\n"
+					+ "\t * @param out_off index of the first output element.\n"
+					+ "\t * @param out_stride distance between output elements.\n";
+		}
+
+
+	}
+
+
+	/**
+	 * License header of the generated class.
+	 */
+	private static final String HEADER = "/*\n"
+			+ " * $Id$\n"
+			+ " * \n"
+			+ " * Copyright (c) 2026 The se.sandos.android contributors\n"
+			+ " * \n"
+			+ " * Permission is hereby granted, free of charge, to any person obtaining a copy\n"
+			+ " * of this software and associated documentation files (the \"Software\"), to deal\n"
+			+ " * in the Software without restriction, including without limitation the rights\n"
+			+ " * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell\n"
+			+ " * copies of the Software, and to permit persons to whom the Software is\n"
+			+ " * furnished to do so, subject to the following conditions:\n"
+			+ " * \n"
+			+ " * The above copyright notice and this permission notice shall be included in\n"
+			+ " * all copies or substantial portions of the Software.\n"
+			+ " * \n"
+			+ " * THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR\n"
+			+ " * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,\n"
+			+ " * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE\n"
+			+ " * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER\n"
+			+ " * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,\n"
+			+ " * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE\n"
+			+ " * SOFTWARE.\n"
+			+ " */\n\n";
+
+
+}
@@ -0,0 +1,167 @@
+/*
+ * $Id$
+ * 
+ * Copyright (c) 2026 The se.sandos.android contributors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.teneighty.fft;
+
+import java.util.List;
+
+import org.teneighty.fft.algorithms.PrimeFactorFastFourierTransform;
+import org.teneighty.fft.factor.Factorization.Factor;
+import org.teneighty.fft.factor.Factorizer;
+import org.teneighty.fft.factor.FactorizerFactory;
+
+
+/**
+ * Times {@link PrimeFactorFastFourierTransform} run on contiguous matrices
+ * against the same split run through its re-indexing dope vectors, for
+ * complex and real input. The sub-transforms come from the factory and are
+ * the same for both.
+ * <p>
+ * Usage:
+ * <pre>
+ * java org.teneighty.fft.PrimeFactorBenchmark [n1xn2 ...]
+ * </pre>
+ * Without arguments, the splits of 15 16 7 and a few smaller sizes are timed.
+ *
+ * @author se.sandos.android contributors
+ * @version $Revision$ $Date$
+ */
+public final class PrimeFactorBenchmark
+	extends Object
+{
+
+
+	/**
+	 * Splits timed by default.
+	 */
+	private static final String[] DEFAULT_SPLITS = { "15x16", "105x16", "240x7", "15x112", "7x9x16" };
+
+	/**
+	 * Shortest timing run, in nanoseconds.
+	 */
+	private static final long MIN_RUN = 20000000L;
+
+	/**
+	 * Timing rounds; each round times every case once, so that they all warm
+	 * up alike, and the fastest round counts.
+	 */
+	private static final int RUNS = 7;
+
+
+	/**
+	 * Run the benchmark.
+	 * 
+	 * @param args the splits, as factors separated by <code>x</code>; the last
+	 *        is the second half of the split and the others the first.
+	 */
+	public static void main( final String[] args )
+	{
+		final String[] splits = ( args.length == 0 ? DEFAULT_SPLITS : args );
+
+		System.out.println( "split           size  complex re-indexed    flat  real re-indexed    flat  (us)" );
+		for( String split : splits )
+		{
+			final String[] parts = split.split( "x" );
+			int n1 = 1;
+			for( int index = 0; index < parts.length - 1; index++ )
+			{
+				n1 *= Integer.parseInt( parts[ index ] );
+			}
+
+			final int n2 = Integer.parseInt( parts[ parts.length - 1 ] );
+			final Factorizer factorizer = FactorizerFactory.getFactorizer();
+			final List<Factor> fac1 = factorizer.factorize( n1 ).getFactors();
+			final List<Factor> fac2 = factorizer.factorize( n2 ).getFactors();
+			final int size = n1 * n2;
+
+			final FourierTransform reindexed = new PrimeFactorFastFourierTransform( fac1, fac2, size, true );
+			final FourierTransform flat = new PrimeFactorFastFourierTransform( fac1, fac2, size, false );
+
+			// complex re-indexed, complex flat, real re-indexed, real flat.
+			final double[] best = { Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE };
+			for( int run = 0; run < RUNS; run++ )
+			{
+				for( int index = 0; index < best.length; index++ )
+				{
+					final FourierTransform ft = ( ( index & 1 ) == 0 ? reindexed : flat );
+					best[ index ] = Math.min( best[ index ], time( ft, index >= 2 ) );
+				}
+			}
+
+			System.out.println( String.format( "%-12s %7d %18.1f %7.1f %15.1f %7.1f", split, Integer.valueOf( size ),
+					Double.valueOf( best[ 0 ] ), Double.valueOf( best[ 1 ] ),
+					Double.valueOf( best[ 2 ] ), Double.valueOf( best[ 3 ] ) ) );
+		}
+	}
+
+
+	/**
+	 * Time forward transforms, repeating them until the run is long enough to
+	 * measure.
+	 * 
+	 * @param ft the transform.
+	 * @param real whether to time real input.
+	 * @return double the time per transform, in microseconds.
+	 */
+	private static double time( final FourierTransform ft, final boolean real )
+	{
+		final int n = ft.getLength();
+		double[] in_re = new double[ n ];
+		double[] in_im = new double[ n ];
+		double[] out_re = new double[ n ];
+		double[] out_im = new double[ n ];
+		for( int index = 0; index < n; index++ )
+		{
+			in_re[ index ] = Math.sin( index );
+			in_im[ index ] = Math.cos( 3 * index );
+		}
+
+		int reps = 1;
+		while( true )
+		{
+			final long start = System.nanoTime();
+			for( int rep = 0; rep < reps; rep++ )
+			{
+				if( real == true )
+				{
+					ft.transform( in_re, 0, 1, out_re, out_im, 0, 1, TransformDirection.FORWARD );
+				}
+				else
+				{
+					ft.transform( in_re, in_im, 0, 1, out_re, out_im, 0, 1, TransformDirection.FORWARD );
+				}
+			}
+
+			final long elapsed = System.nanoTime() - start;
+			if( elapsed >= MIN_RUN )
+			{
+				return ( elapsed / 1000.0 / reps );
+			}
+
+			reps *= 2;
+		}
+	}
+
+
+}